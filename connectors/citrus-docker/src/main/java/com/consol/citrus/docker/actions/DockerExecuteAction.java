@@ -18,8 +18,10 @@ package com.consol.citrus.docker.actions;
 
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import com.consol.citrus.AbstractTestActionBuilder;
+import com.consol.citrus.Completable;
 import com.consol.citrus.actions.AbstractTestAction;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.docker.client.DockerClient;
@@ -56,7 +58,7 @@ import org.springframework.util.StringUtils;
  * @author Christoph Deppisch
  * @since 2.4
  */
-public class DockerExecuteAction extends AbstractTestAction {
+public class DockerExecuteAction extends AbstractTestAction implements Completable {
 
     /** Docker client instance  */
     private final DockerClient dockerClient;
@@ -73,6 +75,12 @@ public class DockerExecuteAction extends AbstractTestAction {
     /** Validator used to validate expected json results */
     private final MessageValidator<? extends ValidationContext> jsonMessageValidator;
 
+    /** Forks command execution so test execution is not blocked */
+    private final boolean forkMode;
+
+    /** Command execution finished indicator */
+    private CompletableFuture<?> finished;
+
     public static final String DEFAULT_JSON_MESSAGE_VALIDATOR = "defaultJsonMessageValidator";
 
     /** Logger */
@@ -89,6 +97,7 @@ public class DockerExecuteAction extends AbstractTestAction {
         this.expectedCommandResult = builder.expectedCommandResult;
         this.jsonMapper = builder.jsonMapper;
         this.jsonMessageValidator = builder.validator;
+        this.forkMode = builder.forkMode;
     }
 
     @Override
@@ -97,11 +106,34 @@ public class DockerExecuteAction extends AbstractTestAction {
             if (log.isDebugEnabled()) {
                 log.debug(String.format("Executing Docker command '%s'", command.getName()));
             }
+
+            if (forkMode) {
+                log.debug("Forking Docker command execution ...");
+                finished = dockerClient.executeAsync(command, context)
+                        .whenComplete((result, error) -> {
+                            try {
+                                if (error != null) {
+                                    throw error.getCause() != null ? error.getCause() : error;
+                                }
+
+                                validateCommandResult(command, context);
+                                log.info(String.format("Docker command execution successful: '%s'", command.getName()));
+                            } catch (CitrusRuntimeException e) {
+                                context.addException(e);
+                            } catch (Throwable e) {
+                                context.addException(new CitrusRuntimeException("Unable to perform docker command", e));
+                            }
+                        });
+                return;
+            }
+
+            finished = new CompletableFuture<>();
             command.execute(dockerClient, context);
 
             validateCommandResult(command, context);
 
             log.info(String.format("Docker command execution successful: '%s'", command.getName()));
+            finished.complete(null);
         } catch (CitrusRuntimeException e) {
             throw e;
         } catch (Exception e) {
@@ -169,6 +201,21 @@ public class DockerExecuteAction extends AbstractTestAction {
         throw new CitrusRuntimeException("Unable to locate proper JSON message validator - please add validator to project");
     }
 
+    @Override
+    public boolean isDone(TestContext context) {
+        return Optional.ofNullable(finished)
+                .map(future -> future.isDone() || isDisabled(context))
+                .orElse(isDisabled(context));
+    }
+
+    /**
+     * Gets the fork mode.
+     * @return
+     */
+    public boolean isForkMode() {
+        return forkMode;
+    }
+
     /**
      * Gets the docker command to execute.
      * @return
@@ -203,6 +250,7 @@ public class DockerExecuteAction extends AbstractTestAction {
         private String expectedCommandResult;
         private ObjectMapper jsonMapper = new ObjectMapper();
         private MessageValidator<? extends ValidationContext> validator;
+        private boolean forkMode = false;
 
         /**
          * Fluent API action building entry method used in Java DSL.
@@ -230,6 +278,16 @@ public class DockerExecuteAction extends AbstractTestAction {
             return this;
         }
 
+        /**
+         * Sets the fork mode. Forked commands are executed in a separate thread so several commands
+         * may run concurrently.
+         * @param forkMode
+         */
+        public Builder fork(boolean forkMode) {
+            this.forkMode = forkMode;
+            return this;
+        }
+
         /**
          * Adds some command via abstract command builder.
          */
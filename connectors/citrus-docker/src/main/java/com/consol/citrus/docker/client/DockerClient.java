@@ -17,7 +17,12 @@
 package com.consol.citrus.docker.client;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.docker.command.DockerCommand;
 import com.consol.citrus.endpoint.AbstractEndpoint;
@@ -38,7 +43,7 @@ import org.slf4j.LoggerFactory;
  * @author Christoph Deppisch
  * @since 2.4
  */
-public class DockerClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class DockerClient extends AbstractEndpoint implements Producer, ReplyConsumer, ShutdownPhase {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(DockerClient.class);
@@ -46,6 +51,9 @@ public class DockerClient extends AbstractEndpoint implements Producer, ReplyCon
     /** Store of reply messages */
     private CorrelationManager<DockerCommand> correlationManager;
 
+    /** Executor running forked Docker commands */
+    private ExecutorService executor;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -118,6 +126,45 @@ public class DockerClient extends AbstractEndpoint implements Producer, ReplyCon
         return new DefaultMessage(command.getCommandResult());
     }
 
+    /**
+     * Executes given command in a separate thread. Several commands may run concurrently up to the configured
+     * async pool size.
+     * @param command the command to execute.
+     * @param context the current test context.
+     * @return future completed with the command once the command has been executed.
+     */
+    public <R> CompletableFuture<DockerCommand<R>> executeAsync(DockerCommand<R> command, TestContext context) {
+        return CompletableFuture.supplyAsync(() -> {
+            command.execute(this, context);
+            return command;
+        }, getExecutor());
+    }
+
+    /**
+     * Gets the executor for forked commands. Creates executor on first access.
+     * @return
+     */
+    private synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(getEndpointConfiguration().getAsyncPoolSize(), runnable -> {
+                Thread thread = new Thread(runnable, getName() + "-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return executor;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
     @Override
     public Producer createProducer() {
         return this;
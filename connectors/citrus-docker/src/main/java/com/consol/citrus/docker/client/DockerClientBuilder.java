@@ -128,4 +128,54 @@ public class DockerClientBuilder extends AbstractEndpointBuilder<DockerClient> {
         config.withDockerConfig(configPath);
         return this;
     }
+
+    /**
+     * Sets the maximum number of pooled connections.
+     * @param maxTotalConnections
+     * @return
+     */
+    public DockerClientBuilder maxTotalConnections(int maxTotalConnections) {
+        endpoint.getEndpointConfiguration().setMaxTotalConnections(maxTotalConnections);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections per route.
+     * @param maxPerRouteConnections
+     * @return
+     */
+    public DockerClientBuilder maxPerRouteConnections(int maxPerRouteConnections) {
+        endpoint.getEndpointConfiguration().setMaxPerRouteConnections(maxPerRouteConnections);
+        return this;
+    }
+
+    /**
+     * Sets the connect timeout in milliseconds.
+     * @param connectTimeout
+     * @return
+     */
+    public DockerClientBuilder connectTimeout(int connectTimeout) {
+        endpoint.getEndpointConfiguration().setConnectTimeout(connectTimeout);
+        return this;
+    }
+
+    /**
+     * Sets the read timeout in milliseconds.
+     * @param readTimeout
+     * @return
+     */
+    public DockerClientBuilder readTimeout(int readTimeout) {
+        endpoint.getEndpointConfiguration().setReadTimeout(readTimeout);
+        return this;
+    }
+
+    /**
+     * Sets the number of threads executing forked Docker commands.
+     * @param asyncPoolSize
+     * @return
+     */
+    public DockerClientBuilder asyncPoolSize(int asyncPoolSize) {
+        endpoint.getEndpointConfiguration().setAsyncPoolSize(asyncPoolSize);
+        return this;
+    }
 }
@@ -37,13 +37,30 @@ public class DockerEndpointConfiguration extends AbstractPollableEndpointConfigu
     /** Reply message correlator */
     private MessageCorrelator correlator = new DefaultMessageCorrelator();
 
+    /** Maximum number of pooled connections to the Docker host */
+    private int maxTotalConnections = 100;
+
+    /** Maximum number of pooled connections per route to the Docker host */
+    private int maxPerRouteConnections = 10;
+
+    /** Optional connect and read timeouts in milliseconds */
+    private Integer connectTimeout;
+    private Integer readTimeout;
+
+    /** Number of threads executing forked Docker commands */
+    private int asyncPoolSize = 4;
+
     /**
      * Creates new Docker client instance with configuration.
      * @return
      */
     private com.github.dockerjava.api.DockerClient createDockerClient() {
         return DockerClientImpl.getInstance(getDockerClientConfig())
-                .withDockerCmdExecFactory(new JerseyDockerCmdExecFactory());
+                .withDockerCmdExecFactory(new JerseyDockerCmdExecFactory()
+                        .withMaxTotalConnections(maxTotalConnections)
+                        .withMaxPerRouteConnections(maxPerRouteConnections)
+                        .withConnectTimeout(connectTimeout)
+                        .withReadTimeout(readTimeout));
     }
 
     /**
@@ -102,4 +119,83 @@ public class DockerEndpointConfiguration extends AbstractPollableEndpointConfigu
     public MessageCorrelator getCorrelator() {
         return correlator;
     }
+    /**
+     * Gets the maximum number of pooled connections.
+     * @return
+     */
+    public int getMaxTotalConnections() {
+        return maxTotalConnections;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections.
+     * @param maxTotalConnections
+     */
+    public void setMaxTotalConnections(int maxTotalConnections) {
+        this.maxTotalConnections = maxTotalConnections;
+    }
+
+    /**
+     * Gets the maximum number of pooled connections per route.
+     * @return
+     */
+    public int getMaxPerRouteConnections() {
+        return maxPerRouteConnections;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections per route.
+     * @param maxPerRouteConnections
+     */
+    public void setMaxPerRouteConnections(int maxPerRouteConnections) {
+        this.maxPerRouteConnections = maxPerRouteConnections;
+    }
+
+    /**
+     * Gets the connect timeout in milliseconds.
+     * @return
+     */
+    public Integer getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * Sets the connect timeout in milliseconds.
+     * @param connectTimeout
+     */
+    public void setConnectTimeout(Integer connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * Gets the read timeout in milliseconds.
+     * @return
+     */
+    public Integer getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * Sets the read timeout in milliseconds.
+     * @param readTimeout
+     */
+    public void setReadTimeout(Integer readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * Gets the number of threads executing forked Docker commands.
+     * @return
+     */
+    public int getAsyncPoolSize() {
+        return asyncPoolSize;
+    }
+
+    /**
+     * Sets the number of threads executing forked Docker commands.
+     * @param asyncPoolSize
+     */
+    public void setAsyncPoolSize(int asyncPoolSize) {
+        this.asyncPoolSize = asyncPoolSize;
+    }
 }
@@ -28,7 +28,10 @@ import com.consol.citrus.util.FileUtils;
 import com.github.dockerjava.api.command.BuildImageCmd;
 import com.github.dockerjava.api.command.BuildImageResultCallback;
 import com.github.dockerjava.api.model.BuildResponseItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
+import org.springframework.util.StringUtils;
 
 /**
  * @author Christoph Deppisch
@@ -36,6 +39,9 @@ import org.springframework.core.io.Resource;
  */
 public class ImageBuild extends AbstractDockerCommand<BuildResponseItem> {
 
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(ImageBuild.class);
+
     /**
      * Default constructor initializing the command name.
      */
@@ -87,6 +93,11 @@ public class ImageBuild extends AbstractDockerCommand<BuildResponseItem> {
             @Override
             public void onNext(BuildResponseItem item) {
                 super.onNext(item);
+
+                if (StringUtils.hasText(item.getStream())) {
+                    log.info(item.getStream().trim());
+                }
+
                 setCommandResult(item);
             }
         };
@@ -23,6 +23,10 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.github.dockerjava.api.command.PullImageCmd;
 import com.github.dockerjava.api.command.PullImageResultCallback;
 import com.github.dockerjava.api.model.PullResponseItem;
+import com.github.dockerjava.api.model.ResponseItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.StringUtils;
 
 /**
  * @author Christoph Deppisch
@@ -30,6 +34,9 @@ import com.github.dockerjava.api.model.PullResponseItem;
  */
 public class ImagePull extends AbstractDockerCommand<PullResponseItem> {
 
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(ImagePull.class);
+
     /**
      * Default constructor initializing the command name.
      */
@@ -43,6 +50,7 @@ public class ImagePull extends AbstractDockerCommand<PullResponseItem> {
         PullImageResultCallback imageResult = new PullImageResultCallback() {
             @Override
             public void onNext(PullResponseItem item) {
+                logProgress(item);
                 setCommandResult(item);
                 super.onNext(item);
             }
@@ -69,6 +77,27 @@ public class ImagePull extends AbstractDockerCommand<PullResponseItem> {
         }
     }
 
+    /**
+     * Streams pull progress to the log. Status changes are logged with info level while detailed progress is logged with debug level.
+     * @param item
+     */
+    private void logProgress(PullResponseItem item) {
+        if (!StringUtils.hasText(item.getStatus())) {
+            return;
+        }
+
+        String layer = StringUtils.hasText(item.getId()) ? item.getId() + ": " : "";
+        ResponseItem.ProgressDetail progress = item.getProgressDetail();
+        if (progress != null && progress.getCurrent() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug(layer + item.getStatus() + " " + progress.getCurrent() +
+                        (progress.getTotal() != null && progress.getTotal() > 0 ? "/" + progress.getTotal() : "") + " bytes");
+            }
+        } else {
+            log.info(layer + item.getStatus());
+        }
+    }
+
     /**
      * Sets the image id parameter.
      * @param id
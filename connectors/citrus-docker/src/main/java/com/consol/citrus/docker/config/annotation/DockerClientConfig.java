@@ -85,4 +85,34 @@ public @interface DockerClientConfig {
      * @return
      */
     String configPath() default "";
+
+    /**
+     * Maximum number of pooled connections
+     * @return
+     */
+    int maxTotalConnections() default 100;
+
+    /**
+     * Maximum number of pooled connections per route
+     * @return
+     */
+    int maxPerRouteConnections() default 10;
+
+    /**
+     * Connect timeout in milliseconds
+     * @return
+     */
+    int connectTimeout() default -1;
+
+    /**
+     * Read timeout in milliseconds
+     * @return
+     */
+    int readTimeout() default -1;
+
+    /**
+     * Number of threads executing forked commands
+     * @return
+     */
+    int asyncPoolSize() default 4;
 }
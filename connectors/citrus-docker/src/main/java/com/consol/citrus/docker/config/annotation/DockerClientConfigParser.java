@@ -66,6 +66,19 @@ public class DockerClientConfigParser implements AnnotationConfigParser<DockerCl
             builder.configPath(annotation.configPath());
         }
 
+        builder.maxTotalConnections(annotation.maxTotalConnections());
+        builder.maxPerRouteConnections(annotation.maxPerRouteConnections());
+
+        if (annotation.connectTimeout() >= 0) {
+            builder.connectTimeout(annotation.connectTimeout());
+        }
+
+        if (annotation.readTimeout() >= 0) {
+            builder.readTimeout(annotation.readTimeout());
+        }
+
+        builder.asyncPoolSize(annotation.asyncPoolSize());
+
         return builder.initialize().build();
     }
 }
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.docker.config.xml;
 
+import com.consol.citrus.config.util.BeanDefinitionParserUtils;
 import com.consol.citrus.config.xml.AbstractEndpointParser;
 import com.consol.citrus.docker.client.DockerClient;
 import com.consol.citrus.docker.client.DockerEndpointConfiguration;
@@ -77,6 +78,12 @@ public class DockerClientParser extends AbstractEndpointParser {
         }
 
         endpointConfiguration.addPropertyValue("dockerClientConfig", config.build());
+
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-total-connections"), "maxTotalConnections");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-per-route-connections"), "maxPerRouteConnections");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("connect-timeout"), "connectTimeout");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("read-timeout"), "readTimeout");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("async-pool-size"), "asyncPoolSize");
     }
 
     @Override
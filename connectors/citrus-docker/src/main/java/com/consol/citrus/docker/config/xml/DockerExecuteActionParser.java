@@ -74,6 +74,7 @@ public class DockerExecuteActionParser implements BeanDefinitionParser {
 
         DescriptionElementParser.doParse(element, beanDefinition);
         BeanDefinitionParserUtils.setPropertyReference(beanDefinition, element.getAttribute("docker-client"), "dockerClient");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("fork"), "fork");
 
         DockerCommand command;
         if (commandType != null) {
@@ -95,7 +96,7 @@ public class DockerExecuteActionParser implements BeanDefinitionParser {
 
         for (int i = 0; i < element.getAttributes().getLength(); i++) {
             Node attribute = element.getAttributes().item(i);
-            if (!attribute.getNodeName().equals("docker-client")) {
+            if (!attribute.getNodeName().equals("docker-client") && !attribute.getNodeName().equals("fork")) {
                 command.getParameters().put(attribute.getNodeName(), attribute.getNodeValue());
             }
         }
@@ -159,6 +160,14 @@ public class DockerExecuteActionParser implements BeanDefinitionParser {
             builder.client(dockerClient);
         }
 
+        /**
+         * Sets the fork mode.
+         * @param fork
+         */
+        public void setFork(boolean fork) {
+            builder.fork(fork);
+        }
+
         /**
          * Sets the expected command result data.
          * @param expectedCommandResult
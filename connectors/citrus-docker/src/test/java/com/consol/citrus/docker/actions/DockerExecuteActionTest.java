@@ -19,6 +19,8 @@ package com.consol.citrus.docker.actions;
 import java.io.File;
 import java.util.Collections;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import com.consol.citrus.docker.client.DockerClient;
 import com.consol.citrus.docker.command.ContainerCreate;
@@ -99,7 +101,67 @@ public class DockerExecuteActionTest extends AbstractTestNGUnitTest {
         action.execute(context);
 
         Assert.assertEquals(action.getCommand().getCommandResult(), result);
+        Assert.assertTrue(action.isDone(context));
+    }
+
+    @Test
+    public void testForkedInfo() throws Exception {
+        InfoCmd command = Mockito.mock(InfoCmd.class);
+        com.github.dockerjava.api.model.Info result = new com.github.dockerjava.api.model.Info();
+        CountDownLatch latch = new CountDownLatch(1);
+
+        reset(dockerClient, command);
+
+        when(dockerClient.infoCmd()).thenReturn(command);
+        when(command.exec()).thenAnswer(invocation -> {
+            latch.await(5000L, TimeUnit.MILLISECONDS);
+            return result;
+        });
+
+        DockerExecuteAction action = new DockerExecuteAction.Builder()
+                .client(client)
+                .fork(true)
+                .command(new Info())
+                .build();
+        action.execute(context);
+
+        Assert.assertFalse(action.isDone(context));
+        latch.countDown();
+
+        long timeout = System.currentTimeMillis() + 5000L;
+        while (!action.isDone(context) && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10L);
+        }
+
+        Assert.assertTrue(action.isDone(context));
+        Assert.assertEquals(action.getCommand().getCommandResult(), result);
+        Assert.assertFalse(context.hasExceptions());
+    }
+
+    @Test
+    public void testForkedCommandError() throws Exception {
+        InfoCmd command = Mockito.mock(InfoCmd.class);
+
+        reset(dockerClient, command);
+
+        when(dockerClient.infoCmd()).thenReturn(command);
+        when(command.exec()).thenThrow(new IllegalStateException("Docker not available"));
+
+        DockerExecuteAction action = new DockerExecuteAction.Builder()
+                .client(client)
+                .fork(true)
+                .command(new Info())
+                .build();
+        action.execute(context);
+
+        long timeout = System.currentTimeMillis() + 5000L;
+        while (!action.isDone(context) && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10L);
+        }
 
+        Assert.assertTrue(action.isDone(context));
+        Assert.assertTrue(context.hasExceptions());
+        Assert.assertEquals(context.getExceptions().remove(0).getCause().getMessage(), "Docker not available");
     }
 
     @Test
@@ -48,7 +48,12 @@ public class DockerClientConfigParserTest extends AbstractTestNGUnitTest {
             email="user@consol.de",
             registry="https://index.docker.io/v1/",
             certPath="/path/to/some/cert/directory",
-            configPath="/path/to/some/config/directory")
+            configPath="/path/to/some/config/directory",
+            maxTotalConnections=50,
+            maxPerRouteConnections=5,
+            connectTimeout=1000,
+            readTimeout=2000,
+            asyncPoolSize=2)
     private DockerClient dockerClient2;
 
     @BeforeClass
@@ -62,6 +67,11 @@ public class DockerClientConfigParserTest extends AbstractTestNGUnitTest {
 
         // 1st client
         Assert.assertNotNull(dockerClient1.getEndpointConfiguration().getDockerClient());
+        Assert.assertEquals(dockerClient1.getEndpointConfiguration().getMaxTotalConnections(), 100);
+        Assert.assertEquals(dockerClient1.getEndpointConfiguration().getMaxPerRouteConnections(), 10);
+        Assert.assertNull(dockerClient1.getEndpointConfiguration().getConnectTimeout());
+        Assert.assertNull(dockerClient1.getEndpointConfiguration().getReadTimeout());
+        Assert.assertEquals(dockerClient1.getEndpointConfiguration().getAsyncPoolSize(), 4);
 
         // 2nd client
         Assert.assertNotNull(dockerClient2.getEndpointConfiguration().getDockerClient());
@@ -72,6 +82,11 @@ public class DockerClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(dockerClient2.getEndpointConfiguration().getDockerClientConfig().getRegistryEmail(), "user@consol.de");
         Assert.assertEquals(dockerClient2.getEndpointConfiguration().getDockerClientConfig().getRegistryUrl(), "https://index.docker.io/v1/");
         Assert.assertEquals(((DefaultDockerClientConfig)dockerClient2.getEndpointConfiguration().getDockerClientConfig()).getDockerConfigPath(), "/path/to/some/config/directory");
+        Assert.assertEquals(dockerClient2.getEndpointConfiguration().getMaxTotalConnections(), 50);
+        Assert.assertEquals(dockerClient2.getEndpointConfiguration().getMaxPerRouteConnections(), 5);
+        Assert.assertEquals(dockerClient2.getEndpointConfiguration().getConnectTimeout(), Integer.valueOf(1000));
+        Assert.assertEquals(dockerClient2.getEndpointConfiguration().getReadTimeout(), Integer.valueOf(2000));
+        Assert.assertEquals(dockerClient2.getEndpointConfiguration().getAsyncPoolSize(), 2);
     }
 
     @Test
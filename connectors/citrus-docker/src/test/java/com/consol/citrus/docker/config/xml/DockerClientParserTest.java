@@ -38,6 +38,11 @@ public class DockerClientParserTest extends AbstractBeanDefinitionParserTest {
         // 1st client
         DockerClient dockerClient = clients.get("dockerClient1");
         Assert.assertNotNull(dockerClient.getEndpointConfiguration().getDockerClient());
+        Assert.assertEquals(dockerClient.getEndpointConfiguration().getMaxTotalConnections(), 100);
+        Assert.assertEquals(dockerClient.getEndpointConfiguration().getMaxPerRouteConnections(), 10);
+        Assert.assertNull(dockerClient.getEndpointConfiguration().getConnectTimeout());
+        Assert.assertNull(dockerClient.getEndpointConfiguration().getReadTimeout());
+        Assert.assertEquals(dockerClient.getEndpointConfiguration().getAsyncPoolSize(), 4);
 
         // 2nd client
         dockerClient = clients.get("dockerClient2");
@@ -49,5 +54,10 @@ public class DockerClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(dockerClient.getEndpointConfiguration().getDockerClientConfig().getRegistryEmail(), "user@consol.de");
         Assert.assertEquals(dockerClient.getEndpointConfiguration().getDockerClientConfig().getRegistryUrl(), "https://index.docker.io/v1/");
         Assert.assertEquals(((DefaultDockerClientConfig)dockerClient.getEndpointConfiguration().getDockerClientConfig()).getDockerConfigPath(), "/path/to/some/config/directory");
+        Assert.assertEquals(dockerClient.getEndpointConfiguration().getMaxTotalConnections(), 50);
+        Assert.assertEquals(dockerClient.getEndpointConfiguration().getMaxPerRouteConnections(), 5);
+        Assert.assertEquals(dockerClient.getEndpointConfiguration().getConnectTimeout(), Integer.valueOf(1000));
+        Assert.assertEquals(dockerClient.getEndpointConfiguration().getReadTimeout(), Integer.valueOf(2000));
+        Assert.assertEquals(dockerClient.getEndpointConfiguration().getAsyncPoolSize(), 2);
     }
 }
@@ -56,6 +56,7 @@ public class DockerExecuteActionParserTest extends AbstractActionParserTest<Dock
         action = getNextTestActionFromTest();
         Assert.assertNotNull(action.getCommand());
         Assert.assertEquals(action.getCommand().getClass(), ImagePull.class);
+        Assert.assertTrue(action.isForkMode());
         Assert.assertEquals(action.getCommand().getParameters().size(), 4);
         Assert.assertEquals(action.getCommand().getParameters().get("image"), "image_pull");
         Assert.assertEquals(action.getCommand().getParameters().get("tag"), "image_tag");
@@ -65,6 +66,7 @@ public class DockerExecuteActionParserTest extends AbstractActionParserTest<Dock
         action = getNextTestActionFromTest();
         Assert.assertNotNull(action.getCommand());
         Assert.assertEquals(action.getCommand().getClass(), ImageBuild.class);
+        Assert.assertFalse(action.isForkMode());
         Assert.assertEquals(action.getCommand().getParameters().size(), 6);
         Assert.assertEquals(action.getCommand().getParameters().get("tag"), "image_tag");
         Assert.assertEquals(action.getCommand().getParameters().get("basedir"), "base_dir");
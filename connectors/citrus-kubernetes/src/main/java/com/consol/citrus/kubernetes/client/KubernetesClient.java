@@ -16,6 +16,10 @@
 
 package com.consol.citrus.kubernetes.client;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.exceptions.MessageTimeoutException;
@@ -27,6 +31,7 @@ import com.consol.citrus.message.correlation.PollingCorrelationManager;
 import com.consol.citrus.messaging.Producer;
 import com.consol.citrus.messaging.ReplyConsumer;
 import com.consol.citrus.messaging.SelectiveConsumer;
+import io.fabric8.kubernetes.client.dsl.ClientNonNamespaceOperation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,7 +41,7 @@ import org.slf4j.LoggerFactory;
  * @author Christoph Deppisch
  * @since 2.7
  */
-public class KubernetesClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class KubernetesClient extends AbstractEndpoint implements Producer, ReplyConsumer, ShutdownPhase {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(KubernetesClient.class);
@@ -44,6 +49,9 @@ public class KubernetesClient extends AbstractEndpoint implements Producer, Repl
     /** Store of reply messages */
     private CorrelationManager<KubernetesCommand> correlationManager;
 
+    /** Shared resource informers by resource type and namespace */
+    private final Map<String, ResourceInformer> informers = new ConcurrentHashMap<>();
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -133,4 +141,28 @@ public class KubernetesClient extends AbstractEndpoint implements Producer, Repl
     public io.fabric8.kubernetes.client.KubernetesClient getClient() {
         return getEndpointConfiguration().getKubernetesClient();
     }
+
+    /**
+     * Gets shared resource informer for given operation and namespace. Creates new informer on first access.
+     * @param operation the operation to list and watch resources, already bound to the namespace.
+     * @param namespace the namespace or null for non namespaced resources and any namespace.
+     * @return
+     */
+    public ResourceInformer getInformer(ClientNonNamespaceOperation operation, String namespace) {
+        return informers.computeIfAbsent(operation.getClass().getName() + ":" + namespace,
+                key -> new ResourceInformer(operation, getEndpointConfiguration().getInformerBufferSize()));
+    }
+
+    /**
+     * Closes all shared resource informers.
+     */
+    public void closeInformers() {
+        informers.values().forEach(ResourceInformer::close);
+        informers.clear();
+    }
+
+    @Override
+    public void destroy() {
+        closeInformers();
+    }
 }
@@ -121,4 +121,24 @@ public class KubernetesClientBuilder extends AbstractEndpointBuilder<KubernetesC
         endpoint.getEndpointConfiguration().setObjectMapper(objectMapper);
         return this;
     }
+
+    /**
+     * Enables shared resource informers for get, list and watch commands.
+     * @param informerEnabled
+     * @return
+     */
+    public KubernetesClientBuilder informerEnabled(boolean informerEnabled) {
+        endpoint.getEndpointConfiguration().setInformerEnabled(informerEnabled);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of buffered events per informer subscription.
+     * @param bufferSize
+     * @return
+     */
+    public KubernetesClientBuilder informerBufferSize(int bufferSize) {
+        endpoint.getEndpointConfiguration().setInformerBufferSize(bufferSize);
+        return this;
+    }
 }
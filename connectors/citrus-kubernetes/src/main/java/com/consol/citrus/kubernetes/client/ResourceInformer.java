@@ -0,0 +1,264 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.kubernetes.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.kubernetes.command.WatchEventResult;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.KubernetesResourceList;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.ClientNonNamespaceOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Shared informer for a resource type in a namespace. Informer lists all resources once and keeps a local index
+ * up to date with a single watch on the Kubernetes API. Get and list commands are served from the local index and
+ * watch commands subscribe to the event stream with a bounded buffer.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public class ResourceInformer implements Watcher<HasMetadata> {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(ResourceInformer.class);
+
+    /** Operation used to list and watch resources */
+    private final ClientNonNamespaceOperation operation;
+
+    /** Maximum number of buffered events per subscription */
+    private final int bufferSize;
+
+    /** Local index of resources by namespace and name */
+    private final Map<String, HasMetadata> index = new ConcurrentHashMap<>();
+
+    /** Active event subscriptions */
+    private final Set<Subscription> subscriptions = new CopyOnWriteArraySet<>();
+
+    /** Resource list type as returned by the initial list operation */
+    private Class<? extends KubernetesResourceList> listType;
+
+    /** Watch handle */
+    private Watch watch;
+
+    /** Marks this informer as synchronized with the Kubernetes API */
+    private volatile boolean synced = false;
+
+    /**
+     * Default constructor using list and watch operation and event buffer size.
+     * @param operation
+     * @param bufferSize
+     */
+    public ResourceInformer(ClientNonNamespaceOperation operation, int bufferSize) {
+        this.operation = operation;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Synchronizes local index with initial list of resources and starts watching resource events. Does nothing in case
+     * informer has already been synchronized.
+     */
+    public synchronized void start() {
+        if (synced) {
+            return;
+        }
+
+        KubernetesResourceList resourceList = (KubernetesResourceList) operation.list();
+        listType = resourceList.getClass();
+
+        index.clear();
+        for (Object item : resourceList.getItems()) {
+            HasMetadata resource = (HasMetadata) item;
+            index.put(key(resource), resource);
+        }
+
+        watch = (Watch) operation.watch(this);
+        synced = true;
+    }
+
+    /**
+     * Gets first resource from local index that matches the given filter.
+     * @param filter
+     * @return the matching resource or null if no such resource exists.
+     */
+    public HasMetadata get(Predicate<HasMetadata> filter) {
+        start();
+        return index.values().stream().filter(filter).findFirst().orElse(null);
+    }
+
+    /**
+     * Gets all resources from local index that match the given filter as resource list.
+     * @param filter
+     * @return
+     */
+    public KubernetesResourceList list(Predicate<HasMetadata> filter) {
+        start();
+
+        List<HasMetadata> items = index.values().stream().filter(filter).collect(Collectors.toList());
+        KubernetesResourceList resourceList = BeanUtils.instantiateClass(listType);
+        ReflectionUtils.invokeMethod(ReflectionUtils.findMethod(listType, "setItems", List.class), resourceList, items);
+        return resourceList;
+    }
+
+    /**
+     * Subscribes to resource events that match the given filter. Subscription initially receives added events for all
+     * matching resources in the local index.
+     * @param filter
+     * @return
+     */
+    public Subscription subscribe(Predicate<HasMetadata> filter) {
+        start();
+
+        Subscription subscription = new Subscription(filter);
+        subscriptions.add(subscription);
+        index.values().forEach(resource -> subscription.offer(resource, Action.ADDED));
+        return subscription;
+    }
+
+    @Override
+    public void eventReceived(Action action, HasMetadata resource) {
+        if (Action.DELETED.equals(action)) {
+            index.remove(key(resource));
+        } else if (Action.ADDED.equals(action) || Action.MODIFIED.equals(action)) {
+            index.put(key(resource), resource);
+        }
+
+        subscriptions.forEach(subscription -> subscription.offer(resource, action));
+    }
+
+    @Override
+    public void onClose(KubernetesClientException cause) {
+        synced = false;
+
+        if (cause != null) {
+            LOG.warn("Informer watch closed - resynchronizing on next access", cause);
+            subscriptions.forEach(subscription -> subscription.offer(new WatchEventResult<>(cause)));
+        }
+    }
+
+    /**
+     * Stops watching resource events and clears local index.
+     */
+    public synchronized void close() {
+        synced = false;
+
+        if (watch != null) {
+            try {
+                watch.close();
+            } catch (KubernetesClientException e) {
+                LOG.warn("Failed to gracefully close informer watch", e);
+            }
+        }
+
+        index.clear();
+        subscriptions.clear();
+    }
+
+    /**
+     * Checks if this informer is synchronized with the Kubernetes API.
+     * @return
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * Builds index key for given resource.
+     * @param resource
+     * @return
+     */
+    private static String key(HasMetadata resource) {
+        if (resource.getMetadata() == null) {
+            throw new CitrusRuntimeException("Unable to index Kubernetes resource without metadata");
+        }
+
+        return resource.getMetadata().getNamespace() + "/" + resource.getMetadata().getName();
+    }
+
+    /**
+     * Subscription to informer events holding a bounded buffer of events. Oldest events are dropped in case buffer is full.
+     */
+    public class Subscription {
+        private final Predicate<HasMetadata> filter;
+        private final BlockingQueue<WatchEventResult<HasMetadata>> events = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicLong dropped = new AtomicLong();
+
+        Subscription(Predicate<HasMetadata> filter) {
+            this.filter = filter;
+        }
+
+        void offer(HasMetadata resource, Action action) {
+            if (filter.test(resource)) {
+                offer(new WatchEventResult<>(resource, action));
+            }
+        }
+
+        synchronized void offer(WatchEventResult<HasMetadata> event) {
+            while (!events.offer(event)) {
+                if (events.poll() != null) {
+                    LOG.warn(String.format("Informer subscription buffer full - dropped %s events so far", dropped.incrementAndGet()));
+                }
+            }
+        }
+
+        /**
+         * Waits for next event in this subscription.
+         * @param timeout
+         * @return the next event or null in case of timeout.
+         */
+        public WatchEventResult<HasMetadata> poll(long timeout) {
+            try {
+                return events.poll(timeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                throw new CitrusRuntimeException("Failed to wait for informer event", e);
+            }
+        }
+
+        /**
+         * Gets the number of dropped events.
+         * @return
+         */
+        public long getDropped() {
+            return dropped.get();
+        }
+
+        /**
+         * Cancels this subscription.
+         */
+        public void close() {
+            subscriptions.remove(this);
+        }
+    }
+}
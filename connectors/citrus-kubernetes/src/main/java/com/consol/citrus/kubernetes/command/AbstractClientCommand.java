@@ -16,9 +16,17 @@
 
 package com.consol.citrus.kubernetes.command;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.kubernetes.client.KubernetesClient;
+import com.consol.citrus.kubernetes.client.ResourceInformer;
 import com.consol.citrus.kubernetes.message.KubernetesMessageHeaders;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.client.dsl.ClientMixedOperation;
 import io.fabric8.kubernetes.client.dsl.ClientNonNamespaceOperation;
@@ -43,6 +51,17 @@ public abstract class AbstractClientCommand<O extends ClientNonNamespaceOperatio
     public final void execute(KubernetesClient kubernetesClient, TestContext context) {
         O operation = operation(kubernetesClient, context);
 
+        if (kubernetesClient.getEndpointConfiguration().isInformerEnabled() && isInformerSupported()) {
+            String namespace = null;
+            if (operation instanceof ClientMixedOperation) {
+                namespace = getNamespace(kubernetesClient, context);
+                operation = namespace != null ? (O) ((ClientMixedOperation) operation).inNamespace(namespace) : (O) ((ClientMixedOperation) operation).inAnyNamespace();
+            }
+
+            execute(kubernetesClient.getInformer(operation, namespace), getResourceFilter(context), context);
+            return;
+        }
+
         if (hasParameter(KubernetesMessageHeaders.LABEL)) {
             operation.withLabels(getLabels(getParameters().get(KubernetesMessageHeaders.LABEL).toString(), context));
             operation.withoutLabels(getWithoutLabels(getParameters().get(KubernetesMessageHeaders.LABEL).toString(), context));
@@ -53,10 +72,9 @@ public abstract class AbstractClientCommand<O extends ClientNonNamespaceOperatio
         }
 
         if (operation instanceof ClientMixedOperation) {
-            if (hasParameter(KubernetesMessageHeaders.NAMESPACE)) {
-                operation = (O) ((ClientMixedOperation) operation).inNamespace(context.replaceDynamicContentInString(getParameters().get(KubernetesMessageHeaders.NAMESPACE).toString()));
-            } else if (StringUtils.hasText(kubernetesClient.getClient().getNamespace())) {
-                operation = (O) ((ClientMixedOperation) operation).inNamespace(kubernetesClient.getClient().getNamespace());
+            String namespace = getNamespace(kubernetesClient, context);
+            if (namespace != null) {
+                operation = (O) ((ClientMixedOperation) operation).inNamespace(namespace);
             } else {
                 operation = (O) ((ClientMixedOperation) operation).inAnyNamespace();
             }
@@ -65,6 +83,69 @@ public abstract class AbstractClientCommand<O extends ClientNonNamespaceOperatio
         execute(operation, context);
     }
 
+    /**
+     * Gets the namespace to use for this command. Either explicitly set as command parameter or default namespace of the client.
+     * @param kubernetesClient
+     * @param context
+     * @return the namespace or null to use any namespace.
+     */
+    private String getNamespace(KubernetesClient kubernetesClient, TestContext context) {
+        if (hasParameter(KubernetesMessageHeaders.NAMESPACE)) {
+            return context.replaceDynamicContentInString(getParameters().get(KubernetesMessageHeaders.NAMESPACE).toString());
+        } else if (StringUtils.hasText(kubernetesClient.getClient().getNamespace())) {
+            return kubernetesClient.getClient().getNamespace();
+        }
+
+        return null;
+    }
+
+    /**
+     * Builds resource filter from name and label parameters of this command.
+     * @param context
+     * @return
+     */
+    protected Predicate<HasMetadata> getResourceFilter(TestContext context) {
+        Predicate<HasMetadata> filter = resource -> resource.getMetadata() != null;
+
+        if (hasParameter(KubernetesMessageHeaders.NAME)) {
+            String name = context.replaceDynamicContentInString(getParameters().get(KubernetesMessageHeaders.NAME).toString());
+            filter = filter.and(resource -> name.equals(resource.getMetadata().getName()));
+        }
+
+        if (hasParameter(KubernetesMessageHeaders.LABEL)) {
+            Map<String, String> labels = getLabels(getParameters().get(KubernetesMessageHeaders.LABEL).toString(), context);
+            Map<String, String> withoutLabels = getWithoutLabels(getParameters().get(KubernetesMessageHeaders.LABEL).toString(), context);
+
+            filter = filter.and(resource -> {
+                Map<String, String> resourceLabels = Optional.ofNullable(resource.getMetadata().getLabels()).orElse(Collections.emptyMap());
+                return labels.entrySet().stream().allMatch(label -> resourceLabels.containsKey(label.getKey()) &&
+                                (label.getValue() == null || label.getValue().equals(resourceLabels.get(label.getKey())))) &&
+                        withoutLabels.entrySet().stream().noneMatch(label -> resourceLabels.containsKey(label.getKey()) &&
+                                (label.getValue() == null || label.getValue().equals(resourceLabels.get(label.getKey()))));
+            });
+        }
+
+        return filter;
+    }
+
+    /**
+     * Checks if this command is able to operate on a shared resource informer.
+     * @return
+     */
+    protected boolean isInformerSupported() {
+        return false;
+    }
+
+    /**
+     * Execute this command with shared resource informer. Subclasses supporting informers must overwrite this method.
+     * @param informer
+     * @param filter
+     * @param context
+     */
+    protected void execute(ResourceInformer informer, Predicate<HasMetadata> filter, TestContext context) {
+        throw new CitrusRuntimeException(String.format("Command '%s' does not support resource informers", getName()));
+    }
+
     /**
      * Execute the mixed operation
      * @param operation
@@ -16,7 +16,10 @@
 
 package com.consol.citrus.kubernetes.command;
 
+import java.util.function.Predicate;
+
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.kubernetes.client.ResourceInformer;
 import io.fabric8.kubernetes.api.model.*;
 import io.fabric8.kubernetes.client.dsl.ClientMixedOperation;
 import io.fabric8.kubernetes.client.dsl.ClientResource;
@@ -40,4 +43,14 @@ public abstract class AbstractGetCommand<R extends KubernetesResource, T extends
     public void execute(ClientMixedOperation<R, ? extends KubernetesResourceList, ? extends Doneable<R>, ? extends ClientResource<R, ? extends Doneable<R>>> operation, TestContext context) {
         setCommandResult(new CommandResult<>(operation.get()));
     }
+
+    @Override
+    protected boolean isInformerSupported() {
+        return true;
+    }
+
+    @Override
+    protected void execute(ResourceInformer informer, Predicate<HasMetadata> filter, TestContext context) {
+        setCommandResult(new CommandResult<>((R) informer.get(filter)));
+    }
 }
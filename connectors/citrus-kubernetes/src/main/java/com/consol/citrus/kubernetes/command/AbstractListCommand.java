@@ -16,7 +16,11 @@
 
 package com.consol.citrus.kubernetes.command;
 
+import java.util.function.Predicate;
+
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.kubernetes.client.ResourceInformer;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.client.dsl.ClientNonNamespaceOperation;
 
@@ -39,4 +43,14 @@ public abstract class AbstractListCommand<R extends KubernetesResource, T extend
     public void execute(ClientNonNamespaceOperation operation, TestContext context) {
         setCommandResult(new CommandResult<>((R) operation.list()));
     }
+
+    @Override
+    protected boolean isInformerSupported() {
+        return true;
+    }
+
+    @Override
+    protected void execute(ResourceInformer informer, Predicate<HasMetadata> filter, TestContext context) {
+        setCommandResult(new CommandResult<>((R) informer.list(filter)));
+    }
 }
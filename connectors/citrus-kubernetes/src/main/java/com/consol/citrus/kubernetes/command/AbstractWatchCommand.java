@@ -19,10 +19,13 @@ package com.consol.citrus.kubernetes.command;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.MessageTimeoutException;
+import com.consol.citrus.kubernetes.client.ResourceInformer;
+import io.fabric8.kubernetes.api.model.HasMetadata;
 import io.fabric8.kubernetes.api.model.KubernetesResource;
 import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.fabric8.kubernetes.client.Watch;
@@ -44,6 +47,9 @@ public abstract class AbstractWatchCommand<R extends KubernetesResource, T exten
     private BlockingQueue<WatchEventResult<R>> results = new ArrayBlockingQueue<>(1);
     private WatchEventResult<R> cachedResult;
 
+    /** Subscription to shared resource informer events */
+    private ResourceInformer.Subscription subscription;
+
     /**
      * Default constructor initializing the command name.
      *
@@ -74,12 +80,34 @@ public abstract class AbstractWatchCommand<R extends KubernetesResource, T exten
         });
     }
 
+    @Override
+    protected boolean isInformerSupported() {
+        return true;
+    }
+
+    @Override
+    protected void execute(ResourceInformer informer, Predicate<HasMetadata> filter, TestContext context) {
+        subscription = informer.subscribe(filter);
+    }
+
     @Override
     public WatchEventResult<R> getCommandResult() {
         if (cachedResult != null) {
             return cachedResult;
         }
 
+        if (subscription != null) {
+            WatchEventResult<R> watchEventResult = (WatchEventResult<R>) subscription.poll(timeout);
+            subscription.close();
+
+            if (watchEventResult == null) {
+                throw new MessageTimeoutException(timeout, "watchEventResultQueue");
+            }
+
+            cachedResult = watchEventResult;
+            return watchEventResult;
+        }
+
         try {
             WatchEventResult<R> watchEventResult = results.poll(timeout, TimeUnit.MILLISECONDS);
             if (watchEventResult == null) {
@@ -80,4 +80,16 @@ public @interface KubernetesClientConfig {
      */
     String objectMapper() default  "";
 
+    /**
+     * Informer enabled
+     * @return Whether get, list and watch commands use shared resource informers
+     */
+    boolean informerEnabled() default false;
+
+    /**
+     * Informer buffer size
+     * @return Maximum number of buffered events per informer subscription
+     */
+    int informerBufferSize() default 100;
+
 }
@@ -66,6 +66,9 @@ public class KubernetesClientConfigParser implements AnnotationConfigParser<Kube
             builder.objectMapper(referenceResolver.resolve(annotation.objectMapper(), ObjectMapper.class));
         }
 
+        builder.informerEnabled(annotation.informerEnabled());
+        builder.informerBufferSize(annotation.informerBufferSize());
+
         return builder.build();
     }
 }
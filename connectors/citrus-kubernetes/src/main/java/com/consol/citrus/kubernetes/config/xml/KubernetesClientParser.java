@@ -54,6 +54,8 @@ public class KubernetesClientParser extends AbstractEndpointParser {
 
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("message-converter"), "messageConverter");
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("object-mapper"), "objectMapper");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("informer-enabled"), "informerEnabled");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("informer-buffer-size"), "informerBufferSize");
     }
 
     @Override
@@ -44,6 +44,12 @@ public class KubernetesEndpointConfiguration extends AbstractPollableEndpointCon
     /** Kubernetes message converter */
     private KubernetesMessageConverter messageConverter = new KubernetesMessageConverter();
 
+    /** Serve get, list and watch commands from shared resource informers */
+    private boolean informerEnabled = false;
+
+    /** Maximum number of buffered events per informer subscription */
+    private int informerBufferSize = 100;
+
     /**
      * Creates new Kubernetes client instance with configuration.
      * @return
@@ -140,4 +146,36 @@ public class KubernetesEndpointConfiguration extends AbstractPollableEndpointCon
     public void setObjectMapper(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
     }
+
+    /**
+     * Gets the informer enabled flag.
+     * @return
+     */
+    public boolean isInformerEnabled() {
+        return informerEnabled;
+    }
+
+    /**
+     * Enables shared resource informers for get, list and watch commands.
+     * @param informerEnabled
+     */
+    public void setInformerEnabled(boolean informerEnabled) {
+        this.informerEnabled = informerEnabled;
+    }
+
+    /**
+     * Gets the informer event buffer size.
+     * @return
+     */
+    public int getInformerBufferSize() {
+        return informerBufferSize;
+    }
+
+    /**
+     * Sets the informer event buffer size.
+     * @param informerBufferSize
+     */
+    public void setInformerBufferSize(int informerBufferSize) {
+        this.informerBufferSize = informerBufferSize;
+    }
 }
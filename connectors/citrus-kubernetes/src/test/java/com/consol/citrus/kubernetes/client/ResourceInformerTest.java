@@ -0,0 +1,175 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.kubernetes.client;
+
+import java.util.Collections;
+
+import com.consol.citrus.kubernetes.actions.KubernetesExecuteAction;
+import com.consol.citrus.kubernetes.command.GetPod;
+import com.consol.citrus.kubernetes.command.ListPods;
+import com.consol.citrus.kubernetes.command.WatchEventResult;
+import com.consol.citrus.kubernetes.command.WatchPods;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import io.fabric8.kubernetes.api.model.HasMetadata;
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.ClientMixedOperation;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class ResourceInformerTest extends AbstractTestNGUnitTest {
+
+    private io.fabric8.kubernetes.client.KubernetesClient kubernetesClient = Mockito.mock(io.fabric8.kubernetes.client.KubernetesClient.class);
+    private ClientMixedOperation clientOperation = Mockito.mock(ClientMixedOperation.class);
+    private Watch watch = Mockito.mock(Watch.class);
+
+    private KubernetesClient client;
+
+    @BeforeMethod
+    public void setupMocks() {
+        reset(kubernetesClient, clientOperation, watch);
+
+        client = new KubernetesClientBuilder()
+                .informerEnabled(true)
+                .informerBufferSize(2)
+                .build();
+        client.getEndpointConfiguration().setKubernetesClient(kubernetesClient);
+
+        PodList pods = new PodList();
+        pods.getItems().add(pod("foo", "app", "foo"));
+        pods.getItems().add(pod("bar", "app", "bar"));
+
+        when(kubernetesClient.getNamespace()).thenReturn("myNamespace");
+        when(kubernetesClient.pods()).thenReturn(clientOperation);
+        when(clientOperation.inNamespace("myNamespace")).thenReturn(clientOperation);
+        when(clientOperation.list()).thenReturn(pods);
+        when(clientOperation.watch(any(Watcher.class))).thenReturn(watch);
+    }
+
+    @Test
+    public void testListAndGetFromInformer() {
+        KubernetesExecuteAction listAction = new KubernetesExecuteAction.Builder()
+                .client(client)
+                .command(new ListPods().label("app", "bar"))
+                .build();
+        listAction.execute(context);
+
+        PodList result = (PodList) listAction.getCommand().getCommandResult().getResult();
+        Assert.assertEquals(result.getItems().size(), 1L);
+        Assert.assertEquals(result.getItems().get(0).getMetadata().getName(), "bar");
+
+        KubernetesExecuteAction getAction = new KubernetesExecuteAction.Builder()
+                .client(client)
+                .command(new GetPod().name("foo"))
+                .build();
+        getAction.execute(context);
+
+        Assert.assertEquals(((Pod) getAction.getCommand().getCommandResult().getResult()).getMetadata().getName(), "foo");
+
+        verify(clientOperation, times(1)).list();
+        verify(clientOperation, times(1)).watch(any(Watcher.class));
+    }
+
+    @Test
+    public void testIndexUpdatedByEvents() {
+        ResourceInformer informer = client.getInformer(clientOperation, "myNamespace");
+        informer.start();
+
+        informer.eventReceived(Watcher.Action.ADDED, pod("new", "app", "new"));
+        informer.eventReceived(Watcher.Action.DELETED, pod("foo", "app", "foo"));
+
+        PodList result = (PodList) informer.list(resource -> true);
+        Assert.assertEquals(result.getItems().size(), 2L);
+        Assert.assertNotNull(informer.get(resource -> resource.getMetadata().getName().equals("new")));
+        Assert.assertNull(informer.get(resource -> resource.getMetadata().getName().equals("foo")));
+    }
+
+    @Test
+    public void testWatchFromInformer() {
+        ArgumentCaptor<Watcher> watcher = ArgumentCaptor.forClass(Watcher.class);
+        client.getInformer(clientOperation, "myNamespace").start();
+
+        verify(clientOperation).watch(watcher.capture());
+        watcher.getValue().eventReceived(Watcher.Action.MODIFIED, pod("foo", "app", "foo"));
+        watcher.getValue().eventReceived(Watcher.Action.ADDED, pod("baz", "app", "baz"));
+
+        KubernetesExecuteAction action = new KubernetesExecuteAction.Builder()
+                .client(client)
+                .command(new WatchPods().name("baz"))
+                .build();
+        action.execute(context);
+
+        WatchEventResult<?> result = (WatchEventResult<?>) action.getCommand().getCommandResult();
+        Assert.assertEquals(result.getAction(), Watcher.Action.ADDED);
+        Assert.assertEquals(((Pod) result.getResult()).getMetadata().getName(), "baz");
+
+        verify(clientOperation, times(1)).watch(any(Watcher.class));
+    }
+
+    @Test
+    public void testSubscriptionBufferDropsOldestEvents() {
+        ResourceInformer informer = client.getInformer(clientOperation, "myNamespace");
+        ResourceInformer.Subscription subscription = informer.subscribe(resource -> true);
+
+        informer.eventReceived(Watcher.Action.MODIFIED, pod("foo", "app", "foo"));
+
+        Assert.assertEquals(subscription.getDropped(), 1L);
+        WatchEventResult<HasMetadata> event = subscription.poll(100L);
+        Assert.assertEquals(event.getAction(), Watcher.Action.ADDED);
+        Assert.assertEquals(subscription.poll(100L).getAction(), Watcher.Action.MODIFIED);
+        Assert.assertNull(subscription.poll(10L));
+
+        subscription.close();
+    }
+
+    @Test
+    public void testInformersClosedOnDestroy() {
+        ResourceInformer informer = client.getInformer(clientOperation, "myNamespace");
+        informer.start();
+
+        client.destroy();
+
+        verify(watch).close();
+        Assert.assertNotSame(client.getInformer(clientOperation, "myNamespace"), informer);
+    }
+
+    private static Pod pod(String name, String labelKey, String labelValue) {
+        ObjectMeta metadata = new ObjectMeta();
+        metadata.setName(name);
+        metadata.setNamespace("myNamespace");
+        metadata.setLabels(Collections.singletonMap(labelKey, labelValue));
+
+        Pod pod = new Pod();
+        pod.setMetadata(metadata);
+        return pod;
+    }
+}
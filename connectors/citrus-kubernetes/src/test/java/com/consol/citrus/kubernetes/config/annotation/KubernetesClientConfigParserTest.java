@@ -55,7 +55,9 @@ public class KubernetesClientConfigParserTest extends AbstractTestNGUnitTest {
             password="s!cr!t",
             namespace="user_namespace",
             messageConverter="messageConverter",
-            objectMapper="objectMapper")
+            objectMapper="objectMapper",
+            informerEnabled=true,
+            informerBufferSize=50)
     private KubernetesClient client2;
 
     @Mock
@@ -84,6 +86,8 @@ public class KubernetesClientConfigParserTest extends AbstractTestNGUnitTest {
 
         // 1st client
         Assert.assertNotNull(client1.getClient());
+        Assert.assertFalse(client1.getEndpointConfiguration().isInformerEnabled());
+        Assert.assertEquals(client1.getEndpointConfiguration().getInformerBufferSize(), 100);
 
         // 2nd client
         Assert.assertNotNull(client2.getClient());
@@ -94,6 +98,8 @@ public class KubernetesClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(client2.getEndpointConfiguration().getKubernetesClientConfig().getNamespace(), "user_namespace");
         Assert.assertEquals(client2.getEndpointConfiguration().getMessageConverter(), messageConverter);
         Assert.assertEquals(client2.getEndpointConfiguration().getObjectMapper(), objectMapper);
+        Assert.assertTrue(client2.getEndpointConfiguration().isInformerEnabled());
+        Assert.assertEquals(client2.getEndpointConfiguration().getInformerBufferSize(), 50);
     }
 
     @Test
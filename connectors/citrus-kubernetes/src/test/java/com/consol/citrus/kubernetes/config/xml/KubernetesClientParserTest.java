@@ -39,6 +39,8 @@ public class KubernetesClientParserTest extends AbstractBeanDefinitionParserTest
         // 1st client
         KubernetesClient client = clients.get("k8sClient1");
         Assert.assertNotNull(client.getClient());
+        Assert.assertFalse(client.getEndpointConfiguration().isInformerEnabled());
+        Assert.assertEquals(client.getEndpointConfiguration().getInformerBufferSize(), 100);
 
         // 2nd client
         client = clients.get("k8sClient2");
@@ -50,6 +52,8 @@ public class KubernetesClientParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertEquals(client.getEndpointConfiguration().getKubernetesClientConfig().getNamespace(), "user_namespace");
         Assert.assertEquals(client.getEndpointConfiguration().getMessageConverter(), beanDefinitionContext.getBean("messageConverter", MessageConverter.class));
         Assert.assertEquals(client.getEndpointConfiguration().getObjectMapper(), beanDefinitionContext.getBean("objectMapper", ObjectMapper.class));
+        Assert.assertTrue(client.getEndpointConfiguration().isInformerEnabled());
+        Assert.assertEquals(client.getEndpointConfiguration().getInformerBufferSize(), 50);
 
     }
 }
@@ -94,4 +94,22 @@ public @interface SeleniumBrowserConfig {
      */
     long timeout() default 5000L;
 
+    /**
+     * Minimum number of pooled web drivers.
+     * @return
+     */
+    int poolMinSize() default 0;
+
+    /**
+     * Maximum number of pooled web drivers, pooling is disabled when zero.
+     * @return
+     */
+    int poolMaxSize() default 0;
+
+    /**
+     * Time in milliseconds to wait for a pooled web driver.
+     * @return
+     */
+    long poolAcquireTimeout() default 60000L;
+
 }
@@ -69,6 +69,9 @@ public class SeleniumBrowserConfigParser implements AnnotationConfigParser<Selen
 
         builder.timeout(annotation.timeout());
 
+        builder.pool(annotation.poolMinSize(), annotation.poolMaxSize());
+        builder.poolAcquireTimeout(annotation.poolAcquireTimeout());
+
         return builder.build();
     }
 }
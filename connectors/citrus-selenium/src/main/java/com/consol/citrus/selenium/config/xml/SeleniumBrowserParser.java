@@ -44,6 +44,9 @@ public class SeleniumBrowserParser extends AbstractEndpointParser {
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("start-page"), "startPageUrl");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("remote-server"), "remoteServerUrl");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("javascript"), "javaScript");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("pool-min-size"), "poolMinSize");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("pool-max-size"), "poolMaxSize");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("pool-acquire-timeout"), "poolAcquireTimeout");
 
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("web-driver"), "webDriver");
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("firefox-profile"), "firefoxProfile");
@@ -23,6 +23,7 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
+import com.consol.citrus.common.ShutdownPhase;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -61,7 +62,7 @@ import org.springframework.util.StringUtils;
  * @author Tamer Erdogan, Christoph Deppisch
  * @since 2.7
  */
-public class SeleniumBrowser extends AbstractEndpoint implements Producer {
+public class SeleniumBrowser extends AbstractEndpoint implements Producer, ShutdownPhase {
 
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(SeleniumBrowser.class);
@@ -69,6 +70,12 @@ public class SeleniumBrowser extends AbstractEndpoint implements Producer {
     /** Selenium web driver */
     private WebDriver webDriver;
 
+    /** Pool of warm web drivers when pooling is enabled */
+    private WebDriverPool webDriverPool;
+
+    /** Web driver acquired from pool by the current thread */
+    private final ThreadLocal<WebDriver> pooledWebDriver = new ThreadLocal<>();
+
     /** Temporary storage */
     private final Path temporaryStorage;
 
@@ -98,35 +105,56 @@ public class SeleniumBrowser extends AbstractEndpoint implements Producer {
     }
 
     /**
-     * Starts the browser and create local or remote web driver.
+     * Starts the browser and create local or remote web driver. When pooling is enabled the browser acquires a
+     * web driver from the pool for the current thread.
      */
     public void start() {
         if (!isStarted()) {
-            if (getEndpointConfiguration().getWebDriver() != null) {
-                webDriver = getEndpointConfiguration().getWebDriver();
-            } else if (StringUtils.hasText(getEndpointConfiguration().getRemoteServerUrl())) {
-                webDriver = createRemoteWebDriver(getEndpointConfiguration().getBrowserType(), getEndpointConfiguration().getRemoteServerUrl());
+            if (isPooled()) {
+                pooledWebDriver.set(getWebDriverPool().acquire());
             } else {
-                webDriver = createLocalWebDriver(getEndpointConfiguration().getBrowserType());
-            }
-
-            if (!CollectionUtils.isEmpty(getEndpointConfiguration().getEventListeners())) {
-                EventFiringWebDriver wrapper = new EventFiringWebDriver(webDriver);
-                LOG.info("Add event listeners to web driver: " + getEndpointConfiguration().getEventListeners().size());
-                for (WebDriverEventListener listener : getEndpointConfiguration().getEventListeners()) {
-                    wrapper.register(listener);
-                }
+                webDriver = createWebDriver();
             }
         } else {
             LOG.debug("Browser already started");
         }
     }
 
+    /**
+     * Creates new local or remote web driver according to the endpoint configuration.
+     * @return
+     */
+    private WebDriver createWebDriver() {
+        WebDriver driver;
+        if (getEndpointConfiguration().getWebDriver() != null) {
+            driver = getEndpointConfiguration().getWebDriver();
+        } else if (StringUtils.hasText(getEndpointConfiguration().getRemoteServerUrl())) {
+            driver = createRemoteWebDriver(getEndpointConfiguration().getBrowserType(), getEndpointConfiguration().getRemoteServerUrl());
+        } else {
+            driver = createLocalWebDriver(getEndpointConfiguration().getBrowserType());
+        }
+
+        if (!CollectionUtils.isEmpty(getEndpointConfiguration().getEventListeners())) {
+            EventFiringWebDriver wrapper = new EventFiringWebDriver(driver);
+            LOG.info("Add event listeners to web driver: " + getEndpointConfiguration().getEventListeners().size());
+            for (WebDriverEventListener listener : getEndpointConfiguration().getEventListeners()) {
+                wrapper.register(listener);
+            }
+        }
+
+        return driver;
+    }
+
     /**
      * Stop the browser when started.
      */
     public void stop() {
-        if (isStarted()) {
+        WebDriver pooled = pooledWebDriver.get();
+        if (pooled != null) {
+            LOG.info("Releasing browser to web driver pool");
+            pooledWebDriver.remove();
+            getWebDriverPool().release(pooled);
+        } else if (isStarted()) {
             LOG.info("Stopping browser " + webDriver.getCurrentUrl());
 
             try {
@@ -307,7 +335,8 @@ public class SeleniumBrowser extends AbstractEndpoint implements Producer {
      * @return
      */
     public WebDriver getWebDriver() {
-        return webDriver;
+        WebDriver pooled = pooledWebDriver.get();
+        return pooled != null ? pooled : webDriver;
     }
 
     /**
@@ -324,7 +353,37 @@ public class SeleniumBrowser extends AbstractEndpoint implements Producer {
      * @return
      */
     public boolean isStarted() {
-        return webDriver != null;
+        return getWebDriver() != null;
+    }
+
+    /**
+     * Checks if web drivers are pooled. Pooling is not supported with a fixed web driver set on the endpoint configuration.
+     * @return
+     */
+    public boolean isPooled() {
+        return getEndpointConfiguration().getPoolMaxSize() > 0 && getEndpointConfiguration().getWebDriver() == null;
+    }
+
+    /**
+     * Gets the web driver pool. Creates and warms up the pool on first access.
+     * @return
+     */
+    public synchronized WebDriverPool getWebDriverPool() {
+        if (webDriverPool == null) {
+            webDriverPool = new WebDriverPool(this::createWebDriver, getEndpointConfiguration().getPoolMinSize(),
+                    getEndpointConfiguration().getPoolMaxSize(), getEndpointConfiguration().getPoolAcquireTimeout());
+            webDriverPool.warmUp();
+        }
+
+        return webDriverPool;
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (webDriverPool != null) {
+            webDriverPool.close();
+            webDriverPool = null;
+        }
     }
 
     @Override
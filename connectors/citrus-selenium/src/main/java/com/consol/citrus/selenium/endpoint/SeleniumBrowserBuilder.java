@@ -137,4 +137,26 @@ public class SeleniumBrowserBuilder extends AbstractEndpointBuilder<SeleniumBrow
         endpoint.getEndpointConfiguration().setTimeout(timeout);
         return this;
     }
+
+    /**
+     * Enables web driver pooling with given minimum and maximum number of browsers.
+     * @param minSize
+     * @param maxSize
+     * @return
+     */
+    public SeleniumBrowserBuilder pool(int minSize, int maxSize) {
+        endpoint.getEndpointConfiguration().setPoolMinSize(minSize);
+        endpoint.getEndpointConfiguration().setPoolMaxSize(maxSize);
+        return this;
+    }
+
+    /**
+     * Sets the time in milliseconds to wait for a pooled web driver.
+     * @param timeout
+     * @return
+     */
+    public SeleniumBrowserBuilder poolAcquireTimeout(long timeout) {
+        endpoint.getEndpointConfiguration().setPoolAcquireTimeout(timeout);
+        return this;
+    }
 }
@@ -55,6 +55,13 @@ public class SeleniumBrowserConfiguration extends AbstractEndpointConfiguration
     /** Optional firefox profile */
     private FirefoxProfile firefoxProfile;
 
+    /** Web driver pool settings, pooling is disabled when max size is not positive */
+    private int poolMinSize = 0;
+    private int poolMaxSize = 0;
+
+    /** Time in milliseconds to wait for a pooled web driver to become available */
+    private long poolAcquireTimeout = 60000L;
+
     /**
      * Gets the javaScript enabled property.
      * @return
@@ -200,4 +207,51 @@ public class SeleniumBrowserConfiguration extends AbstractEndpointConfiguration
     public void setFirefoxProfile(FirefoxProfile firefoxProfile) {
         this.firefoxProfile = firefoxProfile;
     }
+    /**
+     * Gets the minimum number of pooled web drivers.
+     * @return
+     */
+    public int getPoolMinSize() {
+        return poolMinSize;
+    }
+
+    /**
+     * Sets the minimum number of pooled web drivers.
+     * @param poolMinSize
+     */
+    public void setPoolMinSize(int poolMinSize) {
+        this.poolMinSize = poolMinSize;
+    }
+
+    /**
+     * Gets the maximum number of pooled web drivers.
+     * @return
+     */
+    public int getPoolMaxSize() {
+        return poolMaxSize;
+    }
+
+    /**
+     * Sets the maximum number of pooled web drivers.
+     * @param poolMaxSize
+     */
+    public void setPoolMaxSize(int poolMaxSize) {
+        this.poolMaxSize = poolMaxSize;
+    }
+
+    /**
+     * Gets the time in milliseconds to wait for a pooled web driver.
+     * @return
+     */
+    public long getPoolAcquireTimeout() {
+        return poolAcquireTimeout;
+    }
+
+    /**
+     * Sets the time in milliseconds to wait for a pooled web driver.
+     * @param poolAcquireTimeout
+     */
+    public void setPoolAcquireTimeout(long poolAcquireTimeout) {
+        this.poolAcquireTimeout = poolAcquireTimeout;
+    }
 }
@@ -0,0 +1,274 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.selenium.endpoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Bounded pool of warm web driver instances. Web drivers are handed out to one test at a time and get reset when
+ * released to the pool, so cookies, storage and additional windows of the previous test are removed. Idle web drivers
+ * are checked for health before being handed out again and broken instances are replaced.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public class WebDriverPool {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(WebDriverPool.class);
+
+    /** Creates new web driver instances */
+    private final Supplier<WebDriver> factory;
+
+    /** Minimum and maximum number of web driver instances */
+    private final int minSize;
+    private final int maxSize;
+
+    /** Time in milliseconds to wait for a web driver to become available */
+    private final long acquireTimeout;
+
+    /** Idle web drivers ready to be handed out */
+    private final BlockingDeque<WebDriver> idle = new LinkedBlockingDeque<>();
+
+    /** Number of web drivers currently created by this pool, guarded by this */
+    private int size = 0;
+
+    /** Marks this pool as closed */
+    private volatile boolean closed = false;
+
+    /**
+     * Default constructor using web driver factory and pool settings.
+     * @param factory
+     * @param minSize
+     * @param maxSize
+     * @param acquireTimeout
+     */
+    public WebDriverPool(Supplier<WebDriver> factory, int minSize, int maxSize, long acquireTimeout) {
+        if (maxSize <= 0 || minSize > maxSize) {
+            throw new CitrusRuntimeException(String.format("Invalid web driver pool size min=%s, max=%s", minSize, maxSize));
+        }
+
+        this.factory = factory;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * Creates web drivers until the minimum pool size is reached.
+     */
+    public void warmUp() {
+        while (true) {
+            synchronized (this) {
+                if (closed || size >= minSize) {
+                    return;
+                }
+
+                size++;
+            }
+
+            idle.offer(create());
+        }
+    }
+
+    /**
+     * Hands out healthy web driver. Reuses idle web drivers, creates new instance as long as maximum pool size is not
+     * reached and waits for another web driver to be released otherwise.
+     * @return
+     */
+    public WebDriver acquire() {
+        long deadline = System.currentTimeMillis() + acquireTimeout;
+
+        while (true) {
+            WebDriver webDriver = idle.pollFirst();
+            if (webDriver == null && reserve()) {
+                webDriver = create();
+            }
+
+            if (webDriver == null) {
+                try {
+                    webDriver = idle.pollFirst(Math.max(0L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new CitrusRuntimeException("Interrupted while waiting for web driver", e);
+                }
+
+                if (webDriver == null) {
+                    throw new CitrusRuntimeException(String.format("Failed to acquire web driver from pool within %s ms - all %s browsers in use", acquireTimeout, maxSize));
+                }
+            }
+
+            if (isHealthy(webDriver)) {
+                return webDriver;
+            }
+
+            LOG.warn("Discarding unhealthy web driver from pool");
+            discard(webDriver);
+        }
+    }
+
+    /**
+     * Releases web driver to this pool. Web driver is reset so the next test starts with a clean browser state.
+     * Web drivers that fail to reset are discarded.
+     * @param webDriver
+     */
+    public void release(WebDriver webDriver) {
+        if (closed) {
+            discard(webDriver);
+            return;
+        }
+
+        try {
+            reset(webDriver);
+            idle.offerFirst(webDriver);
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to reset web driver - discarding browser", e);
+            discard(webDriver);
+        }
+    }
+
+    /**
+     * Quits all idle web drivers. Web drivers currently in use are quit when released.
+     */
+    public void close() {
+        closed = true;
+
+        List<WebDriver> drivers = new ArrayList<>();
+        idle.drainTo(drivers);
+        drivers.forEach(this::discard);
+    }
+
+    /**
+     * Gets the number of web drivers created by this pool.
+     * @return
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of idle web drivers.
+     * @return
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Resets browser state. Closes all but one window, deletes cookies, clears local and session storage and navigates to blank page.
+     * @param webDriver
+     */
+    protected void reset(WebDriver webDriver) {
+        Set<String> windows = webDriver.getWindowHandles();
+        if (windows.size() > 1) {
+            String mainWindow = windows.iterator().next();
+            for (String window : windows) {
+                if (!window.equals(mainWindow)) {
+                    webDriver.switchTo().window(window).close();
+                }
+            }
+            webDriver.switchTo().window(mainWindow);
+        }
+
+        webDriver.manage().deleteAllCookies();
+
+        if (webDriver instanceof JavascriptExecutor) {
+            try {
+                ((JavascriptExecutor) webDriver).executeScript("if (window.localStorage) { window.localStorage.clear(); } " +
+                        "if (window.sessionStorage) { window.sessionStorage.clear(); }");
+            } catch (WebDriverException | UnsupportedOperationException e) {
+                LOG.debug("Unable to clear web storage: " + e.getMessage());
+            }
+        }
+
+        webDriver.get("about:blank");
+    }
+
+    /**
+     * Checks if given web driver is still able to serve requests.
+     * @param webDriver
+     * @return
+     */
+    protected boolean isHealthy(WebDriver webDriver) {
+        try {
+            return !webDriver.getWindowHandles().isEmpty();
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Reserves slot for new web driver in case maximum pool size is not reached.
+     * @return
+     */
+    private synchronized boolean reserve() {
+        if (closed) {
+            throw new CitrusRuntimeException("Web driver pool has been closed");
+        }
+
+        if (size < maxSize) {
+            size++;
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Creates new web driver for reserved slot. Releases slot again in case web driver creation fails.
+     * @return
+     */
+    private WebDriver create() {
+        try {
+            return factory.get();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                size--;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Quits web driver and releases its slot in this pool.
+     * @param webDriver
+     */
+    private void discard(WebDriver webDriver) {
+        synchronized (this) {
+            size--;
+        }
+
+        try {
+            webDriver.quit();
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to quit web driver", e);
+        }
+    }
+}
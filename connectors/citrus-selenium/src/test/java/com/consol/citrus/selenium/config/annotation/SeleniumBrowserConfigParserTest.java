@@ -60,7 +60,10 @@ public class SeleniumBrowserConfigParserTest extends AbstractTestNGUnitTest {
             webDriver="webDriver",
             firefoxProfile="firefoxProfile",
             startPage="http://citrusframework.org",
-            timeout=10000L)
+            timeout=10000L,
+            poolMinSize=1,
+            poolMaxSize=4,
+            poolAcquireTimeout=30000L)
     private SeleniumBrowser browser2;
 
     @CitrusEndpoint
@@ -109,6 +112,9 @@ public class SeleniumBrowserConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertNotNull(browser1.getEndpointConfiguration().getFirefoxProfile());
         Assert.assertNull(browser1.getEndpointConfiguration().getRemoteServerUrl());
         Assert.assertEquals(browser1.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertEquals(browser1.getEndpointConfiguration().getPoolMinSize(), 0);
+        Assert.assertEquals(browser1.getEndpointConfiguration().getPoolMaxSize(), 0);
+        Assert.assertEquals(browser1.getEndpointConfiguration().getPoolAcquireTimeout(), 60000L);
     }
 
     @Test
@@ -125,6 +131,9 @@ public class SeleniumBrowserConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertFalse(browser2.getEndpointConfiguration().isJavaScript());
         Assert.assertNull(browser2.getEndpointConfiguration().getRemoteServerUrl());
         Assert.assertEquals(browser2.getEndpointConfiguration().getTimeout(), 10000L);
+        Assert.assertEquals(browser2.getEndpointConfiguration().getPoolMinSize(), 1);
+        Assert.assertEquals(browser2.getEndpointConfiguration().getPoolMaxSize(), 4);
+        Assert.assertEquals(browser2.getEndpointConfiguration().getPoolAcquireTimeout(), 30000L);
     }
 
     @Test
@@ -50,6 +50,9 @@ public class SeleniumBrowserParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertNotNull(browser.getEndpointConfiguration().getFirefoxProfile());
         Assert.assertNull(browser.getEndpointConfiguration().getRemoteServerUrl());
         Assert.assertEquals(browser.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertEquals(browser.getEndpointConfiguration().getPoolMinSize(), 0);
+        Assert.assertEquals(browser.getEndpointConfiguration().getPoolMaxSize(), 0);
+        Assert.assertEquals(browser.getEndpointConfiguration().getPoolAcquireTimeout(), 60000L);
     }
 
     @Test
@@ -66,6 +69,9 @@ public class SeleniumBrowserParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertEquals(browser.getEndpointConfiguration().isJavaScript(), false);
         Assert.assertNull(browser.getEndpointConfiguration().getRemoteServerUrl());
         Assert.assertEquals(browser.getEndpointConfiguration().getTimeout(), 10000L);
+        Assert.assertEquals(browser.getEndpointConfiguration().getPoolMinSize(), 1);
+        Assert.assertEquals(browser.getEndpointConfiguration().getPoolMaxSize(), 4);
+        Assert.assertEquals(browser.getEndpointConfiguration().getPoolAcquireTimeout(), 30000L);
     }
 
     @Test
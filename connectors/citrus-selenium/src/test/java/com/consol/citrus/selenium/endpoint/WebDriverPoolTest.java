@@ -0,0 +1,126 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.selenium.endpoint;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.htmlunit.HtmlUnitDriver;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class WebDriverPoolTest {
+
+    @Test
+    public void testAcquireAndRelease() {
+        WebDriverPool pool = new WebDriverPool(() -> new HtmlUnitDriver(true), 1, 2, 100L);
+        pool.warmUp();
+
+        Assert.assertEquals(pool.getSize(), 1);
+        Assert.assertEquals(pool.getIdleCount(), 1);
+
+        WebDriver first = pool.acquire();
+        WebDriver second = pool.acquire();
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(pool.getSize(), 2);
+
+        try {
+            pool.acquire();
+            Assert.fail("Missing exception due to exhausted pool");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Failed to acquire web driver from pool"));
+        }
+
+        pool.release(first);
+        Assert.assertSame(pool.acquire(), first);
+
+        pool.release(first);
+        pool.release(second);
+        pool.close();
+        Assert.assertEquals(pool.getSize(), 0);
+    }
+
+    @Test
+    public void testResetOnRelease() {
+        WebDriverPool pool = new WebDriverPool(() -> new HtmlUnitDriver(true), 0, 1, 100L);
+
+        WebDriver webDriver = pool.acquire();
+        webDriver.get("about:blank");
+        webDriver.manage().addCookie(new Cookie("foo", "bar"));
+
+        pool.release(webDriver);
+
+        WebDriver reused = pool.acquire();
+        Assert.assertSame(reused, webDriver);
+        Assert.assertTrue(reused.manage().getCookies().isEmpty());
+        Assert.assertEquals(reused.getWindowHandles().size(), 1);
+
+        pool.release(reused);
+        pool.close();
+    }
+
+    @Test
+    public void testDiscardUnhealthy() {
+        WebDriverPool pool = new WebDriverPool(() -> new HtmlUnitDriver(true), 1, 1, 100L);
+        pool.warmUp();
+
+        WebDriver webDriver = pool.acquire();
+        webDriver.quit();
+        pool.release(webDriver);
+
+        WebDriver replacement = pool.acquire();
+        Assert.assertNotSame(replacement, webDriver);
+        Assert.assertEquals(pool.getSize(), 1);
+
+        pool.release(replacement);
+        pool.close();
+    }
+
+    @Test
+    public void testPooledBrowserPerThread() throws Exception {
+        SeleniumBrowser browser = new SeleniumBrowserBuilder()
+                .pool(1, 2)
+                .build();
+
+        browser.start();
+        WebDriver webDriver = browser.getWebDriver();
+        Assert.assertTrue(browser.isPooled());
+        Assert.assertNotNull(webDriver);
+
+        WebDriver other = CompletableFuture.supplyAsync(() -> {
+            browser.start();
+            WebDriver driver = browser.getWebDriver();
+            browser.stop();
+            return driver;
+        }).get(10000L, TimeUnit.MILLISECONDS);
+
+        Assert.assertNotSame(other, webDriver);
+        Assert.assertSame(browser.getWebDriver(), webDriver);
+
+        browser.stop();
+        Assert.assertFalse(browser.isStarted());
+        Assert.assertEquals(browser.getWebDriverPool().getIdleCount(), 2);
+
+        browser.destroy();
+    }
+}
@@ -20,6 +20,7 @@ import javax.sql.DataSource;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import com.consol.citrus.AbstractTestActionBuilder;
 import com.consol.citrus.TestAction;
@@ -134,6 +135,18 @@ public abstract class AbstractDatabaseConnectingTestAction extends JdbcDaoSuppor
                 .getResource(context.replaceDynamicContentInString(sqlResourcePath)), lineDecorator);
     }
 
+    /**
+     * Streams SQL statements from external file resource to given consumer without loading
+     * the complete list of statements into memory.
+     *
+     * @param context the current test context.
+     * @param statementConsumer consumer receiving the statements in file order.
+     */
+    protected void readStatementsFromFileResource(TestContext context, Consumer<String> statementConsumer) {
+        SqlUtils.readStatementsFromFileResource(new PathMatchingResourcePatternResolver()
+                .getResource(context.replaceDynamicContentInString(sqlResourcePath)), null, statementConsumer);
+    }
+
     @Override
     public String getDescription() {
         return description;
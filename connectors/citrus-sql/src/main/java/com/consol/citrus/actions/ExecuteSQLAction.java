@@ -17,10 +17,12 @@
 package com.consol.citrus.actions;
 
 import javax.sql.DataSource;
+import java.util.ArrayList;
 import java.util.List;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.SqlUtils;
 import org.springframework.transaction.support.TransactionTemplate;
 
 /**
@@ -38,6 +40,9 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
     /** boolean flag marking that possible SQL errors will be ignored */
     private final boolean ignoreErrors;
 
+    /** Maximum number of statements grouped into a JDBC batch, batching is disabled when not positive */
+    private final int batchSize;
+
     /**
      * Default constructor.
      * @param builder
@@ -46,15 +51,23 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         super("sql", builder);
 
         this.ignoreErrors = builder.ignoreErrors;
+        this.batchSize = builder.batchSize;
     }
 
     @Override
     public void doExecute(TestContext context) {
-        final List<String> statementsToUse;
-        if (statements.isEmpty()) {
-            statementsToUse = createStatementsFromFileResource(context);
+        final Runnable execution;
+        if (batchSize > 0) {
+            execution = () -> executeStatementsInBatches(context);
         } else {
-            statementsToUse = statements;
+            final List<String> statementsToUse;
+            if (statements.isEmpty()) {
+                statementsToUse = createStatementsFromFileResource(context);
+            } else {
+                statementsToUse = statements;
+            }
+
+            execution = () -> executeStatements(statementsToUse, context);
         }
 
         if (getTransactionManager() != null) {
@@ -66,11 +79,11 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
             transactionTemplate.setTimeout(Integer.parseInt(context.replaceDynamicContentInString(getTransactionTimeout())));
             transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
             transactionTemplate.execute(status -> {
-                executeStatements(statementsToUse, context);
+                execution.run();
                 return null;
             });
         } else {
-            executeStatements(statementsToUse, context);
+            execution.run();
         }
     }
 
@@ -82,28 +95,122 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
     protected void executeStatements(List<String> statements, TestContext context) {
         for (String stmt : statements)  {
             try {
-                final String toExecute;
+                executeStatement(prepareStatement(stmt, context));
+            } catch (Exception e) {
+                handleError(e);
+            }
+        }
+    }
+
+    /**
+     * Run all SQL statements using JDBC batches. Consecutive data manipulation statements are sent to the database
+     * as single batch of literal statements. Statements from external file resources
+     * are streamed so the complete list of statements is never loaded into memory.
+     * @param context
+     */
+    protected void executeStatementsInBatches(TestContext context) {
+        StatementBatch batch = new StatementBatch(context);
+
+        if (statements.isEmpty()) {
+            readStatementsFromFileResource(context, batch::add);
+        } else {
+            statements.forEach(batch::add);
+        }
+
+        batch.flush();
+    }
+
+    /**
+     * Removes statement ending and replaces dynamic content in given statement.
+     * @param stmt
+     * @param context
+     * @return
+     */
+    private String prepareStatement(String stmt, TestContext context) {
+        if (stmt.trim().endsWith(";")) {
+            return context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
+        } else {
+            return context.replaceDynamicContentInString(stmt.trim());
+        }
+    }
+
+    /**
+     * Executes single SQL statement.
+     * @param toExecute
+     */
+    private void executeStatement(String toExecute) {
+        if (log.isDebugEnabled()) {
+            log.debug("Executing SQL statement: " + toExecute);
+        }
+
+        getJdbcTemplate().execute(toExecute);
+
+        log.info("SQL statement execution successful");
+    }
+
+    /**
+     * Either ignores given error or raises runtime exception according to ignore errors setting.
+     * @param e
+     */
+    private void handleError(Exception e) {
+        if (ignoreErrors) {
+            log.error("Ignoring error while executing SQL statement: " + e.getLocalizedMessage());
+        } else {
+            throw new CitrusRuntimeException(e);
+        }
+    }
+
+    /**
+     * Collects consecutive data manipulation statements and executes them as JDBC batch. Statements are kept as is
+     * so the database handles literal values exactly the same way as in non batch mode.
+     */
+    private class StatementBatch {
+        private final TestContext context;
+
+        private List<String> batchStatements = new ArrayList<>();
+
+        StatementBatch(TestContext context) {
+            this.context = context;
+        }
+
+        void add(String stmt) {
+            try {
+                String toExecute = prepareStatement(stmt, context);
 
-                if (stmt.trim().endsWith(";")) {
-                    toExecute = context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
-                } else {
-                    toExecute = context.replaceDynamicContentInString(stmt.trim());
+                if (!SqlUtils.isBatchCompatible(toExecute)) {
+                    flush();
+                    executeStatement(toExecute);
+                    return;
                 }
 
+                batchStatements.add(toExecute);
+
+                if (batchStatements.size() >= batchSize) {
+                    flush();
+                }
+            } catch (Exception e) {
+                handleError(e);
+            }
+        }
+
+        void flush() {
+            if (batchStatements.isEmpty()) {
+                return;
+            }
+
+            List<String> toExecute = batchStatements;
+            batchStatements = new ArrayList<>();
+
+            try {
                 if (log.isDebugEnabled()) {
-                    log.debug("Executing SQL statement: " + toExecute);
+                    log.debug(String.format("Executing SQL batch of %s statements: %s", toExecute.size(), toExecute));
                 }
 
-                getJdbcTemplate().execute(toExecute);
+                getJdbcTemplate().batchUpdate(toExecute.toArray(new String[0]));
 
-                log.info("SQL statement execution successful");
+                log.info("SQL batch execution successful");
             } catch (Exception e) {
-                if (ignoreErrors) {
-                    log.error("Ignoring error while executing SQL statement: " + e.getLocalizedMessage());
-                    continue;
-                } else {
-                    throw new CitrusRuntimeException(e);
-                }
+                handleError(e);
             }
         }
     }
@@ -116,12 +223,21 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         return ignoreErrors;
     }
 
+    /**
+     * Gets the batchSize.
+     * @return the batchSize
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
     /**
      * Action builder.
      */
     public static final class Builder extends AbstractDatabaseConnectingTestAction.Builder<ExecuteSQLAction, Builder> {
 
         private boolean ignoreErrors = false;
+        private int batchSize = 0;
 
         public static Builder sql(DataSource dataSource) {
             Builder builder = new Builder();
@@ -138,6 +254,15 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
             return this;
         }
 
+        /**
+         * Enables JDBC batch execution with given maximum number of statements per batch.
+         * @param batchSize maximum batch size, batching is disabled when not positive
+         */
+        public Builder batchSize(int batchSize) {
+            this.batchSize = batchSize;
+            return this;
+        }
+
         @Override
         public ExecuteSQLAction build() {
             return new ExecuteSQLAction(this);
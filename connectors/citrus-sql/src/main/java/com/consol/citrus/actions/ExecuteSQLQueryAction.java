@@ -19,13 +19,22 @@ package com.consol.citrus.actions;
 import javax.sql.DataSource;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.context.TestContext;
@@ -38,10 +47,13 @@ import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import com.consol.citrus.validation.script.ScriptValidationContext;
 import com.consol.citrus.validation.script.sql.SqlResultSetScriptValidator;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 
@@ -67,6 +79,21 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     /** SQL result set script validator */
     private final SqlResultSetScriptValidator validator;
 
+    /** Process result set row by row instead of loading all rows into memory */
+    private final boolean streaming;
+
+    /** JDBC fetch size hint used in streaming mode, driver default is used when not positive */
+    private final int fetchSize;
+
+    /** Expected total number of rows in result set */
+    private final Long expectedRowCount;
+
+    /** Expected column checksums, keys represent the column names, values the expected hex encoded digest */
+    private final Map<String, String> controlChecksums;
+
+    /** Digest algorithm used for column checksums */
+    public static final String CHECKSUM_ALGORITHM = "SHA-256";
+
     /** NULL value representation in SQL */
     private static final String NULL_VALUE = "NULL";
 
@@ -85,6 +112,10 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         this.extractVariables = builder.extractVariables;
         this.scriptValidationContext = builder.scriptValidationContext;
         this.validator = builder.validator;
+        this.streaming = builder.streaming;
+        this.fetchSize = builder.fetchSize;
+        this.expectedRowCount = builder.expectedRowCount;
+        this.controlChecksums = builder.controlChecksums;
     }
 
     @Override
@@ -96,6 +127,11 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
             statementsToUse = statements;
         }
 
+        if (streaming) {
+            doExecuteStreaming(statementsToUse, context);
+            return;
+        }
+
         try {
             //for control result set validation
             final Map<String, List<String>> columnValuesMap = new HashMap<String, List<String>>();
@@ -120,6 +156,7 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
 
             // perform validation
             performValidation(columnValuesMap, allResultRows, context);
+            performAggregateValidation(allResultRows.size(), columnValuesMap, context);
 
             // fill the request test context variables (extract tag)
             fillContextVariables(columnValuesMap, context);
@@ -166,6 +203,141 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         }
     }
 
+    /**
+     * Run statements in streaming mode. Result set rows are processed one by one with a row callback handler
+     * so the complete result set is never held in memory. Only columns needed for control result set validation,
+     * variable extraction and checksums are retained. Columns are not saved as variables implicitly,
+     * use explicit variable extraction instead.
+     * @param statements
+     * @param context
+     */
+    private void doExecuteStreaming(List<String> statements, TestContext context) {
+        try {
+            final StreamingResultSetHandler handler = new StreamingResultSetHandler(context);
+
+            if (getTransactionManager() != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Using transaction manager: " + getTransactionManager().getClass().getName());
+                }
+
+                TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
+                transactionTemplate.setTimeout(Integer.valueOf(context.replaceDynamicContentInString(getTransactionTimeout())));
+                transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
+                transactionTemplate.execute(status -> {
+                    executeStatementsStreaming(statements, handler, context);
+                    return null;
+                });
+            } else {
+                executeStatementsStreaming(statements, handler, context);
+            }
+
+            handler.finish();
+        } catch (DataAccessException e) {
+            log.error("Failed to execute SQL statement", e);
+            throw new CitrusRuntimeException(e);
+        }
+    }
+
+    /**
+     * Run statements and pass result set rows to given handler.
+     * @param statements
+     * @param handler
+     * @param context
+     */
+    private void executeStatementsStreaming(List<String> statements, StreamingResultSetHandler handler, TestContext context) {
+        for (String stmt : statements) {
+            validateSqlStatement(stmt);
+            final String toExecute;
+
+            if (stmt.trim().endsWith(";")) {
+                toExecute = context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
+            } else {
+                toExecute = context.replaceDynamicContentInString(stmt.trim());
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug("Executing SQL query in streaming mode: " + toExecute);
+            }
+
+            handler.nextStatement();
+            getJdbcTemplate().query(toExecute, ps -> {
+                if (fetchSize > 0) {
+                    ps.setFetchSize(fetchSize);
+                }
+            }, handler);
+
+            log.info("SQL query execution successful");
+        }
+    }
+
+    /**
+     * Validates aggregated result set information such as total row count and column checksums.
+     * @param rowCount
+     * @param columnValuesMap
+     * @param context
+     */
+    private void performAggregateValidation(long rowCount, Map<String, List<String>> columnValuesMap, TestContext context) {
+        validateRowCount(rowCount);
+
+        for (Entry<String, String> controlChecksum : controlChecksums.entrySet()) {
+            String columnName = resolveColumnName(controlChecksum.getKey(), columnValuesMap.keySet());
+
+            ColumnChecksum checksum = new ColumnChecksum();
+            columnValuesMap.get(columnName).forEach(checksum::update);
+            validateChecksum(columnName, context.replaceDynamicContentInString(controlChecksum.getValue()), checksum.getValue());
+        }
+    }
+
+    private void validateRowCount(long rowCount) {
+        if (expectedRowCount != null && expectedRowCount != rowCount) {
+            throw new ValidationException("Validation failed for SQL result set " +
+                    "expected rows count: " + expectedRowCount + " but was " + rowCount);
+        }
+    }
+
+    private void validateChecksum(String columnName, String controlChecksum, String checksum) {
+        if (!controlChecksum.equalsIgnoreCase(checksum)) {
+            throw new ValidationException("Validation failed for column: '" +  columnName + "' " +
+                    "expected checksum: " + controlChecksum + " but was " + checksum);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Validation successful for column: '" + columnName +
+                    "' expected checksum: " + controlChecksum + " - value OK");
+        }
+    }
+
+    /**
+     * Resolves given column name in available column names either in lower case, upper case or exact spelling.
+     * @param columnName
+     * @param columnNames
+     * @return
+     */
+    private static String resolveColumnName(String columnName, Collection<String> columnNames) {
+        if (columnNames.contains(columnName.toLowerCase())) {
+            return columnName.toLowerCase();
+        } else if (columnNames.contains(columnName.toUpperCase())) {
+            return columnName.toUpperCase();
+        } else if (columnNames.contains(columnName)) {
+            return columnName;
+        }
+
+        throw new CitrusRuntimeException("Could not find column '" + columnName + "' in SQL result set");
+    }
+
+    /**
+     * Converts column value to its string representation used in validation and variable extraction.
+     * @param value
+     * @return
+     */
+    private static String toColumnValue(Object value) {
+        if (value instanceof byte[]) {
+            return Base64.encodeBase64String((byte[]) value);
+        } else {
+            return value == null ? null : value.toString();
+        }
+    }
+
     /**
      * Fills the (requested) test context variables with the db result values
      * @param columnValuesMap the map containing column names --> list of result values
@@ -202,12 +374,7 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
                     columnValuesMap.put(columnName, new ArrayList<String>());
                 }
 
-                if (column.getValue() instanceof byte[]) {
-                    columnValue = Base64.encodeBase64String((byte[]) column.getValue());
-                } else {
-                    columnValue = column.getValue() == null ? null : column.getValue().toString();
-                }
-
+                columnValue = toColumnValue(column.getValue());
                 columnValuesMap.get(columnName).add((columnValue));
             }
         }
@@ -391,6 +558,191 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         return controlValue.equalsIgnoreCase(NULL_VALUE) || controlValue.length() == 0;
     }
 
+    /**
+     * Row callback handler validating control result set values row by row. Handler only keeps the column values
+     * needed for variable extraction, the first row values and incremental column checksums.
+     */
+    private class StreamingResultSetHandler implements RowCallbackHandler {
+        private final TestContext context;
+
+        /** Number of rows processed per control column */
+        private final Map<String, Integer> controlRowCounts = new HashMap<>();
+        /** Column values needed for variable extraction */
+        private final Map<String, List<String>> extractedValues = new HashMap<>();
+        /** Incremental checksums per column */
+        private final Map<String, ColumnChecksum> checksums = new HashMap<>();
+        /** Rows collected for script validation */
+        private final List<Map<String, Object>> scriptRows = new ArrayList<>();
+
+        private long rowCount = 0L;
+
+        /** Column names of current statement result set, lazily initialized on first row */
+        private String[] columnNames;
+        /** Control column name per result set column index */
+        private Map<String, String> controlColumns;
+
+        StreamingResultSetHandler(TestContext context) {
+            this.context = context;
+        }
+
+        void nextStatement() {
+            columnNames = null;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            if (columnNames == null) {
+                initColumns(rs.getMetaData());
+            }
+
+            Map<String, Object> scriptRow = scriptValidationContext != null ? new LinkedHashMap<>() : null;
+            for (int index = 1; index <= columnNames.length; index++) {
+                String columnName = columnNames[index - 1];
+                Object value = JdbcUtils.getResultSetValue(rs, index);
+
+                if (scriptRow != null) {
+                    scriptRow.put(columnName, value);
+                }
+
+                String columnValue = toColumnValue(value);
+
+                if (controlColumns.containsKey(columnName)) {
+                    validateControlValue(controlColumns.get(columnName), columnName, columnValue);
+                }
+
+                if (extractedValues.containsKey(columnName)) {
+                    extractedValues.get(columnName).add(columnValue);
+                }
+
+                if (checksums.containsKey(columnName)) {
+                    checksums.get(columnName).update(columnValue);
+                }
+            }
+
+            if (scriptRow != null) {
+                scriptRows.add(scriptRow);
+            }
+
+            rowCount++;
+        }
+
+        private void initColumns(ResultSetMetaData metaData) throws SQLException {
+            columnNames = new String[metaData.getColumnCount()];
+            for (int index = 1; index <= columnNames.length; index++) {
+                columnNames[index - 1] = JdbcUtils.lookupColumnName(metaData, index);
+            }
+
+            List<String> available = Arrays.asList(columnNames);
+            controlColumns = new HashMap<>();
+            for (String controlColumn : controlResultSet.keySet()) {
+                findColumn(controlColumn, available).ifPresent(columnName -> controlColumns.put(columnName, controlColumn));
+            }
+
+            for (String extractColumn : extractVariables.keySet()) {
+                findColumn(extractColumn, available).ifPresent(columnName -> extractedValues.putIfAbsent(columnName, new ArrayList<>()));
+            }
+
+            for (String checksumColumn : controlChecksums.keySet()) {
+                findColumn(checksumColumn, available).ifPresent(columnName -> checksums.putIfAbsent(columnName, new ColumnChecksum()));
+            }
+        }
+
+        private Optional<String> findColumn(String columnName, List<String> available) {
+            try {
+                return Optional.of(resolveColumnName(columnName, available));
+            } catch (CitrusRuntimeException e) {
+                return Optional.empty();
+            }
+        }
+
+        private void validateControlValue(String controlColumn, String columnName, String resultValue) {
+            List<String> controlColumnValues = controlResultSet.get(controlColumn);
+            int row = controlRowCounts.merge(controlColumn, 1, Integer::sum);
+
+            if (row > controlColumnValues.size()) {
+                throw new CitrusRuntimeException("Validation failed for column: '" +  columnName + "' " +
+                        "expected rows count: " + controlColumnValues.size() + " but was at least " + row);
+            }
+
+            validateSingleValue(columnName, context.replaceDynamicContentInString(controlColumnValues.get(row - 1)), resultValue, context);
+        }
+
+        /**
+         * Performs all validations that need the complete result set and sets test variables.
+         */
+        void finish() {
+            if (scriptValidationContext != null) {
+                getScriptValidator(context).validateSqlResultSet(scriptRows, scriptValidationContext, context);
+            }
+
+            for (Entry<String, List<String>> controlEntry : controlResultSet.entrySet()) {
+                if (!controlRowCounts.containsKey(controlEntry.getKey())) {
+                    throw new CitrusRuntimeException("Could not find column '" + controlEntry.getKey() + "' in SQL result set");
+                }
+
+                int rows = controlRowCounts.get(controlEntry.getKey());
+                if (rows != controlEntry.getValue().size()) {
+                    throw new CitrusRuntimeException("Validation failed for column: '" +  controlEntry.getKey() + "' " +
+                            "expected rows count: " + controlEntry.getValue().size() + " but was " + rows);
+                }
+            }
+
+            if (!CollectionUtils.isEmpty(controlResultSet)) {
+                log.info("SQL query validation successful: All values OK");
+            }
+
+            validateRowCount(rowCount);
+
+            for (Entry<String, String> controlChecksum : controlChecksums.entrySet()) {
+                String columnName = resolveColumnName(controlChecksum.getKey(), checksums.keySet());
+                validateChecksum(columnName, context.replaceDynamicContentInString(controlChecksum.getValue()), checksums.get(columnName).getValue());
+            }
+
+            for (Entry<String, String> variableEntry : extractVariables.entrySet()) {
+                String columnName = variableEntry.getKey();
+                try {
+                    columnName = resolveColumnName(columnName, extractedValues.keySet());
+                } catch (CitrusRuntimeException e) {
+                    throw new CitrusRuntimeException("Failed to create variables from database values! " +
+                            "Unable to find column '" + columnName + "' in database result set");
+                }
+
+                context.setVariable(variableEntry.getValue(), constructVariableValue(extractedValues.get(columnName)));
+            }
+        }
+    }
+
+    /**
+     * Incrementally computed column checksum. Checksum is the hex encoded digest of all column values
+     * delimited by ';' with null values represented as NULL. This equals the digest of the variable value that
+     * is extracted for the column.
+     */
+    private static class ColumnChecksum {
+        private final MessageDigest digest;
+        private boolean empty = true;
+
+        ColumnChecksum() {
+            try {
+                digest = MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                throw new CitrusRuntimeException("Failed to create column checksum digest", e);
+            }
+        }
+
+        void update(String value) {
+            if (!empty) {
+                digest.update((byte) ';');
+            }
+
+            digest.update((value == null ? NULL_VALUE : value).getBytes(StandardCharsets.UTF_8));
+            empty = false;
+        }
+
+        String getValue() {
+            return Hex.encodeHexString(digest.digest());
+        }
+    }
+
     /**
      * Gets the validator.
      * @return the validator
@@ -423,6 +775,38 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         return scriptValidationContext;
     }
 
+    /**
+     * Gets the streaming.
+     * @return the streaming
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Gets the fetchSize.
+     * @return the fetchSize
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * Gets the expectedRowCount.
+     * @return the expectedRowCount
+     */
+    public Long getExpectedRowCount() {
+        return expectedRowCount;
+    }
+
+    /**
+     * Gets the controlChecksums.
+     * @return the controlChecksums
+     */
+    public Map<String, String> getControlChecksums() {
+        return controlChecksums;
+    }
+
     /**
      * Action builder.
      */
@@ -432,6 +816,10 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         private Map<String, String> extractVariables = new HashMap<>();
         private ScriptValidationContext scriptValidationContext;
         private SqlResultSetScriptValidator validator;
+        private boolean streaming = false;
+        private int fetchSize = 0;
+        private Long expectedRowCount;
+        private Map<String, String> controlChecksums = new HashMap<>();
 
         public static Builder query(DataSource dataSource) {
             Builder builder = new Builder();
@@ -542,6 +930,46 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
             return this;
         }
 
+        /**
+         * Enables streaming mode where result set rows are validated one by one without
+         * loading the complete result set into memory.
+         * @param streaming
+         */
+        public Builder streaming(boolean streaming) {
+            this.streaming = streaming;
+            return this;
+        }
+
+        /**
+         * Enables streaming mode with given JDBC fetch size.
+         * @param fetchSize
+         */
+        public Builder fetchSize(int fetchSize) {
+            this.streaming = true;
+            this.fetchSize = fetchSize;
+            return this;
+        }
+
+        /**
+         * Expect given total number of rows in result set.
+         * @param rowCount
+         */
+        public Builder rowCount(long rowCount) {
+            this.expectedRowCount = rowCount;
+            return this;
+        }
+
+        /**
+         * Validate column values with expected checksum. Checksum is the hex encoded SHA-256 digest of
+         * all column values delimited by ';' where null values are represented as NULL.
+         * @param column
+         * @param checksum
+         */
+        public Builder checksum(String column, String checksum) {
+            this.controlChecksums.put(column, checksum);
+            return this;
+        }
+
         @Override
         public ExecuteSQLQueryAction build() {
             return new ExecuteSQLQueryAction(this);
@@ -20,7 +20,11 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
@@ -42,6 +46,9 @@ public abstract class SqlUtils {
     /** Default sql statement ending */
     public static final String STMT_ENDING = ";";
 
+    /** Statements that may be grouped into JDBC batches */
+    private static final Set<String> BATCH_COMPATIBLE_STATEMENTS = new HashSet<>(Arrays.asList("INSERT", "UPDATE", "DELETE", "MERGE"));
+
     /**
      * Prevent instantiation.
      */
@@ -69,24 +76,30 @@ public abstract class SqlUtils {
      * @return list of SQL statements.
      */
     public static List<String> createStatementsFromFileResource(Resource sqlResource, LastScriptLineDecorator lineDecorator) {
-        BufferedReader reader = null;
-        StringBuffer buffer;
-
         List<String> stmts = new ArrayList<>();
+        readStatementsFromFileResource(sqlResource, lineDecorator, stmts::add);
+        return stmts;
+    }
 
-        try {
-            if (log.isDebugEnabled()) {
-                log.debug("Create statements from SQL file: " + sqlResource.getFile().getAbsolutePath());
-            }
+    /**
+     * Reads SQL statements from external file resource and passes each statement to the given consumer as soon as it
+     * has been read. File resource is streamed line by line so the complete list of statements is never held in memory.
+     *
+     * @param sqlResource the sql file resource.
+     * @param lineDecorator optional line decorator for last script lines.
+     * @param statementConsumer consumer receiving the statements in file order.
+     */
+    public static void readStatementsFromFileResource(Resource sqlResource, LastScriptLineDecorator lineDecorator, Consumer<String> statementConsumer) {
+        if (log.isDebugEnabled()) {
+            log.debug("Create statements from SQL file: " + sqlResource.getDescription());
+        }
 
-            reader = new BufferedReader(new InputStreamReader(sqlResource.getInputStream()));
-            buffer = new StringBuffer();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(sqlResource.getInputStream()))) {
+            StringBuilder buffer = new StringBuilder();
 
             String line;
-            while (reader.ready()) {
-                line = reader.readLine();
-
-                if (line != null && !line.trim().startsWith(SQL_COMMENT) && line.trim().length() > 0) {
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().startsWith(SQL_COMMENT) && line.trim().length() > 0) {
                     if (line.trim().endsWith(getStatementEndingCharacter(lineDecorator))) {
                         if (lineDecorator != null) {
                             buffer.append(lineDecorator.decorate(line));
@@ -100,9 +113,8 @@ public abstract class SqlUtils {
                             log.debug("Found statement: " + stmt);
                         }
 
-                        stmts.add(stmt);
+                        statementConsumer.accept(stmt);
                         buffer.setLength(0);
-                        buffer = new StringBuffer();
                     } else {
                         buffer.append(line);
 
@@ -113,17 +125,17 @@ public abstract class SqlUtils {
             }
         } catch (IOException e) {
             throw new CitrusRuntimeException("Resource could not be found - filename: " + sqlResource, e);
-        } finally {
-            if (reader != null) {
-                try {
-                    reader.close();
-                } catch (IOException e) {
-                    log.warn("Warning: Error while closing reader instance", e);
-                }
-            }
         }
+    }
 
-        return stmts;
+    /**
+     * Checks if given SQL statement is a data manipulation statement that is allowed in JDBC batches.
+     * @param sql
+     * @return
+     */
+    public static boolean isBatchCompatible(String sql) {
+        String keyword = sql.trim().split("\\s+", 2)[0].toUpperCase();
+        return BATCH_COMPATIBLE_STATEMENTS.contains(keyword);
     }
 
     /**
@@ -28,7 +28,10 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 
@@ -166,4 +169,99 @@ public class ExecuteSQLActionTest extends AbstractTestNGUnitTest {
         executeSQLActionBuilder.build().execute(context);
         verify(jdbcTemplate).execute(DB_STMT_1);
     }
+
+    @Test
+    public void testSQLBatchExecution() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add("INSERT INTO ERRORS VALUES (1, 'open');");
+        stmts.add("INSERT INTO ERRORS VALUES (2, 'resolved');");
+        stmts.add("INSERT INTO ERRORS VALUES (3, '${status}');");
+        stmts.add("CREATE INDEX ERRORS_IDX ON ERRORS (ID)");
+        stmts.add(DB_STMT_1);
+
+        context.setVariable("status", "closed");
+        executeSQLActionBuilder.statements(stmts);
+        executeSQLActionBuilder.batchSize(2);
+
+        reset(jdbcTemplate);
+
+        executeSQLActionBuilder.build().execute(context);
+
+        verify(jdbcTemplate).batchUpdate("INSERT INTO ERRORS VALUES (1, 'open')", "INSERT INTO ERRORS VALUES (2, 'resolved')");
+        verify(jdbcTemplate).batchUpdate("INSERT INTO ERRORS VALUES (3, 'closed')");
+        verify(jdbcTemplate).execute("CREATE INDEX ERRORS_IDX ON ERRORS (ID)");
+        verify(jdbcTemplate).batchUpdate("DELETE * FROM ERRORS WHERE STATUS='resolved'");
+        verify(jdbcTemplate, never()).execute(DB_STMT_1);
+    }
+
+    @Test
+    public void testSQLBatchExecutionKeepsDateLiterals() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add("INSERT INTO ORDERS (ID, CREATED, SHIPPED) VALUES (1, '2021-01-01', '2021-01-02 10:00:00');");
+        stmts.add("UPDATE ORDERS SET SHIPPED='2021-01-03 12:30:00' WHERE CREATED < DATE '2021-02-01';");
+
+        executeSQLActionBuilder.statements(stmts);
+        executeSQLActionBuilder.batchSize(10);
+
+        reset(jdbcTemplate);
+
+        executeSQLActionBuilder.build().execute(context);
+
+        verify(jdbcTemplate).batchUpdate("INSERT INTO ORDERS (ID, CREATED, SHIPPED) VALUES (1, '2021-01-01', '2021-01-02 10:00:00')",
+                "UPDATE ORDERS SET SHIPPED='2021-01-03 12:30:00' WHERE CREATED < DATE '2021-02-01'");
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    public void testSQLBatchExecutionKeepsTypeLengthLiterals() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add("CREATE TABLE ORDERS (ID INT, NAME VARCHAR(10), PRICE DECIMAL(10,2));");
+        stmts.add("INSERT INTO ORDERS VALUES (1, CAST('foo' AS VARCHAR(10)), CAST(9.99 AS DECIMAL(10,2)));");
+
+        executeSQLActionBuilder.statements(stmts);
+        executeSQLActionBuilder.batchSize(10);
+
+        reset(jdbcTemplate);
+
+        executeSQLActionBuilder.build().execute(context);
+
+        verify(jdbcTemplate).execute("CREATE TABLE ORDERS (ID INT, NAME VARCHAR(10), PRICE DECIMAL(10,2))");
+        verify(jdbcTemplate).batchUpdate("INSERT INTO ORDERS VALUES (1, CAST('foo' AS VARCHAR(10)), CAST(9.99 AS DECIMAL(10,2)))");
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    public void testSQLBatchExecutionWithFileResource() {
+        executeSQLActionBuilder.sqlResource("classpath:com/consol/citrus/actions/test-sql-statements.sql");
+        executeSQLActionBuilder.batchSize(10);
+
+        reset(jdbcTemplate);
+
+        executeSQLActionBuilder.build().execute(context);
+
+        verify(jdbcTemplate).batchUpdate("DELETE * FROM ERRORS WHERE STATUS='resolved'", "DELETE * FROM CONFIGURATION WHERE VERSION=1");
+    }
+
+    @Test
+    @SuppressWarnings("serial")
+    public void testSQLBatchExecutionIgnoreErrors() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1);
+        stmts.add("CREATE INDEX ERRORS_IDX ON ERRORS (ID)");
+        stmts.add(DB_STMT_2);
+
+        executeSQLActionBuilder.statements(stmts);
+        executeSQLActionBuilder.batchSize(10);
+        executeSQLActionBuilder.ignoreErrors(true);
+
+        reset(jdbcTemplate);
+
+        doThrow(new DataAccessException("Something went wrong!") {}).when(jdbcTemplate)
+                .batchUpdate(DB_STMT_1);
+
+        executeSQLActionBuilder.build().execute(context);
+
+        verify(jdbcTemplate).execute("CREATE INDEX ERRORS_IDX ON ERRORS (ID)");
+        verify(jdbcTemplate).batchUpdate(DB_STMT_2);
+    }
 }
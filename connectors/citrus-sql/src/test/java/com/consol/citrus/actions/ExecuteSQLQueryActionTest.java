@@ -31,8 +31,10 @@ import com.consol.citrus.script.ScriptTypes;
 import com.consol.citrus.validation.script.ScriptValidationContext;
 import com.consol.citrus.validation.script.sql.SqlResultSetScriptValidator;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.mockito.Mockito;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
@@ -789,4 +791,95 @@ public class ExecuteSQLQueryActionTest extends UnitTestSupport {
         Assert.assertEquals(context.getVariable("${binaryData}"), Base64.encodeBase64String("some_binary_data".getBytes()));
         Assert.assertEquals(new String(Base64.decodeBase64(context.getVariable("${binaryData}"))), "some_binary_data");
     }
+
+    @Test
+    public void testSQLStatementStreaming() {
+        JdbcTemplate hsqlTemplate = createStreamingTestTemplate();
+
+        String checksum = DigestUtils.sha256Hex("small;NULL;large");
+
+        ExecuteSQLQueryAction action = new ExecuteSQLQueryAction.Builder()
+                .jdbcTemplate(hsqlTemplate)
+                .statement("select ORDERTYPE, STATUS from streaming_orders order by ID")
+                .fetchSize(2)
+                .validate("ORDERTYPE", "small", "@ignore@", "large")
+                .validate("status", "in_progress", "@startsWith(fin)@", "NULL")
+                .rowCount(3)
+                .checksum("ORDERTYPE", checksum)
+                .extract("STATUS", "orderStatus")
+                .build();
+
+        action.execute(context);
+
+        Assert.assertEquals(context.getVariable("orderStatus"), "in_progress;finished;NULL");
+        Assert.assertFalse(context.getVariables().containsKey("ORDERTYPE"));
+        Assert.assertFalse(context.getVariables().containsKey("STATUS"));
+    }
+
+    @Test
+    public void testSQLStatementStreamingValidationErrors() {
+        JdbcTemplate hsqlTemplate = createStreamingTestTemplate();
+
+        ExecuteSQLQueryAction.Builder valueMismatch = new ExecuteSQLQueryAction.Builder()
+                .jdbcTemplate(hsqlTemplate)
+                .statement("select ORDERTYPE from streaming_orders order by ID")
+                .streaming(true)
+                .validate("ORDERTYPE", "small", "medium", "large");
+        Assert.assertThrows(ValidationException.class, () -> valueMismatch.build().execute(context));
+
+        ExecuteSQLQueryAction.Builder tooManyRows = new ExecuteSQLQueryAction.Builder()
+                .jdbcTemplate(hsqlTemplate)
+                .statement("select ORDERTYPE from streaming_orders order by ID")
+                .streaming(true)
+                .validate("ORDERTYPE", "small");
+        Assert.assertThrows(CitrusRuntimeException.class, () -> tooManyRows.build().execute(context));
+
+        ExecuteSQLQueryAction.Builder rowCount = new ExecuteSQLQueryAction.Builder()
+                .jdbcTemplate(hsqlTemplate)
+                .statement("select ORDERTYPE from streaming_orders")
+                .streaming(true)
+                .rowCount(2);
+        Assert.assertThrows(ValidationException.class, () -> rowCount.build().execute(context));
+
+        ExecuteSQLQueryAction.Builder checksum = new ExecuteSQLQueryAction.Builder()
+                .jdbcTemplate(hsqlTemplate)
+                .statement("select ORDERTYPE from streaming_orders order by ID")
+                .streaming(true)
+                .checksum("ORDERTYPE", DigestUtils.sha256Hex("small;large"));
+        Assert.assertThrows(ValidationException.class, () -> checksum.build().execute(context));
+
+        ExecuteSQLQueryAction.Builder unknownColumn = new ExecuteSQLQueryAction.Builder()
+                .jdbcTemplate(hsqlTemplate)
+                .statement("select ORDERTYPE from streaming_orders order by ID")
+                .streaming(true)
+                .validate("UNKNOWN", "small");
+        Assert.assertThrows(CitrusRuntimeException.class, () -> unknownColumn.build().execute(context));
+    }
+
+    @Test
+    public void testSQLStatementRowCountAndChecksum() {
+        String sql = DB_STMT_1;
+        reset(jdbcTemplate);
+
+        Map<String, Object> resultMap = new HashMap<String, Object>();
+        resultMap.put("ORDERTYPE", "small");
+        resultMap.put("STATUS", null);
+
+        when(jdbcTemplate.queryForList(sql)).thenReturn(Collections.singletonList(resultMap));
+
+        executeSQLQueryAction.statements(Collections.singletonList(sql))
+                .rowCount(1)
+                .checksum("STATUS", DigestUtils.sha256Hex("NULL"));
+        executeSQLQueryAction.build().execute(context);
+    }
+
+    private JdbcTemplate createStreamingTestTemplate() {
+        JdbcTemplate hsqlTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:hsqldb:mem:streaming", "sa", ""));
+        hsqlTemplate.execute("DROP TABLE streaming_orders IF EXISTS");
+        hsqlTemplate.execute("CREATE TABLE streaming_orders (ID INTEGER, ORDERTYPE VARCHAR(50), STATUS VARCHAR(50))");
+        hsqlTemplate.execute("INSERT INTO streaming_orders VALUES (1, 'small', 'in_progress')");
+        hsqlTemplate.execute("INSERT INTO streaming_orders VALUES (2, NULL, 'finished')");
+        hsqlTemplate.execute("INSERT INTO streaming_orders VALUES (3, 'large', NULL)");
+        return hsqlTemplate;
+    }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.core.io.ClassPathResource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class SqlUtilsTest {
+
+    @Test
+    public void testReadStatementsFromFileResource() {
+        List<String> statements = new ArrayList<>();
+        SqlUtils.readStatementsFromFileResource(new ClassPathResource("com/consol/citrus/actions/test-sql-statements.sql"), null, statements::add);
+
+        Assert.assertEquals(statements.size(), 2L);
+        Assert.assertEquals(statements.get(0), "DELETE * FROM ERRORS WHERE STATUS='resolved';");
+        Assert.assertEquals(statements.get(1), "DELETE * FROM CONFIGURATION WHERE VERSION=1;");
+    }
+
+    @Test
+    public void testIsBatchCompatible() {
+        Assert.assertTrue(SqlUtils.isBatchCompatible("insert into ORDERS values (1)"));
+        Assert.assertTrue(SqlUtils.isBatchCompatible(" DELETE FROM ORDERS"));
+        Assert.assertFalse(SqlUtils.isBatchCompatible("CREATE TABLE ORDERS (ID INT)"));
+        Assert.assertFalse(SqlUtils.isBatchCompatible("SELECT * FROM ORDERS"));
+    }
+}
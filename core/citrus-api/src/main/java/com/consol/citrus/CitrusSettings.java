@@ -126,6 +126,11 @@ public final class CitrusSettings {
     public static final String TYPE_CONVERTER_ENV = "CITRUS_TYPE_CONVERTER";
     public static final String TYPE_CONVERTER_DEFAULT = "default";
 
+    /** Default message id generator to use */
+    public static final String MESSAGE_ID_GENERATOR_PROPERTY = "citrus.message.id.generator";
+    public static final String MESSAGE_ID_GENERATOR_ENV = "CITRUS_MESSAGE_ID_GENERATOR";
+    public static final String MESSAGE_ID_GENERATOR_DEFAULT = "default";
+
     /** Flag to enable/disable log modifier */
     public static final String LOG_MODIFIER_PROPERTY = "citrus.log.modifier";
     public static final String LOG_MODIFIER_ENV = "CITRUS_LOG_MODIFIER";
@@ -141,6 +146,36 @@ public final class CitrusSettings {
     public static final String LOG_MASK_KEYWORDS_ENV = "CITRUS_LOG_MASK_KEYWORDS";
     public static final String LOG_MASK_KEYWORDS_DEFAULT = "password,secret,secretKey";
 
+    /** Maximum number of threads executing async test actions, unbounded when not positive */
+    public static final String ASYNC_EXECUTOR_MAX_THREADS_PROPERTY = "citrus.async.executor.max.threads";
+    public static final String ASYNC_EXECUTOR_MAX_THREADS_ENV = "CITRUS_ASYNC_EXECUTOR_MAX_THREADS";
+    public static final String ASYNC_EXECUTOR_MAX_THREADS_DEFAULT = "0";
+
+    /** Number of scheduler threads running timers and delayed tasks */
+    public static final String SCHEDULER_THREADS_PROPERTY = "citrus.scheduler.threads";
+    public static final String SCHEDULER_THREADS_ENV = "CITRUS_SCHEDULER_THREADS";
+    public static final String SCHEDULER_THREADS_DEFAULT = "4";
+
+    /** Maximum number of compiled Groovy script classes held in the shared script cache */
+    public static final String GROOVY_SCRIPT_CACHE_SIZE_PROPERTY = "citrus.groovy.script.cache.size";
+    public static final String GROOVY_SCRIPT_CACHE_SIZE_ENV = "CITRUS_GROOVY_SCRIPT_CACHE_SIZE";
+    public static final String GROOVY_SCRIPT_CACHE_SIZE_DEFAULT = "256";
+
+    /** Enables asynchronous message logging in logging reporter */
+    public static final String ASYNC_MESSAGE_LOGGING_PROPERTY = "citrus.logging.async";
+    public static final String ASYNC_MESSAGE_LOGGING_ENV = "CITRUS_LOGGING_ASYNC";
+    public static final String ASYNC_MESSAGE_LOGGING_DEFAULT = Boolean.FALSE.toString();
+
+    /** Capacity of the asynchronous message logging queue */
+    public static final String ASYNC_MESSAGE_LOGGING_QUEUE_SIZE_PROPERTY = "citrus.logging.async.queue.size";
+    public static final String ASYNC_MESSAGE_LOGGING_QUEUE_SIZE_ENV = "CITRUS_LOGGING_ASYNC_QUEUE_SIZE";
+    public static final String ASYNC_MESSAGE_LOGGING_QUEUE_SIZE_DEFAULT = "1000";
+
+    /** Policy applied when the asynchronous message logging queue is under pressure (drop, sample, caller_runs) */
+    public static final String ASYNC_MESSAGE_LOGGING_OVERFLOW_POLICY_PROPERTY = "citrus.logging.async.overflow.policy";
+    public static final String ASYNC_MESSAGE_LOGGING_OVERFLOW_POLICY_ENV = "CITRUS_LOGGING_ASYNC_OVERFLOW_POLICY";
+    public static final String ASYNC_MESSAGE_LOGGING_OVERFLOW_POLICY_DEFAULT = "drop";
+
     /**
      * Gets set of file name patterns for XML test files.
      * @return
@@ -175,6 +210,15 @@ public final class CitrusSettings {
                 System.getenv(TYPE_CONVERTER_ENV) : TYPE_CONVERTER_DEFAULT);
     }
 
+    /**
+     * Gets the message id generator to use by default.
+     * @return
+     */
+    public static String getMessageIdGenerator() {
+        return System.getProperty(MESSAGE_ID_GENERATOR_PROPERTY,  System.getenv(MESSAGE_ID_GENERATOR_ENV) != null ?
+                System.getenv(MESSAGE_ID_GENERATOR_ENV) : MESSAGE_ID_GENERATOR_DEFAULT);
+    }
+
     /**
      * Gets the log modifier enabled/disabled setting.
      * @return
@@ -203,4 +247,58 @@ public final class CitrusSettings {
                     .map(String::trim)
                     .collect(Collectors.toSet());
     }
+
+    /**
+     * Gets the maximum number of threads executing async test actions.
+     * @return
+     */
+    public static int getAsyncExecutorMaxThreads() {
+        return Integer.parseInt(System.getProperty(ASYNC_EXECUTOR_MAX_THREADS_PROPERTY,  System.getenv(ASYNC_EXECUTOR_MAX_THREADS_ENV) != null ?
+                System.getenv(ASYNC_EXECUTOR_MAX_THREADS_ENV) : ASYNC_EXECUTOR_MAX_THREADS_DEFAULT));
+    }
+
+    /**
+     * Gets the number of scheduler threads running timers and delayed tasks.
+     * @return
+     */
+    public static int getSchedulerThreads() {
+        return Integer.parseInt(System.getProperty(SCHEDULER_THREADS_PROPERTY,  System.getenv(SCHEDULER_THREADS_ENV) != null ?
+                System.getenv(SCHEDULER_THREADS_ENV) : SCHEDULER_THREADS_DEFAULT));
+    }
+
+    /**
+     * Gets the maximum number of compiled Groovy script classes held in the shared script cache.
+     * @return
+     */
+    public static int getGroovyScriptCacheSize() {
+        return Integer.parseInt(System.getProperty(GROOVY_SCRIPT_CACHE_SIZE_PROPERTY,  System.getenv(GROOVY_SCRIPT_CACHE_SIZE_ENV) != null ?
+                System.getenv(GROOVY_SCRIPT_CACHE_SIZE_ENV) : GROOVY_SCRIPT_CACHE_SIZE_DEFAULT));
+    }
+
+    /**
+     * Gets the asynchronous message logging flag.
+     * @return
+     */
+    public static boolean isAsyncMessageLogging() {
+        return Boolean.parseBoolean(System.getProperty(ASYNC_MESSAGE_LOGGING_PROPERTY,  System.getenv(ASYNC_MESSAGE_LOGGING_ENV) != null ?
+                System.getenv(ASYNC_MESSAGE_LOGGING_ENV) : ASYNC_MESSAGE_LOGGING_DEFAULT));
+    }
+
+    /**
+     * Gets the capacity of the asynchronous message logging queue.
+     * @return
+     */
+    public static int getAsyncMessageLoggingQueueSize() {
+        return Integer.parseInt(System.getProperty(ASYNC_MESSAGE_LOGGING_QUEUE_SIZE_PROPERTY,  System.getenv(ASYNC_MESSAGE_LOGGING_QUEUE_SIZE_ENV) != null ?
+                System.getenv(ASYNC_MESSAGE_LOGGING_QUEUE_SIZE_ENV) : ASYNC_MESSAGE_LOGGING_QUEUE_SIZE_DEFAULT));
+    }
+
+    /**
+     * Gets the policy applied when the asynchronous message logging queue is full.
+     * @return
+     */
+    public static String getAsyncMessageLoggingOverflowPolicy() {
+        return System.getProperty(ASYNC_MESSAGE_LOGGING_OVERFLOW_POLICY_PROPERTY,  System.getenv(ASYNC_MESSAGE_LOGGING_OVERFLOW_POLICY_ENV) != null ?
+                System.getenv(ASYNC_MESSAGE_LOGGING_OVERFLOW_POLICY_ENV) : ASYNC_MESSAGE_LOGGING_OVERFLOW_POLICY_DEFAULT);
+    }
 }
@@ -16,6 +16,8 @@
 
 package com.consol.citrus.condition;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.consol.citrus.context.TestContext;
 
 /**
@@ -40,6 +42,31 @@ public interface Condition {
      */
     boolean isSatisfied(TestContext context);
 
+    /**
+     * Gets future that completes with true as soon as the condition is satisfied. Waiting callers prefer this
+     * future over periodic polling of {@link #isSatisfied(TestContext)} and cancel the future once they are
+     * no longer interested so implementations can release resources. Conditions that are not able to notify
+     * about state changes return null.
+     *
+     * @param context the citrus test context
+     * @return completion future or null when condition needs to be polled
+     */
+    default CompletableFuture<Boolean> getCompletion(TestContext context) {
+        return null;
+    }
+
+    /**
+     * Gets completion future for a caller waiting with given check interval. Conditions that need to check their
+     * state periodically in order to complete the future should not check less often than this interval.
+     *
+     * @param context the citrus test context
+     * @param interval the check interval of the waiting caller in milliseconds
+     * @return completion future or null when condition needs to be polled
+     */
+    default CompletableFuture<Boolean> getCompletion(TestContext context, long interval) {
+        return getCompletion(context);
+    }
+
     /**
      * Construct proper success message for this condition.
      * @param context the citrus test context
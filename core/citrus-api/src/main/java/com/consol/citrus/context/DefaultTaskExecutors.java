@@ -0,0 +1,150 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.context;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.CitrusSettings;
+
+/**
+ * Default task executors using a thread pool for async test actions, an unbounded thread pool for wait condition checks
+ * and a scheduled thread pool for timers. Threads are daemon threads and time out when idle so unused executors do not
+ * hold any threads.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public class DefaultTaskExecutors implements TaskExecutors {
+
+    /** Time idle threads are kept alive */
+    private static final long KEEP_ALIVE_SECONDS = 60L;
+
+    private final ThreadPoolExecutor asyncExecutor;
+    private final ThreadPoolExecutor conditionExecutor;
+    private final ScheduledThreadPoolExecutor scheduler;
+
+    /**
+     * Default constructor using pool settings from Citrus settings.
+     */
+    public DefaultTaskExecutors() {
+        this(CitrusSettings.getAsyncExecutorMaxThreads(), CitrusSettings.getSchedulerThreads());
+    }
+
+    /**
+     * Constructor using maximum number of async threads and number of scheduler threads.
+     * @param maxAsyncThreads maximum number of async threads, unbounded when not positive.
+     * @param schedulerThreads number of scheduler threads.
+     */
+    public DefaultTaskExecutors(int maxAsyncThreads, int schedulerThreads) {
+        if (maxAsyncThreads > 0) {
+            asyncExecutor = new ThreadPoolExecutor(maxAsyncThreads, maxAsyncThreads, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), new DaemonThreadFactory("citrus-async-"));
+            asyncExecutor.allowCoreThreadTimeOut(true);
+        } else {
+            asyncExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                    new SynchronousQueue<>(), new DaemonThreadFactory("citrus-async-"));
+        }
+
+        conditionExecutor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new DaemonThreadFactory("citrus-condition-"));
+
+        scheduler = new ScheduledThreadPoolExecutor(schedulerThreads, new DaemonThreadFactory("citrus-scheduler-"));
+        scheduler.setKeepAliveTime(KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        scheduler.allowCoreThreadTimeOut(true);
+        scheduler.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Gets the default shared instance.
+     * @return
+     */
+    public static TaskExecutors getDefault() {
+        return DefaultInstanceHolder.INSTANCE;
+    }
+
+    @Override
+    public ExecutorService getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    @Override
+    public ExecutorService getConditionExecutor() {
+        return conditionExecutor;
+    }
+
+    @Override
+    public ScheduledExecutorService getScheduler() {
+        return scheduler;
+    }
+
+    @Override
+    public int getActiveTasks() {
+        return asyncExecutor.getActiveCount() + conditionExecutor.getActiveCount() + scheduler.getActiveCount();
+    }
+
+    @Override
+    public int getScheduledTasks() {
+        return scheduler.getQueue().size();
+    }
+
+    @Override
+    public long getCompletedTasks() {
+        return asyncExecutor.getCompletedTaskCount() + conditionExecutor.getCompletedTaskCount() + scheduler.getCompletedTaskCount();
+    }
+
+    @Override
+    public void shutdown() {
+        asyncExecutor.shutdown();
+        conditionExecutor.shutdown();
+        scheduler.shutdown();
+    }
+
+    /**
+     * Lazily creates the default shared instance.
+     */
+    private static class DefaultInstanceHolder {
+        private static final TaskExecutors INSTANCE = new DefaultTaskExecutors();
+    }
+
+    /**
+     * Thread factory creating named daemon threads.
+     */
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final String prefix;
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        DaemonThreadFactory(String prefix) {
+            this.prefix = prefix;
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, prefix + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.context;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Shared executors running asynchronous test actions, timers and wait conditions. Containers use these executors
+ * instead of creating new threads for each execution.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public interface TaskExecutors {
+
+    /**
+     * Gets the executor running asynchronous test actions.
+     * @return
+     */
+    ExecutorService getAsyncExecutor();
+
+    /**
+     * Gets the executor running wait condition checks. Kept separate from the async executor so condition
+     * checks do not queue behind long running asynchronous test actions.
+     * @return
+     */
+    ExecutorService getConditionExecutor();
+
+    /**
+     * Gets the scheduler running timers and delayed tasks.
+     * @return
+     */
+    ScheduledExecutorService getScheduler();
+
+    /**
+     * Gets the number of tasks that are currently running.
+     * @return
+     */
+    int getActiveTasks();
+
+    /**
+     * Gets the number of tasks waiting for execution on the scheduler.
+     * @return
+     */
+    int getScheduledTasks();
+
+    /**
+     * Gets the total number of completed tasks.
+     * @return
+     */
+    long getCompletedTasks();
+
+    /**
+     * Shuts down all executors.
+     */
+    void shutdown();
+}
@@ -177,6 +177,11 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
      */
     private LogModifier logModifier;
 
+    /**
+     * Task executors running async actions, timers and wait conditions.
+     */
+    private TaskExecutors taskExecutors = DefaultTaskExecutors.getDefault();
+
     /**
      * Default constructor
      */
@@ -519,6 +524,17 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
         this.globalVariables = builder.build();
     }
 
+    /**
+     * Sets global variables that have already been resolved. Other than {@link #setGlobalVariables(GlobalVariables)}
+     * this neither resolves dynamic content nor copies the variables to the local test variables. Callers are responsible
+     * for providing the local variables accordingly.
+     *
+     * @param globalVariables the resolved global variables.
+     */
+    public void setResolvedGlobalVariables(GlobalVariables globalVariables) {
+        this.globalVariables = globalVariables;
+    }
+
     /**
      * Set global variables.
      *
@@ -807,6 +823,22 @@ public class TestContext implements ReferenceResolverAware, TestActionListenerAw
         this.logModifier = logModifier;
     }
 
+    /**
+     * Gets the taskExecutors.
+     * @return
+     */
+    public TaskExecutors getTaskExecutors() {
+        return taskExecutors;
+    }
+
+    /**
+     * Sets the taskExecutors.
+     * @param taskExecutors
+     */
+    public void setTaskExecutors(TaskExecutors taskExecutors) {
+        this.taskExecutors = taskExecutors;
+    }
+
     /**
      * Informs message listeners if present that inbound message was received.
      *
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Default message id generator creates UUID formatted ids from a random per JVM prefix and an atomic counter. In contrast to
+ * {@link UUID#randomUUID()} id generation does not need to access the shared secure random number generator, which avoids contention
+ * when many threads create messages concurrently.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public class DefaultMessageIdGenerator implements MessageIdGenerator {
+
+    /** Number of hex digits used for the counter part of the id */
+    private static final int COUNTER_DIGITS = 12;
+
+    /** Random prefix shared by all ids of this generator */
+    private final String prefix;
+
+    /** Counter incremented for each id */
+    private final AtomicLong counter = new AtomicLong();
+
+    /**
+     * Default constructor initializing random id prefix.
+     */
+    public DefaultMessageIdGenerator() {
+        String uuid = UUID.randomUUID().toString();
+        this.prefix = uuid.substring(0, uuid.length() - COUNTER_DIGITS);
+    }
+
+    @Override
+    public String generateId() {
+        String count = Long.toHexString(counter.getAndIncrement() & 0xFFFFFFFFFFFFL);
+
+        StringBuilder id = new StringBuilder(prefix.length() + COUNTER_DIGITS).append(prefix);
+        for (int i = count.length(); i < COUNTER_DIGITS; i++) {
+            id.append('0');
+        }
+
+        return id.append(count).toString();
+    }
+}
@@ -16,17 +16,26 @@
 
 package com.consol.citrus.message;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 import com.consol.citrus.TestAction;
 import com.consol.citrus.endpoint.Endpoint;
 
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * @author Christoph Deppisch
  * @since 2.6.2
  */
 public class DefaultMessageStore extends ConcurrentHashMap<String, Message> implements MessageStore {
 
+    /** Futures waiting for messages to be stored, queues are removed as soon as they are empty */
+    private transient Map<String, Queue<CompletableFuture<Message>>> pending = new ConcurrentHashMap<>();
+
     @Override
     public Message getMessage(String id) {
         return super.get(id);
@@ -35,6 +44,44 @@ public class DefaultMessageStore extends ConcurrentHashMap<String, Message> impl
     @Override
     public void storeMessage(String id, Message message) {
         super.put(id, message);
+
+        Queue<CompletableFuture<Message>> waiting = pending.remove(id);
+        if (waiting != null) {
+            waiting.forEach(future -> future.complete(message));
+        }
+    }
+
+    @Override
+    public CompletableFuture<Message> awaitMessage(String id) {
+        CompletableFuture<Message> future = new CompletableFuture<>();
+
+        pending.compute(id, (key, waiting) -> {
+            Queue<CompletableFuture<Message>> queue = waiting != null ? waiting : new ConcurrentLinkedQueue<>();
+            queue.add(future);
+            return queue;
+        });
+        future.whenComplete((message, error) -> pending.computeIfPresent(id, (key, waiting) -> {
+            waiting.remove(future);
+            return waiting.isEmpty() ? null : waiting;
+        }));
+
+        Message message = getMessage(id);
+        if (message != null) {
+            future.complete(message);
+        }
+
+        return future;
+    }
+
+    /**
+     * Waiting futures are not serialized, so start with an empty set of pending futures after deserialization.
+     * @param in
+     * @throws IOException
+     * @throws ClassNotFoundException
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        pending = new ConcurrentHashMap<>();
     }
 
     @Override
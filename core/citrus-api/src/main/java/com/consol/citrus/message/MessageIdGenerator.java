@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.spi.ResourcePathTypeResolver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates unique message ids used as {@link MessageHeaders#ID} header on newly created messages.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+@FunctionalInterface
+public interface MessageIdGenerator {
+
+    /** Logger */
+    Logger LOG = LoggerFactory.getLogger(MessageIdGenerator.class);
+
+    /** Message id generator resource lookup path */
+    String RESOURCE_PATH = "META-INF/citrus/message/id/generator";
+
+    Map<String, MessageIdGenerator> generators = new HashMap<>();
+
+    /**
+     * Resolves all available message id generators from resource path lookup. Scans classpath for generator meta information
+     * and instantiates those generators.
+     * @return
+     */
+    static Map<String, MessageIdGenerator> lookup() {
+        if (generators.isEmpty()) {
+            generators.putAll(new ResourcePathTypeResolver().resolveAll(RESOURCE_PATH));
+
+            if (generators.size() == 0) {
+                generators.put(CitrusSettings.MESSAGE_ID_GENERATOR_DEFAULT, new DefaultMessageIdGenerator());
+            }
+
+            if (LOG.isDebugEnabled()) {
+                generators.forEach((k, v) -> LOG.debug(String.format("Found message id generator '%s' as %s", k, v.getClass())));
+            }
+        }
+
+        return generators;
+    }
+
+    /**
+     * Lookup default message id generator specified by resource path lookup and/or environment settings. In case only a single generator is loaded
+     * via resource path lookup this generator is used regardless of any environment settings. If there are multiple generator implementations
+     * on the classpath the environment settings must specify the default.
+     *
+     * If no generator implementation is given via resource path lookup the default implementation is returned.
+     * @return message id generator to use by default.
+     */
+    static MessageIdGenerator lookupDefault() {
+        String name = CitrusSettings.getMessageIdGenerator();
+
+        if (lookup().size() == 1) {
+            Map.Entry<String, MessageIdGenerator> generatorEntry = lookup().entrySet().iterator().next();
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format("Using message id generator '%s'", generatorEntry.getKey()));
+            }
+
+            return generatorEntry.getValue();
+        } else if (lookup().containsKey(name)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format("Using message id generator '%s'", name));
+            }
+
+            return lookup().get(name);
+        }
+
+        LOG.warn(String.format("Missing message id generator for name '%s' - using default message id generator", name));
+
+        return new DefaultMessageIdGenerator();
+    }
+
+    /**
+     * Generates new unique message id.
+     * @return
+     */
+    String generateId();
+}
@@ -16,6 +16,8 @@
 
 package com.consol.citrus.message;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.consol.citrus.TestAction;
 import com.consol.citrus.endpoint.Endpoint;
 
@@ -29,5 +31,15 @@ public interface MessageStore {
 
     void storeMessage(String id, Message message);
 
+    /**
+     * Gets future that completes as soon as a message with given id is present in this store. Message stores
+     * that do not support notifications return null.
+     * @param id
+     * @return
+     */
+    default CompletableFuture<Message> awaitMessage(String id) {
+        return null;
+    }
+
     String constructMessageName(TestAction action, Endpoint endpoint);
 }
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.spi;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reference resolver decorator memoizing resolved references by name and type. Subsequent lookups of the same
+ * reference are served from the cache instead of scanning the delegate resolver again. Failed lookups are not cached.
+ * Cached references are invalidated when new references get bound to the registry or when {@link #invalidate()} is called.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public class CachingReferenceResolver implements ReferenceResolver {
+
+    /** Delegate resolver performing the actual lookup */
+    private final ReferenceResolver delegate;
+
+    /** Cached references by name and type */
+    private final Map<ReferenceKey, Object> references = new ConcurrentHashMap<>();
+
+    /** Cached references by type */
+    private final Map<Class<?>, Object> referencesByType = new ConcurrentHashMap<>();
+
+    /** Cached maps of all references by type */
+    private final Map<Class<?>, Map<String, ?>> allReferencesByType = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor using delegate resolver.
+     * @param delegate
+     */
+    public CachingReferenceResolver(ReferenceResolver delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <T> T resolve(Class<T> type) {
+        Object cached = referencesByType.get(type);
+        if (cached == null) {
+            cached = delegate.resolve(type);
+            if (cached != null) {
+                referencesByType.put(type, cached);
+            }
+        }
+
+        return type.cast(cached);
+    }
+
+    @Override
+    public Object resolve(String name) {
+        ReferenceKey key = new ReferenceKey(name, null);
+        Object cached = references.get(key);
+        if (cached == null) {
+            cached = delegate.resolve(name);
+            if (cached != null) {
+                references.put(key, cached);
+            }
+        }
+
+        return cached;
+    }
+
+    @Override
+    public <T> T resolve(String name, Class<T> type) {
+        ReferenceKey key = new ReferenceKey(name, type);
+        Object cached = references.get(key);
+        if (cached == null) {
+            cached = delegate.resolve(name, type);
+            if (cached != null) {
+                references.put(key, cached);
+            }
+        }
+
+        return type.cast(cached);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> resolveAll(Class<T> type) {
+        Map<String, ?> cached = allReferencesByType.get(type);
+        if (cached == null) {
+            cached = new LinkedHashMap<>(delegate.resolveAll(type));
+            allReferencesByType.put(type, cached);
+        }
+
+        return new LinkedHashMap<>((Map<String, T>) cached);
+    }
+
+    @Override
+    public boolean isResolvable(String name) {
+        return delegate.isResolvable(name);
+    }
+
+    @Override
+    public boolean isResolvable(Class<?> type) {
+        return delegate.isResolvable(type);
+    }
+
+    @Override
+    public boolean isResolvable(String name, Class<?> type) {
+        return delegate.isResolvable(name, type);
+    }
+
+    @Override
+    public void bind(String name, Object value) {
+        delegate.bind(name, value);
+        invalidate();
+    }
+
+    /**
+     * Removes all cached references so subsequent lookups are performed on the delegate resolver again.
+     */
+    public void invalidate() {
+        references.clear();
+        referencesByType.clear();
+        allReferencesByType.clear();
+    }
+
+    /**
+     * Gets the delegate resolver.
+     * @return
+     */
+    public ReferenceResolver getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * Cache key combining reference name and type.
+     */
+    private static final class ReferenceKey {
+        private final String name;
+        private final Class<?> type;
+
+        ReferenceKey(String name, Class<?> type) {
+            this.name = name;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ReferenceKey that = (ReferenceKey) o;
+            return name.equals(that.name) && type == that.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, type);
+        }
+    }
+}
@@ -17,7 +17,10 @@
 package com.consol.citrus.validation.matcher;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.context.TestContext;
@@ -33,6 +36,20 @@ import org.springframework.util.StringUtils;
  */
 public final class ValidationMatcherUtils {
 
+    /** Maximum number of parsed validation matcher expressions held in cache */
+    private static final int EXPRESSION_CACHE_SIZE = 1000;
+
+    /** Parsed validation matcher expressions in least recently used order */
+    private static final Map<String, ParsedExpression> EXPRESSION_CACHE = new LinkedHashMap<String, ParsedExpression>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ParsedExpression> eldest) {
+            return size() > EXPRESSION_CACHE_SIZE;
+        }
+    };
+
+    /** Stateless default control expression parser */
+    private static final ControlExpressionParser DEFAULT_CONTROL_EXPRESSION_PARSER = new DefaultControlExpressionParser();
+
     /**
      * Prevent class instantiation.
      */
@@ -47,6 +64,31 @@ public final class ValidationMatcherUtils {
      */
     public static void resolveValidationMatcher(String fieldName, String fieldValue,
             String validationMatcherExpression, TestContext context) {
+        ParsedExpression expression = parseExpression(validationMatcherExpression);
+
+        ValidationMatcher validationMatcher = expression.getValidationMatcher(context.getValidationMatcherRegistry());
+
+        List<String> params = expression.getParameters(validationMatcher);
+        List<String> replacedParams = replaceVariablesAndFunctionsInParameters(params, context);
+        validationMatcher.validate(fieldName, fieldValue, replacedParams, context);
+    }
+
+    /**
+     * Parses given validation matcher expression. Parsed expressions are cached so repeated validations with
+     * the same expression do not need to parse the expression again.
+     * @param validationMatcherExpression
+     * @return
+     */
+    private static ParsedExpression parseExpression(String validationMatcherExpression) {
+        ParsedExpression parsed;
+        synchronized (EXPRESSION_CACHE) {
+            parsed = EXPRESSION_CACHE.get(validationMatcherExpression);
+        }
+
+        if (parsed != null) {
+            return parsed;
+        }
+
         String expression = VariableUtils.cutOffVariablesPrefix(cutOffValidationMatchersPrefix(validationMatcherExpression));
 
         if (expression.equals("ignore")) {
@@ -66,18 +108,22 @@ public final class ValidationMatcherUtils {
         String matcherValue = expression.substring(bodyStart + 1, expression.length() - 1);
         String matcherName = expression.substring(prefix.length(), bodyStart);
 
-        ValidationMatcherLibrary library = context.getValidationMatcherRegistry().getLibraryForPrefix(prefix);
-        ValidationMatcher validationMatcher = library.getValidationMatcher(matcherName);
+        parsed = new ParsedExpression(prefix, matcherName, matcherValue);
+        synchronized (EXPRESSION_CACHE) {
+            EXPRESSION_CACHE.put(validationMatcherExpression, parsed);
+        }
 
-        ControlExpressionParser controlExpressionParser = lookupControlExpressionParser(validationMatcher);
-        List<String> params = controlExpressionParser.extractControlValues(matcherValue, null);
-        List<String> replacedParams = replaceVariablesAndFunctionsInParameters(params, context);
-        validationMatcher.validate(fieldName, fieldValue, replacedParams, context);
+        return parsed;
     }
 
     private static List<String> replaceVariablesAndFunctionsInParameters(List<String> params, TestContext context) {
         List<String> replacedParams = new ArrayList<>(params.size());
         for (String param : params) {
+            if (!hasDynamicContent(param)) {
+                replacedParams.add(param);
+                continue;
+            }
+
             String parsedVariablesParam = VariableUtils.replaceVariablesInString(param, context, false);
             String parsedFunctionsParam = FunctionUtils.replaceFunctionsInString(parsedVariablesParam, context);
             replacedParams.add(parsedFunctionsParam);
@@ -85,6 +131,16 @@ public final class ValidationMatcherUtils {
         return replacedParams;
     }
 
+    /**
+     * Checks if given parameter may hold variables or functions that need to be replaced.
+     * @param param
+     * @return
+     */
+    private static boolean hasDynamicContent(String param) {
+        return param.contains(CitrusSettings.VARIABLE_PREFIX) ||
+                (param.indexOf(':') >= 0 && param.indexOf('(') >= 0 && param.indexOf(')') >= 0);
+    }
+
     /**
      * Checks if expression is a validation matcher expression.
      * @param expression the expression to check
@@ -112,10 +168,72 @@ public final class ValidationMatcherUtils {
         if (validationMatcher instanceof ControlExpressionParser) {
             return (ControlExpressionParser) validationMatcher;
         }
-        return new DefaultControlExpressionParser();
+        return DEFAULT_CONTROL_EXPRESSION_PARSER;
     }
 
     public static String getParameterListAsString(List<String> parameters) {
         return StringUtils.collectionToDelimitedString(parameters, ",", "'", "'");
     }
+
+    /**
+     * Validation matcher expression split into library prefix, matcher name and matcher value. Expression keeps the
+     * matcher resolved from the last used registry and the parameters extracted with the default control expression parser.
+     */
+    private static final class ParsedExpression {
+        private final String prefix;
+        private final String matcherName;
+        private final String matcherValue;
+
+        /** Matcher bound to the registry it has been resolved from */
+        private volatile BoundMatcher boundMatcher;
+
+        /** Parameters extracted with default control expression parser */
+        private volatile List<String> defaultParameters;
+
+        ParsedExpression(String prefix, String matcherName, String matcherValue) {
+            this.prefix = prefix;
+            this.matcherName = matcherName;
+            this.matcherValue = matcherValue;
+        }
+
+        ValidationMatcher getValidationMatcher(ValidationMatcherRegistry registry) {
+            BoundMatcher bound = boundMatcher;
+            if (bound == null || bound.registry != registry) {
+                ValidationMatcherLibrary library = registry.getLibraryForPrefix(prefix);
+                bound = new BoundMatcher(registry, library.getValidationMatcher(matcherName));
+                boundMatcher = bound;
+            }
+
+            return bound.matcher;
+        }
+
+        List<String> getParameters(ValidationMatcher validationMatcher) {
+            ControlExpressionParser controlExpressionParser = lookupControlExpressionParser(validationMatcher);
+            if (controlExpressionParser != DEFAULT_CONTROL_EXPRESSION_PARSER) {
+                // custom parsers may depend on state so always extract parameters
+                return controlExpressionParser.extractControlValues(matcherValue, null);
+            }
+
+            List<String> params = defaultParameters;
+            if (params == null) {
+                params = Collections.unmodifiableList(controlExpressionParser.extractControlValues(matcherValue, null));
+                defaultParameters = params;
+            }
+
+            return params;
+        }
+    }
+
+    /**
+     * Validation matcher resolved from a registry.
+     */
+    private static final class BoundMatcher {
+        private final ValidationMatcherRegistry registry;
+        private final ValidationMatcher matcher;
+
+        BoundMatcher(ValidationMatcherRegistry registry, ValidationMatcher matcher) {
+            this.registry = registry;
+            this.matcher = matcher;
+        }
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.context;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class DefaultTaskExecutorsTest {
+
+    @Test
+    public void testAsyncExecutorMetrics() throws Exception {
+        DefaultTaskExecutors executors = new DefaultTaskExecutors();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            Future<?> task = executors.getAsyncExecutor().submit(() -> {
+                started.countDown();
+                release.await();
+                return null;
+            });
+
+            Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+            Assert.assertEquals(executors.getActiveTasks(), 1);
+
+            release.countDown();
+            task.get(5, TimeUnit.SECONDS);
+
+            long timeout = System.currentTimeMillis() + 5000L;
+            while (executors.getCompletedTasks() < 1 && System.currentTimeMillis() < timeout) {
+                Thread.sleep(10L);
+            }
+
+            Assert.assertEquals(executors.getActiveTasks(), 0);
+            Assert.assertEquals(executors.getCompletedTasks(), 1L);
+        } finally {
+            executors.shutdown();
+        }
+    }
+
+    @Test
+    public void testSchedulerMetrics() throws Exception {
+        DefaultTaskExecutors executors = new DefaultTaskExecutors(1, 1);
+
+        try {
+            ScheduledFuture<?> scheduled = executors.getScheduler().schedule(() -> {}, 1, TimeUnit.HOURS);
+            Assert.assertEquals(executors.getScheduledTasks(), 1);
+
+            scheduled.cancel(false);
+            Assert.assertEquals(executors.getScheduledTasks(), 0);
+        } finally {
+            executors.shutdown();
+        }
+    }
+
+    @Test
+    public void testConditionExecutorIndependentOfAsyncExecutor() throws Exception {
+        DefaultTaskExecutors executors = new DefaultTaskExecutors(1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            executors.getAsyncExecutor().submit(() -> {
+                release.await();
+                return null;
+            });
+
+            Thread thread = executors.getConditionExecutor().submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+            Assert.assertTrue(thread.isDaemon());
+            Assert.assertTrue(thread.getName().startsWith("citrus-condition-"));
+        } finally {
+            release.countDown();
+            executors.shutdown();
+        }
+    }
+
+    @Test
+    public void testDaemonThreads() throws Exception {
+        Thread thread = DefaultTaskExecutors.getDefault().getAsyncExecutor().submit(Thread::currentThread).get(5, TimeUnit.SECONDS);
+
+        Assert.assertTrue(thread.isDaemon());
+        Assert.assertTrue(thread.getName().startsWith("citrus-async-"));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class DefaultMessageIdGeneratorTest {
+
+    @Test
+    public void testLookup() {
+        Map<String, MessageIdGenerator> generators = MessageIdGenerator.lookup();
+        Assert.assertEquals(generators.size(), 1L);
+        Assert.assertEquals(generators.get("default").getClass(), DefaultMessageIdGenerator.class);
+        Assert.assertEquals(generators.get("default"), MessageIdGenerator.lookupDefault());
+    }
+
+    @Test
+    public void testGenerateId() {
+        DefaultMessageIdGenerator generator = new DefaultMessageIdGenerator();
+
+        String first = generator.generateId();
+        String second = generator.generateId();
+
+        Assert.assertNotEquals(first, second);
+        Assert.assertEquals(UUID.fromString(first).toString(), first);
+        Assert.assertEquals(UUID.fromString(second).toString(), second);
+        Assert.assertEquals(first.substring(0, 24), second.substring(0, 24));
+
+        Assert.assertNotEquals(new DefaultMessageIdGenerator().generateId().substring(0, 24), first.substring(0, 24));
+    }
+
+    @Test
+    public void testGenerateIdConcurrently() {
+        DefaultMessageIdGenerator generator = new DefaultMessageIdGenerator();
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 10000).parallel().forEach(i -> ids.add(generator.generateId()));
+
+        Assert.assertEquals(ids.size(), 10000);
+    }
+}
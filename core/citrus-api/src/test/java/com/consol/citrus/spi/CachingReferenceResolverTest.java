@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.spi;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class CachingReferenceResolverTest {
+
+    @Test
+    public void testCachedResolve() {
+        CountingReferenceResolver delegate = new CountingReferenceResolver();
+        CachingReferenceResolver resolver = new CachingReferenceResolver(delegate);
+
+        resolver.bind("foo", "Foo");
+        resolver.bind("bar", 1L);
+
+        Assert.assertEquals(resolver.resolve("foo", String.class), "Foo");
+        Assert.assertEquals(resolver.resolve("foo", String.class), "Foo");
+        Assert.assertEquals(resolver.resolve("foo"), "Foo");
+        Assert.assertEquals(resolver.resolve("foo"), "Foo");
+        Assert.assertEquals(resolver.resolve(Long.class), Long.valueOf(1L));
+        Assert.assertEquals(resolver.resolve(Long.class), Long.valueOf(1L));
+        Assert.assertEquals(resolver.resolveAll(String.class).size(), 1L);
+        Assert.assertEquals(resolver.resolveAll(String.class).size(), 1L);
+
+        Assert.assertEquals(delegate.lookups.get(), 4);
+    }
+
+    @Test
+    public void testInvalidateOnBind() {
+        CountingReferenceResolver delegate = new CountingReferenceResolver();
+        CachingReferenceResolver resolver = new CachingReferenceResolver(delegate);
+
+        resolver.bind("foo", "Foo");
+        Assert.assertEquals(resolver.resolveAll(String.class).size(), 1L);
+        Assert.assertEquals(resolver.resolve("foo", String.class), "Foo");
+
+        resolver.bind("foo", "NewFoo");
+        resolver.bind("bar", "Bar");
+
+        Map<String, String> resolved = resolver.resolveAll(String.class);
+        Assert.assertEquals(resolved.size(), 2L);
+        Assert.assertEquals(resolver.resolve("foo", String.class), "NewFoo");
+
+        resolved.clear();
+        Assert.assertEquals(resolver.resolveAll(String.class).size(), 2L);
+        Assert.assertEquals(delegate.lookups.get(), 4);
+    }
+
+    @Test
+    public void testFailedLookupNotCached() {
+        CachingReferenceResolver resolver = new CachingReferenceResolver(new SimpleReferenceResolver());
+
+        try {
+            resolver.resolve("foo", String.class);
+            Assert.fail("Missing exception due to unknown reference");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("foo"));
+        }
+
+        resolver.getDelegate().bind("foo", "Foo");
+        Assert.assertEquals(resolver.resolve("foo", String.class), "Foo");
+    }
+
+    /**
+     * Reference resolver counting the lookups performed.
+     */
+    private static class CountingReferenceResolver extends SimpleReferenceResolver {
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        @Override
+        public <T> T resolve(Class<T> type) {
+            lookups.incrementAndGet();
+            return super.resolve(type);
+        }
+
+        @Override
+        public Object resolve(String name) {
+            lookups.incrementAndGet();
+            return super.resolve(name);
+        }
+
+        @Override
+        public <T> T resolve(String name, Class<T> type) {
+            lookups.incrementAndGet();
+            return super.resolve(name, type);
+        }
+
+        @Override
+        public <T> Map<String, T> resolveAll(Class<T> type) {
+            lookups.incrementAndGet();
+            return super.resolveAll(type);
+        }
+    }
+}
@@ -8,6 +8,8 @@ import java.util.List;
 import com.consol.citrus.annotations.CitrusConfiguration;
 import com.consol.citrus.container.AfterSuite;
 import com.consol.citrus.container.BeforeSuite;
+import com.consol.citrus.context.DefaultTaskExecutors;
+import com.consol.citrus.context.TaskExecutors;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.context.TestContextFactory;
 import com.consol.citrus.endpoint.DefaultEndpointFactory;
@@ -36,6 +38,7 @@ import com.consol.citrus.report.TestSuiteListener;
 import com.consol.citrus.report.TestSuiteListenerAware;
 import com.consol.citrus.report.TestSuiteListeners;
 import com.consol.citrus.spi.BindToRegistry;
+import com.consol.citrus.spi.CachingReferenceResolver;
 import com.consol.citrus.spi.ReferenceRegistry;
 import com.consol.citrus.spi.ReferenceResolver;
 import com.consol.citrus.spi.SimpleReferenceResolver;
@@ -81,6 +84,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
     private final NamespaceContextBuilder namespaceContextBuilder;
     private final TypeConverter typeConverter;
     private final LogModifier logModifier;
+    private final TaskExecutors taskExecutors;
 
     /**
      * Protected constructor using given builder to construct this instance.
@@ -106,6 +110,7 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         this.namespaceContextBuilder = builder.namespaceContextBuilder;
         this.typeConverter = builder.typeConverter;
         this.logModifier = builder.logModifier;
+        this.taskExecutors = builder.taskExecutors;
 
         this.testContextFactory = builder.testContextFactory;
     }
@@ -358,6 +363,14 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         return logModifier;
     }
 
+    /**
+     * Gets the taskExecutors running async actions, timers and wait conditions.
+     * @return
+     */
+    public TaskExecutors getTaskExecutors() {
+        return taskExecutors;
+    }
+
     /**
      * Obtains the testContextFactory.
      * @return
@@ -396,11 +409,12 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
         private MessageValidatorRegistry messageValidatorRegistry = new DefaultMessageValidatorRegistry();
         private MessageListeners messageListeners = new MessageListeners();
         private EndpointFactory endpointFactory = new DefaultEndpointFactory();
-        private ReferenceResolver referenceResolver = new SimpleReferenceResolver();
+        private ReferenceResolver referenceResolver = new CachingReferenceResolver(new SimpleReferenceResolver());
         private MessageProcessors messageProcessors = new MessageProcessors();
         private NamespaceContextBuilder namespaceContextBuilder = new NamespaceContextBuilder();
         private TypeConverter typeConverter = new DefaultTypeConverter();
         private LogModifier logModifier = new DefaultLogModifier();
+        private TaskExecutors taskExecutors = DefaultTaskExecutors.getDefault();
 
         public static Builder defaultContext() {
             Builder builder = new Builder();
@@ -563,6 +577,11 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
             return this;
         }
 
+        public Builder taskExecutors(TaskExecutors taskExecutors) {
+            this.taskExecutors = taskExecutors;
+            return this;
+        }
+
         public CitrusContext build() {
             if (testContextFactory == null) {
                 testContextFactory = TestContextFactory.newInstance();
@@ -582,6 +601,10 @@ public class CitrusContext implements TestListenerAware, TestActionListenerAware
                 testContextFactory.setLogModifier(this.logModifier);
             }
 
+            if (testContextFactory.getTaskExecutors() == null) {
+                testContextFactory.setTaskExecutors(this.taskExecutors);
+            }
+
             return new CitrusContext(this);
         }
     }
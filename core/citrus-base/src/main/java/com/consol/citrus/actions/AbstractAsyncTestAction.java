@@ -25,7 +25,6 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 
 /**
  * Test action that performs in a separate thread. Action execution is not blocking the test execution chain. After
@@ -45,8 +44,7 @@ public abstract class AbstractAsyncTestAction extends AbstractTestAction impleme
     @Override
     public final void doExecute(TestContext context) {
         CompletableFuture<Void> result = new CompletableFuture<>();
-        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
-        finished = executor.submit(() -> {
+        finished = context.getTaskExecutors().getAsyncExecutor().submit(() -> {
             try {
                 doExecuteAsync(context);
                 result.complete(null);
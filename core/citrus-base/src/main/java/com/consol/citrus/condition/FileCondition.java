@@ -18,6 +18,16 @@ package com.consol.citrus.condition;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.util.FileUtils;
@@ -25,7 +35,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Tests for the presence of a file and returns true if the file exists
+ * Tests for the presence of a file and returns true if the file exists. Completion of the condition is detected
+ * with a watch service on the parent directory of the file.
  *
  * @author Martin Maher
  * @since 2.4
@@ -39,6 +50,9 @@ public class FileCondition extends AbstractCondition {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(FileCondition.class);
 
+    /** Time in milliseconds after which the file is checked even though no file system event has been received */
+    private static final long WATCH_POLL_TIMEOUT = 1000L;
+
     /**
      * Default constructor.
      */
@@ -65,6 +79,90 @@ public class FileCondition extends AbstractCondition {
 
     }
 
+    @Override
+    public CompletableFuture<Boolean> getCompletion(TestContext context) {
+        return getCompletion(context, WATCH_POLL_TIMEOUT);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> getCompletion(TestContext context, long interval) {
+        Path target;
+        try {
+            target = Paths.get((file != null ? file : FileUtils.getFileResource(context.replaceDynamicContentInString(filePath), context).getFile())
+                    .getPath()).toAbsolutePath();
+        } catch (IOException | InvalidPathException e) {
+            log.debug(String.format("Unable to watch file resource '%s' - %s", filePath, e.getMessage()));
+            return null;
+        }
+
+        Path directory = target.getParent();
+        if (directory == null || !Files.isDirectory(directory)) {
+            return null;
+        }
+
+        WatchService watchService = null;
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug(String.format("Unable to watch directory '%s' - %s", directory, e.getMessage()));
+            close(watchService);
+            return null;
+        }
+
+        CompletableFuture<Boolean> completion = new CompletableFuture<>();
+        WatchService watcher = watchService;
+        completion.whenComplete((result, error) -> close(watcher));
+        long pollTimeout = Math.min(interval, WATCH_POLL_TIMEOUT);
+        context.getTaskExecutors().getConditionExecutor().execute(() -> watch(context, watcher, pollTimeout, completion));
+        return completion;
+    }
+
+    /**
+     * Waits for file system events on given watch service and completes the future as soon as the condition is satisfied.
+     * @param context
+     * @param watchService
+     * @param pollTimeout
+     * @param completion
+     */
+    private void watch(TestContext context, WatchService watchService, long pollTimeout, CompletableFuture<Boolean> completion) {
+        try {
+            while (!completion.isDone()) {
+                if (isSatisfied(context)) {
+                    completion.complete(true);
+                    return;
+                }
+
+                WatchKey key = watchService.poll(pollTimeout, TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    key.pollEvents();
+                    key.reset();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            log.debug("File condition watch service closed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            completion.cancel(false);
+        }
+    }
+
+    /**
+     * Closes given watch service.
+     * @param watchService
+     */
+    private static void close(WatchService watchService) {
+        if (watchService == null) {
+            return;
+        }
+
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("Failed to close file condition watch service", e);
+        }
+    }
+
     @Override
     public String getSuccessMessage(TestContext context) {
         return String.format("File condition success - file '%s' does exist", file != null ? file.getPath() : context.replaceDynamicContentInString(filePath));
@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -30,6 +32,10 @@ import org.slf4j.LoggerFactory;
  * Tests if a HTTP Endpoint is reachable. The test is successful if the endpoint responds with the expected response
  * code. By default a HTTP 200 response code is expected.
  *
+ * Completion of the condition is detected by probing the endpoint with exponential backoff starting with the initial
+ * backoff interval that gets doubled after each failed probe until the max backoff interval is reached. Unless set
+ * explicitly the max backoff interval is the check interval of the waiting caller.
+ *
  * @author Martin Maher
  * @since 2.4
  */
@@ -45,6 +51,14 @@ public class HttpCondition extends AbstractCondition {
     /** Request method */
     private String method = "HEAD";
 
+    /** Backoff intervals in milliseconds between endpoint probes */
+    private String backoffInitialInterval;
+    private String backoffMaxInterval;
+
+    /** Default backoff intervals in milliseconds */
+    private static final long DEFAULT_BACKOFF_INITIAL_INTERVAL = 100L;
+    private static final long DEFAULT_BACKOFF_MAX_INTERVAL = 1000L;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(HttpCondition.class);
 
@@ -60,6 +74,52 @@ public class HttpCondition extends AbstractCondition {
         return getHttpResponseCode(context) == invokeUrl(context);
     }
 
+    @Override
+    public CompletableFuture<Boolean> getCompletion(TestContext context) {
+        return getCompletion(context, DEFAULT_BACKOFF_MAX_INTERVAL);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> getCompletion(TestContext context, long interval) {
+        long maxBackoff = backoffMaxInterval != null ? Long.parseLong(context.resolveDynamicValue(backoffMaxInterval)) : interval;
+        long initialBackoff = backoffInitialInterval != null ? Long.parseLong(context.resolveDynamicValue(backoffInitialInterval)) :
+                Math.min(DEFAULT_BACKOFF_INITIAL_INTERVAL, maxBackoff);
+
+        CompletableFuture<Boolean> completion = new CompletableFuture<>();
+        probe(context, completion, initialBackoff, maxBackoff);
+        return completion;
+    }
+
+    /**
+     * Probes the Http endpoint on the condition task executor and schedules the next probe with doubled backoff
+     * interval in case the condition is not satisfied yet.
+     * @param context The test context
+     * @param completion The completion future to complete when condition is satisfied
+     * @param backoff The backoff interval to wait before next probe
+     * @param maxBackoff The max backoff interval
+     */
+    private void probe(TestContext context, CompletableFuture<Boolean> completion, long backoff, long maxBackoff) {
+        context.getTaskExecutors().getConditionExecutor().execute(() -> {
+            if (completion.isDone()) {
+                return;
+            }
+
+            try {
+                if (isSatisfied(context)) {
+                    completion.complete(true);
+                    return;
+                }
+            } catch (CitrusRuntimeException e) {
+                completion.completeExceptionally(e);
+                return;
+            }
+
+            long nextBackoff = Math.min(backoff * 2, maxBackoff);
+            context.getTaskExecutors().getScheduler()
+                    .schedule(() -> probe(context, completion, nextBackoff, maxBackoff), Math.min(backoff, maxBackoff), TimeUnit.MILLISECONDS);
+        });
+    }
+
     @Override
     public String getSuccessMessage(TestContext context) {
         return String.format("Http condition success - request url '%s' did return expected status '%s'", getUrl(context), getHttpResponseCode(context));
@@ -174,6 +234,22 @@ public class HttpCondition extends AbstractCondition {
         this.httpResponseCode = httpResponseCode;
     }
 
+    public String getBackoffInitialInterval() {
+        return backoffInitialInterval;
+    }
+
+    public void setBackoffInitialInterval(String backoffInitialInterval) {
+        this.backoffInitialInterval = backoffInitialInterval;
+    }
+
+    public String getBackoffMaxInterval() {
+        return backoffMaxInterval;
+    }
+
+    public void setBackoffMaxInterval(String backoffMaxInterval) {
+        this.backoffMaxInterval = backoffMaxInterval;
+    }
+
     @Override
     public String toString() {
         return "HttpCondition{" +
@@ -181,6 +257,8 @@ public class HttpCondition extends AbstractCondition {
                 ", timeout='" + timeout + '\'' +
                 ", httpResponseCode='" + httpResponseCode + '\'' +
                 ", method='" + method + '\'' +
+                ", backoffInitialInterval='" + backoffInitialInterval + '\'' +
+                ", backoffMaxInterval='" + backoffMaxInterval + '\'' +
                 ", name='" + getName() + '\'' +
                 '}';
     }
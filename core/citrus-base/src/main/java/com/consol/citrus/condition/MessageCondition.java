@@ -16,14 +16,18 @@
 
 package com.consol.citrus.condition;
 
+import java.util.concurrent.CompletableFuture;
+
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.message.Message;
 
 /**
  * Condition checks whether a message is present in test context message store. Messages are automatically
  * stored in that store when sending and receiving messages with respective test actions. So this condition
  * can be used to wait for a message to arrive or being sent out.
  *
- * Message to check is identified by its name in the message store.
+ * Message to check is identified by its name in the message store. When supported by the message store the condition
+ * gets notified as soon as the message is stored.
  *
  * @author Christoph Deppisch
  * @since 2.6.2
@@ -38,6 +42,19 @@ public class MessageCondition extends AbstractCondition {
         return context.getMessageStore().getMessage(context.replaceDynamicContentInString(messageName)) != null;
     }
 
+    @Override
+    public CompletableFuture<Boolean> getCompletion(TestContext context) {
+        CompletableFuture<Message> stored = context.getMessageStore().awaitMessage(context.replaceDynamicContentInString(messageName));
+        if (stored == null) {
+            return null;
+        }
+
+        CompletableFuture<Boolean> completion = new CompletableFuture<>();
+        stored.thenRun(() -> completion.complete(true));
+        completion.whenComplete((result, error) -> stored.cancel(false));
+        return completion;
+    }
+
     @Override
     public String getSuccessMessage(TestContext context) {
         return String.format("Message condition success - found message '%s' in message store", context.replaceDynamicContentInString(messageName));
@@ -16,7 +16,14 @@
 
 package com.consol.citrus.container;
 
-import java.util.TimerTask;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.consol.citrus.AbstractTestContainerBuilder;
@@ -26,7 +33,6 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.util.StringUtils;
 
 /**
@@ -47,9 +53,10 @@ public class Timer extends AbstractActionContainer implements StopTimer {
     private final boolean fork;
     private final String timerId;
 
-    protected boolean timerComplete = false;
-    protected CitrusRuntimeException timerException = null;
-    private java.util.Timer timer;
+    protected volatile boolean timerComplete = false;
+    protected volatile CitrusRuntimeException timerException = null;
+    private volatile ScheduledFuture<?> timer;
+    private volatile CompletableFuture<Void> timerCompletion;
 
     public Timer(Builder builder) {
         super("timer", builder);
@@ -63,24 +70,31 @@ public class Timer extends AbstractActionContainer implements StopTimer {
 
     @Override
     public void doExecute(final TestContext context) {
-        if (fork) {
-            SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
-            taskExecutor.execute(new Runnable() {
-                public void run() {
-                    configureAndRunTimer(context);
-                }
-            });
-        } else {
-            configureAndRunTimer(context);
+        scheduleTimer(context);
+
+        if (!fork) {
+            try {
+                timerCompletion.join();
+            } catch (CancellationException e) {
+                log.debug("Timer has been cancelled");
+            } catch (CompletionException e) {
+                log.warn("Interrupted while waiting for timer to complete", e);
+            }
+
+            if (timerException != null) {
+                throw timerException;
+            }
         }
     }
 
-    private void configureAndRunTimer(final TestContext context) {
-        timer = new java.util.Timer(getTimerId(), false);
+    private void scheduleTimer(final TestContext context) {
+        timerComplete = false;
+        timerException = null;
+        timerCompletion = new CompletableFuture<>();
 
         context.registerTimer(getTimerId(), this);
 
-        TimerTask timerTask = new TimerTask() {
+        Runnable timerTask = new Runnable() {
             int indexCount = 0;
 
             @Override
@@ -100,41 +114,65 @@ public class Timer extends AbstractActionContainer implements StopTimer {
                         stopTimer();
                     }
                 } catch (Exception e) {
-                    handleException(e);
+                    handleException(e, context);
                 }
             }
 
             private void updateIndexCountInTestContext(TestContext context) {
                 context.setVariable(getTimerId() + INDEX_SUFFIX, String.valueOf(indexCount));
             }
+        };
 
-            private void handleException(Exception e) {
-                if (e instanceof CitrusRuntimeException) {
-                    timerException = (CitrusRuntimeException) e;
-                } else {
-                    timerException = new CitrusRuntimeException(e);
+        // scheduler only triggers timer events, nested actions run on the async executor so blocking actions do not starve the scheduler
+        Executor executor = context.getTaskExecutors().getAsyncExecutor();
+        AtomicInteger pendingEvents = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean();
+        Runnable drainEvents = () -> {
+            do {
+                while (!timerComplete && pendingEvents.getAndUpdate(count -> Math.max(count - 1, 0)) > 0) {
+                    timerTask.run();
                 }
-                log.error(String.format("Timer stopped as a result of nested action error (%s)", e.getMessage()));
-                stopTimer();
+                running.set(false);
+            } while (!timerComplete && pendingEvents.get() > 0 && running.compareAndSet(false, true));
+        };
 
-                if (fork) {
-                    context.addException(timerException);
+        Runnable trigger = () -> {
+            if (timerComplete) {
+                return;
+            }
+
+            pendingEvents.incrementAndGet();
+            if (running.compareAndSet(false, true)) {
+                try {
+                    executor.execute(drainEvents);
+                } catch (RejectedExecutionException e) {
+                    running.set(false);
+                    handleException(e, context);
                 }
             }
         };
-        timer.scheduleAtFixedRate(timerTask, delay, interval);
 
-        while (!timerComplete) {
-            try {
-                Thread.sleep(interval);
-            } catch (InterruptedException e) {
-                log.warn("Interrupted while waiting for timer to complete", e);
-            }
+        timer = context.getTaskExecutors().getScheduler().scheduleAtFixedRate(trigger, delay, interval, TimeUnit.MILLISECONDS);
+
+        if (timerComplete) {
+            // timer has already been stopped before the scheduled future was available
+            timer.cancel(false);
+        }
+    }
+
+    private void handleException(Exception e, TestContext context) {
+        if (e instanceof CitrusRuntimeException) {
+            timerException = (CitrusRuntimeException) e;
+        } else {
+            timerException = new CitrusRuntimeException(e);
         }
+        log.error(String.format("Timer stopped as a result of nested action error (%s)", e.getMessage()));
 
-        if (timerException != null) {
-            throw timerException;
+        if (fork) {
+            context.addException(timerException);
         }
+
+        stopTimer();
     }
 
     public String getTimerId() {
@@ -143,8 +181,15 @@ public class Timer extends AbstractActionContainer implements StopTimer {
 
     @Override
     public void stopTimer() {
-        timer.cancel();
         timerComplete = true;
+
+        if (timer != null) {
+            timer.cancel(false);
+        }
+
+        if (timerCompletion != null) {
+            timerCompletion.complete(null);
+        }
     }
 
     private static int serialNumber() {
@@ -18,9 +18,9 @@ package com.consol.citrus.container;
 
 import java.time.Duration;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -39,7 +39,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Pause the test execution until the condition is met or the wait time has been exceeded.
+ * Pause the test execution until the condition is met or the wait time has been exceeded. Conditions that provide
+ * a completion future notify the wait action as soon as they are satisfied. All other conditions are tested
+ * periodically using the given interval.
  *
  * @author Martin Maher
  * @since 2.4
@@ -75,6 +77,12 @@ public class Wait extends AbstractTestAction {
         long timeLeft = getWaitTimeMs(context);
         long intervalMs = getIntervalMs(context);
 
+        CompletableFuture<Boolean> completion = condition.getCompletion(context, intervalMs);
+        if (completion != null) {
+            waitForCompletion(completion, timeLeft, context);
+            return;
+        }
+
         if (intervalMs > timeLeft) {
             intervalMs = timeLeft;
         }
@@ -88,15 +96,14 @@ public class Wait extends AbstractTestAction {
                 log.debug(String.format("Waiting for condition %s", condition.getName()));
             }
 
-            ExecutorService executor = Executors.newSingleThreadExecutor();
-            Future<Boolean> future = executor.submit(callable);
+            Future<Boolean> future = context.getTaskExecutors().getConditionExecutor().submit(callable);
             long checkStartTime = System.currentTimeMillis();
             try {
                 conditionSatisfied = future.get(intervalMs, TimeUnit.MILLISECONDS);
             } catch (InterruptedException | TimeoutException | ExecutionException e) {
                 log.warn(String.format("Condition check interrupted with '%s'", e.getClass().getSimpleName()));
+                future.cancel(true);
             }
-            executor.shutdown();
 
             if (Boolean.TRUE.equals(conditionSatisfied)) {
                 log.info(condition.getSuccessMessage(context));
@@ -116,6 +123,31 @@ public class Wait extends AbstractTestAction {
         throw new CitrusRuntimeException(condition.getErrorMessage(context));
     }
 
+    /**
+     * Waits for given condition completion future to complete within the total wait time.
+     * @param completion
+     * @param timeout
+     * @param context
+     */
+    private void waitForCompletion(CompletableFuture<Boolean> completion, long timeout, TestContext context) {
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Waiting for completion of condition %s", condition.getName()));
+        }
+
+        try {
+            if (Boolean.TRUE.equals(completion.get(timeout, TimeUnit.MILLISECONDS))) {
+                log.info(condition.getSuccessMessage(context));
+                return;
+            }
+        } catch (InterruptedException | TimeoutException | ExecutionException | CancellationException e) {
+            log.warn(String.format("Condition completion interrupted with '%s'", e.getClass().getSimpleName()));
+        } finally {
+            completion.cancel(true);
+        }
+
+        throw new CitrusRuntimeException(condition.getErrorMessage(context));
+    }
+
     /**
      * Gets total wait time in milliseconds. Either uses second time value or default milliseconds.
      * @param context
@@ -77,4 +77,26 @@ public class WaitHttpConditionBuilder extends WaitConditionBuilder<HttpCondition
         getCondition().setMethod(method.toUpperCase());
         return this;
     }
+
+    /**
+     * Sets the initial and max backoff intervals in milliseconds between Http endpoint probes.
+     * @param initialInterval
+     * @param maxInterval
+     * @return
+     */
+    public WaitHttpConditionBuilder backoff(long initialInterval, long maxInterval) {
+        return backoff(String.valueOf(initialInterval), String.valueOf(maxInterval));
+    }
+
+    /**
+     * Sets the initial and max backoff intervals in milliseconds between Http endpoint probes.
+     * @param initialInterval
+     * @param maxInterval
+     * @return
+     */
+    public WaitHttpConditionBuilder backoff(String initialInterval, String maxInterval) {
+        getCondition().setBackoffInitialInterval(initialInterval);
+        getCondition().setBackoffMaxInterval(maxInterval);
+        return this;
+    }
 }
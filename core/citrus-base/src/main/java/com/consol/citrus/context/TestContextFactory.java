@@ -20,7 +20,10 @@
 package com.consol.citrus.context;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.consol.citrus.container.AfterTest;
 import com.consol.citrus.container.BeforeTest;
@@ -81,6 +84,11 @@ public class TestContextFactory implements ReferenceResolverAware {
 
     private LogModifier logModifier;
 
+    private TaskExecutors taskExecutors;
+
+    /** Global variables resolved once and shared by lightweight test contexts */
+    private volatile ResolvedGlobalVariables resolvedGlobalVariables;
+
     /**
      * Create new empty instance with default components set.
      * @return
@@ -114,6 +122,62 @@ public class TestContextFactory implements ReferenceResolverAware {
         context.setFunctionRegistry(functionRegistry);
         context.setValidationMatcherRegistry(validationMatcherRegistry);
         context.setGlobalVariables(globalVariables);
+        configure(context);
+        return context;
+    }
+
+    /**
+     * Factory method creates new lightweight test context instance. Test context shares the components in this factory as well as
+     * all static global variables with other lightweight test contexts. Global variables are resolved only once. Variables set on the
+     * test context are kept in a request local overlay. Global variables with dynamic content such as functions are still resolved
+     * for each test context. Intended for server side endpoint adapters that create a new test context per inbound request.
+     * @return
+     */
+    public TestContext getLightweightObject() {
+        ResolvedGlobalVariables resolved = getResolvedGlobalVariables();
+
+        TestContext context = new TestContext();
+        context.setFunctionRegistry(functionRegistry);
+        context.setValidationMatcherRegistry(validationMatcherRegistry);
+        context.setVariables(new VariableOverlay(resolved.staticVariables));
+
+        if (resolved.dynamicVariables.isEmpty()) {
+            context.setResolvedGlobalVariables(resolved.globalVariables);
+        } else {
+            GlobalVariables.Builder builder = new GlobalVariables.Builder().variables(resolved.staticVariables);
+            for (Map.Entry<String, Object> entry : resolved.dynamicVariables.entrySet()) {
+                String key = context.replaceDynamicContentInString(entry.getKey());
+                Object value = entry.getValue() instanceof String ? context.replaceDynamicContentInString((String) entry.getValue()) : entry.getValue();
+                context.setVariable(key, value);
+                builder.variable(key, value);
+            }
+            context.setResolvedGlobalVariables(builder.build());
+        }
+
+        configure(context);
+        return context;
+    }
+
+    /**
+     * Gets global variables resolved with a full test context. Resolves global variables again in case these have changed
+     * since the last resolution.
+     * @return
+     */
+    private ResolvedGlobalVariables getResolvedGlobalVariables() {
+        ResolvedGlobalVariables resolved = resolvedGlobalVariables;
+        if (resolved == null || !resolved.isResolvedFrom(globalVariables)) {
+            resolved = new ResolvedGlobalVariables(globalVariables, getObject());
+            resolvedGlobalVariables = resolved;
+        }
+
+        return resolved;
+    }
+
+    /**
+     * Adds all default components in this factory to the given test context.
+     * @param context
+     */
+    private void configure(TestContext context) {
         context.setMessageValidatorRegistry(messageValidatorRegistry);
         context.setTestListeners(testListeners);
         context.setTestActionListeners(testActionListeners);
@@ -136,7 +200,9 @@ public class TestContextFactory implements ReferenceResolverAware {
             context.setLogModifier(logModifier);
         }
 
-        return context;
+        if (taskExecutors != null) {
+            context.setTaskExecutors(taskExecutors);
+        }
     }
 
     /**
@@ -144,6 +210,7 @@ public class TestContextFactory implements ReferenceResolverAware {
      */
     public void setFunctionRegistry(FunctionRegistry functionRegistry) {
         this.functionRegistry = functionRegistry;
+        this.resolvedGlobalVariables = null;
     }
 
     /**
@@ -173,6 +240,7 @@ public class TestContextFactory implements ReferenceResolverAware {
      */
     public void setGlobalVariables(GlobalVariables globalVariables) {
         this.globalVariables = globalVariables;
+        this.resolvedGlobalVariables = null;
     }
 
     /**
@@ -371,4 +439,61 @@ public class TestContextFactory implements ReferenceResolverAware {
     public void setLogModifier(LogModifier logModifier) {
         this.logModifier = logModifier;
     }
+
+    /**
+     * Gets the taskExecutors.
+     * @return
+     */
+    public TaskExecutors getTaskExecutors() {
+        return taskExecutors;
+    }
+
+    /**
+     * Sets the taskExecutors.
+     * @param taskExecutors
+     */
+    public void setTaskExecutors(TaskExecutors taskExecutors) {
+        this.taskExecutors = taskExecutors;
+    }
+
+    /**
+     * Global variables split into static variables that resolve to themselves and dynamic variables that need to be
+     * resolved for each test context.
+     */
+    private static class ResolvedGlobalVariables {
+        private final Map<String, Object> source;
+        private final Map<String, Object> staticVariables;
+        private final Map<String, Object> dynamicVariables;
+        private final GlobalVariables globalVariables;
+
+        ResolvedGlobalVariables(GlobalVariables globalVariables, TestContext context) {
+            this.source = new LinkedHashMap<>(globalVariables.getVariables());
+
+            Map<String, Object> staticVariables = new LinkedHashMap<>();
+            Map<String, Object> dynamicVariables = new LinkedHashMap<>();
+            for (Map.Entry<String, Object> entry : source.entrySet()) {
+                boolean isStatic = context.replaceDynamicContentInString(entry.getKey()).equals(entry.getKey()) &&
+                        (!(entry.getValue() instanceof String) || context.replaceDynamicContentInString((String) entry.getValue()).equals(entry.getValue()));
+
+                if (isStatic) {
+                    staticVariables.put(entry.getKey(), entry.getValue());
+                } else {
+                    dynamicVariables.put(entry.getKey(), entry.getValue());
+                }
+            }
+
+            this.staticVariables = Collections.unmodifiableMap(staticVariables);
+            this.dynamicVariables = dynamicVariables;
+            this.globalVariables = new GlobalVariables.Builder().variables(staticVariables).build();
+        }
+
+        /**
+         * Checks if these resolved variables still represent the given global variables.
+         * @param globalVariables
+         * @return
+         */
+        boolean isResolvedFrom(GlobalVariables globalVariables) {
+            return source.equals(globalVariables.getVariables());
+        }
+    }
 }
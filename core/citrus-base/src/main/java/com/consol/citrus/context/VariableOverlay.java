@@ -0,0 +1,181 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Variables map that overlays a shared read only map of base variables. All changes are kept in a local layer so
+ * the base variables are never copied nor changed. Removed base variables are remembered so they are hidden from this map.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+class VariableOverlay extends AbstractMap<String, Object> {
+
+    /** Shared base variables */
+    private final Map<String, Object> base;
+
+    /** Local variables overlaying the base variables */
+    private final Map<String, Object> local = new ConcurrentHashMap<>();
+
+    /** Base variables removed from this map */
+    private volatile Set<String> removed;
+
+    /**
+     * Constructor using shared base variables.
+     * @param base
+     */
+    VariableOverlay(Map<String, Object> base) {
+        this.base = base;
+    }
+
+    @Override
+    public Object get(Object key) {
+        Object value = local.get(key);
+        if (value != null || isRemoved(key)) {
+            return value;
+        }
+
+        return base.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return local.containsKey(key) || (!isRemoved(key) && base.containsKey(key));
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        Object previous = get(key);
+        local.put(key, value);
+
+        if (removed != null) {
+            removed.remove(key);
+        }
+
+        return previous;
+    }
+
+    @Override
+    public Object remove(Object key) {
+        Object previous = get(key);
+        local.remove(key);
+
+        if (base.containsKey(key)) {
+            getRemoved().add((String) key);
+        }
+
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        local.clear();
+
+        if (!base.isEmpty()) {
+            getRemoved().addAll(base.keySet());
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<Entry<String, Object>>() {
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                List<Entry<String, Object>> entries = new ArrayList<>(local.size() + base.size());
+                local.forEach((key, value) -> entries.add(new SimpleImmutableEntry<>(key, value)));
+                base.forEach((key, value) -> {
+                    if (!local.containsKey(key) && !isRemoved(key)) {
+                        entries.add(new SimpleImmutableEntry<>(key, value));
+                    }
+                });
+
+                Iterator<Entry<String, Object>> delegate = entries.iterator();
+                return new Iterator<Entry<String, Object>>() {
+                    private Entry<String, Object> current;
+
+                    @Override
+                    public boolean hasNext() {
+                        return delegate.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        current = delegate.next();
+                        return current;
+                    }
+
+                    @Override
+                    public void remove() {
+                        if (current == null) {
+                            throw new IllegalStateException();
+                        }
+
+                        VariableOverlay.this.remove(current.getKey());
+                        current = null;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                int size = local.size();
+                for (String key : base.keySet()) {
+                    if (!local.containsKey(key) && !isRemoved(key)) {
+                        size++;
+                    }
+                }
+
+                return size;
+            }
+        };
+    }
+
+    /**
+     * Checks if given base variable has been removed from this map.
+     * @param key
+     * @return
+     */
+    private boolean isRemoved(Object key) {
+        Set<String> removedKeys = removed;
+        return removedKeys != null && removedKeys.contains(key);
+    }
+
+    /**
+     * Gets set of removed base variables, creates the set on first access.
+     * @return
+     */
+    private Set<String> getRemoved() {
+        if (removed == null) {
+            synchronized (this) {
+                if (removed == null) {
+                    removed = ConcurrentHashMap.newKeySet();
+                }
+            }
+        }
+
+        return removed;
+    }
+}
@@ -123,10 +123,11 @@ public abstract class AbstractEndpointAdapter implements EndpointAdapter {
     }
 
     /**
-     * Gets new test context from factory.
+     * Gets new lightweight test context from factory. Test context shares global variables and components with other
+     * requests handled by this adapter while variables set during the request stay local to the test context.
      * @return
      */
     protected TestContext getTestContext() {
-        return getTestContextFactory().getObject();
+        return getTestContextFactory().getLightweightObject();
     }
 }
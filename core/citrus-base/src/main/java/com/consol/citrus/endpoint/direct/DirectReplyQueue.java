@@ -0,0 +1,109 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.endpoint.direct;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessageQueue;
+import com.consol.citrus.message.MessageSelector;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Temporary reply queue for a single synchronous request. The reply message is handed over to the waiting
+ * request thread with a future so the request thread is notified as soon as the reply arrives without any polling.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public class DirectReplyQueue implements MessageQueue {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(DirectReplyQueue.class);
+
+    /** Reply message future completed on send */
+    private final CompletableFuture<Message> reply = new CompletableFuture<>();
+
+    /** Marks the reply message as consumed */
+    private final AtomicBoolean consumed = new AtomicBoolean();
+
+    private final String name;
+
+    /**
+     * Default constructor using queue name.
+     * @param name
+     */
+    public DirectReplyQueue(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void send(Message message) {
+        if (!reply.complete(message)) {
+            LOG.warn(String.format("Ignoring message '%s' as reply has already been sent to queue '%s'", message.getId(), name));
+        }
+    }
+
+    @Override
+    public Message receive(MessageSelector selector) {
+        return accept(reply.getNow(null), selector);
+    }
+
+    @Override
+    public Message receive(MessageSelector selector, long timeout) {
+        try {
+            return accept(reply.get(timeout, TimeUnit.MILLISECONDS), selector);
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to receive reply message from queue: " + name, e.getCause());
+        }
+    }
+
+    @Override
+    public void purge(MessageSelector selector) {
+        accept(reply.getNow(null), selector);
+    }
+
+    /**
+     * Consumes given reply message in case it is accepted by the selector and has not been consumed yet.
+     * @param message
+     * @param selector
+     * @return
+     */
+    private Message accept(Message message, MessageSelector selector) {
+        if (message != null && selector.accept(message) && consumed.compareAndSet(false, true)) {
+            return message;
+        }
+
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -1,11 +1,8 @@
 package com.consol.citrus.endpoint.direct;
 
-import java.util.UUID;
-
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.MessageTimeoutException;
 import com.consol.citrus.exceptions.ReplyMessageTimeoutException;
-import com.consol.citrus.message.DefaultMessageQueue;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageQueue;
 import com.consol.citrus.message.correlation.CorrelationManager;
@@ -69,14 +66,14 @@ public class DirectSyncProducer extends DirectProducer implements ReplyConsumer
     }
 
     /**
-     * Reads reply queue from message header or creates a new temporary queue.
+     * Reads reply queue from message header or creates a new temporary reply queue that hands over the reply message without polling.
      * @param message
      * @param context
      * @return
      */
     private MessageQueue getReplyQueue(Message message, TestContext context) {
         if (message.getHeader(DirectMessageHeaders.REPLY_QUEUE) == null) {
-            MessageQueue temporaryQueue = new DefaultMessageQueue(getName() + "." + UUID.randomUUID().toString());
+            MessageQueue temporaryQueue = new DirectReplyQueue(getName() + "." + message.getId());
             message.setHeader(DirectMessageHeaders.REPLY_QUEUE, temporaryQueue);
             return temporaryQueue;
         }
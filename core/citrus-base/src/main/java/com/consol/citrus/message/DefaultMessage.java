@@ -20,7 +20,6 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
@@ -39,6 +38,9 @@ public class DefaultMessage implements Message {
     /** Serial */
     private static final long serialVersionUID = 1904510540660648952L;
 
+    /** Generates unique message ids */
+    private static final MessageIdGenerator ID_GENERATOR = MessageIdGenerator.lookupDefault();
+
     /** Message payload object */
     private Object payload;
 
@@ -54,6 +56,9 @@ public class DefaultMessage implements Message {
     /** Type of the message indicates the content type - also see {@link MessageType) */
     private String type;
 
+    /** Cached String conversion of byte array payload, replaced as a whole so concurrent readers always see a consistent state */
+    private transient volatile ConvertedPayload convertedPayload;
+
     /**
      * Empty constructor initializing with empty message payload.
      */
@@ -90,7 +95,7 @@ public class DefaultMessage implements Message {
         this.payload = payload;
         this.headers.putAll(headers);
 
-        this.headers.putIfAbsent(MessageHeaders.ID, UUID.randomUUID().toString());
+        this.headers.putIfAbsent(MessageHeaders.ID, ID_GENERATOR.generateId());
         this.headers.putIfAbsent(MessageHeaders.TIMESTAMP, System.currentTimeMillis());
     }
 
@@ -149,7 +154,18 @@ public class DefaultMessage implements Message {
 
     @Override
     public <T> T getPayload(Class<T> type) {
-        return TypeConversionUtils.convertIfNecessary(getPayload(), type);
+        Object payload = getPayload();
+        if (!String.class.equals(type) || !(payload instanceof byte[])) {
+            return TypeConversionUtils.convertIfNecessary(payload, type);
+        }
+
+        ConvertedPayload converted = convertedPayload;
+        if (converted == null || converted.source != payload) {
+            converted = new ConvertedPayload(payload, TypeConversionUtils.convertIfNecessary(payload, String.class));
+            convertedPayload = converted;
+        }
+
+        return type.cast(converted.string);
     }
 
     @Override
@@ -160,6 +176,7 @@ public class DefaultMessage implements Message {
     @Override
     public DefaultMessage setPayload(Object payload) {
         this.payload = payload;
+        this.convertedPayload = null;
         return this;
     }
 
@@ -217,4 +234,18 @@ public class DefaultMessage implements Message {
 
         return type;
     }
+
+    /**
+     * Immutable holder of the String conversion created from a byte array payload. Only byte array payloads are memoized as
+     * other payload types such as DOM nodes, resources or POJOs may be changed in place without calling setPayload.
+     */
+    private static final class ConvertedPayload {
+        private final Object source;
+        private final String string;
+
+        ConvertedPayload(Object source, String string) {
+            this.source = source;
+            this.string = string;
+        }
+    }
 }
@@ -17,6 +17,7 @@ package com.consol.citrus.message;
 
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,6 +39,9 @@ public class DefaultMessageQueue implements MessageQueue {
     /** Blocking in memory message store */
     private final BlockingQueue<Message> queue = new LinkedBlockingQueue<>();
 
+    /** Number of messages sent to this queue, guarded by queue monitor */
+    private long sent = 0L;
+
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500;
 
@@ -53,6 +57,11 @@ public class DefaultMessageQueue implements MessageQueue {
     @Override
     public void send(Message message) {
         this.queue.add(message);
+
+        synchronized (queue) {
+            sent++;
+            queue.notifyAll();
+        }
     }
 
     @Override
@@ -70,21 +79,33 @@ public class DefaultMessageQueue implements MessageQueue {
 
     @Override
     public Message receive(MessageSelector selector, long timeout) {
-        long timeLeft = timeout;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+        long lastSent = getSent();
         Message message = receive(selector);
 
-        while (message == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
+        while (message == null) {
+            long timeLeft = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (timeLeft <= 0) {
+                break;
+            }
 
             if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("No message received with message selector - retrying in " +
-                        (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
+                RETRY_LOG.debug("No message received with message selector - retrying when new message arrives or in " +
+                        Math.min(timeLeft, pollingInterval) + "ms");
             }
 
             try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
+                synchronized (queue) {
+                    if (sent == lastSent) {
+                        queue.wait(Math.min(timeLeft, pollingInterval));
+                    }
+
+                    lastSent = sent;
+                }
             } catch (InterruptedException e) {
                 RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+                Thread.currentThread().interrupt();
+                break;
             }
 
             message = receive(selector);
@@ -93,6 +114,16 @@ public class DefaultMessageQueue implements MessageQueue {
         return message;
     }
 
+    /**
+     * Gets the number of messages sent to this queue.
+     * @return
+     */
+    private long getSent() {
+        synchronized (queue) {
+            return sent;
+        }
+    }
+
     @Override
     public void purge(MessageSelector selector) {
         Object[] array = this.queue.toArray();
@@ -16,10 +16,13 @@
 
 package com.consol.citrus.message.selector;
 
+import java.util.function.Function;
+
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageSelector;
+import com.consol.citrus.util.ParsedPayloadCache;
 import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 
 /**
@@ -60,6 +63,24 @@ public abstract class AbstractMessageSelector implements MessageSelector {
         }
     }
 
+    /**
+     * Gets parsed representation of the message payload such as a DOM document or a JSON tree. Parsed representation
+     * is cached per message and type so repeated selector evaluation on the same message, e.g. when scanning a
+     * message queue, does not parse the payload again. Cached representation is discarded when the message payload changes.
+     * Parsing errors are not cached so each call raises its own exception.
+     *
+     * Cached representations are shared between selectors, so callers must not modify the parsed representation.
+     *
+     * @param message the message.
+     * @param type the parsed representation type used as cache key.
+     * @param parser function parsing the payload string.
+     * @param <T> the parsed representation type.
+     * @return the parsed representation.
+     */
+    protected <T> T getParsedPayload(Message message, Class<T> type, Function<String, T> parser) {
+        return ParsedPayloadCache.getParsedPayload(message, getPayloadAsString(message), type, parser);
+    }
+
     /**
      * Evaluates given value to match this selectors matching condition. Automatically supports validation matcher expressions.
      * @param value
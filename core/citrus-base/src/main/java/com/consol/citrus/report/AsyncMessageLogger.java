@@ -0,0 +1,269 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.log.LogMessageModifier;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Message logger hands off message log events to a bounded queue. A background worker formats, masks and writes the messages
+ * in batches so the test thread does not have to print the message content. When the queue is full the configured overflow policy
+ * either drops the log event or prints the message synchronously on the calling thread. The sample policy starts dropping earlier,
+ * once the queue is half full, but still keeps every n-th log event so the log output stays representative under pressure.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public class AsyncMessageLogger {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(AsyncMessageLogger.class);
+
+    /** Maximum number of log events processed in one batch */
+    private static final int BATCH_SIZE = 100;
+
+    /** Keep every n-th log event when sampling under pressure */
+    private static final int SAMPLE_RATE = 10;
+
+    /** Policy applied when the log queue is under pressure */
+    public enum OverflowPolicy {
+        DROP,
+        SAMPLE,
+        CALLER_RUNS
+    }
+
+    private final BlockingQueue<Runnable> queue;
+    private final OverflowPolicy overflowPolicy;
+
+    /** Number of dropped log events not yet reported */
+    private final AtomicLong dropped = new AtomicLong();
+
+    /** Total number of dropped log events */
+    private final AtomicLong droppedTotal = new AtomicLong();
+
+    /** Number of log events offered while sampling */
+    private final AtomicLong sampled = new AtomicLong();
+
+    private volatile Thread worker;
+
+    /**
+     * Constructor using queue capacity and overflow policy.
+     * @param capacity
+     * @param overflowPolicy
+     */
+    public AsyncMessageLogger(int capacity, OverflowPolicy overflowPolicy) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Writes given message to the logger. Message content is copied so later changes on the message do not affect the log output.
+     * @param logger the logger to write to.
+     * @param message the message to print.
+     * @param context the test context providing the log modifier.
+     */
+    public void log(Logger logger, Message message, TestContext context) {
+        MessageSnapshot snapshot = new MessageSnapshot(message);
+        Runnable event = () -> logger.debug(snapshot.print(context));
+
+        ensureStarted();
+        if (overflowPolicy == OverflowPolicy.SAMPLE && queue.remainingCapacity() < queue.size()
+                && sampled.getAndIncrement() % SAMPLE_RATE != 0) {
+            drop();
+            return;
+        }
+
+        if (!queue.offer(event)) {
+            if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+                event.run();
+            } else {
+                drop();
+            }
+        }
+    }
+
+    /**
+     * Counts dropped log event.
+     */
+    private void drop() {
+        dropped.incrementAndGet();
+        droppedTotal.incrementAndGet();
+    }
+
+    /**
+     * Waits for all pending log events to be written.
+     * @param timeout maximum time to wait in milliseconds.
+     * @return true when all pending events have been written in time.
+     */
+    public boolean flush(long timeout) {
+        if (worker == null) {
+            return true;
+        }
+
+        ensureStarted();
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            if (!queue.offer(latch::countDown, timeout, TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+
+            return latch.await(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Gets the total number of dropped log events.
+     * @return
+     */
+    public long getDropped() {
+        return droppedTotal.get();
+    }
+
+    /**
+     * Writes pending log events and stops the background worker. Worker is started again when
+     * new log events arrive.
+     * @param timeout maximum time to wait for pending log events in milliseconds.
+     * @return true when all pending events have been written in time.
+     */
+    public boolean shutdown(long timeout) {
+        boolean flushed = flush(timeout);
+
+        Thread stopped;
+        synchronized (this) {
+            stopped = worker;
+            worker = null;
+        }
+
+        if (stopped != null) {
+            stopped.interrupt();
+        }
+
+        return flushed;
+    }
+
+    /**
+     * Starts background worker if not already running. A worker that has died unexpectedly is replaced
+     * so pending log events are not lost.
+     */
+    private synchronized void ensureStarted() {
+        if (worker != null && worker.isAlive()) {
+            return;
+        }
+
+        if (worker != null) {
+            LOG.warn("Message logger worker has stopped unexpectedly - restarting");
+        }
+
+        worker = new Thread(this::process, "citrus-message-logger");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Takes log events from the queue and writes them in batches until the worker is stopped.
+     */
+    private void process() {
+        List<Runnable> batch = new ArrayList<>(BATCH_SIZE);
+        while (worker == Thread.currentThread()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, BATCH_SIZE - 1);
+
+                for (Runnable event : batch) {
+                    try {
+                        event.run();
+                    } catch (RuntimeException e) {
+                        LOG.warn("Failed to write message log event", e);
+                    }
+                }
+
+                long count = dropped.getAndSet(0);
+                if (count > 0) {
+                    LOG.warn(String.format("Dropped %s message log events due to full logging queue", count));
+                }
+            } catch (InterruptedException e) {
+                if (worker == Thread.currentThread()) {
+                    LOG.warn("Message logger worker has been interrupted - restarting");
+                    restart();
+                }
+
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Replaces the current worker with a new one.
+     */
+    private synchronized void restart() {
+        worker = null;
+        ensureStarted();
+    }
+
+    /**
+     * Copy of message content taken when the log event is created. Payload is converted to its String representation right away
+     * so the worker does not touch the original payload. Printing still uses the original message so the output format stays the same.
+     */
+    private static final class MessageSnapshot {
+        private final Message message;
+        private final Message content;
+
+        MessageSnapshot(Message message) {
+            this.message = message;
+
+            DefaultMessage copy = new DefaultMessage(message.getPayload(String.class), message.getHeaders());
+            message.getHeaderData().forEach(copy::addHeaderData);
+            this.content = copy;
+        }
+
+        /**
+         * Prints the message content applying the log modifier provided in given test context.
+         * @param context
+         * @return
+         */
+        String print(TestContext context) {
+            String body = content.getPayload(String.class).trim();
+            if (context == null) {
+                return message.print(body, content.getHeaders(), content.getHeaderData());
+            }
+
+            if (context.getLogModifier() instanceof LogMessageModifier) {
+                LogMessageModifier modifier = (LogMessageModifier) context.getLogModifier();
+                return message.print(modifier.maskBody(content), modifier.maskHeaders(content), modifier.maskHeaderData(content));
+            }
+
+            return message.print(context.getLogModifier().mask(body), content.getHeaders(), content.getHeaderData());
+        }
+    }
+}
@@ -18,6 +18,7 @@ package com.consol.citrus.report;
 
 import java.util.Optional;
 
+import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.CitrusVersion;
 import com.consol.citrus.TestAction;
 import com.consol.citrus.TestCase;
@@ -45,8 +46,26 @@ public class LoggingReporter extends AbstractTestReporter implements MessageList
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(LoggingReporter.class);
 
+    /** Maximum time in milliseconds to wait for pending message log events on suite finish */
+    private static final long FLUSH_TIMEOUT = 5000L;
+
+    /** Optional asynchronous message logger, messages are printed synchronously when not set */
+    private AsyncMessageLogger asyncMessageLogger;
+
+    /**
+     * Default constructor enables asynchronous message logging according to system settings.
+     */
+    public LoggingReporter() {
+        if (CitrusSettings.isAsyncMessageLogging()) {
+            setAsyncMessageLogger(new AsyncMessageLogger(CitrusSettings.getAsyncMessageLoggingQueueSize(),
+                    AsyncMessageLogger.OverflowPolicy.valueOf(CitrusSettings.getAsyncMessageLoggingOverflowPolicy().toUpperCase())));
+        }
+    }
+
     @Override
     public void generate(TestResults testResults) {
+        flushMessageLog();
+
         separator();
         newLine();
         info("CITRUS TEST RESULTS");
@@ -120,6 +139,10 @@ public class LoggingReporter extends AbstractTestReporter implements MessageList
 
     @Override
     public void onFinish() {
+        if (asyncMessageLogger != null && !asyncMessageLogger.shutdown(FLUSH_TIMEOUT)) {
+            log.warn("Timed out waiting for pending message log events");
+        }
+
         newLine();
         separator();
         debug("AFTER TEST SUITE");
@@ -228,12 +251,39 @@ public class LoggingReporter extends AbstractTestReporter implements MessageList
 
     @Override
     public void onInboundMessage(Message message, TestContext context) {
-        INBOUND_MSG_LOGGER.debug(message.print(context));
+        logMessage(INBOUND_MSG_LOGGER, message, context);
     }
 
     @Override
     public void onOutboundMessage(Message message, TestContext context) {
-        INBOUND_MSG_LOGGER.debug(message.print(context));
+        logMessage(INBOUND_MSG_LOGGER, message, context);
+    }
+
+    /**
+     * Prints message to given logger either directly or via asynchronous message logger.
+     * @param logger
+     * @param message
+     * @param context
+     */
+    private void logMessage(Logger logger, Message message, TestContext context) {
+        if (!logger.isDebugEnabled()) {
+            return;
+        }
+
+        if (asyncMessageLogger != null) {
+            asyncMessageLogger.log(logger, message, context);
+        } else {
+            logger.debug(message.print(context));
+        }
+    }
+
+    /**
+     * Waits for pending asynchronous message log events to be written.
+     */
+    private void flushMessageLog() {
+        if (asyncMessageLogger != null && !asyncMessageLogger.flush(FLUSH_TIMEOUT)) {
+            log.warn("Timed out waiting for pending message log events");
+        }
     }
 
     /**
@@ -284,4 +334,20 @@ public class LoggingReporter extends AbstractTestReporter implements MessageList
     protected boolean isDebugEnabled() {
         return log.isDebugEnabled();
     }
+
+    /**
+     * Sets the asynchronous message logger. Messages are printed synchronously on the calling thread when set to null.
+     * @param asyncMessageLogger
+     */
+    public void setAsyncMessageLogger(AsyncMessageLogger asyncMessageLogger) {
+        this.asyncMessageLogger = asyncMessageLogger;
+    }
+
+    /**
+     * Gets the asynchronous message logger.
+     * @return
+     */
+    public AsyncMessageLogger getAsyncMessageLogger() {
+        return asyncMessageLogger;
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.consol.citrus.message.Message;
+
+/**
+ * Caches parsed representations of message payloads such as DOM documents or JSON trees per message. Message selectors,
+ * validators and variable extractors working on the same message share the parsed representation instead of parsing the
+ * payload over and over again. Messages are weakly referenced by identity so cached representations are released along with the message.
+ *
+ * Cached representations are shared, so callers must not modify the parsed representation.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public final class ParsedPayloadCache {
+
+    /** Parsed payload representations per message */
+    private static final Map<MessageKey, Map<Object, ParsedPayload>> PARSED_PAYLOADS = new ConcurrentHashMap<>();
+
+    /** Queue of messages that have been garbage collected */
+    private static final ReferenceQueue<Message> COLLECTED = new ReferenceQueue<>();
+
+    /**
+     * Prevent instantiation of utility class.
+     */
+    private ParsedPayloadCache() {
+        // prevent instantiation
+    }
+
+    /**
+     * Gets parsed representation of the message payload.
+     * @param message the message.
+     * @param type the parsed representation type used as cache key.
+     * @param parser function parsing the payload string.
+     * @param <T> the parsed representation type.
+     * @return the parsed representation.
+     */
+    public static <T> T getParsedPayload(Message message, Class<T> type, Function<String, T> parser) {
+        return getParsedPayload(message, message.getPayload(String.class), type, parser);
+    }
+
+    /**
+     * Gets parsed representation of given payload string that has been read from the message. Parsed representation
+     * is cached per message and type. Cached representation is discarded when the message payload changes.
+     * Parsing errors are not cached so each caller gets its own exception.
+     *
+     * @param message the message used as cache key.
+     * @param payload the message payload as String.
+     * @param type the parsed representation type used as cache key.
+     * @param parser function parsing the payload string.
+     * @param <T> the parsed representation type.
+     * @return the parsed representation.
+     */
+    public static <T> T getParsedPayload(Message message, String payload, Class<T> type, Function<String, T> parser) {
+        return type.cast(getParsedPayload(message, payload, (Object) type, parser));
+    }
+
+    /**
+     * Gets parsed representation of given payload string cached per message and given cache key. Cache key
+     * should include all parser settings that influence the parsed representation.
+     *
+     * @param message the message used as cache key.
+     * @param payload the message payload as String.
+     * @param key the parsed representation cache key.
+     * @param parser function parsing the payload string.
+     * @return the parsed representation.
+     */
+    public static Object getParsedPayload(Message message, String payload, Object key, Function<String, ?> parser) {
+        expungeCollected();
+
+        Map<Object, ParsedPayload> parsedPayloads = PARSED_PAYLOADS.get(new MessageKey(message, null));
+        if (parsedPayloads == null) {
+            parsedPayloads = PARSED_PAYLOADS.computeIfAbsent(new MessageKey(message, COLLECTED), k -> new ConcurrentHashMap<>());
+        }
+
+        ParsedPayload parsed = parsedPayloads.get(key);
+        if (parsed == null || !parsed.isValidFor(payload)) {
+            parsed = new ParsedPayload(payload, parser.apply(payload));
+            parsedPayloads.put(key, parsed);
+        }
+
+        return parsed.value;
+    }
+
+    /**
+     * Removes cache entries of messages that have been garbage collected.
+     */
+    private static void expungeCollected() {
+        Object collected;
+        while ((collected = COLLECTED.poll()) != null) {
+            PARSED_PAYLOADS.remove(collected);
+        }
+    }
+
+    /**
+     * Weak message reference using identity semantics for hash code and equality.
+     */
+    private static final class MessageKey extends WeakReference<Message> {
+        private final int hash;
+
+        MessageKey(Message message, ReferenceQueue<Message> queue) {
+            super(message, queue);
+            this.hash = System.identityHashCode(message);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof MessageKey)) {
+                return false;
+            }
+
+            Message message = get();
+            return message != null && message == ((MessageKey) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Parsed payload representation along with the payload string it has been created from.
+     */
+    private static final class ParsedPayload {
+        private final String payload;
+        private final Object value;
+
+        ParsedPayload(String payload, Object value) {
+            this.payload = payload;
+            this.value = value;
+        }
+
+        boolean isValidFor(String payload) {
+            return this.payload == payload || (this.payload != null && this.payload.equals(payload));
+        }
+    }
+}
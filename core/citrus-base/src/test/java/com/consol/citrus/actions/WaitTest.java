@@ -16,15 +16,22 @@
 
 package com.consol.citrus.actions;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import com.consol.citrus.condition.Condition;
 import com.consol.citrus.container.Wait;
+import com.consol.citrus.context.DefaultTaskExecutors;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.mockito.Mockito;
 import org.testng.annotations.Test;
 
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertTrue;
 import static org.testng.Assert.fail;
 
 /**
@@ -143,9 +150,61 @@ public class WaitTest {
         assertConditionExecutedWithinSeconds(seconds);
     }
 
+    @Test
+    public void shouldSatisfyWaitConditionOnCompletion() {
+        String seconds = "10";
+        String interval = "5000";
+
+        Wait testling = getWaitAction(seconds, interval);
+
+        CompletableFuture<Boolean> completion = new CompletableFuture<>();
+        reset(contextMock, conditionMock);
+        prepareContextMock("10000", interval);
+        when(conditionMock.getName()).thenReturn("check");
+        when(conditionMock.getCompletion(contextMock, 5000L)).thenReturn(completion);
+        when(conditionMock.getSuccessMessage(contextMock)).thenReturn("Condition success!");
+
+        DefaultTaskExecutors.getDefault().getScheduler().schedule(() -> completion.complete(true), 200L, TimeUnit.MILLISECONDS);
+
+        startTimer();
+        testling.execute(contextMock);
+        stopTimer();
+
+        assertConditionExecutedWithinSeconds("1");
+        verify(conditionMock, never()).isSatisfied(contextMock);
+    }
+
+    @Test
+    public void shouldNotSatisfyWaitConditionOnCompletion() {
+        String seconds = "1";
+        String interval = "5000";
+
+        Wait testling = getWaitAction(seconds, interval);
+
+        CompletableFuture<Boolean> completion = new CompletableFuture<>();
+        reset(contextMock, conditionMock);
+        prepareContextMock("1000", interval);
+        when(conditionMock.getName()).thenReturn("check");
+        when(conditionMock.getCompletion(contextMock, 5000L)).thenReturn(completion);
+        when(conditionMock.getErrorMessage(contextMock)).thenReturn("Condition failed!");
+
+        startTimer();
+        try {
+            testling.execute(contextMock);
+            fail("Expected exception to be thrown");
+        } catch (CitrusRuntimeException e) {
+            // expected
+        }
+        stopTimer();
+
+        assertConditionExecutedWithinSeconds(seconds);
+        assertTrue(completion.isCancelled());
+    }
+
     private void prepareContextMock(String waitTime, String interval) {
         when(contextMock.replaceDynamicContentInString(waitTime)).thenReturn(waitTime);
         when(contextMock.replaceDynamicContentInString(interval)).thenReturn(interval);
+        when(contextMock.getTaskExecutors()).thenReturn(DefaultTaskExecutors.getDefault());
     }
 
     private Wait getWaitAction(String waitTimeSeconds, String interval) {
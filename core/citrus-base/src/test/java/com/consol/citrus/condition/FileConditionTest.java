@@ -16,10 +16,17 @@
 
 package com.consol.citrus.condition;
 
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import com.consol.citrus.UnitTestSupport;
 import org.testng.annotations.Test;
 
 import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
 import static org.testng.Assert.assertTrue;
 
 /**
@@ -54,4 +61,23 @@ public class FileConditionTest extends UnitTestSupport {
 
         assertFalse(condition.isSatisfied(context));
     }
+
+    @Test
+    public void testCompletionOnFileCreated() throws Exception {
+        Path directory = Files.createTempDirectory("citrus-file-condition");
+        File file = directory.resolve("created.txt").toFile();
+
+        FileCondition fileCondition = new FileCondition();
+        fileCondition.setFile(file);
+
+        CompletableFuture<Boolean> completion = fileCondition.getCompletion(context);
+        assertNotNull(completion);
+        assertFalse(completion.isDone());
+
+        Files.write(file.toPath(), "Hello".getBytes());
+        assertTrue(completion.get(5000L, TimeUnit.MILLISECONDS));
+
+        Files.delete(file.toPath());
+        Files.delete(directory);
+    }
 }
@@ -18,6 +18,7 @@ package com.consol.citrus.condition;
 
 import java.net.HttpURLConnection;
 import java.net.URL;
+import java.util.concurrent.TimeUnit;
 
 import com.consol.citrus.UnitTestSupport;
 import org.mockito.Mockito;
@@ -25,6 +26,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -109,4 +111,46 @@ public class HttpConditionTest extends UnitTestSupport {
 
         Assert.assertFalse(testling.isSatisfied(context));
     }
+
+    @Test
+    public void testCompletionWithBackoff() throws Exception {
+        reset(connection);
+
+        when(connection.getResponseCode()).thenReturn(503, 503, 200);
+
+        HttpCondition testling = new HttpCondition() {
+            @Override
+            protected HttpURLConnection openConnection(URL url) {
+                return connection;
+            }
+        };
+
+        testling.setUrl("http://www.citrusframework.org");
+        testling.setBackoffInitialInterval("10");
+        testling.setBackoffMaxInterval("50");
+
+        Assert.assertTrue(testling.getCompletion(context).get(5000L, TimeUnit.MILLISECONDS));
+
+        verify(connection, times(3)).getResponseCode();
+    }
+
+    @Test
+    public void testCompletionBackoffFromInterval() throws Exception {
+        reset(connection);
+
+        when(connection.getResponseCode()).thenReturn(503, 503, 503, 200);
+
+        HttpCondition testling = new HttpCondition() {
+            @Override
+            protected HttpURLConnection openConnection(URL url) {
+                return connection;
+            }
+        };
+
+        testling.setUrl("http://www.citrusframework.org");
+
+        Assert.assertTrue(testling.getCompletion(context, 10L).get(500L, TimeUnit.MILLISECONDS));
+
+        verify(connection, times(4)).getResponseCode();
+    }
 }
@@ -16,8 +16,12 @@
 
 package com.consol.citrus.condition;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.DefaultMessageStore;
 import com.consol.citrus.message.MessageStore;
 import org.mockito.Mockito;
 import org.testng.Assert;
@@ -63,4 +67,42 @@ public class MessageConditionTest {
         when(messageStore.getMessage(messageName)).thenReturn(null);
         Assert.assertFalse(testling.isSatisfied(context));
     }
+
+    @Test
+    public void shouldCompleteOnStoredMessage() throws Exception {
+        String messageName = "request";
+        DefaultMessageStore store = new DefaultMessageStore();
+
+        MessageCondition testling = new MessageCondition();
+        testling.setMessageName(messageName);
+
+        reset(context);
+        when(context.replaceDynamicContentInString(messageName)).thenReturn(messageName);
+        when(context.getMessageStore()).thenReturn(store);
+
+        CompletableFuture<Boolean> completion = testling.getCompletion(context);
+        Assert.assertFalse(completion.isDone());
+
+        store.storeMessage("other", new DefaultMessage("Other"));
+        Assert.assertFalse(completion.isDone());
+
+        store.storeMessage(messageName, new DefaultMessage("OK"));
+        Assert.assertTrue(completion.get(1000L, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void shouldCompleteOnAlreadyStoredMessage() throws Exception {
+        String messageName = "request";
+        DefaultMessageStore store = new DefaultMessageStore();
+        store.storeMessage(messageName, new DefaultMessage("OK"));
+
+        MessageCondition testling = new MessageCondition();
+        testling.setMessageName(messageName);
+
+        reset(context);
+        when(context.replaceDynamicContentInString(messageName)).thenReturn(messageName);
+        when(context.getMessageStore()).thenReturn(store);
+
+        Assert.assertTrue(testling.getCompletion(context).get(1000L, TimeUnit.MILLISECONDS));
+    }
 }
@@ -16,6 +16,10 @@
 
 package com.consol.citrus.container;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import com.consol.citrus.TestAction;
 import com.consol.citrus.UnitTestSupport;
 import com.consol.citrus.actions.FailAction;
@@ -30,7 +34,9 @@ import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
 
 /**
  * @author Martin Maher
@@ -103,6 +109,44 @@ public class TimerTest extends UnitTestSupport {
         assertNotNull(timer.timerException);
     }
 
+    @Test
+    public void shouldNotBlockSchedulerWithBlockingNestedActions() throws InterruptedException {
+        reset(action);
+
+        int blockingTimers = 8;
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(blockingTimers);
+        AtomicBoolean timedOut = new AtomicBoolean();
+        TestAction blockingAction = context -> {
+            try {
+                if (!release.await(5000L, TimeUnit.MILLISECONDS)) {
+                    timedOut.set(true);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                finished.countDown();
+            }
+        };
+
+        try {
+            for (int i = 0; i < blockingTimers; i++) {
+                createTimerWithNestedAction(1, defaultInterval, true, blockingAction).execute(context);
+            }
+
+            Timer timer = createDefaultTimerWithNestedAction(false, action);
+            timer.execute(context);
+
+            assertTimerIndex(defaultRepeatCount, timer);
+            verify(action, times(defaultRepeatCount)).execute(context);
+        } finally {
+            release.countDown();
+        }
+
+        assertTrue(finished.await(5000L, TimeUnit.MILLISECONDS));
+        assertFalse(timedOut.get());
+    }
+
     private Timer createDefaultTimerWithNestedActionThatFails(boolean forked) {
         return createDefaultTimerWithNestedAction(forked, getFailAction());
     }
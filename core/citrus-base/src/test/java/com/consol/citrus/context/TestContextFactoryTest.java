@@ -0,0 +1,92 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import com.consol.citrus.functions.DefaultFunctionLibrary;
+import com.consol.citrus.variable.GlobalVariables;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class TestContextFactoryTest {
+
+    @Test
+    public void testLightweightObject() {
+        TestContextFactory factory = TestContextFactory.newInstance();
+        factory.setGlobalVariables(new GlobalVariables.Builder()
+                .variable("greeting", "Hello")
+                .variable("message", "${greeting} Citrus")
+                .build());
+
+        TestContext context = factory.getLightweightObject();
+        Assert.assertEquals(context.getVariable("greeting"), "Hello");
+        Assert.assertEquals(context.getVariable("message"), "Hello Citrus");
+        Assert.assertEquals(context.getGlobalVariables().size(), 2L);
+        Assert.assertEquals(context.getGlobalVariables().get("message"), "Hello Citrus");
+        Assert.assertEquals(context.getVariables().size(), 2L);
+        Assert.assertEquals(context.replaceDynamicContentInString("${greeting} ${message}"), "Hello Hello Citrus");
+        Assert.assertNotNull(context.getMessageStore());
+        Assert.assertNotNull(context.getLogModifier());
+    }
+
+    @Test
+    public void testLightweightObjectVariablesStayLocal() {
+        TestContextFactory factory = TestContextFactory.newInstance();
+        factory.setGlobalVariables(new GlobalVariables.Builder()
+                .variable("greeting", "Hello")
+                .variable("name", "Citrus")
+                .build());
+
+        TestContext context = factory.getLightweightObject();
+        context.setVariable("greeting", "Hi");
+        context.setVariable("foo", "bar");
+        context.getVariables().remove("name");
+
+        Assert.assertEquals(context.getVariable("greeting"), "Hi");
+        Assert.assertEquals(context.getVariable("foo"), "bar");
+        Assert.assertFalse(context.getVariables().containsKey("name"));
+        Assert.assertEquals(context.getVariables().size(), 2L);
+
+        TestContext other = factory.getLightweightObject();
+        Assert.assertEquals(other.getVariable("greeting"), "Hello");
+        Assert.assertEquals(other.getVariable("name"), "Citrus");
+        Assert.assertFalse(other.getVariables().containsKey("foo"));
+        Assert.assertNotSame(other.getMessageStore(), context.getMessageStore());
+
+        context.clear();
+        Assert.assertEquals(context.getVariable("greeting"), "Hello");
+        Assert.assertEquals(context.getVariable("name"), "Citrus");
+        Assert.assertFalse(context.getVariables().containsKey("foo"));
+    }
+
+    @Test
+    public void testLightweightObjectResolvesFunctionsPerContext() {
+        TestContextFactory factory = TestContextFactory.newInstance();
+        factory.getFunctionRegistry().addFunctionLibrary(new DefaultFunctionLibrary());
+        GlobalVariables globalVariables = new GlobalVariables.Builder()
+                .variable("text", "citrus:upperCase('citrus')")
+                .build();
+        factory.setGlobalVariables(globalVariables);
+
+        Assert.assertEquals(factory.getLightweightObject().getVariable("text"), "CITRUS");
+
+        globalVariables.getVariables().put("added", "yes");
+        Assert.assertEquals(factory.getLightweightObject().getVariable("added"), "yes");
+    }
+}
@@ -68,7 +68,7 @@ public class DirectEndpointSyncProducerTest {
         reset(queue);
         doAnswer(invocation -> {
             Message request = invocation.getArgument(0);
-            Assert.assertNotNull(request.getHeaders().get(DirectMessageHeaders.REPLY_QUEUE));
+            Assert.assertTrue(request.getHeaders().get(DirectMessageHeaders.REPLY_QUEUE) instanceof DirectReplyQueue);
             ((MessageQueue) request.getHeaders().get(DirectMessageHeaders.REPLY_QUEUE)).send(response);
             return null;
         }).when(queue).send(any(Message.class));
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.endpoint.direct;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class DirectReplyQueueTest {
+
+    @Test
+    public void testReceive() throws Exception {
+        DirectReplyQueue queue = new DirectReplyQueue("replyQueue");
+        Assert.assertNull(queue.receive());
+
+        CompletableFuture<Message> received = CompletableFuture.supplyAsync(() -> queue.receive(10000L));
+        queue.send(new DefaultMessage("Hello"));
+
+        Assert.assertEquals(received.get(5000L, TimeUnit.MILLISECONDS).getPayload(), "Hello");
+        Assert.assertNull(queue.receive(), "Reply message must be consumed only once");
+    }
+
+    @Test
+    public void testReceiveTimeout() {
+        DirectReplyQueue queue = new DirectReplyQueue("replyQueue");
+        Assert.assertNull(queue.receive(100L));
+    }
+
+    @Test
+    public void testReceiveSelected() {
+        DirectReplyQueue queue = new DirectReplyQueue("replyQueue");
+        queue.send(new DefaultMessage("Hello").setHeader("operation", "greeting"));
+        queue.send(new DefaultMessage("Ignored"));
+
+        Assert.assertNull(queue.receive(message -> "other".equals(message.getHeader("operation")), 100L));
+        Assert.assertEquals(queue.receive(message -> "greeting".equals(message.getHeader("operation")), 100L).getPayload(), "Hello");
+    }
+
+    @Test
+    public void testPurge() {
+        DirectReplyQueue queue = new DirectReplyQueue("replyQueue");
+        queue.send(new DefaultMessage("Hello"));
+        queue.purge(message -> true);
+
+        Assert.assertNull(queue.receive());
+    }
+}
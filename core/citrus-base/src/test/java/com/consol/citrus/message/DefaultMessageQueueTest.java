@@ -116,4 +116,28 @@ public class DefaultMessageQueueTest {
         Assert.assertNull(receivedMessage);
         Assert.assertEquals(retries.get(), 4L);
     }
+
+    @Test
+    public void testReceiveNotifiedOnSend() throws Exception {
+        DefaultMessageQueue queue = new DefaultMessageQueue("testQueue");
+        queue.setPollingInterval(10000L);
+
+        Thread sender = new Thread(() -> {
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            queue.send(new DefaultMessage("FooMessage").setHeader("foo", "bar"));
+        });
+        sender.start();
+
+        long start = System.currentTimeMillis();
+        Message receivedMessage = queue.receive(new HeaderMatchingMessageSelector("foo", "bar", context), 20000L);
+        sender.join();
+
+        Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+    }
 }
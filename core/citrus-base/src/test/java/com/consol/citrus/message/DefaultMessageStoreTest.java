@@ -16,6 +16,15 @@
 
 package com.consol.citrus.message;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import com.consol.citrus.UnitTestSupport;
 import com.consol.citrus.actions.SendMessageAction;
 import com.consol.citrus.endpoint.Endpoint;
@@ -38,6 +47,59 @@ public class DefaultMessageStoreTest extends UnitTestSupport {
         Assert.assertNull(messageStore.getMessage("unknown"));
     }
 
+    @Test
+    public void testAwaitMessage() throws Exception {
+        DefaultMessageStore store = new DefaultMessageStore();
+
+        CompletableFuture<Message> future = store.awaitMessage("request");
+        Assert.assertFalse(future.isDone());
+        Assert.assertEquals(getPending(store).size(), 1);
+
+        store.storeMessage("request", new DefaultMessage("RequestMessage"));
+        Assert.assertEquals(future.get(1000L, TimeUnit.MILLISECONDS).getPayload(String.class), "RequestMessage");
+        Assert.assertTrue(getPending(store).isEmpty());
+
+        Assert.assertTrue(store.awaitMessage("request").isDone());
+        Assert.assertTrue(getPending(store).isEmpty());
+    }
+
+    @Test
+    public void testAwaitMessageCancelled() throws Exception {
+        DefaultMessageStore store = new DefaultMessageStore();
+
+        CompletableFuture<Message> first = store.awaitMessage("request");
+        CompletableFuture<Message> second = store.awaitMessage("request");
+        Assert.assertEquals(getPending(store).size(), 1);
+
+        first.cancel(true);
+        Assert.assertEquals(getPending(store).size(), 1);
+
+        second.cancel(true);
+        Assert.assertTrue(getPending(store).isEmpty());
+    }
+
+    @Test
+    public void testAwaitMessageAfterDeserialization() throws Exception {
+        DefaultMessageStore store = new DefaultMessageStore();
+        store.awaitMessage("request");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(store);
+        }
+
+        DefaultMessageStore deserialized;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            deserialized = (DefaultMessageStore) in.readObject();
+        }
+
+        Assert.assertTrue(getPending(deserialized).isEmpty());
+
+        CompletableFuture<Message> future = deserialized.awaitMessage("request");
+        deserialized.storeMessage("request", new DefaultMessage("RequestMessage"));
+        Assert.assertEquals(future.get(1000L, TimeUnit.MILLISECONDS).getPayload(String.class), "RequestMessage");
+    }
+
     @Test
     public void testConstructMessageName() throws Exception {
         Endpoint endpoint = new DirectEndpoint();
@@ -45,4 +107,9 @@ public class DefaultMessageStoreTest extends UnitTestSupport {
         Assert.assertEquals(messageStore.constructMessageName(new SendMessageAction.Builder().build(), endpoint), "send(testEndpoint)");
     }
 
+    private Map<?, ?> getPending(DefaultMessageStore store) throws Exception {
+        Field pending = DefaultMessageStore.class.getDeclaredField("pending");
+        pending.setAccessible(true);
+        return (Map<?, ?>) pending.get(store);
+    }
 }
@@ -19,9 +19,22 @@
 
 package com.consol.citrus.message;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import com.consol.citrus.UnitTestSupport;
+import com.consol.citrus.util.TypeConversionUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 
 /**
  * @author Christoph Deppisch
@@ -110,4 +123,43 @@ public class DefaultMessageTest extends UnitTestSupport {
                     "citrus_message_id=%s, citrus_message_timestamp=%s, operation=getCredentials, password=****, secretKey=****" +
                 "}]", message.getId(), message.getId(), message.getTimestamp()));
     }
+
+    @Test
+    public void testCachedPayloadConversion() {
+        byte[] bytes = "Hello Citrus!".getBytes(StandardCharsets.UTF_8);
+        DefaultMessage message = new DefaultMessage(bytes);
+
+        String payload = message.getPayload(String.class);
+        Assert.assertEquals(payload, TypeConversionUtils.convertIfNecessary(bytes, String.class));
+        Assert.assertSame(message.getPayload(String.class), payload);
+        Assert.assertSame(message.getPayload(byte[].class), bytes);
+
+        message.setPayload("Hello again!".getBytes(StandardCharsets.UTF_8));
+        Assert.assertNotEquals(message.getPayload(String.class), payload);
+
+        message.setPayload(ByteBuffer.wrap("Bye!".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals(message.getPayload(String.class), "Bye!");
+    }
+
+    @Test
+    public void testPayloadConversionOfMutablePayload() throws Exception {
+        Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
+        Element root = document.createElement("root");
+        document.appendChild(root);
+
+        DefaultMessage message = new DefaultMessage(root);
+        String payload = message.getPayload(String.class);
+        Assert.assertTrue(payload.contains("root"));
+
+        document.renameNode(root, null, "changed");
+        Assert.assertEquals(message.getPayload(String.class), root.toString());
+        Assert.assertTrue(message.getPayload(String.class).contains("changed"));
+
+        StringBuilder builder = new StringBuilder("Hello");
+        message.setPayload(builder);
+        Assert.assertEquals(message.getPayload(String.class), "Hello");
+
+        builder.append(" Citrus!");
+        Assert.assertEquals(message.getPayload(String.class), "Hello Citrus!");
+    }
 }
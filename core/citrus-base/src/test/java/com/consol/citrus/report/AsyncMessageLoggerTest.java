@@ -0,0 +1,239 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.log.LogModifier;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import org.mockito.ArgumentCaptor;
+import org.slf4j.Logger;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class AsyncMessageLoggerTest {
+
+    @Test
+    public void testAsyncLogging() {
+        Logger logger = mock(Logger.class);
+        TestContext context = TestContextFactory.newInstance().getObject();
+
+        AsyncMessageLogger messageLogger = new AsyncMessageLogger(10, AsyncMessageLogger.OverflowPolicy.DROP);
+
+        Message message = new DefaultMessage("Hello Citrus!");
+        messageLogger.log(logger, message, context);
+        message.setPayload("Changed!");
+
+        Assert.assertTrue(messageLogger.flush(5000L));
+
+        ArgumentCaptor<String> printed = ArgumentCaptor.forClass(String.class);
+        verify(logger).debug(printed.capture());
+        Assert.assertTrue(printed.getValue().startsWith("DEFAULTMESSAGE [id: " + message.getId() + ", payload: Hello Citrus!]"));
+        Assert.assertEquals(messageLogger.getDropped(), 0L);
+    }
+
+    @Test
+    public void testAsyncLoggingKeepsMessageFormat() {
+        Logger logger = mock(Logger.class);
+        TestContext context = TestContextFactory.newInstance().getObject();
+
+        AsyncMessageLogger messageLogger = new AsyncMessageLogger(10, AsyncMessageLogger.OverflowPolicy.DROP);
+
+        StringBuilder payload = new StringBuilder("Hello Citrus!");
+        Message message = new CustomMessage(payload);
+        message.setHeader("operation", "sayHello");
+        messageLogger.log(logger, message, context);
+        payload.append(" Changed!");
+        message.setHeader("operation", "changed");
+
+        Assert.assertTrue(messageLogger.flush(5000L));
+
+        ArgumentCaptor<String> printed = ArgumentCaptor.forClass(String.class);
+        verify(logger).debug(printed.capture());
+        Assert.assertTrue(printed.getValue().startsWith("CUSTOMMESSAGE [id: " + message.getId() + ", payload: Hello Citrus!]"));
+        Assert.assertTrue(printed.getValue().contains("operation=sayHello"));
+    }
+
+    @Test
+    public void testDropOnFullQueue() throws InterruptedException {
+        Logger logger = mock(Logger.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        TestContext context = mock(TestContext.class);
+        when(context.getLogModifier()).thenReturn((LogModifier) body -> {
+            started.countDown();
+            try {
+                release.await(5000L, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return body;
+        });
+
+        AsyncMessageLogger messageLogger = new AsyncMessageLogger(1, AsyncMessageLogger.OverflowPolicy.DROP);
+
+        messageLogger.log(logger, new DefaultMessage("1"), context);
+        Assert.assertTrue(started.await(5000L, TimeUnit.MILLISECONDS));
+
+        messageLogger.log(logger, new DefaultMessage("2"), context);
+        messageLogger.log(logger, new DefaultMessage("3"), context);
+        messageLogger.log(logger, new DefaultMessage("4"), context);
+
+        release.countDown();
+        Assert.assertTrue(messageLogger.flush(5000L));
+
+        verify(logger, times(2)).debug(anyString());
+        Assert.assertEquals(messageLogger.getDropped(), 2L);
+    }
+
+    @Test
+    public void testCallerRunsOnFullQueue() throws InterruptedException {
+        Logger logger = mock(Logger.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        TestContext blockingContext = mock(TestContext.class);
+        when(blockingContext.getLogModifier()).thenReturn((LogModifier) body -> {
+            started.countDown();
+            try {
+                release.await(5000L, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return body;
+        });
+
+        AsyncMessageLogger messageLogger = new AsyncMessageLogger(1, AsyncMessageLogger.OverflowPolicy.CALLER_RUNS);
+
+        messageLogger.log(logger, new DefaultMessage("1"), blockingContext);
+        Assert.assertTrue(started.await(5000L, TimeUnit.MILLISECONDS));
+
+        TestContext context = TestContextFactory.newInstance().getObject();
+        messageLogger.log(logger, new DefaultMessage("2"), context);
+        messageLogger.log(logger, new DefaultMessage("3"), context);
+
+        verify(logger, times(1)).debug(contains("payload: 3"));
+
+        release.countDown();
+        Assert.assertTrue(messageLogger.flush(5000L));
+
+        verify(logger, times(3)).debug(anyString());
+        Assert.assertEquals(messageLogger.getDropped(), 0L);
+    }
+
+    @Test
+    public void testSampleUnderPressure() throws InterruptedException {
+        Logger logger = mock(Logger.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        TestContext context = mock(TestContext.class);
+        when(context.getLogModifier()).thenReturn((LogModifier) body -> {
+            started.countDown();
+            try {
+                release.await(5000L, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return body;
+        });
+
+        AsyncMessageLogger messageLogger = new AsyncMessageLogger(100, AsyncMessageLogger.OverflowPolicy.SAMPLE);
+
+        messageLogger.log(logger, new DefaultMessage("0"), context);
+        Assert.assertTrue(started.await(5000L, TimeUnit.MILLISECONDS));
+
+        for (int i = 1; i <= 150; i++) {
+            messageLogger.log(logger, new DefaultMessage(String.valueOf(i)), context);
+        }
+
+        release.countDown();
+        Assert.assertTrue(messageLogger.flush(5000L));
+
+        verify(logger, times(62)).debug(anyString());
+        Assert.assertEquals(messageLogger.getDropped(), 89L);
+    }
+
+    @Test
+    public void testShutdownAndRestart() {
+        Logger logger = mock(Logger.class);
+        TestContext context = TestContextFactory.newInstance().getObject();
+
+        AsyncMessageLogger messageLogger = new AsyncMessageLogger(10, AsyncMessageLogger.OverflowPolicy.DROP);
+
+        messageLogger.log(logger, new DefaultMessage("1"), context);
+        Assert.assertTrue(messageLogger.shutdown(5000L));
+        verify(logger, times(1)).debug(anyString());
+
+        messageLogger.log(logger, new DefaultMessage("2"), context);
+        Assert.assertTrue(messageLogger.flush(5000L));
+        verify(logger, times(2)).debug(anyString());
+        Assert.assertTrue(messageLogger.shutdown(5000L));
+    }
+
+    @Test
+    public void testInterruptedWorkerIsRestarted() throws InterruptedException {
+        Logger logger = mock(Logger.class);
+        CountDownLatch started = new CountDownLatch(1);
+        Thread[] worker = new Thread[1];
+
+        TestContext context = mock(TestContext.class);
+        when(context.getLogModifier()).thenReturn((LogModifier) body -> {
+            worker[0] = Thread.currentThread();
+            started.countDown();
+            return body;
+        });
+
+        AsyncMessageLogger messageLogger = new AsyncMessageLogger(10, AsyncMessageLogger.OverflowPolicy.DROP);
+        messageLogger.log(logger, new DefaultMessage("1"), context);
+        Assert.assertTrue(started.await(5000L, TimeUnit.MILLISECONDS));
+        Assert.assertTrue(messageLogger.flush(5000L));
+
+        worker[0].interrupt();
+        worker[0].join(5000L);
+        Assert.assertFalse(worker[0].isAlive());
+
+        messageLogger.log(logger, new DefaultMessage("2"), context);
+        Assert.assertTrue(messageLogger.flush(5000L));
+        verify(logger, times(2)).debug(anyString());
+        Assert.assertTrue(messageLogger.shutdown(5000L));
+    }
+
+    /**
+     * Message subclass verifying that the original message print format is used.
+     */
+    private static class CustomMessage extends DefaultMessage {
+        CustomMessage(Object payload) {
+            super(payload);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class ParsedPayloadCacheTest {
+
+    @Test
+    public void testParsedPayloadIsCachedPerMessage() {
+        AtomicInteger parseCount = new AtomicInteger();
+        Message message = new DefaultMessage("Hello");
+
+        String parsed = ParsedPayloadCache.getParsedPayload(message, String.class, payload -> payload + parseCount.incrementAndGet());
+        Assert.assertEquals(parsed, "Hello1");
+        Assert.assertEquals(ParsedPayloadCache.getParsedPayload(message, String.class, payload -> payload + parseCount.incrementAndGet()), "Hello1");
+
+        Message other = new DefaultMessage("Hello");
+        Assert.assertEquals(ParsedPayloadCache.getParsedPayload(other, String.class, payload -> payload + parseCount.incrementAndGet()), "Hello2");
+
+        message.setPayload("Hi");
+        Assert.assertEquals(ParsedPayloadCache.getParsedPayload(message, String.class, payload -> payload + parseCount.incrementAndGet()), "Hi3");
+    }
+
+    @Test
+    public void testParsedPayloadCacheKey() {
+        Message message = new DefaultMessage("Hello");
+
+        Assert.assertEquals(ParsedPayloadCache.getParsedPayload(message, "Hello", "lower", payload -> payload.toLowerCase()), "hello");
+        Assert.assertEquals(ParsedPayloadCache.getParsedPayload(message, "Hello", "upper", payload -> payload.toUpperCase()), "HELLO");
+        Assert.assertEquals(ParsedPayloadCache.getParsedPayload(message, "Hello", "lower", payload -> payload.toUpperCase()), "hello");
+    }
+
+    @Test
+    public void testParsingErrorsAreNotCached() {
+        AtomicInteger parseCount = new AtomicInteger();
+        Message message = new DefaultMessage("Hello");
+
+        CitrusRuntimeException first = Assert.expectThrows(CitrusRuntimeException.class, () -> ParsedPayloadCache.getParsedPayload(message, String.class, payload -> {
+            throw new CitrusRuntimeException("Failed " + parseCount.incrementAndGet());
+        }));
+        CitrusRuntimeException second = Assert.expectThrows(CitrusRuntimeException.class, () -> ParsedPayloadCache.getParsedPayload(message, String.class, payload -> {
+            throw new CitrusRuntimeException("Failed " + parseCount.incrementAndGet());
+        }));
+
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals(second.getMessage(), "Failed 2");
+        Assert.assertEquals(ParsedPayloadCache.getParsedPayload(message, String.class, String::toUpperCase), "HELLO");
+    }
+}
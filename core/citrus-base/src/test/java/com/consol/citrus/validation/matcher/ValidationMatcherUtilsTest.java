@@ -81,4 +81,21 @@ public class ValidationMatcherUtilsTest extends UnitTestSupport {
         verify(validationMatcher, times(3)).validate("field", "value", Collections.singletonList("value"), context);
         verify(validationMatcher).validate("field", "prefix:value", Collections.singletonList("prefix:value"), context);
     }
+
+    @Test
+    public void testResolveCachedValidationMatcherExpression() {
+        reset(validationMatcher);
+
+        context.setVariable("expected", "value");
+        ValidationMatcherUtils.resolveValidationMatcher("field", "value", "@foo:customMatcher('${expected}')@", context);
+        ValidationMatcherUtils.resolveValidationMatcher("field", "value", "@foo:customMatcher('static')@", context);
+
+        context.setVariable("expected", "other");
+        ValidationMatcherUtils.resolveValidationMatcher("field", "value", "@foo:customMatcher('${expected}')@", context);
+        ValidationMatcherUtils.resolveValidationMatcher("field", "value", "@foo:customMatcher('static')@", context);
+
+        verify(validationMatcher).validate("field", "value", Collections.singletonList("value"), context);
+        verify(validationMatcher).validate("field", "value", Collections.singletonList("other"), context);
+        verify(validationMatcher, times(2)).validate("field", "value", Collections.singletonList("static"), context);
+    }
 }
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import com.consol.citrus.config.CitrusSpringConfig;
 import com.consol.citrus.container.AfterSuite;
 import com.consol.citrus.container.BeforeSuite;
+import com.consol.citrus.context.TaskExecutors;
 import com.consol.citrus.context.TestContextFactoryBean;
 import com.consol.citrus.functions.FunctionRegistry;
 import com.consol.citrus.log.LogModifier;
@@ -110,6 +111,7 @@ public class CitrusSpringContext extends CitrusContext {
             referenceResolver(applicationContext.getBean(ReferenceResolver.class));
             typeConverter(applicationContext.getBean(TypeConverter.class));
             logModifier(applicationContext.getBean(LogModifier.class));
+            applicationContext.getBeansOfType(TaskExecutors.class).values().stream().findFirst().ifPresent(this::taskExecutors);
             beforeSuite(new ArrayList<>(applicationContext.getBeansOfType(BeforeSuite.class).values()));
             afterSuite(new ArrayList<>(applicationContext.getBeansOfType(AfterSuite.class).values()));
 
@@ -17,7 +17,9 @@
 package com.consol.citrus.context;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.spi.ReferenceResolver;
@@ -26,19 +28,31 @@ import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
 
 /**
- * Spring bean reference resolver operates on given application context to resolve bean references.
+ * Spring bean reference resolver operates on given application context to resolve bean references. Lookups by type
+ * are cached as long as all matching beans are singletons, so repeated lookups do not scan the bean factory again.
+ * Cached lookups are invalidated on application context refresh and when a new application context is set. Singletons
+ * registered directly on the bean factory after a refresh do not raise an event, so callers registering beans this way
+ * need to call {@link #invalidate()} afterwards.
  *
  * @author Christoph Deppisch
  * @since 2.5
  */
-public class SpringBeanReferenceResolver implements ReferenceResolver, ApplicationContextAware {
+public class SpringBeanReferenceResolver implements ReferenceResolver, ApplicationContextAware, ApplicationListener<ContextRefreshedEvent> {
 
     private ApplicationContext applicationContext;
 
     private ReferenceResolver fallback = new SimpleReferenceResolver();
 
+    /** Cached singleton beans by type */
+    private final Map<Class<?>, Object> singletonsByType = new ConcurrentHashMap<>();
+
+    /** Cached maps of all singleton beans by type */
+    private final Map<Class<?>, Map<String, ?>> allSingletonsByType = new ConcurrentHashMap<>();
+
     /**
      * Default constructor.
      */
@@ -56,8 +70,17 @@ public class SpringBeanReferenceResolver implements ReferenceResolver, Applicati
 
     @Override
     public <T> T resolve(Class<T> requiredType) {
+        Object cached = singletonsByType.get(requiredType);
+        if (cached != null) {
+            return requiredType.cast(cached);
+        }
+
         try {
-            return applicationContext.getBean(requiredType);
+            T bean = applicationContext.getBean(requiredType);
+            if (isSingletonType(requiredType)) {
+                singletonsByType.put(requiredType, bean);
+            }
+            return bean;
         } catch (NoSuchBeanDefinitionException e) {
             throw new CitrusRuntimeException(String.format("Unable to find bean reference for type '%s'", requiredType), e);
         }
@@ -88,14 +111,46 @@ public class SpringBeanReferenceResolver implements ReferenceResolver, Applicati
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> Map<String, T> resolveAll(Class<T> requiredType) {
+        Map<String, ?> cached = allSingletonsByType.get(requiredType);
+        if (cached != null) {
+            return new LinkedHashMap<>((Map<String, T>) cached);
+        }
+
         try {
-            return applicationContext.getBeansOfType(requiredType);
+            Map<String, T> beans = applicationContext.getBeansOfType(requiredType);
+            if (isSingletonType(requiredType)) {
+                allSingletonsByType.put(requiredType, new LinkedHashMap<>(beans));
+            }
+            return beans;
         } catch (NoSuchBeanDefinitionException e) {
             throw new CitrusRuntimeException(String.format("Unable to find bean references for type '%s'", requiredType), e);
         }
     }
 
+    /**
+     * Checks if all beans of given type are singletons and therefore can be cached.
+     * @param type
+     * @return
+     */
+    private boolean isSingletonType(Class<?> type) {
+        return Arrays.stream(applicationContext.getBeanNamesForType(type)).allMatch(applicationContext::isSingleton);
+    }
+
+    /**
+     * Removes all cached bean lookups. Call this after registering singletons directly on the bean factory.
+     */
+    public void invalidate() {
+        singletonsByType.clear();
+        allSingletonsByType.clear();
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        invalidate();
+    }
+
     @Override
     public boolean isResolvable(String name) {
         return applicationContext.containsBean(name) || fallback.isResolvable(name);
@@ -128,6 +183,7 @@ public class SpringBeanReferenceResolver implements ReferenceResolver, Applicati
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
+        invalidate();
     }
 
     /**
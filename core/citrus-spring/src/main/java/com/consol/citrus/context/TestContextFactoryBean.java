@@ -95,6 +95,9 @@ public class TestContextFactoryBean extends TestContextFactory implements Factor
     @Autowired(required=false)
     private NamespaceContextBuilder namespaceContextBuilder;
 
+    @Autowired(required=false)
+    private TaskExecutors taskExecutors;
+
     /** Spring bean application context that created this factory */
     private ApplicationContext applicationContext;
 
@@ -172,6 +175,10 @@ public class TestContextFactoryBean extends TestContextFactory implements Factor
             factory.setNamespaceContextBuilder(applicationContext.getBean(NamespaceContextBuilder.class));
         }
 
+        if (!CollectionUtils.isEmpty(applicationContext.getBeansOfType(TaskExecutors.class))) {
+            factory.setTaskExecutors(applicationContext.getBean(TaskExecutors.class));
+        }
+
         return factory;
     }
 
@@ -185,6 +192,11 @@ public class TestContextFactoryBean extends TestContextFactory implements Factor
         return delegate.getObject();
     }
 
+    @Override
+    public TestContext getLightweightObject() {
+        return delegate.getLightweightObject();
+    }
+
     @Override
     public boolean isSingleton() {
         return false;
@@ -251,6 +263,10 @@ public class TestContextFactoryBean extends TestContextFactory implements Factor
         if (namespaceContextBuilder != null) {
             delegate.setNamespaceContextBuilder(namespaceContextBuilder);
         }
+
+        if (taskExecutors != null) {
+            delegate.setTaskExecutors(taskExecutors);
+        }
     }
 
     /**
@@ -340,4 +356,14 @@ public class TestContextFactoryBean extends TestContextFactory implements Factor
     public NamespaceContextBuilder getNamespaceContextBuilder() {
         return delegate.getNamespaceContextBuilder();
     }
+
+    @Override
+    public TaskExecutors getTaskExecutors() {
+        return delegate.getTaskExecutors();
+    }
+
+    @Override
+    public void setTaskExecutors(TaskExecutors taskExecutors) {
+        delegate.setTaskExecutors(taskExecutors);
+    }
 }
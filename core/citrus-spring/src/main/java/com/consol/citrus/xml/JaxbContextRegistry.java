@@ -0,0 +1,180 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.xml;
+
+import javax.xml.XMLConstants;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.transform.Source;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.io.Resource;
+import org.xml.sax.SAXException;
+
+/**
+ * Registry of shared JAXB contexts and schemas. Contexts are created lazily on first access and get reused by all
+ * marshallers binding the same model classes. Marshaller and unmarshaller instances are not thread safe so the registry
+ * pools these instances per thread.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public final class JaxbContextRegistry {
+
+    /** Shared JAXB contexts by key */
+    private static final Map<Object, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+
+    /** Shared schemas by resource locations */
+    private static final Map<List<String>, Schema> SCHEMAS = new ConcurrentHashMap<>();
+
+    /** Thread local marshaller and unmarshaller pools by pool key */
+    private static final ThreadLocal<Map<Object, Marshaller>> MARSHALLERS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<Object, Unmarshaller>> UNMARSHALLERS = ThreadLocal.withInitial(HashMap::new);
+
+    /**
+     * Prevent instantiation of utility class.
+     */
+    private JaxbContextRegistry() {
+        // prevent instantiation
+    }
+
+    /**
+     * Gets shared JAXB context for given classes to be bound.
+     * @param classesToBeBound
+     * @return
+     * @throws JAXBException
+     */
+    public static JAXBContext getContext(Class<?>... classesToBeBound) throws JAXBException {
+        return getContext(Arrays.asList(classesToBeBound), () -> JAXBContext.newInstance(classesToBeBound));
+    }
+
+    /**
+     * Gets shared JAXB context for given key. Creates the context with given factory when
+     * no context has been registered for the key yet.
+     * @param key
+     * @param factory
+     * @return
+     * @throws JAXBException
+     */
+    public static JAXBContext getContext(Object key, JaxbFactory<JAXBContext> factory) throws JAXBException {
+        JAXBContext context = CONTEXTS.get(key);
+        if (context != null) {
+            return context;
+        }
+
+        synchronized (CONTEXTS) {
+            context = CONTEXTS.get(key);
+            if (context == null) {
+                context = factory.create();
+                CONTEXTS.put(key, context);
+            }
+
+            return context;
+        }
+    }
+
+    /**
+     * Gets shared W3C XML schema loaded from given schema resources.
+     * @param schemaResources
+     * @return
+     * @throws IOException
+     * @throws SAXException
+     */
+    public static Schema getSchema(Resource... schemaResources) throws IOException, SAXException {
+        List<String> locations = new ArrayList<>();
+        for (Resource schemaResource : schemaResources) {
+            locations.add(schemaResource.getURL().toExternalForm());
+        }
+
+        Schema schema = SCHEMAS.get(locations);
+        if (schema != null) {
+            return schema;
+        }
+
+        synchronized (SCHEMAS) {
+            schema = SCHEMAS.get(locations);
+            if (schema == null) {
+                Source[] sources = locations.stream()
+                        .map(StreamSource::new)
+                        .toArray(Source[]::new);
+                schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI).newSchema(sources);
+                SCHEMAS.put(locations, schema);
+            }
+
+            return schema;
+        }
+    }
+
+    /**
+     * Gets marshaller from current thread's pool. Creates new marshaller with given factory when
+     * the pool does not hold a marshaller for the pool key yet.
+     * @param poolKey
+     * @param factory
+     * @return
+     * @throws JAXBException
+     */
+    public static Marshaller getMarshaller(Object poolKey, JaxbFactory<Marshaller> factory) throws JAXBException {
+        Map<Object, Marshaller> pool = MARSHALLERS.get();
+        Marshaller marshaller = pool.get(poolKey);
+        if (marshaller == null) {
+            marshaller = factory.create();
+            pool.put(poolKey, marshaller);
+        }
+
+        return marshaller;
+    }
+
+    /**
+     * Gets unmarshaller from current thread's pool. Creates new unmarshaller with given factory when
+     * the pool does not hold an unmarshaller for the pool key yet.
+     * @param poolKey
+     * @param factory
+     * @return
+     * @throws JAXBException
+     */
+    public static Unmarshaller getUnmarshaller(Object poolKey, JaxbFactory<Unmarshaller> factory) throws JAXBException {
+        Map<Object, Unmarshaller> pool = UNMARSHALLERS.get();
+        Unmarshaller unmarshaller = pool.get(poolKey);
+        if (unmarshaller == null) {
+            unmarshaller = factory.create();
+            pool.put(poolKey, unmarshaller);
+        }
+
+        return unmarshaller;
+    }
+
+    /**
+     * Factory creating JAXB contexts, marshallers or unmarshallers.
+     * @param <T>
+     */
+    @FunctionalInterface
+    public interface JaxbFactory<T> {
+        T create() throws JAXBException;
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.xml;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.ValidationEventHandler;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import javax.xml.validation.Schema;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.io.Resource;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+
+/**
+ * Jaxb2 marshaller using shared JAXB contexts and schemas from the {@link JaxbContextRegistry}. Marshaller and
+ * unmarshaller instances are pooled per thread and shared with all marshallers of the same type binding the same classes
+ * with the same schema, properties, adapters, listeners and validation event handler.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public class PooledJaxb2Marshaller extends Jaxb2Marshaller {
+
+    private Class<?>[] classesToBeBound;
+    private Resource[] schemaResources;
+
+    /** Shared schema loaded from schema resources */
+    private Schema schema;
+
+    /** Marshaller configuration that distinguishes pooled instances */
+    private Map<String, ?> marshallerProperties = Collections.emptyMap();
+    private Map<String, ?> unmarshallerProperties = Collections.emptyMap();
+    private List<XmlAdapter<?, ?>> adapters = Collections.emptyList();
+    private Marshaller.Listener marshallerListener;
+    private Unmarshaller.Listener unmarshallerListener;
+    private ValidationEventHandler validationEventHandler;
+
+    /**
+     * Default constructor.
+     */
+    public PooledJaxb2Marshaller() {
+        super();
+    }
+
+    /**
+     * Constructor using schema and classes to be bound.
+     * @param schemaResource
+     * @param classesToBeBound
+     */
+    public PooledJaxb2Marshaller(Resource schemaResource, Class<?>... classesToBeBound) {
+        setClassesToBeBound(classesToBeBound);
+        setSchema(schemaResource);
+    }
+
+    @Override
+    public void setClassesToBeBound(Class<?>... classesToBeBound) {
+        super.setClassesToBeBound(classesToBeBound);
+        this.classesToBeBound = classesToBeBound;
+    }
+
+    @Override
+    public void setSchema(Resource schemaResource) {
+        setSchemas(schemaResource);
+    }
+
+    @Override
+    public void setSchemas(Resource... schemaResources) {
+        // schema is loaded through the registry instead of the parent marshaller
+        this.schemaResources = schemaResources;
+    }
+
+    @Override
+    public void setMarshallerProperties(Map<String, ?> properties) {
+        super.setMarshallerProperties(properties);
+        this.marshallerProperties = properties != null ? new HashMap<>(properties) : Collections.emptyMap();
+    }
+
+    @Override
+    public void setUnmarshallerProperties(Map<String, ?> properties) {
+        super.setUnmarshallerProperties(properties);
+        this.unmarshallerProperties = properties != null ? new HashMap<>(properties) : Collections.emptyMap();
+    }
+
+    @Override
+    public void setAdapters(XmlAdapter<?, ?>... adapters) {
+        super.setAdapters(adapters);
+        this.adapters = adapters != null ? Arrays.asList(adapters.clone()) : Collections.emptyList();
+    }
+
+    @Override
+    public void setMarshallerListener(Marshaller.Listener marshallerListener) {
+        super.setMarshallerListener(marshallerListener);
+        this.marshallerListener = marshallerListener;
+    }
+
+    @Override
+    public void setUnmarshallerListener(Unmarshaller.Listener unmarshallerListener) {
+        super.setUnmarshallerListener(unmarshallerListener);
+        this.unmarshallerListener = unmarshallerListener;
+    }
+
+    @Override
+    public void setValidationEventHandler(ValidationEventHandler validationEventHandler) {
+        super.setValidationEventHandler(validationEventHandler);
+        this.validationEventHandler = validationEventHandler;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        super.afterPropertiesSet();
+
+        if (schemaResources != null && schemaResources.length > 0) {
+            schema = JaxbContextRegistry.getSchema(schemaResources);
+        }
+    }
+
+    @Override
+    public JAXBContext getJaxbContext() {
+        if (classesToBeBound == null) {
+            return super.getJaxbContext();
+        }
+
+        try {
+            return JaxbContextRegistry.getContext(classesToBeBound);
+        } catch (JAXBException e) {
+            throw convertJaxbException(e);
+        }
+    }
+
+    @Override
+    public Marshaller createMarshaller() {
+        try {
+            return JaxbContextRegistry.getMarshaller(getPoolKey(marshallerProperties, marshallerListener), super::createMarshaller);
+        } catch (JAXBException e) {
+            throw convertJaxbException(e);
+        }
+    }
+
+    @Override
+    public Unmarshaller createUnmarshaller() {
+        try {
+            return JaxbContextRegistry.getUnmarshaller(getPoolKey(unmarshallerProperties, unmarshallerListener), super::createUnmarshaller);
+        } catch (JAXBException e) {
+            throw convertJaxbException(e);
+        }
+    }
+
+    @Override
+    protected void initJaxbMarshaller(Marshaller marshaller) throws JAXBException {
+        super.initJaxbMarshaller(marshaller);
+
+        if (schema != null) {
+            marshaller.setSchema(schema);
+        }
+    }
+
+    @Override
+    protected void initJaxbUnmarshaller(Unmarshaller unmarshaller) throws JAXBException {
+        super.initJaxbUnmarshaller(unmarshaller);
+
+        if (schema != null) {
+            unmarshaller.setSchema(schema);
+        }
+    }
+
+    /**
+     * Pool key identifying marshaller instances that can be shared. Instances are only shared when
+     * all configuration applied in the init methods is equal.
+     * @param properties the marshaller or unmarshaller properties.
+     * @param listener the marshaller or unmarshaller listener.
+     * @return
+     */
+    private Object getPoolKey(Map<String, ?> properties, Object listener) {
+        return Arrays.asList(getClass(), getJaxbContext(), schema, properties, adapters, listener, validationEventHandler);
+    }
+}
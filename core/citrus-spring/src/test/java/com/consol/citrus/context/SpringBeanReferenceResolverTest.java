@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class SpringBeanReferenceResolverTest {
+
+    private final ApplicationContext applicationContext = mock(ApplicationContext.class);
+
+    private final Runnable bean = Mockito.mock(Runnable.class);
+
+    @BeforeMethod
+    public void setup() {
+        reset(applicationContext);
+        when(applicationContext.getBean(Runnable.class)).thenReturn(bean);
+        when(applicationContext.getBeansOfType(Runnable.class)).thenReturn(Collections.singletonMap("runnable", bean));
+        when(applicationContext.getBeanNamesForType(Runnable.class)).thenReturn(new String[] { "runnable" });
+    }
+
+    @Test
+    public void testCachedSingletonLookup() {
+        when(applicationContext.isSingleton("runnable")).thenReturn(true);
+        SpringBeanReferenceResolver resolver = new SpringBeanReferenceResolver(applicationContext);
+
+        Assert.assertSame(resolver.resolve(Runnable.class), bean);
+        Assert.assertSame(resolver.resolve(Runnable.class), bean);
+        verify(applicationContext, times(1)).getBean(Runnable.class);
+
+        resolver.resolveAll(Runnable.class);
+        Map<String, Runnable> beans = resolver.resolveAll(Runnable.class);
+        beans.clear();
+        Assert.assertEquals(resolver.resolveAll(Runnable.class), Collections.singletonMap("runnable", bean));
+        verify(applicationContext, times(1)).getBeansOfType(Runnable.class);
+    }
+
+    @Test
+    public void testCacheInvalidationOnRefresh() {
+        when(applicationContext.isSingleton("runnable")).thenReturn(true);
+        SpringBeanReferenceResolver resolver = new SpringBeanReferenceResolver(applicationContext);
+
+        resolver.resolve(Runnable.class);
+        resolver.resolveAll(Runnable.class);
+        resolver.onApplicationEvent(new ContextRefreshedEvent(applicationContext));
+        resolver.resolve(Runnable.class);
+        resolver.resolveAll(Runnable.class);
+
+        verify(applicationContext, times(2)).getBean(Runnable.class);
+        verify(applicationContext, times(2)).getBeansOfType(Runnable.class);
+    }
+
+    @Test
+    public void testCacheInvalidationOnApplicationContextChange() {
+        when(applicationContext.isSingleton("runnable")).thenReturn(true);
+        SpringBeanReferenceResolver resolver = new SpringBeanReferenceResolver(applicationContext);
+        Assert.assertSame(resolver.resolve(Runnable.class), bean);
+
+        ApplicationContext otherContext = mock(ApplicationContext.class);
+        Runnable otherBean = Mockito.mock(Runnable.class);
+        when(otherContext.getBean(Runnable.class)).thenReturn(otherBean);
+        when(otherContext.getBeanNamesForType(Runnable.class)).thenReturn(new String[] { "runnable" });
+        when(otherContext.isSingleton("runnable")).thenReturn(true);
+
+        resolver.setApplicationContext(otherContext);
+        Assert.assertSame(resolver.resolve(Runnable.class), otherBean);
+    }
+
+    @Test
+    public void testPrototypeLookupNotCached() {
+        when(applicationContext.isSingleton("runnable")).thenReturn(false);
+        SpringBeanReferenceResolver resolver = new SpringBeanReferenceResolver(applicationContext);
+
+        resolver.resolve(Runnable.class);
+        resolver.resolve(Runnable.class);
+        resolver.resolveAll(Runnable.class);
+        resolver.resolveAll(Runnable.class);
+
+        verify(applicationContext, times(2)).getBean(Runnable.class);
+        verify(applicationContext, times(2)).getBeansOfType(Runnable.class);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.xml;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.bind.annotation.XmlRootElement;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class PooledJaxb2MarshallerTest {
+
+    @Test
+    public void testSharedContext() throws Exception {
+        PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller();
+        marshaller.setClassesToBeBound(Greeting.class);
+        marshaller.afterPropertiesSet();
+
+        PooledJaxb2Marshaller other = new PooledJaxb2Marshaller();
+        other.setClassesToBeBound(Greeting.class);
+        other.afterPropertiesSet();
+
+        JAXBContext context = marshaller.getJaxbContext();
+        Assert.assertSame(other.getJaxbContext(), context);
+        Assert.assertSame(JaxbContextRegistry.getContext(Greeting.class), context);
+    }
+
+    @Test
+    public void testThreadLocalMarshallers() throws Exception {
+        PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller();
+        marshaller.setClassesToBeBound(Greeting.class);
+        marshaller.afterPropertiesSet();
+
+        PooledJaxb2Marshaller other = new PooledJaxb2Marshaller();
+        other.setClassesToBeBound(Greeting.class);
+        other.afterPropertiesSet();
+
+        Assert.assertSame(other.createMarshaller(), marshaller.createMarshaller());
+        Assert.assertSame(other.createUnmarshaller(), marshaller.createUnmarshaller());
+
+        Assert.assertNotSame(CompletableFuture.supplyAsync(marshaller::createMarshaller).get(), marshaller.createMarshaller());
+        Assert.assertNotSame(CompletableFuture.supplyAsync(marshaller::createUnmarshaller).get(), marshaller.createUnmarshaller());
+    }
+
+    @Test
+    public void testMarshallerConfigurationSeparatesPools() throws Exception {
+        PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller();
+        marshaller.setClassesToBeBound(Greeting.class);
+        marshaller.afterPropertiesSet();
+
+        PooledJaxb2Marshaller formatted = new PooledJaxb2Marshaller();
+        formatted.setClassesToBeBound(Greeting.class);
+        formatted.setMarshallerProperties(Collections.singletonMap(Marshaller.JAXB_FORMATTED_OUTPUT, true));
+        formatted.afterPropertiesSet();
+
+        PooledJaxb2Marshaller listening = new PooledJaxb2Marshaller();
+        listening.setClassesToBeBound(Greeting.class);
+        listening.setUnmarshallerListener(new Unmarshaller.Listener() {});
+        listening.afterPropertiesSet();
+
+        Assert.assertNotSame(formatted.createMarshaller(), marshaller.createMarshaller());
+        Assert.assertSame(formatted.createUnmarshaller(), marshaller.createUnmarshaller());
+        Assert.assertEquals(formatted.createMarshaller().getProperty(Marshaller.JAXB_FORMATTED_OUTPUT), true);
+        Assert.assertEquals(marshaller.createMarshaller().getProperty(Marshaller.JAXB_FORMATTED_OUTPUT), false);
+
+        Assert.assertSame(listening.createMarshaller(), marshaller.createMarshaller());
+        Assert.assertNotSame(listening.createUnmarshaller(), marshaller.createUnmarshaller());
+        Assert.assertNull(marshaller.createUnmarshaller().getListener());
+    }
+
+    @Test
+    public void testMarshalUnmarshal() throws Exception {
+        PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller();
+        marshaller.setClassesToBeBound(Greeting.class);
+        marshaller.afterPropertiesSet();
+
+        Greeting greeting = new Greeting();
+        greeting.setText("Hello Citrus!");
+
+        for (int i = 0; i < 2; i++) {
+            StringResult result = new StringResult();
+            marshaller.marshal(greeting, result);
+            Assert.assertTrue(result.toString().contains("<greeting><text>Hello Citrus!</text></greeting>"));
+
+            Greeting unmarshalled = (Greeting) marshaller.unmarshal(new StringSource(result.toString()));
+            Assert.assertEquals(unmarshalled.getText(), "Hello Citrus!");
+        }
+    }
+
+    @XmlRootElement(name = "greeting")
+    public static class Greeting {
+        private String text;
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            this.text = text;
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.util.List;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.xml.JaxbContextRegistry;
 import com.consol.citrus.xml.StringSource;
 import org.apache.camel.builder.RouteBuilder;
 import org.apache.camel.model.RouteDefinition;
@@ -60,7 +61,8 @@ public class CreateCamelRouteAction extends AbstractCamelRouteAction {
         if (StringUtils.hasText(routeContext)) {
             // now lets parse the routes with JAXB
             try {
-                Object value = getJaxbContext().createUnmarshaller().unmarshal(new StringSource(context.replaceDynamicContentInString(routeContext)));
+                JAXBContext jaxbContext = getJaxbContext();
+                Object value = JaxbContextRegistry.getUnmarshaller(jaxbContext, jaxbContext::createUnmarshaller).unmarshal(new StringSource(context.replaceDynamicContentInString(routeContext)));
                 if (value instanceof CamelRouteContextFactoryBean) {
                     CamelRouteContextFactoryBean factoryBean = (CamelRouteContextFactoryBean) value;
                     routesToUse = factoryBean.getRoutes();
@@ -95,12 +97,12 @@ public class CreateCamelRouteAction extends AbstractCamelRouteAction {
     }
 
     /**
-     * Creates new Camel JaxB context.
+     * Gets shared Camel JaxB context. Context is created on first access.
      * @return
      * @throws javax.xml.bind.JAXBException
      */
     public JAXBContext getJaxbContext() throws JAXBException {
-        return new SpringModelJAXBContextFactory().newJAXBContext();
+        return JaxbContextRegistry.getContext(SpringModelJAXBContextFactory.class, () -> new SpringModelJAXBContextFactory().newJAXBContext());
     }
 
     /**
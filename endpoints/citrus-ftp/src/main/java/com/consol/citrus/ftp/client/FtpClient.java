@@ -20,8 +20,12 @@ import java.io.ByteArrayInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -48,6 +52,7 @@ import com.consol.citrus.messaging.ReplyConsumer;
 import com.consol.citrus.messaging.SelectiveConsumer;
 import com.consol.citrus.util.FileUtils;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.net.ProtocolCommandEvent;
 import org.apache.commons.net.ProtocolCommandListener;
 import org.apache.commons.net.ftp.FTP;
@@ -72,6 +77,9 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(FtpClient.class);
 
+    /** Digest algorithm used to compute file checksums in streaming mode */
+    public static final String DIGEST_ALGORITHM = "SHA-256";
+
     /** Apache ftp client */
     private FTPClient ftpClient;
 
@@ -300,7 +308,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
     /**
      * Constructs local file input stream. When using ASCII data type the test variable replacement is activated otherwise
-     * plain byte stream is used.
+     * plain byte stream is used. In streaming mode the file is always streamed as is without variable replacement.
      *
      * @param path
      * @param dataType
@@ -309,7 +317,7 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @throws IOException
      */
     protected InputStream getLocalFileInputStream(String path, String dataType, TestContext context) throws IOException {
-        if (dataType.equals(DataType.ASCII.name())) {
+        if (dataType.equals(DataType.ASCII.name()) && !getEndpointConfiguration().isStreamFiles()) {
             String content = context.replaceDynamicContentInString(FileUtils.readToString(FileUtils.getFileResource(path)));
             return new ByteArrayInputStream(content.getBytes(FileUtils.getDefaultCharset()));
         } else {
@@ -331,7 +339,9 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             }
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
-            try (FileOutputStream localFileOutputStream = new FileOutputStream(localFilePath)) {
+            MessageDigest messageDigest = getMessageDigest();
+            try (OutputStream localFileOutputStream = getEndpointConfiguration().isStreamFiles() ?
+                    new DigestOutputStream(new FileOutputStream(localFilePath), messageDigest) : new FileOutputStream(localFilePath)) {
                 ftpClient.setFileType(getFileType(dataType));
 
                 if (!ftpClient.retrieveFile(remoteFilePath, localFileOutputStream)) {
@@ -340,7 +350,10 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
                 }
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
+            if (getEndpointConfiguration().isStreamFiles()) {
+                return FtpMessage.result(ftpClient.getReplyCode(), ftpClient.getReplyString(), localFilePath,
+                        Files.size(Paths.get(localFilePath)), Hex.encodeHexString(messageDigest.digest()));
+            } else if (getEndpointConfiguration().isAutoReadFiles()) {
                 String fileContent;
                 if (command.getFile().getType().equals(DataType.BINARY.name())) {
                     fileContent = Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(localFilePath).getInputStream()));
@@ -357,6 +370,18 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    /**
+     * Creates new message digest used to compute file checksums while transferring files in streaming mode.
+     * @return
+     */
+    protected MessageDigest getMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Unsupported file digest algorithm: " + DIGEST_ALGORITHM, e);
+        }
+    }
+
     /**
      * Get file type from info string.
      * @param typeInfo
@@ -54,6 +54,16 @@ public class FtpClientBuilder extends AbstractEndpointBuilder<FtpClient> {
         return this;
     }
 
+    /**
+     * Sets the stream files property.
+     * @param streamFiles
+     * @return
+     */
+    public FtpClientBuilder streamFiles(boolean streamFiles) {
+        endpoint.getEndpointConfiguration().setStreamFiles(streamFiles);
+        return this;
+    }
+
     /**
      * Sets the auto read files property.
      * @param autoReadFiles
@@ -66,6 +66,9 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** Auto read file content retrieved from server */
     private boolean autoReadFiles = true;
 
+    /** Stream file content and add file size and digest instead of file content to the result */
+    private boolean streamFiles = false;
+
     /** File transfer passive mode */
     private boolean localPassiveMode = true;
 
@@ -257,6 +260,24 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
         this.autoReadFiles = autoReadFiles;
     }
 
+    /**
+     * Gets the streamFiles.
+     *
+     * @return
+     */
+    public boolean isStreamFiles() {
+        return streamFiles;
+    }
+
+    /**
+     * Sets the streamFiles.
+     *
+     * @param streamFiles
+     */
+    public void setStreamFiles(boolean streamFiles) {
+        this.streamFiles = streamFiles;
+    }
+
     /**
      * Gets the localPassiveMode.
      *
@@ -18,6 +18,12 @@ package com.consol.citrus.ftp.client;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.Optional;
 
 import com.consol.citrus.context.TestContext;
@@ -29,6 +35,8 @@ import com.consol.citrus.ftp.model.GetCommand;
 import com.consol.citrus.ftp.model.ListCommand;
 import com.consol.citrus.ftp.model.PutCommand;
 import com.consol.citrus.util.FileUtils;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.net.ftp.FTPReply;
 import org.apache.sshd.client.SshClient;
 import org.apache.sshd.client.keyverifier.AcceptAllServerKeyVerifier;
 import org.apache.sshd.client.keyverifier.KnownHostsServerKeyVerifier;
@@ -108,6 +116,21 @@ public class ScpClient extends SftpClient {
                 LOG.warn("Failed to create target directories in path: " + target.getFile().getAbsolutePath());
             }
 
+            if (getEndpointConfiguration().isStreamFiles()) {
+                Path localFilePath = target.getFile().toPath();
+                if (Files.isDirectory(localFilePath)) {
+                    localFilePath = localFilePath.resolve(Paths.get(command.getFile().getPath()).getFileName());
+                }
+
+                MessageDigest messageDigest = getMessageDigest();
+                try (OutputStream localFileOutputStream = new DigestOutputStream(Files.newOutputStream(localFilePath), messageDigest)) {
+                    scpClient.download(command.getFile().getPath(), localFileOutputStream);
+                }
+
+                return FtpMessage.result(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath.toString(),
+                        Files.size(localFilePath), Hex.encodeHexString(messageDigest.digest()));
+            }
+
             scpClient.download(command.getFile().getPath(), target.getFile().getAbsolutePath());
         } catch (IOException e) {
             LOG.error("Failed to retrieve file via SCP", e);
@@ -23,6 +23,9 @@ import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -46,6 +49,7 @@ import com.jcraft.jsch.Session;
 import com.jcraft.jsch.SftpException;
 import com.jcraft.jsch.UserInfo;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.net.ftp.FTPCmd;
 import org.apache.commons.net.ftp.FTPReply;
 import org.apache.ftpserver.ftplet.DataType;
@@ -219,19 +223,22 @@ public class SftpClient extends FtpClient {
             String remoteFilePath = context.replaceDynamicContentInString(command.getFile().getPath());
             String localFilePath = addFileNameToTargetPath(remoteFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
 
-            try (InputStream inputStream = sftp.get(remoteFilePath)) {
-                byte[] bytes = FileCopyUtils.copyToByteArray(inputStream);
-
+            MessageDigest messageDigest = getMessageDigest();
+            try (InputStream inputStream = getEndpointConfiguration().isStreamFiles() ?
+                    new DigestInputStream(sftp.get(remoteFilePath), messageDigest) : sftp.get(remoteFilePath)) {
                 // create intermediate directories if necessary
                 Path localFilePathObj = Paths.get(localFilePath);
                 Files.createDirectories(localFilePathObj.getParent());
-                Files.write(localFilePathObj, bytes);
+                Files.copy(inputStream, localFilePathObj, StandardCopyOption.REPLACE_EXISTING);
             } catch (SftpException e) {
                 throw new CitrusRuntimeException(String.format("Failed to get file from FTP server. Remote path: %s. Local file path: %s. Error: %s",
                         remoteFilePath, localFilePath, e.getMessage()));
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
+            if (getEndpointConfiguration().isStreamFiles()) {
+                return FtpMessage.result(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath,
+                        Files.size(Paths.get(localFilePath)), Hex.encodeHexString(messageDigest.digest()));
+            } else if (getEndpointConfiguration().isAutoReadFiles()) {
                 String fileContent;
                 if (command.getFile().getType().equals(DataType.BINARY.name())) {
                     fileContent = Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(localFilePath).getInputStream()));
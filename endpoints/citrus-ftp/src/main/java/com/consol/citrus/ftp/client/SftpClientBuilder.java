@@ -56,6 +56,16 @@ public class SftpClientBuilder extends AbstractEndpointBuilder<SftpClient> {
         return this;
     }
 
+    /**
+     * Sets the stream files property.
+     * @param streamFiles
+     * @return
+     */
+    public SftpClientBuilder streamFiles(boolean streamFiles) {
+        endpoint.getEndpointConfiguration().setStreamFiles(streamFiles);
+        return this;
+    }
+
     /**
      * Sets the auto read files property.
      * @param autoReadFiles
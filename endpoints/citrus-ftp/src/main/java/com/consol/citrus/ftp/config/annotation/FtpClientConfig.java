@@ -51,6 +51,12 @@ public @interface FtpClientConfig {
      */
     boolean autoReadFiles() default true;
 
+    /**
+     * Stream files
+     * @return
+     */
+    boolean streamFiles() default false;
+
     /**
      * Local passive mode
      * @return
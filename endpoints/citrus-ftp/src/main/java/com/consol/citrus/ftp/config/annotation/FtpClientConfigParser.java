@@ -40,6 +40,7 @@ public class FtpClientConfigParser implements AnnotationConfigParser<FtpClientCo
 
         builder.port(annotation.port());
         builder.autoReadFiles(annotation.autoReadFiles());
+        builder.streamFiles(annotation.streamFiles());
         builder.localPassiveMode(annotation.localPassiveMode());
 
         if (StringUtils.hasText(annotation.username())) {
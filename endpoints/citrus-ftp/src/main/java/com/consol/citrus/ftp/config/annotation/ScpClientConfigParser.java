@@ -40,6 +40,7 @@ public class ScpClientConfigParser implements AnnotationConfigParser<ScpClientCo
 
         builder.port(annotation.port());
         builder.portOption(annotation.portOption());
+        builder.streamFiles(annotation.streamFiles());
 
         if (StringUtils.hasText(annotation.username())) {
             builder.username(annotation.username());
@@ -36,6 +36,7 @@ import com.consol.citrus.ftp.model.ListCommandResult;
 import com.consol.citrus.ftp.model.PutCommand;
 import com.consol.citrus.ftp.model.PutCommandResult;
 import com.consol.citrus.message.MessageType;
+import com.consol.citrus.xml.PooledJaxb2Marshaller;
 import com.consol.citrus.xml.StringResult;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonParseException;
@@ -62,7 +63,7 @@ public class FtpMarshaller extends ObjectMapper implements Marshaller, Unmarshal
     private static final String JDBC_MARSHALLER_TYPE_PROPERTY = "citrus.ftp.marshaller.type";
 
     /** XML marshalling delegate */
-    private Jaxb2Marshaller jaxbDelegate = new Jaxb2Marshaller();
+    private Jaxb2Marshaller jaxbDelegate = new PooledJaxb2Marshaller();
 
     /** Message type format: XML or JSON */
     private String type;
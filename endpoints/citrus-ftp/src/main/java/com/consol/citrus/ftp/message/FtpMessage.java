@@ -295,6 +295,22 @@ public class FtpMessage extends DefaultMessage {
         return result(listCommandResult);
     }
 
+    public static FtpMessage result(int replyCode, String replyString, String path, long size, String digest) {
+        GetCommandResult getCommandResult = new GetCommandResult();
+        getCommandResult.setReplyCode(String.valueOf(replyCode));
+        getCommandResult.setReplyString(replyString);
+        getCommandResult.setSuccess(true);
+
+        GetCommandResult.File file = new GetCommandResult.File();
+        file.setPath(path);
+        file.setSize(size);
+        file.setDigest(digest);
+
+        getCommandResult.setFile(file);
+
+        return result(getCommandResult);
+    }
+
     public static FtpMessage result(int replyCode, String replyString, String path, String content) {
         GetCommandResult getCommandResult = new GetCommandResult();
         getCommandResult.setReplyCode(String.valueOf(replyCode));
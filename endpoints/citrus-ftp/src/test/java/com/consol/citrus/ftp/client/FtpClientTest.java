@@ -18,6 +18,7 @@ package com.consol.citrus.ftp.client;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -27,10 +28,12 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.ftp.message.FtpMessage;
 import com.consol.citrus.ftp.model.DeleteCommand;
 import com.consol.citrus.ftp.model.DeleteCommandResult;
+import com.consol.citrus.ftp.model.GetCommandResult;
 import com.consol.citrus.ftp.model.ListCommandResult;
 import com.consol.citrus.ftp.model.PutCommandResult;
 import com.consol.citrus.message.ErrorHandlingStrategy;
 import com.consol.citrus.message.Message;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.net.ProtocolCommandListener;
 import org.apache.commons.net.ftp.FTPClient;
 import org.apache.commons.net.ftp.FTPClientConfig;
@@ -69,6 +72,8 @@ public class FtpClientTest extends AbstractFtpClientTest {
     private static final String UPLOAD_FILE = "upload_file";
     private static final String DOWNLOAD_FILE = "/download_file";
     private static final String SINGLE_FILE = "/single_file";
+    private static final String STREAM_FILE = "/stream_file";
+    private static final String STREAM_FILE_CONTENT = "This is streamed file content!";
     private static final String DELETE_FOLDER = "/delete";
     private static final String EMPTY_FOLDER = "/empty_folder";
     private static final String FOLDER = "/folder";
@@ -105,6 +110,7 @@ public class FtpClientTest extends AbstractFtpClientTest {
         Thread.sleep(2000);
         fileSystem.add(new FileEntry(DOWNLOAD_FILE + "_2"));
         fileSystem.add(new FileEntry(SINGLE_FILE));
+        fileSystem.add(new FileEntry(STREAM_FILE, STREAM_FILE_CONTENT));
         fileSystem.add(new DirectoryEntry(COMPLETELY_DELETE_FOLDER + "/first_folder"));
         fileSystem.add(new DirectoryEntry(COMPLETELY_DELETE_FOLDER + "/second_folder"));
         fileSystem.add(new FileEntry(COMPLETELY_DELETE_FOLDER + "/first_folder/file1"));
@@ -152,6 +158,29 @@ public class FtpClientTest extends AbstractFtpClientTest {
         assertTrue(new File(localFilePath).exists());
     }
 
+    @Test
+    public void testRetrieveFileStreaming() throws Exception {
+        assertTrue(fakeFtpServer.getFileSystem().exists(STREAM_FILE));
+        String localFilePath = Paths.get(targetPath, "stream_file").toString();
+
+        ftpClient.getEndpointConfiguration().setStreamFiles(true);
+        FtpMessage ftpMessage;
+        try {
+            ftpMessage = ftpClient.retrieveFile(getCommand(STREAM_FILE, localFilePath), context);
+        } finally {
+            ftpClient.getEndpointConfiguration().setStreamFiles(false);
+        }
+
+        verifyMessage(ftpMessage, GetCommandResult.class, CLOSING_DATA_CONNECTION, "Requested file action successful.");
+        GetCommandResult.File file = ftpMessage.getPayload(GetCommandResult.class).getFile();
+        byte[] fileContent = Files.readAllBytes(Paths.get(localFilePath));
+        Assert.assertEquals(new String(fileContent, StandardCharsets.UTF_8), STREAM_FILE_CONTENT);
+        Assert.assertNull(file.getData());
+        Assert.assertEquals(file.getPath(), localFilePath);
+        Assert.assertEquals(file.getSize().longValue(), fileContent.length);
+        Assert.assertEquals(file.getDigest(), DigestUtils.sha256Hex(fileContent));
+    }
+
     @Test
     public void testRetrieveFileImplicitFilename() {
         assertTrue(fakeFtpServer.getFileSystem().exists(DOWNLOAD_FILE));
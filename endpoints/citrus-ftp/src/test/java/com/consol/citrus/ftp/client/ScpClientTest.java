@@ -0,0 +1,119 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.ftp.client;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.consol.citrus.ftp.message.FtpMessage;
+import com.consol.citrus.ftp.model.GetCommandResult;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.sshd.scp.server.ScpCommandFactory;
+import org.apache.sshd.server.SshServer;
+import org.apache.sshd.server.keyprovider.SimpleGeneratorHostKeyProvider;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.FileCopyUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import static org.apache.commons.net.ftp.FTPReply.CLOSING_DATA_CONNECTION;
+
+/**
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public class ScpClientTest extends AbstractFtpClientTest {
+
+    private ScpClient scpClient;
+    private SshServer sshServer;
+
+    private String targetPath;
+    private Path remoteFilePath;
+
+    @BeforeClass
+    public void setUp() throws Exception {
+        targetPath = System.getProperty("project.build.directory");
+        remoteFilePath = Paths.get(targetPath, "scp_remote_hello.xml");
+        Files.write(remoteFilePath, FileCopyUtils.copyToByteArray(new ClassPathResource("ftp/input/hello.xml").getInputStream()));
+
+        sshServer = startScpMockServer();
+        scpClient = createScpClient();
+    }
+
+    @AfterClass
+    public void tearDown() throws Exception {
+        scpClient.destroy();
+        sshServer.close();
+    }
+
+    @Test
+    public void testRetrieveFileStreaming() throws Exception {
+        Path localDownloadFilePath = Paths.get(targetPath, "scp_download_streamed.xml");
+
+        scpClient.getEndpointConfiguration().setStreamFiles(true);
+        FtpMessage ftpMessage;
+        try {
+            ftpMessage = scpClient.retrieveFile(getCommand(remoteFilePath.toString(), "file:" + localDownloadFilePath), context);
+        } finally {
+            scpClient.getEndpointConfiguration().setStreamFiles(false);
+        }
+
+        verifyMessage(ftpMessage, GetCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+        GetCommandResult.File file = ftpMessage.getPayload(GetCommandResult.class).getFile();
+        byte[] fileContent = Files.readAllBytes(localDownloadFilePath);
+        Assert.assertEquals(fileContent, Files.readAllBytes(remoteFilePath));
+        Assert.assertNull(file.getData());
+        Assert.assertEquals(file.getPath(), localDownloadFilePath.toString());
+        Assert.assertEquals(file.getSize().longValue(), fileContent.length);
+        Assert.assertEquals(file.getDigest(), DigestUtils.sha256Hex(fileContent));
+    }
+
+    private SshServer startScpMockServer() throws IOException {
+        // SCP mock server without authentication
+        SshServer sshd = SshServer.setUpDefaultServer();
+        sshd.setPort(2224);
+
+        sshd.setKeyPairProvider(new SimpleGeneratorHostKeyProvider(Paths.get(targetPath, "scp_hostkey.ser")));
+
+        sshd.setPasswordAuthenticator((username, password, session) -> true);
+        sshd.setPublickeyAuthenticator((username, key, session) -> true);
+        sshd.setCommandFactory(new ScpCommandFactory.Builder().build());
+
+        sshd.start();
+
+        return sshd;
+    }
+
+    private ScpClient createScpClient() {
+        ScpEndpointConfiguration endpointConfiguration = new ScpEndpointConfiguration();
+        endpointConfiguration.setHost("localhost");
+        endpointConfiguration.setPort(2224);
+        endpointConfiguration.setUser("remote-username");
+        endpointConfiguration.setPassword("remote-password");
+        endpointConfiguration.setPrivateKeyPath("classpath:com/consol/citrus/ssh/citrus.pem");
+
+        ScpClient scpClient = new ScpClient(endpointConfiguration);
+        scpClient.initialize();
+        scpClient.connectAndLogin();
+        return scpClient;
+    }
+}
@@ -35,6 +35,7 @@ import com.consol.citrus.ftp.model.GetCommandResult;
 import com.consol.citrus.ftp.model.ListCommandResult;
 import com.consol.citrus.ftp.model.PutCommandResult;
 import com.consol.citrus.util.FileUtils;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.sshd.common.keyprovider.ClassLoadableResourceKeyPairProvider;
 import org.apache.sshd.server.SshServer;
 import org.apache.sshd.server.subsystem.SubsystemFactory;
@@ -109,6 +110,29 @@ public class SftpClientTest extends AbstractFtpClientTest {
         Assert.assertEquals(response.getPayload(GetCommandResult.class).getFile().getData(), inputFileAsString);
     }
 
+    @Test
+    public void testRetrieveFileStreaming() throws Exception {
+        Path localDownloadFilePath = Paths.get(targetPath, "local_download_streamed.xml");
+
+        FtpMessage ftpMessage = sftpClient.storeFile(putCommand(localFilePath, remoteFilePath), context);
+        verifyMessage(ftpMessage, PutCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+
+        sftpClient.getEndpointConfiguration().setStreamFiles(true);
+        try {
+            ftpMessage = sftpClient.retrieveFile(getCommand(remoteFilePath, localDownloadFilePath.toString()), context);
+        } finally {
+            sftpClient.getEndpointConfiguration().setStreamFiles(false);
+        }
+
+        verifyMessage(ftpMessage, GetCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+        GetCommandResult.File file = ftpMessage.getPayload(GetCommandResult.class).getFile();
+        byte[] fileContent = Files.readAllBytes(localDownloadFilePath);
+        Assert.assertNull(file.getData());
+        Assert.assertEquals(file.getPath(), localDownloadFilePath.toString());
+        Assert.assertEquals(file.getSize().longValue(), fileContent.length);
+        Assert.assertEquals(file.getDigest(), DigestUtils.sha256Hex(fileContent));
+    }
+
     @Test
     public void testRetrieveFileToLocalPath() throws Exception {
         Path localDownloadFilePath = Paths.get(targetPath, "local_download.xml");
@@ -44,6 +44,7 @@ public class FtpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(ftpClient.getEndpointConfiguration().getPort(), 22222);
         Assert.assertEquals(ftpClient.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
         Assert.assertTrue(ftpClient.getEndpointConfiguration().isAutoReadFiles());
+        Assert.assertFalse(ftpClient.getEndpointConfiguration().isStreamFiles());
         Assert.assertTrue(ftpClient.getEndpointConfiguration().isLocalPassiveMode());
         Assert.assertEquals(ftpClient.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertEquals(ftpClient.getEndpointConfiguration().getErrorHandlingStrategy(), ErrorHandlingStrategy.PROPAGATE);
@@ -72,5 +73,6 @@ public class FtpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertNotNull(ftpClient.getActor());
         Assert.assertEquals(ftpClient.getActor(), beanDefinitionContext.getBean("testActor", TestActor.class));
         Assert.assertEquals(ftpClient.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertTrue(ftpClient.getEndpointConfiguration().isStreamFiles());
     }
 }
@@ -45,6 +45,7 @@ public class ScpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(scpClient.getEndpointConfiguration().getPort(), 22222);
         Assert.assertEquals(scpClient.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
         Assert.assertTrue(scpClient.getEndpointConfiguration().isAutoReadFiles());
+        Assert.assertFalse(scpClient.getEndpointConfiguration().isStreamFiles());
         Assert.assertNull(scpClient.getEndpointConfiguration().getPrivateKeyPath());
         Assert.assertNull(scpClient.getEndpointConfiguration().getPrivateKeyPassword());
         Assert.assertFalse(scpClient.getEndpointConfiguration().isStrictHostChecking());
@@ -77,5 +78,6 @@ public class ScpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertNotNull(scpClient.getActor());
         Assert.assertEquals(scpClient.getActor(), beanDefinitionContext.getBean("testActor", TestActor.class));
         Assert.assertEquals(scpClient.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertTrue(scpClient.getEndpointConfiguration().isStreamFiles());
     }
 }
@@ -44,6 +44,7 @@ public class SftpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(sftpClient.getEndpointConfiguration().getPort(), 22222);
         Assert.assertEquals(sftpClient.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
         Assert.assertTrue(sftpClient.getEndpointConfiguration().isAutoReadFiles());
+        Assert.assertFalse(sftpClient.getEndpointConfiguration().isStreamFiles());
         Assert.assertTrue(sftpClient.getEndpointConfiguration().isLocalPassiveMode());
         Assert.assertNull(sftpClient.getEndpointConfiguration().getPrivateKeyPath());
         Assert.assertNull(sftpClient.getEndpointConfiguration().getPrivateKeyPassword());
@@ -85,5 +86,6 @@ public class SftpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertNotNull(sftpClient.getActor());
         Assert.assertEquals(sftpClient.getActor(), beanDefinitionContext.getBean("testActor", TestActor.class));
         Assert.assertEquals(sftpClient.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertTrue(sftpClient.getEndpointConfiguration().isStreamFiles());
     }
 }
@@ -126,4 +126,10 @@ public @interface JdbcServerConfig {
      * @return Whether autoTransactionHandling is enabled
      */
     boolean autoTransactionHandling() default true;
+
+    /**
+     * Object mode
+     * @return Whether operation model objects are passed without marshalling
+     */
+    boolean objectMode() default false;
 }
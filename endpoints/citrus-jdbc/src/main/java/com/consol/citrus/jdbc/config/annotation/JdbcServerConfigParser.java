@@ -56,6 +56,7 @@ public class JdbcServerConfigParser implements AnnotationConfigParser<JdbcServer
         builder.autoConnect(annotation.autoConnect());
         builder.autoCreateStatement(annotation.autoCreateStatement());
         builder.autoTransactionHandling(annotation.autoTransactionHandling());
+        builder.objectMode(annotation.objectMode());
 
         builder.autoHandleQueries(annotation.autoHandleQueries());
 
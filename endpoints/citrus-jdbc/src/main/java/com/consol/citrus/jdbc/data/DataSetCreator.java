@@ -41,7 +41,9 @@ public class DataSetCreator {
      */
     public DataSet createDataSet(final Message response, final MessageType messageType) {
         try {
-            if (response.getPayload() instanceof DataSet) {
+            if (response instanceof JdbcMessage) {
+                return createDataSet(response.getPayload(OperationResult.class), messageType);
+            } else if (response.getPayload() instanceof DataSet) {
                 return response.getPayload(DataSet.class);
             } else if (isReadyToMarshal(response, messageType)) {
                 return marshalResponse(response, messageType);
@@ -53,6 +55,22 @@ public class DataSetCreator {
         }
     }
 
+    /**
+     * Creates data set from given operation result model object. Avoids marshalling the operation result
+     * as message payload.
+     * @param operationResult The operation result holding the data set
+     * @param messageType The requested MessageType
+     * @return A DataSet representing the operation result
+     * @throws SQLException In case the data set could not be produced
+     */
+    private DataSet createDataSet(final OperationResult operationResult, final MessageType messageType) throws SQLException {
+        if (operationResult == null || !isKnownMessageType(messageType)) {
+            return new DataSet();
+        }
+
+        return produceDataSet(operationResult.getDataSet(), messageType);
+    }
+
     /**
      * Marshals the given message to the requested MessageType
      * @param response The response to marshal
@@ -78,6 +96,17 @@ public class DataSetCreator {
             }
         }
 
+        return produceDataSet(dataSet, messageType);
+    }
+
+    /**
+     * Produces data set from given JSON or XML data set representation.
+     * @param dataSet The data set representation
+     * @param messageType The requested MessageType
+     * @return A DataSet representing the data
+     * @throws SQLException In case the data set could not be produced
+     */
+    private DataSet produceDataSet(final String dataSet, final MessageType messageType) throws SQLException {
         if (isJsonResponse(messageType)) {
             return new JsonDataSetProducer(Optional.ofNullable(dataSet).orElse("[]")).produce();
         } else if (isXmlResponse(messageType)) {
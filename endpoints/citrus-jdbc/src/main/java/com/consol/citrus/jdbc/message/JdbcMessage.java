@@ -42,7 +42,7 @@ public class JdbcMessage extends DefaultMessage {
     private OperationResult operationResult;
     private Operation operation;
 
-    private JdbcMarshaller marshaller = new JdbcMarshaller();
+    private JdbcMarshaller marshaller;
 
     private static JdbcOperationGenerator operationGenerator = new JdbcOperationGenerator();
 
@@ -205,10 +205,10 @@ public class JdbcMessage extends DefaultMessage {
     public Object getPayload() {
         StringResult payloadResult = new StringResult();
         if (operation != null) {
-            marshaller.marshal(operation, payloadResult);
+            getMarshaller().marshal(operation, payloadResult);
             return payloadResult.toString();
         } else if (operationResult != null) {
-            marshaller.marshal(operationResult, payloadResult);
+            getMarshaller().marshal(operationResult, payloadResult);
             return payloadResult.toString();
         }
 
@@ -221,7 +221,7 @@ public class JdbcMessage extends DefaultMessage {
      */
     private OperationResult getOperationResult() {
         if (operationResult == null) {
-            this.operationResult = (OperationResult) marshaller.unmarshal(new StringSource(getPayload(String.class)));
+            this.operationResult = (OperationResult) getMarshaller().unmarshal(new StringSource(getPayload(String.class)));
         }
 
         return operationResult;
@@ -233,9 +233,21 @@ public class JdbcMessage extends DefaultMessage {
      */
     private Operation getOperation() {
         if (operation == null) {
-            this.operation = (Operation) marshaller.unmarshal(new StringSource(getPayload(String.class)));
+            this.operation = (Operation) getMarshaller().unmarshal(new StringSource(getPayload(String.class)));
         }
 
         return operation;
     }
+
+    /**
+     * Gets the marshaller. Marshaller is created lazily as messages passing model objects may never need marshalling.
+     * @return
+     */
+    private JdbcMarshaller getMarshaller() {
+        if (marshaller == null) {
+            marshaller = new JdbcMarshaller();
+        }
+
+        return marshaller;
+    }
 }
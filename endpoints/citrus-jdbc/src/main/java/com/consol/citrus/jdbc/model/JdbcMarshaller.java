@@ -25,6 +25,7 @@ import java.util.Arrays;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.MessageType;
+import com.consol.citrus.xml.PooledJaxb2Marshaller;
 import com.consol.citrus.xml.StringResult;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonParseException;
@@ -51,7 +52,7 @@ public class JdbcMarshaller extends ObjectMapper implements Marshaller, Unmarsha
     private static final String JDBC_MARSHALLER_TYPE_PROPERTY = "citrus.jdbc.marshaller.type";
 
     /** XML marshalling delegate */
-    private Jaxb2Marshaller jaxbDelegate = new Jaxb2Marshaller();
+    private Jaxb2Marshaller jaxbDelegate = new PooledJaxb2Marshaller();
 
     /** Message type format: XML or JSON */
     private String type;
@@ -38,6 +38,7 @@ import com.consol.citrus.jdbc.model.Execute;
 import com.consol.citrus.jdbc.model.OpenConnection;
 import com.consol.citrus.jdbc.model.Operation;
 import com.consol.citrus.jdbc.model.OperationResult;
+import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.xml.StringResult;
@@ -106,6 +107,11 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
 
     @Override
     public Message handleMessage(Message request) {
+        if (endpointConfiguration.isObjectMode() &&
+                (request instanceof JdbcMessage || request.getPayload() instanceof Operation)) {
+            return handleOperation(request);
+        }
+
         if (request.getPayload() instanceof Operation) {
             StringResult result = new StringResult();
             endpointConfiguration.getMarshaller().marshal(request.getPayload(Operation.class), result);
@@ -118,24 +124,76 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
                     request.getPayload(String.class)));
         }
 
-        if (request.getPayload(Operation.class) != null) {
-            String sqlQuery = Optional.ofNullable(request.getPayload(Operation.class).getExecute())
-                                        .map(Execute::getStatement)
-                                        .map(Execute.Statement::getSql)
-                                        .orElse("");
-
-            if (autoHandleQueryPattern.matcher(sqlQuery).find()) {
-                log.debug(String.format("Auto handle query '%s' with positive response", sqlQuery));
-                JdbcMessage defaultResponse = JdbcMessage.success().rowsUpdated(0);
-                defaultResponse.setType(MessageType.XML);
-                return defaultResponse;
-            }
+        if (request.getPayload(Operation.class) != null && isAutoHandled(request.getPayload(Operation.class))) {
+            return autoHandleResponse();
         }
 
         return Optional.ofNullable(delegate.handleMessage(request))
                        .orElse(JdbcMessage.success());
     }
 
+    /**
+     * Handle request in object mode. Passes the operation model object as message payload to the endpoint adapter
+     * without marshalling the operation.
+     * @param request The request holding the operation
+     * @return The response Message
+     */
+    private Message handleOperation(Message request) {
+        Operation operation = request.getPayload(Operation.class);
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Received request object on server: '%s'",
+                    endpointConfiguration.getServerConfiguration().getDatabaseName()));
+        }
+
+        if (isAutoHandled(operation)) {
+            return autoHandleResponse();
+        }
+
+        Message objectRequest = new DefaultMessage(operation, request.getHeaders());
+        objectRequest.setName(request.getName());
+        objectRequest.setType(request.getType());
+
+        return Optional.ofNullable(delegate.handleMessage(objectRequest))
+                       .orElse(JdbcMessage.success());
+    }
+
+    /**
+     * Checks if given operation executes a statement that should be auto handled.
+     * @param operation The operation to check
+     * @return Whether the operation is auto handled
+     */
+    private boolean isAutoHandled(Operation operation) {
+        return isAutoHandled(Optional.ofNullable(operation.getExecute())
+                                    .map(Execute::getStatement)
+                                    .map(Execute.Statement::getSql)
+                                    .orElse(""));
+    }
+
+    /**
+     * Checks if given sql query should be auto handled.
+     * @param sqlQuery The sql query to check
+     * @return Whether the query is auto handled
+     */
+    private boolean isAutoHandled(String sqlQuery) {
+        if (autoHandleQueryPattern.matcher(sqlQuery).find()) {
+            log.debug(String.format("Auto handle query '%s' with positive response", sqlQuery));
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Creates positive response for auto handled queries.
+     * @return The response Message
+     */
+    private Message autoHandleResponse() {
+        JdbcMessage defaultResponse = JdbcMessage.success().rowsUpdated(0);
+        defaultResponse.setType(MessageType.XML);
+        return defaultResponse;
+    }
+
     /**
      * Opens the connection with the given properties
      * @param properties The properties to open the connection with
@@ -203,6 +261,10 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
     @Override
     public DataSet executeQuery(String query) throws JdbcServerException {
         log.info("Received execute query request: " + query);
+        if (isAutoHandled(query)) {
+            return new DataSet();
+        }
+
         Message response = handleMessageAndCheckResponse(JdbcMessage.execute(query));
         return dataSetCreator.createDataSet(response, getMessageType(response));
     }
@@ -215,6 +277,10 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
     @Override
     public DataSet executeStatement(String stmt) throws JdbcServerException {
         log.info("Received execute statement request: " + stmt);
+        if (isAutoHandled(stmt)) {
+            return new DataSet();
+        }
+
         Message response = handleMessageAndCheckResponse(JdbcMessage.execute(stmt));
         return dataSetCreator.createDataSet(response, getMessageType(response));
     }
@@ -227,6 +293,10 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
     @Override
     public int executeUpdate(String updateSql) throws JdbcServerException {
         log.info("Received execute update request: " + updateSql);
+        if (isAutoHandled(updateSql)) {
+            return 0;
+        }
+
         Message response = handleMessageAndCheckResponse(JdbcMessage.execute(updateSql));
         return Optional.ofNullable(
                 response.getHeader(JdbcMessageHeaders.JDBC_ROWS_UPDATED))
@@ -371,7 +441,7 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
         OperationResult operationResult = null;
         if (response instanceof JdbcMessage || response.getPayload() instanceof OperationResult) {
             operationResult = response.getPayload(OperationResult.class);
-        } else if (response.getPayload() != null && StringUtils.hasText(response.getPayload(String.class))) {
+        } else if (response.getPayload() != null && !(response.getPayload() instanceof DataSet) && StringUtils.hasText(response.getPayload(String.class))) {
             operationResult = (OperationResult) endpointConfiguration.getMarshaller().unmarshal(new StringSource(response.getPayload(String.class)));
         }
 
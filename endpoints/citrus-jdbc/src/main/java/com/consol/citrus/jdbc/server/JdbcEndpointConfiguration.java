@@ -47,6 +47,9 @@ public class JdbcEndpointConfiguration extends AbstractPollableEndpointConfigura
             "SELECT.*FROM SYSIBM.SYSDUMMY1" // DB2
     };
 
+    /** Pass operation model objects to the endpoint adapter without marshalling them to message payload strings */
+    private boolean objectMode = false;
+
     /** Marshaller converts from XML to Jdbc model objects */
     private JdbcMarshaller marshaller = new JdbcMarshaller();
 
@@ -168,4 +171,22 @@ public class JdbcEndpointConfiguration extends AbstractPollableEndpointConfigura
     public void setAutoTransactionHandling(boolean autoTransactionHandling) {
         this.autoTransactionHandling = autoTransactionHandling;
     }
+
+    /**
+     * Gets the objectMode.
+     *
+     * @return Whether to pass operation model objects without marshalling
+     */
+    public boolean isObjectMode() {
+        return objectMode;
+    }
+
+    /**
+     * Sets the objectMode.
+     *
+     * @param objectMode Determines whether to pass operation model objects without marshalling
+     */
+    public void setObjectMode(boolean objectMode) {
+        this.objectMode = objectMode;
+    }
 }
@@ -134,6 +134,16 @@ public class JdbcServerBuilder extends AbstractServerBuilder<JdbcServer, JdbcSer
         return this;
     }
 
+    /**
+     * Sets the objectMode property.
+     * @param objectMode Determines whether to pass operation model objects without marshalling
+     * @return The builder
+     */
+    public JdbcServerBuilder objectMode(final boolean objectMode) {
+        endpoint.getEndpointConfiguration().setObjectMode(objectMode);
+        return this;
+    }
+
     /**
      * Sets the serverConfiguration property.
      * @param serverConfiguration to set
@@ -156,6 +156,25 @@ public class DataSetCreatorTest {
         assertEquals(dataSet.getNextRow().getValues().toString(), "{foo=bar}");
     }
 
+    @Test
+    public void testCreateDataSetFromJdbcMessage() throws SQLException {
+        //GIVEN
+        JdbcMessage message = JdbcMessage.success().dataSet("<dataset><row><foo>bar</foo></row></dataset>");
+
+        //WHEN
+        DataSet dataSet = dataSetCreator.createDataSet(message, MessageType.XML);
+
+        //THEN
+        assertEquals(dataSet.getColumns().toString(), "[foo]");
+        assertEquals(dataSet.getNextRow().getValues().toString(), "{foo=bar}");
+
+        //WHEN
+        dataSet = dataSetCreator.createDataSet(JdbcMessage.success(), MessageType.JSON);
+
+        //THEN
+        assertEquals(dataSet, new DataSet());
+    }
+
     @Test
     public void testCreateDataSetFromNotImplementedType() {
         //GIVEN
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.jdbc.server;
 
+import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Random;
 
@@ -30,6 +31,7 @@ import com.consol.citrus.jdbc.model.Execute;
 import com.consol.citrus.jdbc.model.JdbcMarshaller;
 import com.consol.citrus.jdbc.model.Operation;
 import com.consol.citrus.jdbc.model.OperationResult;
+import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.xml.StringResult;
@@ -39,6 +41,7 @@ import org.testng.annotations.Test;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -65,6 +68,7 @@ public class JdbcEndpointAdapterControllerTest {
 
         when(jdbcEndpointConfiguration.getServerConfiguration()).thenReturn(serverConfiguration);
         when(jdbcEndpointConfiguration.getAutoHandleQueries()).thenReturn(new JdbcEndpointConfiguration().getAutoHandleQueries());
+        when(jdbcEndpointConfiguration.isObjectMode()).thenReturn(false);
 
         jdbcEndpointAdapterController = new JdbcEndpointAdapterController(jdbcEndpointConfiguration, endpointAdapter);
     }
@@ -121,6 +125,76 @@ public class JdbcEndpointAdapterControllerTest {
         verify(request).setPayload(anyString());
     }
 
+    @Test
+    public void testHandleMessageObjectMode(){
+        reset(endpointAdapter);
+
+        //GIVEN
+        when(jdbcEndpointConfiguration.isObjectMode()).thenReturn(true);
+        final JdbcMarshaller jdbcMarshallerMock = mock(JdbcMarshaller.class);
+        when(jdbcEndpointConfiguration.getMarshaller()).thenReturn(jdbcMarshallerMock);
+
+        final Message expectedResponse = JdbcMessage.success();
+        when(endpointAdapter.handleMessage(any())).thenReturn(expectedResponse);
+
+        //WHEN
+        final Message response = jdbcEndpointAdapterController.handleMessage(JdbcMessage.execute("SELECT * FROM FOO"));
+
+        //THEN
+        assertEquals(response, expectedResponse);
+        verify(endpointAdapter).handleMessage(argThat(request -> request.getPayload() instanceof Operation &&
+                request.getPayload(Operation.class).getExecute().getStatement().getSql().equals("SELECT * FROM FOO")));
+        verify(jdbcMarshallerMock, never()).marshal(any(), any());
+    }
+
+    @Test
+    public void testExecuteQueryObjectMode() throws SQLException {
+
+        //GIVEN
+        when(jdbcEndpointConfiguration.isObjectMode()).thenReturn(true);
+
+        final Message dataSetResponse = JdbcMessage.success().dataSet("[{ \"foo\": \"bar\" }]");
+        dataSetResponse.setType(MessageType.JSON.name());
+        when(endpointAdapter.handleMessage(any())).thenReturn(dataSetResponse);
+
+        //WHEN
+        final DataSet dataSet = jdbcEndpointAdapterController.executeQuery("SELECT * FROM FOO");
+
+        //THEN
+        assertEquals(dataSet.getColumns().toString(), "[foo]");
+        assertEquals(dataSet.getNextRow().getValues().toString(), "{foo=bar}");
+    }
+
+    @Test
+    public void testExecuteQueryDataSetPayload(){
+
+        //GIVEN
+        when(jdbcEndpointConfiguration.isObjectMode()).thenReturn(true);
+
+        final DataSet expectedDataSet = new DataSet();
+        when(endpointAdapter.handleMessage(any())).thenReturn(new DefaultMessage(expectedDataSet));
+
+        //WHEN
+        final DataSet dataSet = jdbcEndpointAdapterController.executeQuery("SELECT * FROM FOO");
+
+        //THEN
+        assertEquals(dataSet, expectedDataSet);
+    }
+
+    @Test
+    public void testExecuteQueryAutoHandled(){
+        reset(endpointAdapter);
+
+        //WHEN
+        final DataSet dataSet = jdbcEndpointAdapterController.executeQuery("SELECT 1");
+        final int rowsUpdated = jdbcEndpointAdapterController.executeUpdate("SELECT 1");
+
+        //THEN
+        assertEquals(dataSet, new DataSet());
+        assertEquals(rowsUpdated, 0);
+        verify(endpointAdapter, never()).handleMessage(any());
+    }
+
     @Test
     public void testOpenConnection(){
 
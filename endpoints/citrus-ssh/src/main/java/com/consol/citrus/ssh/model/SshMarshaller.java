@@ -16,16 +16,16 @@
 
 package com.consol.citrus.ssh.model;
 
+import com.consol.citrus.xml.PooledJaxb2Marshaller;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 
 /**
  * @author Christoph Deppisch
  * @since 2.1
  */
-public class SshMarshaller extends Jaxb2Marshaller {
+public class SshMarshaller extends PooledJaxb2Marshaller {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(SshMarshaller.class);
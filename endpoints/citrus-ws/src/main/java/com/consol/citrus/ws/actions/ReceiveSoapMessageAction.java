@@ -230,6 +230,19 @@ public class ReceiveSoapMessageAction extends ReceiveMessageAction implements Te
             return this;
         }
 
+        /**
+         * Sets the expected content digest for this receive action builder's control attachment. The received attachment
+         * content is validated by its {@link SoapAttachment#DIGEST_ALGORITHM} digest instead of the content body.
+         * @param digest
+         * @return
+         */
+        public SoapMessageBuilderSupport digest(String digest) {
+            if (!delegate.attachments.isEmpty()) {
+                delegate.attachments.get(delegate.attachments.size() - 1).setDigest(digest);
+            }
+            return this;
+        }
+
         /**
          * Sets the control attachment from Java object instance.
          * @param attachment
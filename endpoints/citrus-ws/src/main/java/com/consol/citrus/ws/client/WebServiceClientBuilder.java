@@ -72,6 +72,26 @@ public class WebServiceClientBuilder extends AbstractEndpointBuilder<WebServiceC
         return this;
     }
 
+    /**
+     * Sets the keepPayloadSource property.
+     * @param flag
+     * @return
+     */
+    public WebServiceClientBuilder keepPayloadSource(boolean flag) {
+        endpoint.getEndpointConfiguration().setKeepPayloadSource(flag);
+        return this;
+    }
+
+    /**
+     * Sets the streamAttachments property.
+     * @param flag
+     * @return
+     */
+    public WebServiceClientBuilder streamAttachments(boolean flag) {
+        endpoint.getEndpointConfiguration().setStreamAttachments(flag);
+        return this;
+    }
+
     /**
      * Sets the web service template.
      * @param webServiceTemplate
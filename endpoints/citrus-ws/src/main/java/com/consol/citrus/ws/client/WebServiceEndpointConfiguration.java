@@ -78,6 +78,12 @@ public class WebServiceEndpointConfiguration extends AbstractPollableEndpointCon
     /** Should keep soap envelope when creating internal message */
     private boolean keepSoapEnvelope = false;
 
+    /** Should keep the parsed SOAP body as DOM source on the internal message */
+    private boolean keepPayloadSource = false;
+
+    /** Should stream inbound attachment content to temporary files */
+    private boolean streamAttachments = false;
+
     /**
      * Default constructor initializes with default logging interceptor.
      */
@@ -300,6 +306,39 @@ public class WebServiceEndpointConfiguration extends AbstractPollableEndpointCon
         this.keepSoapEnvelope = keepSoapEnvelope;
     }
 
+    /**
+     * Gets the keep payload source flag.
+     * @return
+     */
+    public boolean isKeepPayloadSource() {
+        return keepPayloadSource;
+    }
+
+    /**
+     * Sets the keep payload source flag. The SOAP body is still serialized to the String payload of the message and
+     * parsed once into the kept DOM source, which XML validation then reuses instead of parsing the payload again.
+     * @param keepPayloadSource
+     */
+    public void setKeepPayloadSource(boolean keepPayloadSource) {
+        this.keepPayloadSource = keepPayloadSource;
+    }
+
+    /**
+     * Gets the stream attachments flag.
+     * @return
+     */
+    public boolean isStreamAttachments() {
+        return streamAttachments;
+    }
+
+    /**
+     * Sets the stream attachments flag.
+     * @param streamAttachments
+     */
+    public void setStreamAttachments(boolean streamAttachments) {
+        this.streamAttachments = streamAttachments;
+    }
+
     /**
      * Gets the handleAttributeHeaders.
      *
@@ -110,4 +110,16 @@ public @interface WebServiceClientConfig {
      * @return
      */
     String actor() default "";
+
+    /**
+     * Keep parsed SOAP body as payload source.
+     * @return
+     */
+    boolean keepPayloadSource() default false;
+
+    /**
+     * Stream inbound attachment content to temporary files.
+     * @return
+     */
+    boolean streamAttachments() default false;
 }
@@ -94,6 +94,8 @@ public class WebServiceClientConfigParser implements AnnotationConfigParser<WebS
 
         builder.faultStrategy(annotation.faultStrategy());
         builder.pollingInterval(annotation.pollingInterval());
+        builder.streamAttachments(annotation.streamAttachments());
+        builder.keepPayloadSource(annotation.keepPayloadSource());
 
         builder.timeout(annotation.timeout());
 
@@ -174,4 +174,16 @@ public @interface WebServiceServerConfig {
      * @return
      */
     boolean keepSoapEnvelope() default false;
+
+    /**
+     * Keep parsed SOAP body as payload source.
+     * @return
+     */
+    boolean keepPayloadSource() default false;
+
+    /**
+     * Stream inbound attachment content to temporary files.
+     * @return
+     */
+    boolean streamAttachments() default false;
 }
@@ -42,6 +42,8 @@ public class WebServiceServerConfigParser implements AnnotationConfigParser<WebS
         builder.handleMimeHeaders(annotation.handleMimeHeaders());
         builder.handleAttributeHeaders(annotation.handleAttributeHeaders());
         builder.keepSoapEnvelope(annotation.keepSoapEnvelope());
+        builder.keepPayloadSource(annotation.keepPayloadSource());
+        builder.streamAttachments(annotation.streamAttachments());
 
         if (StringUtils.hasText(annotation.soapHeaderNamespace())) {
             builder.soapHeaderNamespace(annotation.soapHeaderNamespace());
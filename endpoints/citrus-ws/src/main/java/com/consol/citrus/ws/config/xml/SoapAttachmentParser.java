@@ -56,6 +56,10 @@ public final class SoapAttachmentParser {
             soapAttachment.setMtomInline(Boolean.parseBoolean(attachmentElement.getAttribute("mtom-inline")));
         }
 
+        if (attachmentElement.hasAttribute("digest")) {
+            soapAttachment.setDigest(attachmentElement.getAttribute("digest"));
+        }
+
         if (attachmentElement.hasAttribute("encoding-type")) {
             soapAttachment.setEncodingType(attachmentElement.getAttribute("encoding-type"));
         }
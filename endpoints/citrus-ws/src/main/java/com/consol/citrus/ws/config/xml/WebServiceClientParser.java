@@ -74,6 +74,8 @@ public class WebServiceClientParser extends AbstractEndpointParser {
         }
 
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("polling-interval"), "pollingInterval");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("stream-attachments"), "streamAttachments");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("keep-payload-source"), "keepPayloadSource");
     }
 
     @Override
@@ -19,11 +19,27 @@ package com.consol.citrus.ws.message;
 import javax.activation.DataHandler;
 import javax.activation.DataSource;
 import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Serializable;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.context.TestContext;
@@ -31,6 +47,8 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.FileUtils;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.Hex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.util.FileCopyUtils;
@@ -50,6 +68,15 @@ public class SoapAttachment implements Attachment, Serializable {
     public static final String ENCODING_BASE64_BINARY = "base64Binary";
     public static final String ENCODING_HEX_BINARY = "hexBinary";
 
+    /** Digest algorithm used for attachment content checksums */
+    public static final String DIGEST_ALGORITHM = "SHA-256";
+
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(SoapAttachment.class);
+
+    /** Buffer size used when reading attachment content streams */
+    private static final int BUFFER_SIZE = 8192;
+
     /** Content body as string */
     private String content = null;
 
@@ -77,6 +104,21 @@ public class SoapAttachment implements Attachment, Serializable {
     /** Test context for variable resolving */
     private TestContext context;
 
+    /** Content is streamed from a temporary file instead of being held in memory */
+    private boolean streamed = false;
+
+    /** Content size in bytes - computed lazily or while streaming the content */
+    private Long size;
+
+    /** Hex encoded content digest - computed lazily or while streaming the content */
+    private String digest;
+
+    /** Temporary file holding the streamed content */
+    private transient File contentFile;
+
+    /** Deletes the temporary content file once released or no longer reachable */
+    private transient Cleaner.Cleanable contentFileCleanup;
+
     /**
      * Default constructor
      */
@@ -89,14 +131,7 @@ public class SoapAttachment implements Attachment, Serializable {
      * @return
      */
     public static SoapAttachment from(Attachment attachment) {
-        SoapAttachment soapAttachment = new SoapAttachment();
-
-        String contentId = attachment.getContentId();
-        if (contentId.startsWith("<") && contentId.endsWith(">")) {
-            contentId = contentId.substring(1, contentId.length() - 1);
-        }
-        soapAttachment.setContentId(contentId);
-        soapAttachment.setContentType(attachment.getContentType());
+        SoapAttachment soapAttachment = createFrom(attachment);
 
         if (attachment.getContentType().startsWith("text")) {
             try {
@@ -114,6 +149,88 @@ public class SoapAttachment implements Attachment, Serializable {
         return soapAttachment;
     }
 
+    /**
+     * Static construction method from Spring mime attachment. When streaming is enabled the attachment content is copied to
+     * a temporary file instead of being loaded into memory. Content size and digest get computed while copying the content.
+     * @param attachment
+     * @param streaming
+     * @return
+     */
+    public static SoapAttachment from(Attachment attachment, boolean streaming) {
+        if (!streaming) {
+            return from(attachment);
+        }
+
+        SoapAttachment soapAttachment = createFrom(attachment);
+        soapAttachment.setCharsetName(CitrusSettings.CITRUS_FILE_ENCODING);
+
+        File contentFile = null;
+        try (InputStream inputStream = attachment.getInputStream()) {
+            contentFile = File.createTempFile("citrus-soap-attachment", ".tmp");
+
+            MessageDigest messageDigest = getMessageDigest();
+            try (DigestInputStream digestInputStream = new DigestInputStream(inputStream, messageDigest)) {
+                soapAttachment.size = Files.copy(digestInputStream, contentFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            soapAttachment.digest = Hex.encodeHexString(messageDigest.digest());
+            soapAttachment.streamed = true;
+            soapAttachment.contentFile = contentFile;
+            soapAttachment.contentFileCleanup = ContentFileCleanup.register(soapAttachment, contentFile.toPath());
+            soapAttachment.setDataHandler(new DataHandler(soapAttachment.new TempFileDataSource(contentFile)));
+        } catch (IOException e) {
+            if (contentFile != null && !contentFile.delete()) {
+                log.warn(String.format("Failed to delete streamed SOAP attachment content file '%s'", contentFile));
+            }
+
+            throw new CitrusRuntimeException("Failed to stream SOAP attachment content", e);
+        }
+
+        return soapAttachment;
+    }
+
+    /**
+     * Deletes the temporary file holding the streamed content. Content size and digest stay available but the content
+     * itself can not be read anymore once the attachment has been released. Attachments that are not released explicitly
+     * delete the temporary file as soon as they are no longer reachable, e.g. when the message store holding the received
+     * message is discarded at the end of the test.
+     */
+    public void release() {
+        if (contentFileCleanup == null) {
+            return;
+        }
+
+        contentFileCleanup.clean();
+        contentFileCleanup = null;
+        contentFile = null;
+    }
+
+    /**
+     * Gets the temporary file holding the streamed content or null if content is not streamed or has been released.
+     * @return
+     */
+    public File getContentFile() {
+        return contentFile;
+    }
+
+    /**
+     * Creates new attachment with content id and content type of given Spring mime attachment.
+     * @param attachment
+     * @return
+     */
+    private static SoapAttachment createFrom(Attachment attachment) {
+        SoapAttachment soapAttachment = new SoapAttachment();
+
+        String contentId = attachment.getContentId();
+        if (contentId.startsWith("<") && contentId.endsWith(">")) {
+            contentId = contentId.substring(1, contentId.length() - 1);
+        }
+        soapAttachment.setContentId(contentId);
+        soapAttachment.setContentType(attachment.getContentType());
+
+        return soapAttachment;
+    }
+
     /**
      * Constructor using fields.
      * @param content
@@ -168,19 +285,77 @@ public class SoapAttachment implements Attachment, Serializable {
 
     @Override
     public long getSize() {
+        if (size != null) {
+            return size;
+        }
+
         try {
             if (content != null) {
-                return getContent().getBytes(charsetName).length;
+                return getEncodedSize(getContent(), Charset.forName(charsetName));
             } else {
-                return getSizeOfContent(getDataHandler().getInputStream());
+                try (InputStream inputStream = getDataHandler().getInputStream()) {
+                    return getSizeOfContent(inputStream);
+                }
             }
         } catch (IOException e) {
             throw new CitrusRuntimeException(e);
         }
     }
 
+    /**
+     * Gets the hex encoded content digest using the {@link #DIGEST_ALGORITHM}. For streamed attachments the digest has already been
+     * computed while receiving the content. Otherwise the digest is computed by reading the attachment content input stream.
+     * @return
+     */
+    public String getDigest() {
+        if (digest != null) {
+            return digest;
+        }
+
+        MessageDigest messageDigest = getMessageDigest();
+        try (InputStream inputStream = getInputStream()) {
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to compute SOAP attachment content digest", e);
+        }
+
+        return Hex.encodeHexString(messageDigest.digest());
+    }
+
+    /**
+     * Sets the expected hex encoded content digest. Validators compare this digest instead of the content body.
+     * @param digest
+     */
+    public void setDigest(String digest) {
+        this.digest = digest;
+    }
+
+    /**
+     * Checks if this attachment provides a content digest without reading the content.
+     * @return
+     */
+    public boolean hasDigest() {
+        return digest != null;
+    }
+
+    /**
+     * Gets the streamed flag. Streamed attachments hold their content in a temporary file rather than in memory.
+     * @return
+     */
+    public boolean isStreamed() {
+        return streamed;
+    }
+
     @Override
     public String toString() {
+        if (streamed) {
+            return String.format("%s [contentId: %s, contentType: %s, size: %s, digest: %s]", getClass().getSimpleName().toUpperCase(), getContentId(), getContentType(), size, digest);
+        }
+
         return String.format("%s [contentId: %s, contentType: %s, content: %s]", getClass().getSimpleName().toUpperCase(), getContentId(), getContentType(), getContent());
     }
 
@@ -198,6 +373,12 @@ public class SoapAttachment implements Attachment, Serializable {
             } catch (IOException e) {
                 throw new CitrusRuntimeException("Failed to read SOAP attachment file resource", e);
             }
+        } else if (streamed && getContentType().startsWith("text")) {
+            try {
+                return FileUtils.readToString(getDataHandler().getInputStream(), Charset.forName(charsetName)).trim();
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to read SOAP attachment data input stream", e);
+            }
         } else {
             try {
                 byte[] binaryData = FileCopyUtils.copyToByteArray(getDataHandler().getInputStream());
@@ -321,12 +502,57 @@ public class SoapAttachment implements Attachment, Serializable {
      */
     private static long getSizeOfContent(InputStream is) throws IOException {
         long size = 0;
-        while (is.read() != -1) {
-            size++;
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = is.read(buffer)) != -1) {
+            size += read;
         }
         return size;
     }
 
+    /**
+     * Get size in bytes of the given text content when encoded with given charset. Encodes the content chunk-wise so
+     * the complete byte representation is never held in memory.
+     * @param text
+     * @param charset
+     * @return
+     */
+    private static long getEncodedSize(String text, Charset charset) {
+        CharsetEncoder encoder = charset.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        CharBuffer in = CharBuffer.wrap(text);
+        ByteBuffer out = ByteBuffer.allocate(BUFFER_SIZE);
+
+        long size = 0;
+        CoderResult result;
+        do {
+            result = encoder.encode(in, out, true);
+            size += out.position();
+            out.clear();
+        } while (result.isOverflow());
+
+        do {
+            result = encoder.flush(out);
+            size += out.position();
+            out.clear();
+        } while (result.isOverflow());
+
+        return size;
+    }
+
+    /**
+     * Creates new message digest instance for computing content checksums.
+     * @return
+     */
+    private static MessageDigest getMessageDigest() {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Unsupported digest algorithm for SOAP attachment content", e);
+        }
+    }
+
     /**
      * Data source working on this attachments text content data.
      */
@@ -352,6 +578,86 @@ public class SoapAttachment implements Attachment, Serializable {
         }
     }
 
+    /**
+     * Cleanup action deleting the temporary file holding the streamed attachment content.
+     */
+    private static final class ContentFileCleanup implements Runnable {
+
+        /** Cleaner tracking reachability of streamed attachments */
+        private static final Cleaner CLEANER = Cleaner.create();
+
+        /** Content files not yet deleted - removed at JVM shutdown */
+        private static final Set<Path> CONTENT_FILES = ConcurrentHashMap.newKeySet();
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> CONTENT_FILES.forEach(ContentFileCleanup::delete),
+                    "citrus-soap-attachment-cleanup"));
+        }
+
+        private final Path contentFile;
+
+        private ContentFileCleanup(Path contentFile) {
+            this.contentFile = contentFile;
+        }
+
+        /**
+         * Registers content file of given attachment for deletion once the attachment is no longer reachable.
+         * @param attachment
+         * @param contentFile
+         * @return
+         */
+        static Cleaner.Cleanable register(SoapAttachment attachment, Path contentFile) {
+            CONTENT_FILES.add(contentFile);
+            return CLEANER.register(attachment, new ContentFileCleanup(contentFile));
+        }
+
+        @Override
+        public void run() {
+            delete(contentFile);
+            CONTENT_FILES.remove(contentFile);
+        }
+
+        private static void delete(Path contentFile) {
+            try {
+                Files.deleteIfExists(contentFile);
+            } catch (IOException e) {
+                log.warn(String.format("Failed to delete streamed SOAP attachment content file '%s'", contentFile), e);
+            }
+        }
+    }
+
+    /**
+     * Data source working on temporary file holding the streamed attachment content.
+     */
+    private class TempFileDataSource implements DataSource {
+
+        private final File contentFile;
+
+        TempFileDataSource(File contentFile) {
+            this.contentFile = contentFile;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FileInputStream(contentFile);
+        }
+
+        @Override
+        public String getContentType() {
+            return SoapAttachment.this.getContentType();
+        }
+
+        @Override
+        public String getName() {
+            return SoapAttachment.this.getContentId();
+        }
+
+        @Override
+        public OutputStream getOutputStream() throws IOException {
+            throw new UnsupportedOperationException();
+        }
+    }
+
     /**
      * Data source working on this attachments file resource.
      */
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.ws.message;
 
+import javax.xml.transform.dom.DOMSource;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -24,6 +25,7 @@ import java.util.Optional;
 
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.xml.DomPayloadSource;
 
 /**
  * SOAP message representation holding additional elements like SOAP action, header fragment data and
@@ -32,7 +34,7 @@ import com.consol.citrus.message.Message;
  * @author Christoph Deppisch
  * @since 2.0
  */
-public class SoapMessage extends DefaultMessage {
+public class SoapMessage extends DefaultMessage implements DomPayloadSource {
 
     /** Serial */
     private static final long serialVersionUID = 3289201140229458069L;
@@ -43,6 +45,9 @@ public class SoapMessage extends DefaultMessage {
     /** enable/disable mtom attachments */
     private boolean mtomEnabled = false;
 
+    /** Optional DOM representation of the SOAP body payload kept in sync with the String payload */
+    private transient DOMSource payloadSource;
+
     /**
      * Empty constructor initializing with empty message payload.
      */
@@ -115,6 +120,26 @@ public class SoapMessage extends DefaultMessage {
         return this;
     }
 
+    @Override
+    public SoapMessage setPayload(Object payload) {
+        this.payloadSource = null;
+        return (SoapMessage) super.setPayload(payload);
+    }
+
+    /**
+     * Sets the DOM source representing the current message payload. Clients must make sure that
+     * the source reflects the String payload of this message as validators may use the source instead of parsing the payload.
+     * @param payloadSource
+     */
+    public void setPayloadSource(DOMSource payloadSource) {
+        this.payloadSource = payloadSource;
+    }
+
+    @Override
+    public DOMSource getPayloadSource() {
+        return payloadSource;
+    }
+
     /**
      * Adds new attachment to this message.
      * @param attachment
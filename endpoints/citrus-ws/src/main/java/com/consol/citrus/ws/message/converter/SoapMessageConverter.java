@@ -41,6 +41,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageHeaderUtils;
 import com.consol.citrus.message.MessageHeaders;
+import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.ws.client.WebServiceEndpointConfiguration;
 import com.consol.citrus.ws.message.SoapAttachment;
 import com.consol.citrus.ws.message.SoapMessage;
@@ -63,6 +64,8 @@ import org.springframework.ws.transport.context.TransportContext;
 import org.springframework.ws.transport.context.TransportContextHolder;
 import org.springframework.ws.transport.http.HttpServletConnection;
 import org.springframework.xml.namespace.QNameUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 
@@ -81,6 +84,10 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
     /** Default payload source encoding */
     private String charset = CitrusSettings.CITRUS_FILE_ENCODING;
 
+    /** Transformers are not thread safe so each thread reuses its own identity transformer instances */
+    private static final ThreadLocal<Transformer> TRANSFORMER = ThreadLocal.withInitial(() -> createTransformer(false));
+    private static final ThreadLocal<Transformer> FRAGMENT_TRANSFORMER = ThreadLocal.withInitial(() -> createTransformer(true));
+
     @Override
     public WebServiceMessage convertOutbound(final Message internalMessage,
                                              final WebServiceEndpointConfiguration endpointConfiguration,
@@ -99,10 +106,9 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
 
         final SoapMessage soapMessage = convertMessageToSoapMessage(message);
 
-        final TransformerFactory transformerFactory = TransformerFactory.newInstance();
-        copySoapPayload(soapRequest, soapMessage, transformerFactory);
+        copySoapPayload(soapRequest, soapMessage);
         copySoapHeaders(endpointConfiguration, soapRequest, soapMessage);
-        copySoapHeaderData(soapRequest, soapMessage, transformerFactory);
+        copySoapHeaderData(soapRequest, soapMessage);
 
         if (soapMessage.isMtomEnabled() && soapMessage.getAttachments().size() > 0) {
             log.debug("Converting SOAP request to XOP package");
@@ -125,22 +131,27 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
                                       final WebServiceEndpointConfiguration endpointConfiguration) {
         try {
             String payload = "";
+            DOMSource payloadSource = null;
 
             if (endpointConfiguration.isKeepSoapEnvelope()) {
                 final ByteArrayOutputStream bos = new ByteArrayOutputStream();
                 webServiceMessage.writeTo(bos);
                 payload = bos.toString(charset);
             } else if (webServiceMessage.getPayloadSource() != null) {
+                final Transformer transformer = TRANSFORMER.get();
                 final StringResult payloadResult = new StringResult();
 
-                final TransformerFactory transformerFactory = TransformerFactory.newInstance();
-                final Transformer transformer = transformerFactory.newTransformer();
                 transformer.transform(webServiceMessage.getPayloadSource(), payloadResult);
-
                 payload = payloadResult.toString();
+
+                if (endpointConfiguration.isKeepPayloadSource() && StringUtils.hasText(payload)) {
+                    // parse with configured parser settings so validation gets the same document as from the String payload
+                    payloadSource = new DOMSource(XMLUtils.parseMessagePayload(payload));
+                }
             }
 
             final SoapMessage message = new SoapMessage(payload);
+            message.setPayloadSource(payloadSource);
 
             handleInboundMessageProperties(messageContext, message);
 
@@ -170,7 +181,7 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
                                             final WebServiceEndpointConfiguration endpointConfiguration) {
         handleInboundNamespaces(soapMessage, message);
         handleInboundSoapHeaders(soapMessage, message);
-        handleInboundAttachments(soapMessage, message);
+        handleInboundAttachments(soapMessage, message, endpointConfiguration.isStreamAttachments());
 
         if (endpointConfiguration.isHandleMimeHeaders()) {
             handleInboundMimeHeaders(soapMessage, message);
@@ -202,7 +213,15 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
 
                                 final String namespace = attribute.getNodeName() + "=\"" + attribute.getNodeValue() + "\"";
                                 if (!messagePayload.contains(namespace)) {
+                                    final DOMSource payloadSource = message.getPayloadSource();
                                     message.setPayload(messagePayload.substring(0, rootElementEnd) + " " + namespace + messagePayload.substring(rootElementEnd));
+
+                                    if (payloadSource != null && payloadSource.getNode() instanceof Document) {
+                                        // keep payload source in sync with the payload and add the namespace declaration to the root element
+                                        final Element rootElement = ((Document) payloadSource.getNode()).getDocumentElement();
+                                        rootElement.setAttributeNS(attribute.getNamespaceURI(), attribute.getNodeName(), attribute.getNodeValue());
+                                        message.setPayloadSource(payloadSource);
+                                    }
                                 }
                             }
                         }
@@ -278,9 +297,7 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
 
                 if (soapHeader.getSource() != null) {
                     final StringResult headerData = new StringResult();
-                    final TransformerFactory transformerFactory = TransformerFactory.newInstance();
-                    final Transformer transformer = transformerFactory.newTransformer();
-                    transformer.transform(soapHeader.getSource(), headerData);
+                    TRANSFORMER.get().transform(soapHeader.getSource(), headerData);
 
                     message.addHeaderData(headerData.toString());
                 }
@@ -401,11 +418,25 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
      */
     protected void handleInboundAttachments(final org.springframework.ws.soap.SoapMessage soapMessage,
                                             final SoapMessage message) {
+        handleInboundAttachments(soapMessage, message, false);
+    }
+
+    /**
+     * Adds attachments if present in soap web service message. Streaming attachments are copied to temporary files
+     * instead of being loaded into memory.
+     *
+     * @param soapMessage the web service message.
+     * @param message the response message builder.
+     * @param streaming stream attachment content.
+     */
+    protected void handleInboundAttachments(final org.springframework.ws.soap.SoapMessage soapMessage,
+                                            final SoapMessage message,
+                                            final boolean streaming) {
         final Iterator<Attachment> attachments = soapMessage.getAttachments();
 
         while (attachments.hasNext()) {
             final Attachment attachment = attachments.next();
-            final SoapAttachment soapAttachment = SoapAttachment.from(attachment);
+            final SoapAttachment soapAttachment = SoapAttachment.from(attachment, streaming);
 
             if (log.isDebugEnabled()) {
                 log.debug(String.format("SOAP message contains attachment with contentId '%s'", soapAttachment.getContentId()));
@@ -454,13 +485,10 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
     }
 
     private void copySoapHeaderData(final org.springframework.ws.soap.SoapMessage soapRequest,
-                                    final SoapMessage soapMessage,
-                                    final TransformerFactory transformerFactory) {
+                                    final SoapMessage soapMessage) {
         for (final String headerData : soapMessage.getHeaderData()) {
             try {
-                final Transformer transformer = transformerFactory.newTransformer();
-                transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-                transformer.transform(new StringSource(headerData),
+                FRAGMENT_TRANSFORMER.get().transform(new StringSource(headerData),
                         soapRequest.getSoapHeader().getResult());
             } catch (final TransformerException e) {
                 throw new CitrusRuntimeException("Failed to write SOAP header content", e);
@@ -468,17 +496,39 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
         }
     }
 
-    private void copySoapPayload(final org.springframework.ws.soap.SoapMessage soapRequest, final SoapMessage soapMessage, final TransformerFactory transformerFactory) {
-        final String payload = soapMessage.getPayload(String.class);
-        if (StringUtils.hasText(payload)) {
-            try {
-                final Transformer transformer = transformerFactory.newTransformer();
-                transformer.transform(new StringSource(payload), soapRequest.getSoapBody().getPayloadResult());
-            } catch (final TransformerException e) {
-                throw new CitrusRuntimeException("Failed to write SOAP body payload", e);
+    private void copySoapPayload(final org.springframework.ws.soap.SoapMessage soapRequest, final SoapMessage soapMessage) {
+        try {
+            if (soapMessage.getPayloadSource() != null) {
+                TRANSFORMER.get().transform(soapMessage.getPayloadSource(), soapRequest.getSoapBody().getPayloadResult());
+                return;
+            }
+
+            final String payload = soapMessage.getPayload(String.class);
+            if (StringUtils.hasText(payload)) {
+                TRANSFORMER.get().transform(new StringSource(payload), soapRequest.getSoapBody().getPayloadResult());
             }
+        } catch (final TransformerException e) {
+            throw new CitrusRuntimeException("Failed to write SOAP body payload", e);
         }
     }
+
+    /**
+     * Creates new identity transformer optionally omitting the XML declaration in the result.
+     * @param omitXmlDeclaration
+     * @return
+     */
+    private static Transformer createTransformer(final boolean omitXmlDeclaration) {
+        try {
+            final Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            if (omitXmlDeclaration) {
+                transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+            }
+            return transformer;
+        } catch (final TransformerException e) {
+            throw new CitrusRuntimeException("Failed to create XML transformer", e);
+        }
+    }
+
     private void copySoapAttachments(final TestContext context,
                                      final org.springframework.ws.soap.SoapMessage soapRequest,
                                      final SoapMessage soapMessage) {
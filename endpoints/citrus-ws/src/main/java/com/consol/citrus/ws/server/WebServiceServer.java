@@ -98,6 +98,12 @@ public class WebServiceServer extends AbstractServer {
     /** Should keep soap envelope when creating internal message */
     private boolean keepSoapEnvelope = false;
 
+    /** Should keep the parsed SOAP body as DOM source on the internal message */
+    private boolean keepPayloadSource = false;
+
+    /** Should stream inbound attachment content to temporary files */
+    private boolean streamAttachments = false;
+
     /** Message converter implementation */
     private WebServiceMessageConverter messageConverter = new SoapMessageConverter();
 
@@ -442,6 +448,38 @@ public class WebServiceServer extends AbstractServer {
         this.keepSoapEnvelope = keepSoapEnvelope;
     }
 
+    /**
+     * Gets the keep payload source flag.
+     * @return
+     */
+    public boolean isKeepPayloadSource() {
+        return keepPayloadSource;
+    }
+
+    /**
+     * Sets the keep payload source flag.
+     * @param keepPayloadSource
+     */
+    public void setKeepPayloadSource(boolean keepPayloadSource) {
+        this.keepPayloadSource = keepPayloadSource;
+    }
+
+    /**
+     * Gets the stream attachments flag.
+     * @return
+     */
+    public boolean isStreamAttachments() {
+        return streamAttachments;
+    }
+
+    /**
+     * Sets the stream attachments flag.
+     * @param streamAttachments
+     */
+    public void setStreamAttachments(boolean streamAttachments) {
+        this.streamAttachments = streamAttachments;
+    }
+
     /**
      * Gets the default soap header namespace.
      * @return
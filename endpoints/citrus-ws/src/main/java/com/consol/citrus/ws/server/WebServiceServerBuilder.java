@@ -206,6 +206,26 @@ public class WebServiceServerBuilder extends AbstractServerBuilder<WebServiceSer
         return this;
     }
 
+    /**
+     * Sets the keepPayloadSource property.
+     * @param flag
+     * @return
+     */
+    public WebServiceServerBuilder keepPayloadSource(boolean flag) {
+        endpoint.setKeepPayloadSource(flag);
+        return this;
+    }
+
+    /**
+     * Sets the streamAttachments property.
+     * @param flag
+     * @return
+     */
+    public WebServiceServerBuilder streamAttachments(boolean flag) {
+        endpoint.setStreamAttachments(flag);
+        return this;
+    }
+
     /**
      * Sets the handleMimeHeaders property.
      * @param flag
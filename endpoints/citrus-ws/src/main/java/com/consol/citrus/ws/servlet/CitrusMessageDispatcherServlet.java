@@ -92,6 +92,8 @@ public class CitrusMessageDispatcherServlet extends MessageDispatcherServlet {
             endpointConfiguration.setHandleMimeHeaders(webServiceServer.isHandleMimeHeaders());
             endpointConfiguration.setHandleAttributeHeaders(webServiceServer.isHandleAttributeHeaders());
             endpointConfiguration.setKeepSoapEnvelope(webServiceServer.isKeepSoapEnvelope());
+            endpointConfiguration.setKeepPayloadSource(webServiceServer.isKeepPayloadSource());
+            endpointConfiguration.setStreamAttachments(webServiceServer.isStreamAttachments());
             endpointConfiguration.setMessageConverter(webServiceServer.getMessageConverter());
             messageEndpoint.setEndpointConfiguration(endpointConfiguration);
 
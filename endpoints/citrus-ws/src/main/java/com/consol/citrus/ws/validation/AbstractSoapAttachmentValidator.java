@@ -90,7 +90,10 @@ public abstract class AbstractSoapAttachmentValidator implements SoapAttachmentV
             }
         }
 
-        if (matching != null) {
+        if (matching instanceof SoapAttachment && ((SoapAttachment) matching).isStreamed()) {
+            // streamed content has already been received - avoid reading the content once again
+            return (SoapAttachment) matching;
+        } else if (matching != null) {
             return SoapAttachment.from(matching);
         } else {
             throw new ValidationException(String.format("Unable to find SOAP attachment with content id '%s'", controlAttachment.getContentId()));
@@ -155,6 +158,26 @@ public abstract class AbstractSoapAttachmentValidator implements SoapAttachmentV
         }
     }
     
+    /**
+     * Validating SOAP attachment content digest. Streamed attachments provide the digest computed while receiving the content,
+     * all other attachments compute the digest by reading the content input stream.
+     * @param receivedAttachment
+     * @param controlAttachment
+     */
+    protected void validateAttachmentDigest(SoapAttachment receivedAttachment, SoapAttachment controlAttachment) {
+        String receivedDigest = receivedAttachment.getDigest();
+        String controlDigest = controlAttachment.getDigest();
+
+        Assert.isTrue(receivedDigest.equalsIgnoreCase(controlDigest),
+                buildValidationErrorMessage("Values not equal for attachment content digest",
+                        controlDigest, receivedDigest));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Validating attachment content digest: " + receivedDigest +
+                    "='" + controlDigest + "': OK.");
+        }
+    }
+
     /**
      * Constructs proper error message with expected value and actual value.
      * @param message the base error message.
@@ -24,10 +24,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Optional;
 
 /**
  * Soap attachment validator performs binary content validation by comparing attachment content binary input streams.
+ * When received or control attachment already provide a content digest the validator compares the digests instead.
  *
  * @author Christoph Deppisch
  * @since 2.1
@@ -43,8 +45,14 @@ public class BinarySoapAttachmentValidator extends AbstractSoapAttachmentValidat
             log.debug("Validating binary SOAP attachment content ...");
         }
 
-        try {
-            Assert.isTrue(IOUtils.contentEquals(receivedAttachment.getInputStream(), controlAttachment.getInputStream()),
+        if (receivedAttachment.hasDigest() || controlAttachment.hasDigest()) {
+            validateAttachmentDigest(receivedAttachment, controlAttachment);
+            return;
+        }
+
+        try (InputStream receivedStream = receivedAttachment.getInputStream();
+             InputStream controlStream = controlAttachment.getInputStream()) {
+            Assert.isTrue(IOUtils.contentEquals(receivedStream, controlStream),
                     "Values not equal for binary attachment content '"
                             + Optional.ofNullable(controlAttachment.getContentId()).orElse(Optional.ofNullable(receivedAttachment.getContentId()).orElse("unknown")) + "'");
         } catch(IOException e) {
@@ -15,7 +15,16 @@
  */
 package com.consol.citrus.ws.validation;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.ws.message.SoapAttachment;
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.io.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
@@ -23,7 +32,8 @@ import org.springframework.util.StringUtils;
 
 /**
  * Simple implementation of a {@link AbstractSoapAttachmentValidator}.
- * Attachment content body is validated through simple string equals assertion.
+ * Attachment content body is validated through simple string equals assertion. Control attachments providing a
+ * content digest are validated by digest and streamed binary attachments are compared as stream with the decoded control content.
  *
  * @author Christoph Deppisch
  */
@@ -37,6 +47,16 @@ public class SimpleSoapAttachmentValidator extends AbstractSoapAttachmentValidat
 
     @Override
     protected void validateAttachmentContent(SoapAttachment receivedAttachment, SoapAttachment controlAttachment) {
+        if (controlAttachment.hasDigest()) {
+            validateAttachmentDigest(receivedAttachment, controlAttachment);
+            return;
+        }
+
+        if (receivedAttachment.isStreamed() && !receivedAttachment.getContentType().startsWith("text")) {
+            validateStreamedAttachmentContent(receivedAttachment, controlAttachment);
+            return;
+        }
+
         String receivedContent = StringUtils.trimWhitespace(receivedAttachment.getContent());
         String controlContent = StringUtils.trimWhitespace(controlAttachment.getContent());
 
@@ -67,6 +87,61 @@ public class SimpleSoapAttachmentValidator extends AbstractSoapAttachmentValidat
         }
     }
 
+    /**
+     * Validates streamed binary content by comparing the received content stream with the control content. Avoids
+     * encoding the received binary content to a String representation.
+     * @param receivedAttachment
+     * @param controlAttachment
+     */
+    protected void validateStreamedAttachmentContent(SoapAttachment receivedAttachment, SoapAttachment controlAttachment) {
+        if (log.isDebugEnabled()) {
+            log.debug("Validating streamed SOAP attachment content ...");
+        }
+
+        try (InputStream receivedStream = receivedAttachment.getInputStream();
+             InputStream controlStream = getBinaryControlContent(controlAttachment)) {
+            Assert.isTrue(IOUtils.contentEquals(receivedStream, controlStream),
+                    "Values not equal for attachment content '" + controlAttachment.getContentId() + "'");
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Streamed SOAP attachment validation failed", e);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Validating streamed attachment content: OK");
+        }
+    }
+
+    /**
+     * Gets binary control content. Control content is decoded according to the control attachment encoding type
+     * unless the control attachment is loaded from a binary file resource.
+     * @param controlAttachment
+     * @return
+     * @throws IOException
+     */
+    private InputStream getBinaryControlContent(SoapAttachment controlAttachment) throws IOException {
+        if (StringUtils.hasText(controlAttachment.getContentResourcePath()) && !controlAttachment.getContentType().startsWith("text")) {
+            return controlAttachment.getInputStream();
+        }
+
+        String controlContent = controlAttachment.getContent();
+        if (controlContent == null) {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+
+        if (SoapAttachment.ENCODING_BASE64_BINARY.equals(controlAttachment.getEncodingType())) {
+            return new ByteArrayInputStream(Base64.decodeBase64(controlContent));
+        } else if (SoapAttachment.ENCODING_HEX_BINARY.equals(controlAttachment.getEncodingType())) {
+            try {
+                return new ByteArrayInputStream(Hex.decodeHex(controlContent.trim()));
+            } catch (DecoderException e) {
+                throw new CitrusRuntimeException("Failed to decode hex binary control attachment content", e);
+            }
+        } else {
+            throw new CitrusRuntimeException(String.format("Unsupported encoding type '%s' for SOAP attachment - choose one of %s or %s",
+                    controlAttachment.getEncodingType(), SoapAttachment.ENCODING_BASE64_BINARY, SoapAttachment.ENCODING_HEX_BINARY));
+        }
+    }
+
     /**
      * Validates content data.
      * @param receivedContent
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.ws.actions;
 
+import java.io.File;
 import java.util.List;
 
 import com.consol.citrus.context.TestContext;
@@ -26,11 +27,13 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.message.builder.DefaultPayloadBuilder;
 import com.consol.citrus.messaging.Consumer;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.util.FileUtils;
 import com.consol.citrus.validation.builder.DefaultMessageBuilder;
 import com.consol.citrus.validation.xml.DomXmlMessageValidator;
 import com.consol.citrus.ws.message.SoapAttachment;
 import com.consol.citrus.ws.message.SoapMessage;
 import com.consol.citrus.ws.validation.SoapAttachmentValidator;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.invocation.InvocationOnMock;
@@ -107,6 +110,49 @@ public class ReceiveSoapMessageActionTest extends AbstractTestNGUnitTest {
         soapMessageAction.execute(context);
     }
 
+    @Test
+    public void testSoapMessageKeepsStreamedAttachmentContent() throws Exception {
+        DefaultMessageBuilder controlMessageBuilder = new DefaultMessageBuilder();
+        controlMessageBuilder.setPayloadBuilder(new DefaultPayloadBuilder("<TestRequest><Message>Hello World!</Message></TestRequest>"));
+
+        SoapAttachment attachment = new SoapAttachment();
+        attachment.setContentId("attachment");
+
+        SoapAttachment receivedAttachment = new SoapAttachment();
+        receivedAttachment.setContentId("attachment");
+        receivedAttachment.setContent("TestAttachment!");
+        SoapAttachment streamedAttachment = SoapAttachment.from(receivedAttachment, true);
+        File contentFile = streamedAttachment.getContentFile();
+        Assert.assertNotNull(contentFile);
+        Assert.assertTrue(contentFile.exists());
+
+        Message receivedMessage = new SoapMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")
+                .addAttachment(streamedAttachment);
+
+        reset(endpoint, consumer, endpointConfiguration, attachmentValidator);
+        when(endpoint.createConsumer()).thenReturn(consumer);
+        when(endpoint.getEndpointConfiguration()).thenReturn(endpointConfiguration);
+        when(endpointConfiguration.getTimeout()).thenReturn(5000L);
+
+        when(consumer.receive(any(TestContext.class), anyLong())).thenReturn(receivedMessage);
+        when(endpoint.getActor()).thenReturn(null);
+
+        ReceiveSoapMessageAction soapMessageAction = new ReceiveSoapMessageAction.Builder()
+                .endpoint(endpoint)
+                .validator(new DomXmlMessageValidator())
+                .message(controlMessageBuilder)
+                .attachment(attachment)
+                .digest(DigestUtils.sha256Hex("TestAttachment!"))
+                .build();
+        soapMessageAction.execute(context);
+
+        Assert.assertTrue(contentFile.exists());
+        Assert.assertEquals(FileUtils.readToString(streamedAttachment.getInputStream()), "TestAttachment!");
+
+        streamedAttachment.release();
+        Assert.assertFalse(contentFile.exists());
+    }
+
     @Test
     public void testSoapMessageWithAttachmentDataTest() throws Exception {
         DefaultMessageBuilder controlMessageBuilder = new DefaultMessageBuilder();
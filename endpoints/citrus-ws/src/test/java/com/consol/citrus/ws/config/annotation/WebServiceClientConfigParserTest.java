@@ -87,7 +87,9 @@ public class WebServiceClientConfigParserTest extends AbstractTestNGUnitTest {
     @WebServiceClientConfig(requestUrl = "http://localhost:8080/test",
             faultStrategy=ErrorHandlingStrategy.PROPAGATE,
             interceptors={ "clientInterceptor1", "clientInterceptor2" },
-            pollingInterval=250)
+            pollingInterval=250,
+            keepPayloadSource=true,
+            streamAttachments=true)
     private WebServiceClient client5;
 
     @CitrusEndpoint
@@ -192,6 +194,8 @@ public class WebServiceClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(client5.getEndpointConfiguration().getInterceptors().get(0), clientInterceptor1);
         Assert.assertEquals(client5.getEndpointConfiguration().getInterceptors().get(1), clientInterceptor2);
         Assert.assertEquals(client5.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertTrue(client5.getEndpointConfiguration().isStreamAttachments());
+        Assert.assertTrue(client5.getEndpointConfiguration().isKeepPayloadSource());
         Assert.assertNotNull(client5.getEndpointConfiguration().getWebServiceTemplate());
         Assert.assertEquals(client5.getEndpointConfiguration().getWebServiceTemplate().getInterceptors().length, 2L);
 
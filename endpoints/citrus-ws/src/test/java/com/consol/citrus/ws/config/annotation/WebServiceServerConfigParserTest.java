@@ -59,6 +59,8 @@ public class WebServiceServerConfigParserTest extends AbstractTestNGUnitTest {
             handleMimeHeaders=true,
             handleAttributeHeaders=true,
             keepSoapEnvelope=true,
+            streamAttachments=true,
+            keepPayloadSource=true,
             messageConverter="messageConverter",
             messageFactory="soap12MessageFactory",
             soapHeaderNamespace="http://citrusframework.org",
@@ -136,6 +138,8 @@ public class WebServiceServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertFalse(soapServer1.isHandleMimeHeaders());
         Assert.assertFalse(soapServer1.isHandleAttributeHeaders());
         Assert.assertFalse(soapServer1.isKeepSoapEnvelope());
+        Assert.assertFalse(soapServer1.isStreamAttachments());
+        Assert.assertFalse(soapServer1.isKeepPayloadSource());
         Assert.assertNull(soapServer1.getSoapHeaderNamespace());
         Assert.assertEquals(soapServer1.getSoapHeaderPrefix(), "");
         Assert.assertEquals(soapServer1.getMessageFactoryName(), MessageDispatcherServlet.DEFAULT_MESSAGE_FACTORY_BEAN_NAME);
@@ -157,6 +161,8 @@ public class WebServiceServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertTrue(soapServer2.isHandleMimeHeaders());
         Assert.assertTrue(soapServer2.isHandleAttributeHeaders());
         Assert.assertTrue(soapServer2.isKeepSoapEnvelope());
+        Assert.assertTrue(soapServer2.isStreamAttachments());
+        Assert.assertTrue(soapServer2.isKeepPayloadSource());
         Assert.assertEquals(soapServer2.getSoapHeaderNamespace(), "http://citrusframework.org");
         Assert.assertEquals(soapServer2.getSoapHeaderPrefix(), "CITRUS");
         Assert.assertEquals(soapServer2.getMessageConverter(), messageConverter);
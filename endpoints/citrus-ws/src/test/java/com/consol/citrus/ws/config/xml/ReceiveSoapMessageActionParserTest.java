@@ -62,5 +62,6 @@ public class ReceiveSoapMessageActionParserTest extends AbstractActionParserTest
         Assert.assertEquals(action.getAttachments().get(1).getContentId(), "SecondSoapAttachment");
         Assert.assertEquals(action.getAttachments().get(1).getContentType(), "application/xml");
         Assert.assertEquals(action.getAttachments().get(1).getCharsetName(), "UTF-8");
+        Assert.assertEquals(action.getAttachments().get(1).getDigest(), "d2a84f4b8b650937ec8f73cd8be2c74add5a911ba64df27458ed8229da804a26");
     }
 }
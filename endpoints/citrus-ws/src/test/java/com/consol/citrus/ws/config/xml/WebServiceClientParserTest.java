@@ -52,6 +52,8 @@ public class WebServiceClientParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertTrue(client.getEndpointConfiguration().getMessageConverter() instanceof SoapMessageConverter);
         Assert.assertEquals(client.getEndpointConfiguration().getErrorHandlingStrategy(), ErrorHandlingStrategy.THROWS_EXCEPTION);
         Assert.assertEquals(client.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertFalse(client.getEndpointConfiguration().isStreamAttachments());
+        Assert.assertFalse(client.getEndpointConfiguration().isKeepPayloadSource());
         Assert.assertNotNull(client.getEndpointConfiguration().getWebServiceTemplate());
 
         // 2nd message sender
@@ -96,6 +98,8 @@ public class WebServiceClientParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertEquals(client.getEndpointConfiguration().getInterceptors().get(0), beanDefinitionContext.getBean("interceptor1"));
         Assert.assertEquals(client.getEndpointConfiguration().getInterceptors().get(1), beanDefinitionContext.getBean("interceptor2"));
         Assert.assertEquals(client.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertTrue(client.getEndpointConfiguration().isStreamAttachments());
+        Assert.assertTrue(client.getEndpointConfiguration().isKeepPayloadSource());
         Assert.assertNotNull(client.getEndpointConfiguration().getWebServiceTemplate());
         Assert.assertEquals(client.getEndpointConfiguration().getWebServiceTemplate().getInterceptors().length, 2L);
 
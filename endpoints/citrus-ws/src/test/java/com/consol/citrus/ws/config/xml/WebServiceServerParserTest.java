@@ -51,6 +51,8 @@ public class WebServiceServerParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertFalse(server.isHandleMimeHeaders());
         Assert.assertFalse(server.isHandleAttributeHeaders());
         Assert.assertFalse(server.isKeepSoapEnvelope());
+        Assert.assertFalse(server.isStreamAttachments());
+        Assert.assertFalse(server.isKeepPayloadSource());
         Assert.assertNull(server.getSoapHeaderNamespace());
         Assert.assertEquals(server.getSoapHeaderPrefix(), "");
         Assert.assertEquals(server.getMessageFactoryName(), MessageDispatcherServlet.DEFAULT_MESSAGE_FACTORY_BEAN_NAME);
@@ -73,6 +75,8 @@ public class WebServiceServerParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertTrue(server.isHandleMimeHeaders());
         Assert.assertTrue(server.isHandleAttributeHeaders());
         Assert.assertTrue(server.isKeepSoapEnvelope());
+        Assert.assertTrue(server.isStreamAttachments());
+        Assert.assertTrue(server.isKeepPayloadSource());
         Assert.assertEquals(server.getSoapHeaderNamespace(), "http://citrusframework.org");
         Assert.assertEquals(server.getSoapHeaderPrefix(), "CITRUS");
         Assert.assertEquals(server.getMessageConverter(), beanDefinitionContext.getBean("messageConverter"));
@@ -19,6 +19,7 @@ package com.consol.citrus.ws.message;
 import javax.activation.DataHandler;
 import javax.activation.DataSource;
 import java.io.ByteArrayInputStream;
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
@@ -29,6 +30,7 @@ import java.nio.file.Paths;
 
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.mockito.Mockito;
 import org.springframework.ws.mime.Attachment;
 import org.testng.Assert;
@@ -90,6 +92,78 @@ public class SoapAttachmentTest {
 
     }
 
+    @Test
+    public void testFromStreamedAttachment() throws Exception {
+        reset(attachment);
+
+        when(attachment.getContentId()).thenReturn("<img>");
+        when(attachment.getContentType()).thenReturn("application/octet-stream");
+        when(attachment.getInputStream()).thenReturn(new StaticTextDataSource("This is img text content!", "application/octet-stream", "UTF-8", "img").getInputStream());
+
+        SoapAttachment soapAttachment = SoapAttachment.from(attachment, true);
+
+        Assert.assertTrue(soapAttachment.isStreamed());
+        Assert.assertTrue(soapAttachment.hasDigest());
+        Assert.assertEquals(soapAttachment.getContentId(), "img");
+        Assert.assertEquals(soapAttachment.getContentType(), "application/octet-stream");
+        Assert.assertEquals(soapAttachment.getSize(), 25L);
+        Assert.assertEquals(soapAttachment.getDigest(), DigestUtils.sha256Hex("This is img text content!".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals(soapAttachment.getContent(), Base64.encodeBase64String("This is img text content!".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals(soapAttachment.getDataHandler().getContentType(), "application/octet-stream");
+    }
+
+    @Test
+    public void testReleaseStreamedAttachment() throws Exception {
+        reset(attachment);
+
+        when(attachment.getContentId()).thenReturn("<img>");
+        when(attachment.getContentType()).thenReturn("application/octet-stream");
+        when(attachment.getInputStream()).thenReturn(new StaticTextDataSource("This is img text content!", "application/octet-stream", "UTF-8", "img").getInputStream());
+
+        SoapAttachment soapAttachment = SoapAttachment.from(attachment, true);
+        File contentFile = soapAttachment.getContentFile();
+        Assert.assertNotNull(contentFile);
+        Assert.assertTrue(contentFile.exists());
+
+        soapAttachment.release();
+
+        Assert.assertFalse(contentFile.exists());
+        Assert.assertNull(soapAttachment.getContentFile());
+        Assert.assertEquals(soapAttachment.getSize(), 25L);
+        Assert.assertEquals(soapAttachment.getDigest(), DigestUtils.sha256Hex("This is img text content!".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertTrue(soapAttachment.toString().contains("size: 25"));
+    }
+
+    @Test
+    public void testUnreachableStreamedAttachmentDeletesContentFile() throws Exception {
+        reset(attachment);
+
+        when(attachment.getContentId()).thenReturn("<img>");
+        when(attachment.getContentType()).thenReturn("application/octet-stream");
+        when(attachment.getInputStream()).thenReturn(new StaticTextDataSource("This is img text content!", "application/octet-stream", "UTF-8", "img").getInputStream());
+
+        File contentFile = SoapAttachment.from(attachment, true).getContentFile();
+        Assert.assertTrue(contentFile.exists());
+
+        long timeout = System.currentTimeMillis() + 10000L;
+        while (contentFile.exists() && System.currentTimeMillis() < timeout) {
+            System.gc();
+            Thread.sleep(50L);
+        }
+
+        Assert.assertFalse(contentFile.exists());
+    }
+
+    @Test
+    public void testContentSizeAndDigest() throws Exception {
+        SoapAttachment soapAttachment = new SoapAttachment("Grüße");
+        soapAttachment.setCharsetName("UTF-8");
+
+        Assert.assertFalse(soapAttachment.hasDigest());
+        Assert.assertEquals(soapAttachment.getSize(), "Grüße".getBytes(StandardCharsets.UTF_8).length);
+        Assert.assertEquals(soapAttachment.getDigest(), DigestUtils.sha256Hex("Grüße".getBytes(StandardCharsets.UTF_8)));
+    }
+
     @Test
     public void testFileResourceTextContent() throws Exception {
         SoapAttachment soapAttachment = new SoapAttachment();
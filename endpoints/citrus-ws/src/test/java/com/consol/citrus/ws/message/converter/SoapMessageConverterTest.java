@@ -55,6 +55,7 @@ import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
+import org.w3c.dom.Document;
 
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
@@ -330,6 +331,37 @@ public class SoapMessageConverterTest extends AbstractTestNGUnitTest {
 
     }
 
+    @Test
+    public void testInboundSoapBodyKeepPayloadSource() {
+        final StringSource soapBodySource = new StringSource(payload);
+
+        when(soapResponse.getEnvelope()).thenReturn(soapEnvelope);
+        when(soapEnvelope.getSource()).thenReturn(new StringSource(getSoapRequestPayload()));
+        when(soapResponse.getPayloadSource()).thenReturn(soapBodySource);
+        when(soapResponse.getSoapHeader()).thenReturn(soapHeader);
+        when(soapEnvelope.getHeader()).thenReturn(soapHeader);
+        when(soapHeader.examineAllHeaderElements()).thenReturn(new HashSet<SoapHeaderElement>().iterator());
+        when(soapHeader.getSource()).thenReturn(null);
+
+        when(soapResponse.getAttachments()).thenReturn(new HashSet<Attachment>().iterator());
+
+        when(soapResponse.getSoapAction()).thenReturn("");
+
+        final WebServiceEndpointConfiguration endpointConfiguration = new WebServiceEndpointConfiguration();
+        endpointConfiguration.setKeepPayloadSource(true);
+
+        final SoapMessage responseMessage = soapMessageConverter.convertInbound(soapResponse, endpointConfiguration, context);
+        Assert.assertEquals(responseMessage.getPayload(), XML_PROCESSING_INSTRUCTION + payload);
+        Assert.assertNotNull(responseMessage.getPayloadSource());
+        Assert.assertTrue(responseMessage.getPayloadSource().getNode() instanceof Document);
+        Assert.assertEquals(((Document) responseMessage.getPayloadSource().getNode()).getDocumentElement().getLocalName(), "testMessage");
+        Assert.assertEquals(XMLUtils.serialize((Document) responseMessage.getPayloadSource().getNode()),
+                XMLUtils.serialize(XMLUtils.parseMessagePayload(responseMessage.getPayload(String.class))));
+
+        responseMessage.setPayload("<newMessage/>");
+        Assert.assertNull(responseMessage.getPayloadSource());
+    }
+
     @Test
     public void testInboundSoapBodyOnlyRootElement() {
         final StringSource soapBodySource = new StringSource("<testMessage/>");
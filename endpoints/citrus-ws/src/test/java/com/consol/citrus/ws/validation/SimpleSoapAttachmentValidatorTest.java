@@ -19,9 +19,13 @@ package com.consol.citrus.ws.validation;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.ws.message.SoapAttachment;
 import com.consol.citrus.ws.message.SoapMessage;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 
 /**
@@ -117,4 +121,100 @@ public class SimpleSoapAttachmentValidatorTest {
         SimpleSoapAttachmentValidator validator = new SimpleSoapAttachmentValidator();
         validator.validateAttachment(testMessage, Collections.singletonList(controlAttachment));
     }
+
+    @Test
+    public void testDigestValidation() throws IOException {
+        SoapAttachment receivedAttachment = new SoapAttachment();
+        receivedAttachment.setContentId("soapAttachmentId");
+        receivedAttachment.setContentType("text/plain");
+        receivedAttachment.setContent("This is a test!");
+
+        SoapMessage testMessage = new SoapMessage("Some Payload")
+                                    .addAttachment(receivedAttachment);
+
+        SoapAttachment controlAttachment = new SoapAttachment();
+        controlAttachment.setContentId("soapAttachmentId");
+        controlAttachment.setContentType("text/plain");
+        controlAttachment.setDigest(DigestUtils.sha256Hex("This is a test!".getBytes(StandardCharsets.UTF_8)).toUpperCase());
+
+        SimpleSoapAttachmentValidator validator = new SimpleSoapAttachmentValidator();
+        validator.validateAttachment(testMessage, Collections.singletonList(controlAttachment));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testDigestValidationError() throws IOException {
+        SoapAttachment receivedAttachment = new SoapAttachment();
+        receivedAttachment.setContentId("soapAttachmentId");
+        receivedAttachment.setContentType("text/plain");
+        receivedAttachment.setContent("This is not OK!");
+
+        SoapMessage testMessage = new SoapMessage("Some Payload")
+                                    .addAttachment(receivedAttachment);
+
+        SoapAttachment controlAttachment = new SoapAttachment();
+        controlAttachment.setContentId("soapAttachmentId");
+        controlAttachment.setContentType("text/plain");
+        controlAttachment.setDigest(DigestUtils.sha256Hex("This is a test!".getBytes(StandardCharsets.UTF_8)));
+
+        SimpleSoapAttachmentValidator validator = new SimpleSoapAttachmentValidator();
+        validator.validateAttachment(testMessage, Collections.singletonList(controlAttachment));
+    }
+
+    @Test
+    public void testStreamedBinaryValidation() throws IOException {
+        SoapAttachment binaryAttachment = new SoapAttachment();
+        binaryAttachment.setContentId("soapAttachmentId");
+        binaryAttachment.setContentType("application/octet-stream");
+        binaryAttachment.setContent("This is binary content!");
+
+        SoapMessage testMessage = new SoapMessage("Some Payload")
+                                    .addAttachment(SoapAttachment.from(binaryAttachment, true));
+
+        SoapAttachment controlAttachment = new SoapAttachment();
+        controlAttachment.setContentId("soapAttachmentId");
+        controlAttachment.setContentType("application/octet-stream");
+        controlAttachment.setContent(Base64.encodeBase64String("This is binary content!".getBytes(StandardCharsets.UTF_8)));
+
+        SimpleSoapAttachmentValidator validator = new SimpleSoapAttachmentValidator();
+        validator.validateAttachment(testMessage, Collections.singletonList(controlAttachment));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testStreamedBinaryValidationError() throws IOException {
+        SoapAttachment binaryAttachment = new SoapAttachment();
+        binaryAttachment.setContentId("soapAttachmentId");
+        binaryAttachment.setContentType("application/octet-stream");
+        binaryAttachment.setContent("This is binary content!");
+
+        SoapMessage testMessage = new SoapMessage("Some Payload")
+                                    .addAttachment(SoapAttachment.from(binaryAttachment, true));
+
+        SoapAttachment controlAttachment = new SoapAttachment();
+        controlAttachment.setContentId("soapAttachmentId");
+        controlAttachment.setContentType("application/octet-stream");
+        controlAttachment.setContent(Base64.encodeBase64String("This is wrong content!".getBytes(StandardCharsets.UTF_8)));
+
+        SimpleSoapAttachmentValidator validator = new SimpleSoapAttachmentValidator();
+        validator.validateAttachment(testMessage, Collections.singletonList(controlAttachment));
+    }
+
+    @Test
+    public void testStreamedBinaryValidationHexControl() throws IOException {
+        SoapAttachment binaryAttachment = new SoapAttachment();
+        binaryAttachment.setContentId("soapAttachmentId");
+        binaryAttachment.setContentType("application/octet-stream");
+        binaryAttachment.setContent("This is binary content!");
+
+        SoapMessage testMessage = new SoapMessage("Some Payload")
+                                    .addAttachment(SoapAttachment.from(binaryAttachment, true));
+
+        SoapAttachment controlAttachment = new SoapAttachment();
+        controlAttachment.setContentId("soapAttachmentId");
+        controlAttachment.setContentType("application/octet-stream");
+        controlAttachment.setEncodingType(SoapAttachment.ENCODING_HEX_BINARY);
+        controlAttachment.setContent(Hex.encodeHexString("This is binary content!".getBytes(StandardCharsets.UTF_8)));
+
+        SimpleSoapAttachmentValidator validator = new SimpleSoapAttachmentValidator();
+        validator.validateAttachment(testMessage, Collections.singletonList(controlAttachment));
+    }
 }
@@ -38,12 +38,14 @@ import com.consol.citrus.variable.VariableExtractor;
 import com.consol.citrus.variable.VariableExtractorAdapter;
 import com.consol.citrus.zookeeper.client.ZooClient;
 import com.consol.citrus.zookeeper.command.AbstractZooCommand;
+import com.consol.citrus.zookeeper.command.Batch;
 import com.consol.citrus.zookeeper.command.CommandResultCallback;
 import com.consol.citrus.zookeeper.command.Create;
 import com.consol.citrus.zookeeper.command.Delete;
 import com.consol.citrus.zookeeper.command.Exists;
 import com.consol.citrus.zookeeper.command.GetChildren;
 import com.consol.citrus.zookeeper.command.GetData;
+import com.consol.citrus.zookeeper.command.GetTree;
 import com.consol.citrus.zookeeper.command.Info;
 import com.consol.citrus.zookeeper.command.SetData;
 import com.consol.citrus.zookeeper.command.ZooCommand;
@@ -399,6 +401,22 @@ public class ZooExecuteAction extends AbstractTestAction {
             return command(command);
         }
 
+        /**
+         * Adds a recursive get-data command.
+         */
+        public Builder tree(String path) {
+            GetTree command = new GetTree();
+            command.path(path);
+            return command(command);
+        }
+
+        /**
+         * Adds a batch command executing all its operations as single multi operation transaction.
+         */
+        public Builder batch(Batch batch) {
+            return command(batch);
+        }
+
         /**
          * Use an info command.
          */
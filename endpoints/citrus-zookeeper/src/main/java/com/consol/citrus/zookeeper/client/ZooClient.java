@@ -16,17 +16,32 @@
 
 package com.consol.citrus.zookeeper.client;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import com.consol.citrus.exceptions.CitrusRuntimeException;
-import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.Op;
+import org.apache.zookeeper.OpResult;
 import org.apache.zookeeper.Watcher;
 import org.apache.zookeeper.ZooKeeper;
+import org.apache.zookeeper.data.ACL;
+import org.apache.zookeeper.data.Stat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.IOException;
-
 /**
- * Zookeeper client used for executing zookeeper commands.
+ * Zookeeper client used for executing zookeeper commands. The client keeps a single persistent session that is shared
+ * by all commands and gets recreated once the session has expired. Besides the synchronous ZooKeeper API the client
+ * provides asynchronous operations, multi operation transactions and recursive reads where all requests are pipelined
+ * over the session connection.
  *
  * @author Martin Maher
  * @since 2.5
@@ -59,37 +74,203 @@ public class ZooClient {
     }
 
     /**
-     * Creates a new Zookeeper client instance with configuration.
+     * Creates a new Zookeeper client instance with configuration and waits for the session to be connected.
      * @return
      */
-    private ZooKeeper createZooKeeperClient() throws IOException {
+    private ZooKeeper createZooKeeperClient() throws IOException, InterruptedException {
         ZooClientConfig config = getZookeeperClientConfig();
-        return new ZooKeeper(config.getUrl(), config.getTimeout(), getConnectionWatcher());
+        CountDownLatch connected = new CountDownLatch(1);
+        ZooKeeper client = new ZooKeeper(config.getUrl(), config.getTimeout(), getConnectionWatcher(connected));
+
+        if (!connected.await(config.getTimeout(), TimeUnit.MILLISECONDS)) {
+            LOG.warn(String.format("Zookeeper session not connected after %s ms", config.getTimeout()));
+        }
+
+        return client;
     }
 
     /**
-     * Constructs or gets the zookeeper client implementation.
+     * Constructs or gets the zookeeper client implementation. A new client is created in case the current session has
+     * been closed or has expired.
      * @return
      */
-    public ZooKeeper getZooKeeperClient() {
-        if (zookeeper == null) {
+    public synchronized ZooKeeper getZooKeeperClient() {
+        if (zookeeper == null || zookeeper.getState() == ZooKeeper.States.CLOSED) {
             try {
                 zookeeper = createZooKeeperClient();
-                int retryAttempts = 5;
-                while(!zookeeper.getState().isConnected() && retryAttempts > 0) {
-                    LOG.debug("connecting...");
-                    retryAttempts--;
-                    Thread.sleep(1000);
-                }
             } catch (IOException | InterruptedException e) {
                 throw new CitrusRuntimeException(e);
             }
-
         }
 
         return zookeeper;
     }
 
+    /**
+     * Asynchronously creates node with given data.
+     * @param path
+     * @param data
+     * @param acl
+     * @param mode
+     * @return future holding the actual path of the created node
+     */
+    public CompletableFuture<String> createAsync(String path, byte[] data, List<ACL> acl, CreateMode mode) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        getZooKeeperClient().create(path, data, acl, mode, (rc, nodePath, ctx, name) -> {
+            if (complete(result, rc, nodePath)) {
+                result.complete(name);
+            }
+        }, null);
+        return result;
+    }
+
+    /**
+     * Asynchronously sets data on given node.
+     * @param path
+     * @param data
+     * @param version
+     * @return future holding the node stat
+     */
+    public CompletableFuture<Stat> setDataAsync(String path, byte[] data, int version) {
+        CompletableFuture<Stat> result = new CompletableFuture<>();
+        getZooKeeperClient().setData(path, data, version, (rc, nodePath, ctx, stat) -> {
+            if (complete(result, rc, nodePath)) {
+                result.complete(stat);
+            }
+        }, null);
+        return result;
+    }
+
+    /**
+     * Asynchronously gets data of given node.
+     * @param path
+     * @return future holding the node data
+     */
+    public CompletableFuture<byte[]> getDataAsync(String path) {
+        CompletableFuture<byte[]> result = new CompletableFuture<>();
+        getZooKeeperClient().getData(path, false, (rc, nodePath, ctx, data, stat) -> {
+            if (complete(result, rc, nodePath)) {
+                result.complete(data);
+            }
+        }, null);
+        return result;
+    }
+
+    /**
+     * Asynchronously gets children of given node.
+     * @param path
+     * @return future holding the child node names
+     */
+    public CompletableFuture<List<String>> getChildrenAsync(String path) {
+        CompletableFuture<List<String>> result = new CompletableFuture<>();
+        getZooKeeperClient().getChildren(path, false, (rc, nodePath, ctx, children) -> {
+            if (complete(result, rc, nodePath)) {
+                result.complete(children);
+            }
+        }, null);
+        return result;
+    }
+
+    /**
+     * Asynchronously executes given operations as single transaction. Either all operations succeed or none of them
+     * is applied.
+     * @param ops
+     * @return future holding the operation results
+     */
+    public CompletableFuture<List<OpResult>> multiAsync(Iterable<Op> ops) {
+        CompletableFuture<List<OpResult>> result = new CompletableFuture<>();
+        getZooKeeperClient().multi(ops, (rc, path, ctx, opResults) -> {
+            if (complete(result, rc, path)) {
+                result.complete(opResults);
+            }
+        }, null);
+        return result;
+    }
+
+    /**
+     * Asynchronously reads data of given node and all its descendants. Read requests for all nodes are pipelined and the
+     * results are aggregated into a single map of node paths to node data sorted by path.
+     * @param path
+     * @return future holding node data by node path
+     */
+    public CompletableFuture<Map<String, byte[]>> getTreeAsync(String path) {
+        CompletableFuture<Map<String, byte[]>> result = new CompletableFuture<>();
+        Map<String, byte[]> nodes = new ConcurrentSkipListMap<>();
+        AtomicInteger pending = new AtomicInteger();
+
+        readTree(getZooKeeperClient(), path, path, nodes, pending, result);
+        return result;
+    }
+
+    /**
+     * Reads data and children of given node. Recursively continues with all children. Completes the result future
+     * as soon as all pending read requests have been answered.
+     * @param client
+     * @param root
+     * @param path
+     * @param nodes
+     * @param pending
+     * @param result
+     */
+    private void readTree(ZooKeeper client, String root, String path, Map<String, byte[]> nodes,
+                          AtomicInteger pending, CompletableFuture<Map<String, byte[]>> result) {
+        pending.addAndGet(2);
+
+        client.getData(path, false, (rc, nodePath, ctx, data, stat) -> {
+            if (isTreeResult(result, rc, root, nodePath)) {
+                nodes.put(nodePath, data != null ? data : new byte[0]);
+            }
+
+            if (pending.decrementAndGet() == 0) {
+                result.complete(nodes);
+            }
+        }, null);
+
+        client.getChildren(path, false, (rc, nodePath, ctx, children) -> {
+            if (isTreeResult(result, rc, root, nodePath)) {
+                for (String child : children) {
+                    readTree(client, root, "/".equals(nodePath) ? "/" + child : nodePath + "/" + child, nodes, pending, result);
+                }
+            }
+
+            if (pending.decrementAndGet() == 0) {
+                result.complete(nodes);
+            }
+        }, null);
+    }
+
+    /**
+     * Checks result code of recursive read operation. Descendant nodes that have been deleted in the meantime are ignored.
+     * @param result
+     * @param rc
+     * @param root
+     * @param path
+     * @return
+     */
+    private static boolean isTreeResult(CompletableFuture<?> result, int rc, String root, String path) {
+        if (rc == KeeperException.Code.NONODE.intValue() && !root.equals(path)) {
+            return false;
+        }
+
+        return complete(result, rc, path);
+    }
+
+    /**
+     * Completes given future exceptionally in case result code is not ok.
+     * @param result
+     * @param rc
+     * @param path
+     * @return true when result code is ok
+     */
+    private static boolean complete(CompletableFuture<?> result, int rc, String path) {
+        if (rc == KeeperException.Code.OK.intValue()) {
+            return true;
+        }
+
+        result.completeExceptionally(KeeperException.create(KeeperException.Code.get(rc), path));
+        return false;
+    }
+
     /**
      * Gets the zookeeper client configuration.
      * @return
@@ -110,11 +291,12 @@ public class ZooClient {
         this.zookeeperConfig = zookeeperConfig;
     }
 
-    private Watcher getConnectionWatcher() {
-        return new Watcher() {
-            @Override
-            public void process(WatchedEvent event) {
-                LOG.debug(String.format("Connection Event: %s", event.toString()));
+    private Watcher getConnectionWatcher(CountDownLatch connected) {
+        return event -> {
+            LOG.debug(String.format("Connection Event: %s", event.toString()));
+
+            if (event.getState() == Watcher.Event.KeeperState.SyncConnected) {
+                connected.countDown();
             }
         };
     }
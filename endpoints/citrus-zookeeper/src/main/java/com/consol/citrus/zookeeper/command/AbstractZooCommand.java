@@ -18,9 +18,14 @@ package com.consol.citrus.zookeeper.command;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.zookeeper.client.ZooClient;
 
 /**
  * @author Martin Maher
@@ -35,6 +40,8 @@ public abstract class AbstractZooCommand<R> implements ZooCommand {
     public static final String VERSION = "version";
 
     public static final String CHILDREN = "children";
+    public static final String NODES = "nodes";
+    public static final String PATHS = "paths";
     public static final String RESPONSE_CODE = "responseCode";
 
     /** Command name */
@@ -87,6 +94,29 @@ public abstract class AbstractZooCommand<R> implements ZooCommand {
         }
     }
 
+    /**
+     * Waits for given asynchronous zookeeper operation to complete. Waits at most the timeout configured on the
+     * zookeeper client.
+     * @param future
+     * @param zookeeperClient
+     * @param <T>
+     * @return
+     */
+    protected <T> T await(CompletableFuture<T> future, ZooClient zookeeperClient) {
+        long timeout = zookeeperClient.getZookeeperClientConfig().getTimeout();
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException(e);
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException(e.getCause());
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new CitrusRuntimeException(String.format("Zookeeper command '%s' did not complete within %s ms", getName(), timeout), e);
+        }
+    }
+
     @Override
     public R getCommandResult() {
         return commandResult;
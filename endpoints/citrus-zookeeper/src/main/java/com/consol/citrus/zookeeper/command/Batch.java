@@ -0,0 +1,180 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.zookeeper.command;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.zookeeper.client.ZooClient;
+import org.apache.zookeeper.Op;
+import org.apache.zookeeper.OpResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes several create, set, check and delete operations as single multi operation transaction. All operations
+ * are sent to the server in one request so whole node trees can be created or modified in a single round trip.
+ * Either all operations succeed or none of them is applied.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public class Batch extends AbstractZooCommand<ZooResponse> {
+
+    /**
+     * Logger
+     */
+    private static Logger log = LoggerFactory.getLogger(Batch.class);
+
+    /** Operations to execute resolved with test context */
+    private final List<Function<TestContext, Op>> operations = new ArrayList<>();
+
+    /**
+     * Default constructor initializing the command name.
+     */
+    public Batch() {
+        super("zookeeper:batch");
+    }
+
+    @Override
+    public void execute(ZooClient zookeeperClient, TestContext context) {
+        ZooResponse commandResult = new ZooResponse();
+        setCommandResult(commandResult);
+
+        List<Op> ops = new ArrayList<>(operations.size());
+        for (Function<TestContext, Op> operation : operations) {
+            ops.add(operation.apply(context));
+        }
+
+        List<OpResult> results = await(zookeeperClient.multiAsync(ops), zookeeperClient);
+
+        List<String> paths = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            OpResult result = results.get(i);
+            paths.add(result instanceof OpResult.CreateResult ? ((OpResult.CreateResult) result).getPath() : ops.get(i).getPath());
+        }
+
+        commandResult.setResponseParam(PATHS, paths);
+        log.debug(getCommandResult().toString());
+    }
+
+    /**
+     * Adds create operation for persistent node with open acl.
+     * @param path
+     * @param data
+     * @return
+     */
+    public Batch create(String path, String data) {
+        return create(path, data, "PERSISTENT", Create.ACL_OPEN);
+    }
+
+    /**
+     * Adds create operation.
+     * @param path
+     * @param data
+     * @param mode
+     * @param acl
+     * @return
+     */
+    public Batch create(String path, String data, String mode, String acl) {
+        operations.add(context -> Op.create(context.replaceDynamicContentInString(path),
+                context.replaceDynamicContentInString(data).getBytes(),
+                CommandHelper.lookupAcl(context.replaceDynamicContentInString(acl)),
+                CommandHelper.lookupCreateMode(context.replaceDynamicContentInString(mode))));
+        return this;
+    }
+
+    /**
+     * Adds create operations for given node and all nodes relative to that node. Intermediate nodes that are not part
+     * of the given nodes are created with empty data.
+     * @param path the root node path.
+     * @param nodes node data by node path relative to the root node.
+     * @return
+     */
+    public Batch tree(String path, Map<String, String> nodes) {
+        create(path, "");
+
+        String basePath = path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+        Set<String> created = new HashSet<>();
+        new TreeMap<>(nodes).forEach((relativePath, data) -> {
+            String[] segments = relativePath.replaceAll("^/+", "").split("/");
+
+            StringBuilder nodePath = new StringBuilder(basePath);
+            for (int i = 0; i < segments.length; i++) {
+                nodePath.append('/').append(segments[i]);
+
+                if (created.add(nodePath.toString())) {
+                    create(nodePath.toString(), i == segments.length - 1 ? data : "");
+                }
+            }
+        });
+
+        return this;
+    }
+
+    /**
+     * Adds set data operation matching any node version.
+     * @param path
+     * @param data
+     * @return
+     */
+    public Batch set(String path, String data) {
+        return set(path, data, -1);
+    }
+
+    /**
+     * Adds set data operation.
+     * @param path
+     * @param data
+     * @param version
+     * @return
+     */
+    public Batch set(String path, String data, int version) {
+        operations.add(context -> Op.setData(context.replaceDynamicContentInString(path),
+                context.replaceDynamicContentInString(data).getBytes(), version));
+        return this;
+    }
+
+    /**
+     * Adds check operation verifying the node version.
+     * @param path
+     * @param version
+     * @return
+     */
+    public Batch check(String path, int version) {
+        operations.add(context -> Op.check(context.replaceDynamicContentInString(path), version));
+        return this;
+    }
+
+    /**
+     * Adds delete operation.
+     * @param path
+     * @param version
+     * @return
+     */
+    public Batch delete(String path, int version) {
+        operations.add(context -> Op.delete(context.replaceDynamicContentInString(path), version));
+        return this;
+    }
+}
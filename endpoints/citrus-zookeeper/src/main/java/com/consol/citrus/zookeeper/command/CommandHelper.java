@@ -16,6 +16,12 @@
 
 package com.consol.citrus.zookeeper.command;
 
+import java.util.List;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.ZooDefs;
+import org.apache.zookeeper.data.ACL;
 import org.apache.zookeeper.data.Stat;
 
 /**
@@ -39,4 +45,31 @@ public class CommandHelper {
         commandResult.setResponseParam("pzxid", stat.getPzxid());
         commandResult.setResponseParam("version", stat.getVersion());
     }
+
+    /**
+     * Gets create mode for given mode name.
+     * @param mode
+     * @return
+     */
+    public static CreateMode lookupCreateMode(String mode) {
+        return CreateMode.valueOf(mode);
+    }
+
+    /**
+     * Gets access control list for given acl name.
+     * @param acl
+     * @return
+     */
+    public static List<ACL> lookupAcl(String acl) {
+        switch (acl) {
+            case Create.ACL_ALL:
+                return ZooDefs.Ids.CREATOR_ALL_ACL;
+            case Create.ACL_OPEN:
+                return ZooDefs.Ids.OPEN_ACL_UNSAFE;
+            case Create.ACL_READ:
+                return ZooDefs.Ids.READ_ACL_UNSAFE;
+            default:
+                throw new CitrusRuntimeException(String.format("ACL '%s' not supported", acl));
+        }
+    }
 }
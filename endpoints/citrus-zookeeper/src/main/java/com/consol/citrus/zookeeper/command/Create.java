@@ -19,15 +19,10 @@ package com.consol.citrus.zookeeper.command;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.zookeeper.client.ZooClient;
-import org.apache.zookeeper.CreateMode;
 import org.apache.zookeeper.KeeperException;
-import org.apache.zookeeper.ZooDefs;
-import org.apache.zookeeper.data.ACL;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
-
 /**
  * @author Martin Maher
  * @since 2.5
@@ -62,7 +57,7 @@ public class Create extends AbstractZooCommand<ZooResponse> {
 
         String newPath = null;
         try {
-            newPath = zookeeperClient.getZooKeeperClient().create(path, data.getBytes(), lookupAcl(acl), lookupCreateMode(mode));
+            newPath = zookeeperClient.getZooKeeperClient().create(path, data.getBytes(), CommandHelper.lookupAcl(acl), CommandHelper.lookupCreateMode(mode));
         } catch (KeeperException | InterruptedException e) {
             throw new CitrusRuntimeException(e);
         }
@@ -109,21 +104,4 @@ public class Create extends AbstractZooCommand<ZooResponse> {
         getParameters().put(ACL, acl);
         return this;
     }
-
-    private CreateMode lookupCreateMode(String mode) {
-        return CreateMode.valueOf(mode);
-    }
-
-    private List<ACL> lookupAcl(String acl) {
-        switch (acl) {
-            case ACL_ALL:
-                return ZooDefs.Ids.CREATOR_ALL_ACL;
-            case ACL_OPEN:
-                return ZooDefs.Ids.OPEN_ACL_UNSAFE;
-            case ACL_READ:
-                return ZooDefs.Ids.READ_ACL_UNSAFE;
-            default:
-                throw new CitrusRuntimeException(String.format("ACL '%s' not supported", acl));
-        }
-    }
 }
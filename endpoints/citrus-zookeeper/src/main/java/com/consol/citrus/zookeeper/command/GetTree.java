@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.zookeeper.command;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.zookeeper.client.ZooClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Recursively reads data of given node and all its descendants. Read requests are pipelined and aggregated into
+ * a single command result holding node data by node path.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public class GetTree extends AbstractZooCommand<ZooResponse> {
+
+    /**
+     * Logger
+     */
+    private static Logger log = LoggerFactory.getLogger(GetTree.class);
+
+    /**
+     * Default constructor initializing the command name.
+     */
+    public GetTree() {
+        super("zookeeper:tree");
+    }
+
+    @Override
+    public void execute(ZooClient zookeeperClient, TestContext context) {
+        ZooResponse commandResult = new ZooResponse();
+        setCommandResult(commandResult);
+
+        String path = this.getParameter(PATH, context);
+
+        Map<String, String> nodes = new LinkedHashMap<>();
+        await(zookeeperClient.getTreeAsync(path), zookeeperClient).forEach((nodePath, data) -> nodes.put(nodePath, new String(data)));
+
+        commandResult.setResponseParam(NODES, nodes);
+        log.debug(getCommandResult().toString());
+    }
+
+    /**
+     * Sets the path parameter.
+     * @param path
+     * @return
+     */
+    public GetTree path(String path) {
+        getParameters().put(PATH, path);
+        return this;
+    }
+}
@@ -16,8 +16,10 @@
 
 package com.consol.citrus.zookeeper.actions;
 
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.zookeeper.client.ZooClient;
+import com.consol.citrus.zookeeper.client.ZooClientConfig;
 import com.consol.citrus.zookeeper.command.Info;
 import org.apache.zookeeper.ZooKeeper;
 import org.mockito.Mockito;
@@ -44,4 +46,20 @@ public class ZooExecuteActionTest extends AbstractTestNGUnitTest {
 
         //Assert.assertEquals(action.getCommand().getCommandResult(), null);
     }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Zookeeper command 'zookeeper:tree' did not complete within 100 ms")
+    public void testCommandTimeout() throws Exception {
+        reset(zookeeper);
+
+        when(zookeeper.getState()).thenReturn(ZooKeeper.States.CONNECTED);
+
+        ZooClient client = new ZooClient(zookeeper);
+        client.setZookeeperClientConfig(ZooClientConfig.createDefaultConfigBuilder().withTimeout(100).build());
+
+        ZooExecuteAction action = new ZooExecuteAction.Builder()
+                .client(client)
+                .tree("/tree")
+                .build();
+        action.execute(context);
+    }
 }
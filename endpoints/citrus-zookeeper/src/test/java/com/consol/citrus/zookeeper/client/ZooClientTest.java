@@ -0,0 +1,136 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.zookeeper.client;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.zookeeper.actions.ZooExecuteAction;
+import com.consol.citrus.zookeeper.command.AbstractZooCommand;
+import com.consol.citrus.zookeeper.command.Batch;
+import com.consol.citrus.zookeeper.command.ZooResponse;
+import com.consol.citrus.zookeeper.server.ZooServer;
+import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.ZooDefs;
+import org.apache.zookeeper.server.ZooKeeperServer;
+import org.springframework.util.SocketUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public class ZooClientTest extends AbstractTestNGUnitTest {
+
+    private final ZooServer server = new ZooServer();
+    private final ZooClient client = new ZooClient();
+
+    @BeforeClass
+    public void startServer() throws Exception {
+        File dataDirectory = Files.createTempDirectory("zookeeper").toFile();
+        server.setZooKeeperServer(new ZooKeeperServer(dataDirectory, dataDirectory, 2000));
+
+        int port = SocketUtils.findAvailableTcpPort();
+        server.setPort(port);
+        server.start();
+
+        client.setZookeeperClientConfig(ZooClientConfig.createDefaultConfigBuilder()
+                .withUrl("localhost:" + port)
+                .withTimeout(5000)
+                .build());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() throws Exception {
+        client.getZooKeeperClient().close();
+        server.stop();
+    }
+
+    @Test
+    public void shouldCreateAndReadTree() throws Exception {
+        Map<String, String> nodes = new LinkedHashMap<>();
+        nodes.put("config/timeout", "1000");
+        nodes.put("config/url", "localhost");
+        nodes.put("status", "active");
+
+        ZooExecuteAction create = new ZooExecuteAction.Builder()
+                .client(client)
+                .batch(new Batch().tree("/tree", nodes))
+                .build();
+        create.execute(context);
+
+        ZooResponse createResult = (ZooResponse) create.getCommand().getCommandResult();
+        Assert.assertEquals(createResult.getResponseData().get(AbstractZooCommand.PATHS),
+                Arrays.asList("/tree", "/tree/config", "/tree/config/timeout", "/tree/config/url", "/tree/status"));
+
+        ZooExecuteAction tree = new ZooExecuteAction.Builder()
+                .client(client)
+                .tree("/tree")
+                .validate("$.responseData.nodes['/tree/config/url']", "localhost")
+                .build();
+        tree.execute(context);
+
+        Map<?, ?> result = (Map<?, ?>) ((ZooResponse) tree.getCommand().getCommandResult()).getResponseData().get(AbstractZooCommand.NODES);
+        Assert.assertEquals(result.size(), 5L);
+        Assert.assertEquals(result.get("/tree"), "");
+        Assert.assertEquals(result.get("/tree/config"), "");
+        Assert.assertEquals(result.get("/tree/config/timeout"), "1000");
+        Assert.assertEquals(result.get("/tree/status"), "active");
+    }
+
+    @Test
+    public void shouldRollbackBatch() throws Exception {
+        client.createAsync("/batch", new byte[0], ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT).get();
+
+        ZooExecuteAction batch = new ZooExecuteAction.Builder()
+                .client(client)
+                .command(new Batch()
+                        .create("/batch/first", "1")
+                        .set("/batch", "updated")
+                        .check("/batch", 0))
+                .build();
+
+        try {
+            batch.execute(context);
+            Assert.fail("Missing exception due to failed version check");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertNull(client.getZooKeeperClient().exists("/batch/first", false));
+            Assert.assertEquals(new String(client.getDataAsync("/batch").get()), "");
+        }
+    }
+
+    @Test
+    public void shouldExecuteAsyncOperations() throws Exception {
+        client.createAsync("/async", "foo".getBytes(), ZooDefs.Ids.OPEN_ACL_UNSAFE, CreateMode.PERSISTENT).get();
+        client.setDataAsync("/async", "bar".getBytes(), 0).get();
+
+        Assert.assertEquals(new String(client.getDataAsync("/async").get()), "bar");
+
+        List<String> children = client.getChildrenAsync("/").get();
+        Assert.assertTrue(children.contains("async"));
+    }
+}
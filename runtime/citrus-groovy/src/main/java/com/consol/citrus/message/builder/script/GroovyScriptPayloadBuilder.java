@@ -22,8 +22,7 @@ package com.consol.citrus.message.builder.script;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.MessagePayloadBuilder;
-import com.consol.citrus.validation.script.TemplateBasedScriptBuilder;
-import groovy.lang.GroovyClassLoader;
+import com.consol.citrus.script.GroovyScriptClassCache;
 import groovy.lang.GroovyObject;
 import org.codehaus.groovy.control.CompilationFailedException;
 import org.springframework.core.io.ClassPathResource;
@@ -60,16 +59,8 @@ public class GroovyScriptPayloadBuilder implements MessagePayloadBuilder {
      */
     protected String buildMarkupBuilderScript(String scriptData) {
         try {
-            ClassLoader parent = GroovyScriptPayloadBuilder.class.getClassLoader();
-            GroovyClassLoader loader = new GroovyClassLoader(parent);
-
-            Class<?> groovyClass = loader.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
-                    .withCode(scriptData)
-                    .build());
-
-            if (groovyClass == null) {
-                throw new CitrusRuntimeException("Could not load groovy script!");
-            }
+            Class<?> groovyClass = GroovyScriptClassCache.getDefault().getOrCompile(scriptTemplateResource, scriptData,
+                    GroovyScriptPayloadBuilder.class.getClassLoader());
 
             GroovyObject groovyObject = (GroovyObject) groovyClass.newInstance();
             return (String) groovyObject.invokeMethod("run", new Object[] {});
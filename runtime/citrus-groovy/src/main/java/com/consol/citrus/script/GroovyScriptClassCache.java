@@ -0,0 +1,247 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivilegedAction;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.consol.citrus.CitrusSettings;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.validation.script.TemplateBasedScriptBuilder;
+import groovy.lang.GroovyClassLoader;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+
+/**
+ * Bounded cache of compiled Groovy script classes. Scripts are built from a script template and a script body. Cache
+ * entries are keyed by template and hash of the script body so repeated executions of the same script
+ * do not compile the script again. Each entry uses its own class loader which gets released once the entry is evicted
+ * so generated classes can be unloaded.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public final class GroovyScriptClassCache {
+
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(GroovyScriptClassCache.class);
+
+    /** Default shared cache instance */
+    private static final GroovyScriptClassCache DEFAULT = new GroovyScriptClassCache(CitrusSettings.getGroovyScriptCacheSize());
+
+    private final int maxSize;
+
+    /** Compiled script classes in least recently used order */
+    private final Map<CacheKey, CompiledScript> scripts;
+
+    /**
+     * Constructor using max number of cached script classes.
+     * @param maxSize
+     */
+    public GroovyScriptClassCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.scripts = new LinkedHashMap<CacheKey, CompiledScript>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CompiledScript> eldest) {
+                if (size() > GroovyScriptClassCache.this.maxSize) {
+                    eldest.getValue().release();
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gets the default shared cache instance.
+     * @return
+     */
+    public static GroovyScriptClassCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Gets compiled script class for given template and script body. Compiles the script in case no cached
+     * class is available.
+     * @param scriptTemplateResource the script template.
+     * @param code the script body added to the template.
+     * @param parent the parent class loader to use for compilation.
+     * @return the compiled script class.
+     */
+    public Class<?> getOrCompile(Resource scriptTemplateResource, String code, ClassLoader parent) {
+        CacheKey key = new CacheKey(scriptTemplateResource.getDescription(), hash(code), parent);
+
+        if (maxSize > 0) {
+            synchronized (scripts) {
+                CompiledScript cached = scripts.get(key);
+                if (cached != null) {
+                    return cached.scriptClass;
+                }
+            }
+        }
+
+        CompiledScript compiled = compile(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
+                .withCode(code)
+                .build(), parent);
+
+        if (maxSize <= 0) {
+            return compiled.scriptClass;
+        }
+
+        synchronized (scripts) {
+            CompiledScript cached = scripts.putIfAbsent(key, compiled);
+            if (cached != null) {
+                // concurrently compiled by another thread
+                compiled.release();
+                return cached.scriptClass;
+            }
+        }
+
+        return compiled.scriptClass;
+    }
+
+    /**
+     * Removes all cached script classes and releases their class loaders.
+     */
+    public void clear() {
+        synchronized (scripts) {
+            scripts.values().forEach(CompiledScript::release);
+            scripts.clear();
+        }
+    }
+
+    /**
+     * Gets the number of cached script classes.
+     * @return
+     */
+    public int size() {
+        synchronized (scripts) {
+            return scripts.size();
+        }
+    }
+
+    /**
+     * Compiles given script with new Groovy class loader.
+     * @param script
+     * @param parent
+     * @return
+     */
+    private CompiledScript compile(String script, ClassLoader parent) {
+        GroovyClassLoader loader = AccessController.doPrivileged((PrivilegedAction<GroovyClassLoader>) () -> new GroovyClassLoader(parent));
+
+        try {
+            Class<?> scriptClass = loader.parseClass(script);
+            if (scriptClass == null) {
+                throw new CitrusRuntimeException("Failed to load groovy script");
+            }
+
+            return new CompiledScript(loader, scriptClass);
+        } catch (CompilationFailedException | CitrusRuntimeException e) {
+            release(loader);
+            throw e;
+        }
+    }
+
+    /**
+     * Releases given class loader so generated classes can be unloaded.
+     * @param loader
+     */
+    private static void release(GroovyClassLoader loader) {
+        loader.clearCache();
+        try {
+            loader.close();
+        } catch (IOException e) {
+            LOG.warn("Failed to close groovy script class loader", e);
+        }
+    }
+
+    /**
+     * Creates hex encoded hash of given script code.
+     * @param code
+     * @return
+     */
+    private static String hash(String code) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return new BigInteger(1, digest.digest(code.getBytes(StandardCharsets.UTF_8))).toString(16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Failed to create script hash", e);
+        }
+    }
+
+    /**
+     * Compiled script class along with the class loader that has defined the class.
+     */
+    private static class CompiledScript {
+        private final GroovyClassLoader loader;
+        private final Class<?> scriptClass;
+
+        CompiledScript(GroovyClassLoader loader, Class<?> scriptClass) {
+            this.loader = loader;
+            this.scriptClass = scriptClass;
+        }
+
+        void release() {
+            GroovyScriptClassCache.release(loader);
+        }
+    }
+
+    /**
+     * Cache key built from script template, script body hash and parent class loader.
+     */
+    private static class CacheKey {
+        private final String template;
+        private final String codeHash;
+        private final ClassLoader parent;
+
+        CacheKey(String template, String codeHash, ClassLoader parent) {
+            this.template = template;
+            this.codeHash = codeHash;
+            this.parent = parent;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey cacheKey = (CacheKey) o;
+            return template.equals(cacheKey.template) &&
+                    codeHash.equals(cacheKey.codeHash) &&
+                    parent == cacheKey.parent;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(template, codeHash, System.identityHashCode(parent));
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import groovy.lang.GroovyObject;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class GroovyScriptClassCacheTest {
+
+    private final Resource scriptTemplate = new ClassPathResource("com/consol/citrus/script/markup-builder-template.groovy");
+
+    @Test
+    public void testCachedScriptClass() throws Exception {
+        GroovyScriptClassCache cache = new GroovyScriptClassCache(10);
+
+        Class<?> scriptClass = cache.getOrCompile(scriptTemplate, "markupBuilder.TestMessage('Hello')", getClass().getClassLoader());
+        Assert.assertSame(cache.getOrCompile(new ClassPathResource("com/consol/citrus/script/markup-builder-template.groovy"),
+                "markupBuilder.TestMessage('Hello')", getClass().getClassLoader()), scriptClass);
+        Assert.assertNotSame(cache.getOrCompile(scriptTemplate, "markupBuilder.TestMessage('Bye')", getClass().getClassLoader()), scriptClass);
+        Assert.assertEquals(cache.size(), 2L);
+
+        GroovyObject groovyObject = (GroovyObject) scriptClass.getDeclaredConstructor().newInstance();
+        Assert.assertEquals(groovyObject.invokeMethod("run", new Object[] {}), "<TestMessage>Hello</TestMessage>");
+    }
+
+    @Test
+    public void testEviction() {
+        GroovyScriptClassCache cache = new GroovyScriptClassCache(2);
+
+        Class<?> first = cache.getOrCompile(scriptTemplate, "markupBuilder.TestMessage('1')", getClass().getClassLoader());
+        cache.getOrCompile(scriptTemplate, "markupBuilder.TestMessage('2')", getClass().getClassLoader());
+        cache.getOrCompile(scriptTemplate, "markupBuilder.TestMessage('3')", getClass().getClassLoader());
+
+        Assert.assertEquals(cache.size(), 2L);
+        Assert.assertNotSame(cache.getOrCompile(scriptTemplate, "markupBuilder.TestMessage('1')", getClass().getClassLoader()), first);
+
+        cache.clear();
+        Assert.assertEquals(cache.size(), 0L);
+    }
+}
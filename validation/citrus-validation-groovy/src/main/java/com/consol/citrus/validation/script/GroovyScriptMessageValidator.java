@@ -16,8 +16,6 @@
 
 package com.consol.citrus.validation.script;
 
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 import java.util.List;
 
 import com.consol.citrus.context.TestContext;
@@ -25,10 +23,10 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
+import com.consol.citrus.script.GroovyScriptClassCache;
 import com.consol.citrus.script.ScriptTypes;
 import com.consol.citrus.validation.AbstractMessageValidator;
 import com.consol.citrus.validation.context.ValidationContext;
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 import org.codehaus.groovy.control.CompilationFailedException;
 import org.slf4j.Logger;
@@ -78,18 +76,8 @@ public class GroovyScriptMessageValidator extends AbstractMessageValidator<Scrip
             if (StringUtils.hasText(validationScript)) {
                 log.debug("Start groovy message validation ...");
 
-                GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
-                    public GroovyClassLoader run() {
-                        return new GroovyClassLoader(GroovyScriptMessageValidator.class.getClassLoader());
-                    }
-                });
-                Class<?> groovyClass = loader.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
-                                                            .withCode(validationScript)
-                                                            .build());
-
-                if (groovyClass == null) {
-                    throw new CitrusRuntimeException("Failed to load groovy validation script resource");
-                }
+                Class<?> groovyClass = GroovyScriptClassCache.getDefault().getOrCompile(scriptTemplateResource, validationScript,
+                        GroovyScriptMessageValidator.class.getClassLoader());
 
                 GroovyObject groovyObject = (GroovyObject) groovyClass.newInstance();
                 ((GroovyScriptExecutor) groovyObject).validate(receivedMessage, context);
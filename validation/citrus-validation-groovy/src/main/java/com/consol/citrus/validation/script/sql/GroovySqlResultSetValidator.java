@@ -16,19 +16,16 @@
 
 package com.consol.citrus.validation.script.sql;
 
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 import java.util.List;
 import java.util.Map;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.script.GroovyScriptClassCache;
 import com.consol.citrus.script.ScriptTypes;
 import com.consol.citrus.validation.script.GroovyScriptMessageValidator;
 import com.consol.citrus.validation.script.ScriptValidationContext;
-import com.consol.citrus.validation.script.TemplateBasedScriptBuilder;
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 import org.codehaus.groovy.control.CompilationFailedException;
 import org.slf4j.Logger;
@@ -78,19 +75,8 @@ public class GroovySqlResultSetValidator implements SqlResultSetScriptValidator
                 if (StringUtils.hasText(validationScript)) {
                     log.debug("Start groovy SQL result set validation");
 
-                    GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
-                        public GroovyClassLoader run() {
-                            return new GroovyClassLoader(GroovyScriptMessageValidator.class.getClassLoader());
-                        }
-                    });
-
-                    Class<?> groovyClass = loader.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
-                                                                .withCode(validationScript)
-                                                                .build());
-
-                    if (groovyClass == null) {
-                        throw new CitrusRuntimeException("Failed to load groovy validation script resource");
-                    }
+                    Class<?> groovyClass = GroovyScriptClassCache.getDefault().getOrCompile(scriptTemplateResource, validationScript,
+                            GroovyScriptMessageValidator.class.getClassLoader());
 
                     GroovyObject groovyObject = (GroovyObject) groovyClass.newInstance();
                     ((SqlResultSetScriptExecutor) groovyObject).validate(resultSet, context);
@@ -16,13 +16,27 @@
 
 package com.consol.citrus.json;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.util.ParsedPayloadCache;
 import com.consol.citrus.validation.json.JsonPathFunctions;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.ReadContext;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
 import net.minidev.json.parser.JSONParser;
@@ -35,24 +49,165 @@ import org.springframework.util.StringUtils;
  */
 public class JsonPathUtils {
 
+    /** JsonPath configuration reading from Jackson trees */
+    private static final Configuration JSON_NODE_CONFIGURATION = Configuration.builder()
+            .jsonProvider(new JacksonJsonNodeJsonProvider())
+            .mappingProvider(new JacksonMappingProvider())
+            .build();
+
+    /** Node factory keeping the exact scale of decimal values */
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.withExactBigDecimals(true);
+
     /**
-     * Evaluate JsonPath expression on given payload string and return result as object.
+     * Parses given JSON payload string to read context.
      * @param payload
-     * @param jsonPathExpression
      * @return
      */
-    public static Object evaluate(String payload, String jsonPathExpression) {
+    public static ReadContext parseJson(String payload) {
         try {
             JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(payload);
-            ReadContext readerContext = JsonPath.parse(receivedJson);
+            return JsonPath.parse(parser.parse(payload));
+        } catch (ParseException e) {
+            throw new CitrusRuntimeException("Failed to parse JSON text", e);
+        }
+    }
+
+    /**
+     * Gets read context for given message payload. The read context works on the Jackson tree that is
+     * cached with the message, see {@link #readTree(Message, String, int)}. Results of expression evaluation
+     * are Jackson nodes, use {@link #evaluate(ReadContext, String)} to get json-smart representations instead.
+     * @param message
+     * @return
+     */
+    public static ReadContext parseJson(Message message) {
+        return parseJson(message, message.getPayload(String.class));
+    }
+
+    /**
+     * Gets read context for given payload string that has been read from the message.
+     * @param message
+     * @param payload
+     * @return
+     */
+    public static ReadContext parseJson(Message message, String payload) {
+        return JsonPath.using(JSON_NODE_CONFIGURATION).parse(readTree(message, payload, JSONParser.MODE_JSON_SIMPLE));
+    }
+
+    /**
+     * Gets Jackson tree for given payload string that has been read from the message. The payload is parsed with
+     * given json-smart parser mode so all modes accept the same JSON text as before. Parsed tree is cached with the message
+     * per parser mode so selectors, validators, schema validation and variable extractors on the same message share one tree.
+     * Callers must not modify the returned tree.
+     * @param message
+     * @param payload
+     * @param parserMode
+     * @return
+     */
+    public static JsonNode readTree(Message message, String payload, int parserMode) {
+        return (JsonNode) ParsedPayloadCache.getParsedPayload(message, payload, new JsonTreeKey(parserMode), json -> readTree(json, parserMode));
+    }
 
-            return evaluate(readerContext, jsonPathExpression);
+    /**
+     * Parses given payload string with json-smart parser mode and converts the result to a Jackson tree.
+     * @param payload
+     * @param parserMode
+     * @return
+     */
+    public static JsonNode readTree(String payload, int parserMode) {
+        try {
+            return toJsonNode(new JSONParser(parserMode).parse(payload));
         } catch (ParseException e) {
             throw new CitrusRuntimeException("Failed to parse JSON text", e);
         }
     }
 
+    /**
+     * Converts json-smart object representation to Jackson tree. Number types are preserved.
+     * @param json
+     * @return
+     */
+    private static JsonNode toJsonNode(Object json) {
+        if (json == null) {
+            return NODE_FACTORY.nullNode();
+        } else if (json instanceof Map) {
+            ObjectNode node = NODE_FACTORY.objectNode();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) json).entrySet()) {
+                node.set(String.valueOf(entry.getKey()), toJsonNode(entry.getValue()));
+            }
+            return node;
+        } else if (json instanceof List) {
+            ArrayNode node = NODE_FACTORY.arrayNode();
+            for (Object item : (List<?>) json) {
+                node.add(toJsonNode(item));
+            }
+            return node;
+        } else if (json instanceof Boolean) {
+            return NODE_FACTORY.booleanNode((Boolean) json);
+        } else if (json instanceof Integer) {
+            return NODE_FACTORY.numberNode((Integer) json);
+        } else if (json instanceof Long) {
+            return NODE_FACTORY.numberNode((Long) json);
+        } else if (json instanceof BigInteger) {
+            return NODE_FACTORY.numberNode((BigInteger) json);
+        } else if (json instanceof Double) {
+            return NODE_FACTORY.numberNode((Double) json);
+        } else if (json instanceof Float) {
+            return NODE_FACTORY.numberNode((Float) json);
+        } else if (json instanceof BigDecimal) {
+            return NODE_FACTORY.numberNode((BigDecimal) json);
+        } else if (json instanceof Number) {
+            return NODE_FACTORY.numberNode(((Number) json).longValue());
+        } else {
+            return NODE_FACTORY.textNode(json.toString());
+        }
+    }
+
+    /**
+     * Converts Jackson tree to json-smart object representation. Values that are no Jackson nodes are returned as is.
+     * @param json
+     * @return
+     */
+    public static Object toJsonSmart(Object json) {
+        if (!(json instanceof JsonNode)) {
+            return json;
+        }
+
+        JsonNode node = (JsonNode) json;
+        if (node.isObject()) {
+            JSONObject object = new JSONObject();
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                object.put(field.getKey(), toJsonSmart(field.getValue()));
+            }
+            return object;
+        } else if (node.isArray()) {
+            JSONArray array = new JSONArray();
+            for (JsonNode item : node) {
+                array.add(toJsonSmart(item));
+            }
+            return array;
+        } else if (node.isNumber()) {
+            return node.numberValue();
+        } else if (node.isBoolean()) {
+            return node.booleanValue();
+        } else if (node.isNull() || node.isMissingNode()) {
+            return null;
+        } else {
+            return node.asText();
+        }
+    }
+
+    /**
+     * Evaluate JsonPath expression on given payload string and return result as object.
+     * @param payload
+     * @param jsonPathExpression
+     * @return
+     */
+    public static Object evaluate(String payload, String jsonPathExpression) {
+        return evaluate(parseJson(payload), jsonPathExpression);
+    }
+
     /**
      * Evaluate JsonPath expression using given read context and return result as object.
      * @param readerContext
@@ -73,9 +228,9 @@ public class JsonPathUtils {
         PathNotFoundException pathNotFoundException = null;
         try {
             if (JsonPath.isPathDefinite(expression)) {
-                jsonPathResult = readerContext.read(expression);
+                jsonPathResult = toJsonSmart(readerContext.read(expression));
             } else {
-                JSONArray values = readerContext.read(expression);
+                JSONArray values = (JSONArray) toJsonSmart(readerContext.read(expression));
                 if (values.size() == 1) {
                     jsonPathResult = values.get(0);
                 } else {
@@ -104,15 +259,7 @@ public class JsonPathUtils {
      * @return
      */
     public static String evaluateAsString(String payload, String jsonPathExpression) {
-        try {
-            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(payload);
-            ReadContext readerContext = JsonPath.parse(receivedJson);
-
-            return evaluateAsString(readerContext, jsonPathExpression);
-        } catch (ParseException e) {
-            throw new CitrusRuntimeException("Failed to parse JSON text", e);
-        }
+        return evaluateAsString(parseJson(payload), jsonPathExpression);
     }
 
     /**
@@ -132,4 +279,25 @@ public class JsonPathUtils {
             return Optional.ofNullable(jsonPathResult).map(Object::toString).orElse("null");
         }
     }
+
+    /**
+     * Cache key for Jackson trees parsed with a json-smart parser mode.
+     */
+    private static final class JsonTreeKey {
+        private final int parserMode;
+
+        JsonTreeKey(int parserMode) {
+            this.parserMode = parserMode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof JsonTreeKey && ((JsonTreeKey) o).parserMode == parserMode;
+        }
+
+        @Override
+        public int hashCode() {
+            return parserMode;
+        }
+    }
 }
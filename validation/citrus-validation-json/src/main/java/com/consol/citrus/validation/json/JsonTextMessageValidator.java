@@ -25,6 +25,7 @@ import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.json.JsonPathUtils;
 import com.consol.citrus.json.JsonSchemaRepository;
 import com.consol.citrus.json.JsonSettings;
 import com.consol.citrus.message.Message;
@@ -101,7 +102,7 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
 
             JSONParser parser = new JSONParser(permissiveMode);
 
-            Object receivedJson = parser.parse(receivedJsonText);
+            Object receivedJson = JsonPathUtils.toJsonSmart(JsonPathUtils.readTree(receivedMessage, receivedJsonText, permissiveMode));
             ReadContext readContext = JsonPath.parse(receivedJson);
             Object controlJson = parser.parse(controlJsonText);
             if (receivedJson instanceof JSONObject) {
@@ -18,7 +18,10 @@ package com.consol.citrus.validation.json.schema;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import com.consol.citrus.spi.ReferenceResolver;
@@ -40,6 +43,9 @@ public class JsonSchemaFilter {
 
     protected final Logger log = LoggerFactory.getLogger(this.getClass());
 
+    /** Schemas resolved by name per reference resolver */
+    private final Map<ReferenceResolver, Map<String, SimpleJsonSchema>> resolvedSchemas = Collections.synchronizedMap(new WeakHashMap<>());
+
     /**
      * Filters the all schema repositories based on the configuration in the jsonMessageValidationContext
      * and returns a list of relevant schemas for the validation
@@ -61,7 +67,8 @@ public class JsonSchemaFilter {
     }
 
     /**
-     * Extracts the the schema specified in the jsonMessageValidationContext from the application context
+     * Extracts the the schema specified in the jsonMessageValidationContext from the application context. Resolved schemas
+     * are cached per reference resolver so subsequent validations do not lookup the schema again.
      * @param jsonMessageValidationContext The message validation context containing the name of the schema to extract
      * @param referenceResolver holding bean references for lookup.
      * @return A list containing the relevant schema
@@ -69,9 +76,18 @@ public class JsonSchemaFilter {
      */
     private List<SimpleJsonSchema> getSchemaFromContext(JsonMessageValidationContext jsonMessageValidationContext,
                                                         ReferenceResolver referenceResolver) {
+        Map<String, SimpleJsonSchema> schemas = resolvedSchemas.computeIfAbsent(referenceResolver, key -> new ConcurrentHashMap<>());
+        SimpleJsonSchema cached = schemas.get(jsonMessageValidationContext.getSchema());
+        if (cached != null) {
+            return Collections.singletonList(cached);
+        }
+
         try {
             SimpleJsonSchema simpleJsonSchema =
                     referenceResolver.resolve(jsonMessageValidationContext.getSchema(), SimpleJsonSchema.class);
+            if (simpleJsonSchema != null) {
+                schemas.put(jsonMessageValidationContext.getSchema(), simpleJsonSchema);
+            }
 
             if (log.isDebugEnabled()) {
                 log.debug("Found specified schema: \"" + jsonMessageValidationContext.getSchema() + "\".");
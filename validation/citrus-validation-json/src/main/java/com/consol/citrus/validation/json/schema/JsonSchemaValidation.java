@@ -16,22 +16,22 @@
 
 package com.consol.citrus.validation.json.schema;
 
-import java.io.IOException;
 import java.util.LinkedList;
 import java.util.List;
 
 import com.consol.citrus.spi.ReferenceResolver;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.json.JsonPathUtils;
 import com.consol.citrus.json.JsonSchemaRepository;
 import com.consol.citrus.json.schema.SimpleJsonSchema;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.validation.json.JsonMessageValidationContext;
 import com.consol.citrus.validation.json.report.GraciousProcessingReport;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonschema.core.exceptions.ProcessingException;
 import com.github.fge.jsonschema.core.report.DevNullProcessingReport;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
+import net.minidev.json.parser.JSONParser;
 
 /**
  * This class is responsible for the validation of json messages against json schemas / json schema repositories.
@@ -41,9 +41,6 @@ public class JsonSchemaValidation {
 
     private final JsonSchemaFilter jsonSchemaFilter;
 
-    /** Object Mapper to convert the message for validation*/
-    private ObjectMapper objectMapper = new ObjectMapper();
-
     /**
      * Default constructor using default filter.
      */
@@ -83,29 +80,30 @@ public class JsonSchemaValidation {
         if (jsonSchemas.isEmpty()) {
             return new GraciousProcessingReport(true);
         } else {
+            JsonNode receivedJson = JsonPathUtils.readTree(message, message.getPayload(String.class), JSONParser.MODE_JSON_SIMPLE);
+
             List<ProcessingReport> processingReports = new LinkedList<>();
             for (SimpleJsonSchema simpleJsonSchema : jsonSchemas) {
-                processingReports.add(validate(message, simpleJsonSchema));
+                processingReports.add(validate(receivedJson, simpleJsonSchema));
             }
             return new GraciousProcessingReport(processingReports);
         }
     }
 
     /**
-     * Validates a given message against a given json schema
-     * @param message The message to be validated
+     * Validates a given json tree against a given json schema
+     * @param receivedJson The parsed json to be validated
      * @param simpleJsonSchema The json schema to validate against
      * @return returns the report holding the result of the validation
      */
-    private ProcessingReport validate(Message message, SimpleJsonSchema simpleJsonSchema) {
+    private ProcessingReport validate(JsonNode receivedJson, SimpleJsonSchema simpleJsonSchema) {
         try {
-            JsonNode receivedJson = objectMapper.readTree(message.getPayload(String.class));
             if (receivedJson.isEmpty()) {
                 return new DevNullProcessingReport();
             } else {
                 return simpleJsonSchema.getSchema().validate(receivedJson);
             }
-        } catch (IOException | ProcessingException e) {
+        } catch (ProcessingException e) {
             throw new CitrusRuntimeException("Failed to validate Json schema", e);
         }
     }
@@ -18,6 +18,7 @@ package com.consol.citrus.message.selector;
 
 import com.consol.citrus.UnitTestSupport;
 import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -55,4 +56,23 @@ public class JsonPathPayloadMessageSelectorTest extends UnitTestSupport {
         Assert.assertFalse(messageSelector.accept(new DefaultMessage(new DefaultMessage("{ \"bar\": { \"text\": \"foobar\" } }"))));
         Assert.assertFalse(messageSelector.accept(new DefaultMessage(new DefaultMessage("This is plain text!"))));
     }
+
+    @Test
+    public void testJsonPathEvaluationCachedPayload() {
+        JsonPathPayloadMessageSelector fooSelector = new JsonPathPayloadMessageSelector("jsonPath:$.foo.text", "foobar", context);
+        JsonPathPayloadMessageSelector idSelector = new JsonPathPayloadMessageSelector("jsonPath:$.foo.id", "1", context);
+
+        Message message = new DefaultMessage("{ \"foo\": { \"id\": 1, \"text\": \"foobar\" } }");
+        Assert.assertTrue(fooSelector.accept(message));
+        Assert.assertTrue(idSelector.accept(message));
+        Assert.assertTrue(fooSelector.accept(message));
+
+        message.setPayload("{ \"foo\": { \"id\": 2, \"text\": \"barfoo\" } }");
+        Assert.assertFalse(fooSelector.accept(message));
+        Assert.assertFalse(idSelector.accept(message));
+
+        message.setPayload("{ invalid");
+        Assert.assertFalse(fooSelector.accept(message));
+        Assert.assertFalse(idSelector.accept(message));
+    }
 }
@@ -22,6 +22,7 @@ import java.util.List;
 import com.consol.citrus.UnitTestSupport;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.json.JsonPathUtils;
 import com.consol.citrus.json.JsonSchemaRepository;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
@@ -32,6 +33,8 @@ import com.consol.citrus.validation.json.report.GraciousProcessingReport;
 import com.consol.citrus.validation.json.schema.JsonSchemaValidation;
 import com.consol.citrus.validation.script.ScriptValidationContext;
 import com.consol.citrus.validation.xml.XmlMessageValidationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.jayway.jsonpath.ReadContext;
 import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.testng.Assert;
@@ -493,4 +496,28 @@ public class JsonTextMessageValidatorTest extends UnitTestSupport {
         JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
         validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
     }
+
+    @Test
+    public void testParsedTreeIsSharedPerPermissiveMode() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+        validator.setPermissiveMode(JSONParser.MODE_PERMISSIVE);
+
+        String payload = "{'text':'Hello World!', 'index':5, 'items':[{'id':1},{'id':2}]}";
+        Message receivedMessage = new DefaultMessage(payload);
+        Message controlMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5, \"items\":[{\"id\":1},{\"id\":2}]}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+
+        JsonNode permissiveTree = JsonPathUtils.readTree(receivedMessage, payload, JSONParser.MODE_PERMISSIVE);
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+        Assert.assertSame(JsonPathUtils.readTree(receivedMessage, payload, JSONParser.MODE_PERMISSIVE), permissiveTree);
+
+        Message jsonMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"items\":[{\"id\":1},{\"id\":2}]}");
+        ReadContext readContext = JsonPathUtils.parseJson(jsonMessage);
+        Assert.assertSame(readContext.json(), JsonPathUtils.readTree(jsonMessage, jsonMessage.getPayload(String.class), JSONParser.MODE_JSON_SIMPLE));
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(readContext, "$.text"), "Hello World!");
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(readContext, "$.items[*].id"), "[1,2]");
+        Assert.assertEquals(JsonPathUtils.evaluateAsString(readContext, "$.items[0]"), "{\"id\":1}");
+    }
 }
@@ -33,6 +33,7 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -237,4 +238,27 @@ public class JsonSchemaFilterTest {
         Assert.assertTrue(simpleJsonSchemas.contains(secondSimpleJsonSchema));
         Assert.assertTrue(simpleJsonSchemas.contains(thirdSimpleJsonSchema));
     }
+
+    @Test
+    public void testFilterOnSchemaNameCachesResolvedSchema() {
+
+        //GIVEN
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext.Builder()
+                .schemaValidation(true)
+                .schema("mySchema")
+                .build();
+
+        SimpleJsonSchema expectedSimpleJsonSchema = mock(SimpleJsonSchema.class);
+        when(referenceResolverMock.resolve(validationContext.getSchema(), SimpleJsonSchema.class))
+                .thenReturn(expectedSimpleJsonSchema);
+
+        //WHEN
+        List<SimpleJsonSchema> first = jsonSchemaFilter.filter(Collections.emptyList(), validationContext, referenceResolverMock);
+        List<SimpleJsonSchema> second = jsonSchemaFilter.filter(Collections.emptyList(), validationContext, referenceResolverMock);
+
+        //THEN
+        Assert.assertEquals(first.get(0), expectedSimpleJsonSchema);
+        Assert.assertEquals(second.get(0), expectedSimpleJsonSchema);
+        verify(referenceResolverMock, times(1)).resolve(validationContext.getSchema(), SimpleJsonSchema.class);
+    }
 }
@@ -247,4 +247,35 @@ public class JsonSchemaValidationTest {
         verify(jsonSchemaFilterMock).filter(repositoryList, jsonMessageValidationContext, referenceResolverMock);
     }
 
+
+    @Test
+    public void testRepeatedValidationOfSameMessage() throws Exception {
+
+        //GIVEN
+        JsonSchemaRepository jsonSchemaRepository = new JsonSchemaRepository();
+        jsonSchemaRepository.setName("schemaRepository1");
+        Resource schemaResource = new ClassPathResource("com/consol/citrus/validation/ProductsSchema.json");
+        SimpleJsonSchema schema = new SimpleJsonSchema(schemaResource);
+        schema.initialize();
+        jsonSchemaRepository.getSchemas().add(schema);
+
+        List<JsonSchemaRepository> schemaRepositories = Collections.singletonList(jsonSchemaRepository);
+
+        when(jsonSchemaFilterMock.filter(schemaRepositories,  validationContextMock, referenceResolverMock))
+                .thenReturn(Collections.singletonList(schema));
+
+        Message receivedMessage = new DefaultMessage("[ { \"id\": 2, \"name\": \"An ice sculpture\", \"price\": 12.50 } ]");
+
+        //WHEN
+        ProcessingReport report = validator.validate(receivedMessage, schemaRepositories, validationContextMock, referenceResolverMock);
+        ProcessingReport repeated = validator.validate(receivedMessage, schemaRepositories, validationContextMock, referenceResolverMock);
+
+        receivedMessage.setPayload("[ { \"name\": \"An ice sculpture\", \"price\": 12.50 } ]");
+        ProcessingReport changed = validator.validate(receivedMessage, schemaRepositories, validationContextMock, referenceResolverMock);
+
+        //THEN
+        Assert.assertTrue(report.isSuccess());
+        Assert.assertTrue(repeated.isSuccess());
+        Assert.assertFalse(changed.isSuccess());
+    }
 }
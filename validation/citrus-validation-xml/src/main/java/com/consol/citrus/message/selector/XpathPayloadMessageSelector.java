@@ -58,12 +58,24 @@ public class XpathPayloadMessageSelector extends AbstractMessageSelector {
         Document doc;
 
         try {
-            doc = XMLUtils.parseMessagePayload(getPayloadAsString(message));
+            doc = getParsedPayload(message, Document.class, XMLUtils::parseMessagePayload);
         } catch (LSException e) {
             log.warn("Ignoring non XML message for XPath message selector (" + e.getClass().getName() + ")");
             return false; // non XML message - not accepted
         }
 
+        // cached document is shared with other selectors and DOM implementations are not thread safe on read
+        synchronized (doc) {
+            return evaluateXpath(doc);
+        }
+    }
+
+    /**
+     * Evaluates XPath expression on given document.
+     * @param doc
+     * @return
+     */
+    private boolean evaluateXpath(Document doc) {
         try {
             Map<String, String> namespaces = XMLUtils.lookupNamespaces(doc);
 
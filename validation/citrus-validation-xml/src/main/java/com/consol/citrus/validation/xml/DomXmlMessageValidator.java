@@ -18,16 +18,12 @@ package com.consol.citrus.validation.xml;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
-import javax.xml.transform.TransformerException;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 
 import com.consol.citrus.CitrusSettings;
 import com.consol.citrus.XmlValidationHelper;
@@ -42,20 +38,17 @@ import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.validation.AbstractMessageValidator;
 import com.consol.citrus.validation.ValidationUtils;
 import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+import com.consol.citrus.xml.DomPayloadSource;
 import com.consol.citrus.xml.XsdSchemaRepository;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
-import com.consol.citrus.xml.schema.WsdlXsdSchema;
-import com.consol.citrus.xml.schema.XsdSchemaCollection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.util.xml.DomUtils;
 import org.springframework.xml.validation.XmlValidator;
-import org.springframework.xml.validation.XmlValidatorFactory;
 import org.springframework.xml.xsd.XsdSchema;
 import org.w3c.dom.DOMException;
 import org.w3c.dom.Document;
@@ -80,9 +73,6 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
     private NamespaceContextBuilder namespaceContextBuilder;
 
-    /** Transformer factory */
-    private final TransformerFactory transformerFactory = TransformerFactory.newInstance();
-
     @Override
     public void validateMessage(Message receivedMessage, Message controlMessage,
                                 TestContext context, XmlMessageValidationContext validationContext) throws ValidationException {
@@ -144,7 +134,8 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         }
 
         try {
-            Document doc = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+            Document doc = getPayloadSource(receivedMessage)
+                    .orElseGet(() -> XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class)));
 
             if (!StringUtils.hasText(doc.getFirstChild().getNamespaceURI())) {
                 return;
@@ -154,6 +145,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
             XmlValidator validator = null;
             XsdSchemaRepository schemaRepository = null;
+            SAXParseException[] results;
             List<XsdSchemaRepository> schemaRepositories = XmlValidationHelper.getSchemaRepositories(context);
             if (validationContext.getSchema() != null) {
                 validator = context.getReferenceResolver().resolve(validationContext.getSchema(), XsdSchema.class).createValidator();
@@ -181,29 +173,11 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                             schemaRepository.getName()));
                 }
 
-                List<Resource> schemas = new ArrayList<>();
-                for (XsdSchema xsdSchema : schemaRepository.getSchemas()) {
-                    if (xsdSchema instanceof XsdSchemaCollection) {
-                        schemas.addAll(((XsdSchemaCollection) xsdSchema).getSchemaResources());
-                    } else if (xsdSchema instanceof WsdlXsdSchema) {
-                        schemas.addAll(((WsdlXsdSchema) xsdSchema).getSchemaResources());
-                    } else {
-                        synchronized (transformerFactory) {
-                            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                            try {
-                                transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
-                            } catch (TransformerException e) {
-                                throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
-                            }
-                            schemas.add(new ByteArrayResource(bos.toByteArray()));
-                        }
-                    }
-                }
-
-                validator = XmlValidatorFactory.createValidator(schemas.toArray(new Resource[schemas.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+                results = schemaRepository.validate(new DOMSource(doc));
+            } else {
+                results = validator.validate(new DOMSource(doc));
             }
 
-            SAXParseException[] results = validator.validate(new DOMSource(doc));
             if (results.length == 0) {
                 LOG.info("XML schema validation successful: All values OK");
             } else {
@@ -340,7 +314,10 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         LOG.debug("Start XML tree validation ...");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        // validation strips whitespace nodes so work on a copy of the shared payload source
+        Document received = getPayloadSource(receivedMessage)
+                .map(doc -> (Document) doc.cloneNode(true))
+                .orElseGet(() -> XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class)));
         Document source = XMLUtils.parseMessagePayload(controlMessagePayload);
 
         XMLUtils.stripWhitespaceNodes(received);
@@ -355,6 +332,22 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                 .buildContext(receivedMessage, validationContext.getNamespaces()), context);
     }
 
+    /**
+     * Gets the already parsed payload document if the given message provides a DOM payload source.
+     * @param message
+     * @return
+     */
+    private Optional<Document> getPayloadSource(Message message) {
+        if (message instanceof DomPayloadSource) {
+            DOMSource payloadSource = ((DomPayloadSource) message).getPayloadSource();
+            if (payloadSource != null && payloadSource.getNode() instanceof Document) {
+                return Optional.of((Document) payloadSource.getNode());
+            }
+        }
+
+        return Optional.empty();
+    }
+
     /**
      * Validates XML header fragment data.
      * @param receivedHeaderData
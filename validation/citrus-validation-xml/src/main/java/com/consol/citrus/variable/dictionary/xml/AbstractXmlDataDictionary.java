@@ -17,6 +17,8 @@
 package com.consol.citrus.variable.dictionary.xml;
 
 import java.io.StringWriter;
+import java.util.Map;
+import java.util.function.BiFunction;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.Message;
@@ -24,6 +26,8 @@ import com.consol.citrus.message.MessageType;
 import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.validation.xhtml.XhtmlMessageConverter;
 import com.consol.citrus.variable.dictionary.AbstractDataDictionary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
 import org.springframework.util.xml.DomUtils;
 import org.w3c.dom.Attr;
@@ -45,6 +49,9 @@ import org.w3c.dom.traversal.NodeFilter;
  */
 public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<Node> {
 
+    /** Logger */
+    private static final Logger LOG = LoggerFactory.getLogger(AbstractXmlDataDictionary.class);
+
     @Override
     protected void processMessage(Message message, TestContext context) {
         if (message.getPayload() == null || !StringUtils.hasText(message.getPayload(String.class))) {
@@ -60,7 +67,7 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
 
         LSSerializer serializer = XMLUtils.createLSSerializer();
 
-        serializer.setFilter(new TranslateFilter(context));
+        serializer.setFilter(new TranslateFilter(createTranslator(doc, context)));
 
         LSOutput output = XMLUtils.createLSOutput();
         String charset = XMLUtils.getTargetCharset(doc).displayName();
@@ -74,14 +81,59 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
         message.setPayload(writer.toString());
     }
 
+    /**
+     * Creates translator for given message document. Default translator delegates to {@link #translate(Node, Object, TestContext)}
+     * for each element and attribute. Subclasses may evaluate their mappings once per document instead.
+     * @param doc the message document.
+     * @param context the current test context.
+     * @return translator receiving node and original value returning the translated value.
+     */
+    protected BiFunction<Node, String, String> createTranslator(Document doc, TestContext context) {
+        return (node, value) -> translate(node, value, context);
+    }
+
+    /**
+     * Checks if a subclass overrides {@link #translate(Node, Object, TestContext)} as declared in given base class.
+     * Translators working on precomputed node mappings must not be used then as they would bypass the custom translation logic.
+     * @param baseClass the class declaring the translation logic that precomputed node mappings reflect.
+     * @return true if translate method is declared in some other class than the given base class.
+     */
+    protected boolean isTranslateOverridden(Class<?> baseClass) {
+        try {
+            return !getClass().getMethod("translate", Node.class, Object.class, TestContext.class).getDeclaringClass().equals(baseClass);
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Creates translator looking up mapping values in given node mappings.
+     * @param nodeMappings identity map of node to mapping value.
+     * @param context the current test context.
+     * @return translator receiving node and original value returning the translated value.
+     */
+    protected BiFunction<Node, String, String> createTranslator(Map<Node, String> nodeMappings, TestContext context) {
+        return (node, value) -> {
+            String mapping = nodeMappings.get(node);
+            if (mapping == null) {
+                return value;
+            }
+
+            if (LOG.isDebugEnabled()) {
+                LOG.debug(String.format("Data dictionary setting element '%s' value: %s", XMLUtils.getNodesPathName(node), mapping));
+            }
+            return convertIfNecessary(mapping, value, context);
+        };
+    }
+
     /**
      * Serializer filter uses data dictionary translation on elements and attributes.
      */
-    private class TranslateFilter implements LSSerializerFilter {
-        private TestContext context;
+    private static class TranslateFilter implements LSSerializerFilter {
+        private final BiFunction<Node, String, String> translator;
 
-        public TranslateFilter(TestContext context) {
-            this.context = context;
+        public TranslateFilter(BiFunction<Node, String, String> translator) {
+            this.translator = translator;
         }
 
         @Override
@@ -95,9 +147,9 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
                 Element element = (Element) node;
 
                 if (StringUtils.hasText(DomUtils.getTextValue(element))) {
-                    element.setTextContent(translate(element, DomUtils.getTextValue(element), context));
+                    element.setTextContent(translator.apply(element, DomUtils.getTextValue(element)));
                 } else if (!element.hasChildNodes()) {
-                    String translated = translate(element, "", context);
+                    String translated = translator.apply(element, "");
                     if (StringUtils.hasText(translated)) {
                         element.appendChild(element.getOwnerDocument().createTextNode(translated));
                     }
@@ -106,7 +158,7 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
                 NamedNodeMap attributes = element.getAttributes();
                 for (int i = 0; i < attributes.getLength(); i++) {
                     Attr attribute = (Attr) attributes.item(i);
-                    attribute.setValue(translate(attribute, attribute.getNodeValue(), context));
+                    attribute.setValue(translator.apply(attribute, attribute.getNodeValue()));
                 }
             }
 
@@ -16,7 +16,15 @@
 
 package com.consol.citrus.variable.dictionary.xml;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiFunction;
 
 import com.consol.citrus.common.InitializingPhase;
 import com.consol.citrus.context.TestContext;
@@ -24,6 +32,9 @@ import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.variable.dictionary.DataDictionary;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 
 /**
@@ -71,4 +82,94 @@ public class NodeMappingDataDictionary extends AbstractXmlDataDictionary impleme
 
         return value;
     }
+
+    @Override
+    protected BiFunction<Node, String, String> createTranslator(Document doc, TestContext context) {
+        if (isTranslateOverridden(NodeMappingDataDictionary.class)) {
+            return super.createTranslator(doc, context);
+        }
+
+        Map<Node, String> nodeMappings = new IdentityHashMap<>();
+
+        if (doc.getDocumentElement() != null && !mappings.isEmpty()) {
+            collectNodeMappings(doc.getDocumentElement(), doc.getDocumentElement().getLocalName(), new PathMappings(), nodeMappings);
+        }
+
+        return createTranslator(nodeMappings, context);
+    }
+
+    /**
+     * Walks the element tree once and resolves mappings for all elements and attributes. Node paths are built
+     * incrementally from the parent path.
+     * @param element
+     * @param elementPath
+     * @param pathMappings
+     * @param nodeMappings
+     */
+    private void collectNodeMappings(Element element, String elementPath, PathMappings pathMappings, Map<Node, String> nodeMappings) {
+        pathMappings.resolve(elementPath).ifPresent(value -> nodeMappings.put(element, value));
+
+        NamedNodeMap attributes = element.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            Node attribute = attributes.item(i);
+            pathMappings.resolve(elementPath + "." + attribute.getLocalName()).ifPresent(value -> nodeMappings.put(attribute, value));
+        }
+
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                collectNodeMappings((Element) child, elementPath + "." + child.getLocalName(), pathMappings, nodeMappings);
+            }
+        }
+    }
+
+    /**
+     * Mapping lookup for a single message. Keys are indexed by their length so ends with and starts with strategies
+     * only need one lookup per distinct key length instead of testing all mappings for each node.
+     */
+    private class PathMappings {
+        private final Map<String, Integer> order = new HashMap<>();
+        private final List<String> values = new ArrayList<>();
+        private final int[] keyLengths;
+
+        PathMappings() {
+            Set<Integer> lengths = new TreeSet<>();
+            for (Map.Entry<String, String> entry : mappings.entrySet()) {
+                order.put(entry.getKey(), values.size());
+                values.add(entry.getValue());
+                lengths.add(entry.getKey().length());
+            }
+
+            keyLengths = lengths.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        Optional<String> resolve(String nodePath) {
+            if (getPathMappingStrategy().equals(DataDictionary.PathMappingStrategy.EXACT)) {
+                return Optional.ofNullable(mappings.get(nodePath));
+            }
+
+            int match = -1;
+            for (int length : keyLengths) {
+                if (length > nodePath.length()) {
+                    break;
+                }
+
+                String key;
+                if (getPathMappingStrategy().equals(DataDictionary.PathMappingStrategy.ENDS_WITH)) {
+                    key = nodePath.substring(nodePath.length() - length);
+                } else if (getPathMappingStrategy().equals(DataDictionary.PathMappingStrategy.STARTS_WITH)) {
+                    key = nodePath.substring(0, length);
+                } else {
+                    return Optional.empty();
+                }
+
+                Integer index = order.get(key);
+                if (index != null && (match < 0 || index < match)) {
+                    // first mapping in mapping order wins
+                    match = index;
+                }
+            }
+
+            return match < 0 ? Optional.empty() : Optional.of(values.get(match));
+        }
+    }
 }
@@ -18,7 +18,9 @@ package com.consol.citrus.variable.dictionary.xml;
 
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.xpath.XPathConstants;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.function.BiFunction;
 
 import com.consol.citrus.XmlValidationHelper;
 import com.consol.citrus.common.InitializingPhase;
@@ -30,6 +32,7 @@ import com.consol.citrus.xml.xpath.XPathUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.xml.SimpleNamespaceContext;
+import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
@@ -68,6 +71,30 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
         return value;
     }
 
+    @Override
+    protected BiFunction<Node, String, String> createTranslator(Document doc, TestContext context) {
+        if (isTranslateOverridden(XpathMappingDataDictionary.class)) {
+            return super.createTranslator(doc, context);
+        }
+
+        Map<Node, String> nodeMappings = new IdentityHashMap<>();
+        NamespaceContext namespaceContext = buildNamespaceContext(doc, context);
+
+        for (Map.Entry<String, String> expressionEntry : mappings.entrySet()) {
+            NodeList findings = (NodeList) XPathUtils.evaluateExpression(doc, expressionEntry.getKey(),
+                    namespaceContext, XPathConstants.NODESET);
+
+            if (findings != null) {
+                for (int i = 0; i < findings.getLength(); i++) {
+                    // first matching expression wins
+                    nodeMappings.putIfAbsent(findings.item(i), expressionEntry.getValue());
+                }
+            }
+        }
+
+        return createTranslator(nodeMappings, context);
+    }
+
     /**
      * Checks if given node set contains node.
      * @param findings
@@ -93,7 +120,7 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
      */
     private NamespaceContext buildNamespaceContext(Node node, TestContext context) {
         SimpleNamespaceContext simpleNamespaceContext = new SimpleNamespaceContext();
-        Map<String, String> namespaces = XMLUtils.lookupNamespaces(node.getOwnerDocument());
+        Map<String, String> namespaces = XMLUtils.lookupNamespaces(node instanceof Document ? node : node.getOwnerDocument());
 
         // add default namespace mappings
         namespaces.putAll(getNamespaceContextBuilder(context).getNamespaceMappings());
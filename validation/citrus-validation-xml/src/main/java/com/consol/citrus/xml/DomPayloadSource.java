@@ -0,0 +1,35 @@
+/*
+ * Copyright 2021 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import javax.xml.transform.dom.DOMSource;
+
+/**
+ * Messages implementing this interface are able to provide an already parsed DOM representation of their payload.
+ * XML validators may use the source directly instead of parsing the String payload once again.
+ *
+ * @author Christoph Deppisch
+ * @since 3.2
+ */
+public interface DomPayloadSource {
+
+    /**
+     * Gets the DOM source representing the message payload or null if not available.
+     * @return
+     */
+    DOMSource getPayloadSource();
+}
@@ -17,6 +17,13 @@
 package com.consol.citrus.xml;
 
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.Source;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.validation.Schema;
+import javax.xml.validation.Validator;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -26,15 +33,20 @@ import com.consol.citrus.common.Named;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.xml.schema.TargetNamespaceSchemaMappingStrategy;
 import com.consol.citrus.xml.schema.WsdlXsdSchema;
+import com.consol.citrus.xml.schema.XsdSchemaCollection;
 import com.consol.citrus.xml.schema.XsdSchemaMappingStrategy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.xml.validation.SchemaLoaderUtils;
 import org.springframework.xml.xsd.SimpleXsdSchema;
 import org.springframework.xml.xsd.XsdSchema;
 import org.w3c.dom.Document;
+import org.xml.sax.ErrorHandler;
 import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
 
 /**
  * Schema repository holding a set of XML schema resources known in the test scope.
@@ -55,6 +67,12 @@ public class XsdSchemaRepository implements Named, InitializingPhase {
     /** Mapping strategy */
     private XsdSchemaMappingStrategy schemaMappingStrategy = new TargetNamespaceSchemaMappingStrategy();
 
+    /** Compiled grammar of all schemas in this repository, lazily created and invalidated on schema changes */
+    private volatile CompiledSchema compiledSchema;
+
+    /** Validator instances per thread, validators are not thread safe but cheap to reuse on the same compiled schema */
+    private final ThreadLocal<ValidatorHolder> validators = new ThreadLocal<>();
+
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(XsdSchemaRepository.class);
 
@@ -68,6 +86,99 @@ public class XsdSchemaRepository implements Named, InitializingPhase {
         return schema != null;
     }
 
+    /**
+     * Validates given source with all schemas in this repository. Grammar of the repository is compiled once
+     * and reused as long as the repository schemas do not change. Each thread uses its own validator instance.
+     * @param source the source to validate.
+     * @return validation errors, empty array when source is valid.
+     * @throws IOException
+     */
+    public SAXParseException[] validate(Source source) throws IOException {
+        Schema schema = getCompiledSchema();
+
+        ValidatorHolder holder = validators.get();
+        if (holder == null || holder.schema != schema) {
+            holder = new ValidatorHolder(schema);
+            validators.set(holder);
+        } else {
+            holder.validator.reset();
+        }
+
+        CollectingErrorHandler errorHandler = new CollectingErrorHandler();
+        holder.validator.setErrorHandler(errorHandler);
+        try {
+            holder.validator.validate(source);
+        } catch (SAXException e) {
+            throw new CitrusRuntimeException("Failed to validate source with schema repository " + name, e);
+        }
+
+        return errorHandler.getErrors();
+    }
+
+    /**
+     * Gets the compiled grammar of all schemas in this repository. Grammar is compiled on first access and
+     * compiled again once the list of schemas has changed.
+     * @return the compiled schema.
+     */
+    public Schema getCompiledSchema() {
+        CompiledSchema current = compiledSchema;
+        if (current != null && current.isUpToDate(schemas)) {
+            return current.schema;
+        }
+
+        synchronized (this) {
+            current = compiledSchema;
+            if (current == null || !current.isUpToDate(schemas)) {
+                current = compileSchema();
+                compiledSchema = current;
+            }
+
+            return current.schema;
+        }
+    }
+
+    /**
+     * Compiles all schemas in this repository to a single grammar.
+     * @return
+     */
+    private CompiledSchema compileSchema() {
+        List<XsdSchema> snapshot = new ArrayList<>(schemas);
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Compiling %s schemas in schema repository '%s'", snapshot.size(), name));
+        }
+
+        List<Resource> schemaResources = new ArrayList<>();
+        for (XsdSchema xsdSchema : snapshot) {
+            if (xsdSchema instanceof XsdSchemaCollection) {
+                schemaResources.addAll(((XsdSchemaCollection) xsdSchema).getSchemaResources());
+            } else if (xsdSchema instanceof WsdlXsdSchema) {
+                schemaResources.addAll(((WsdlXsdSchema) xsdSchema).getSchemaResources());
+            } else {
+                ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                try {
+                    TransformerFactory.newInstance().newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
+                } catch (TransformerException e) {
+                    throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
+                }
+                schemaResources.add(new ByteArrayResource(bos.toByteArray()));
+            }
+        }
+
+        try {
+            return new CompiledSchema(snapshot, SchemaLoaderUtils.loadSchema(schemaResources.toArray(new Resource[0]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI));
+        } catch (IOException | SAXException e) {
+            throw new CitrusRuntimeException("Failed to compile schemas in schema repository " + name, e);
+        }
+    }
+
+    /**
+     * Invalidates the compiled grammar so it is compiled again on next validation.
+     */
+    public void invalidate() {
+        compiledSchema = null;
+    }
+
     @Override
     public void initialize() {
         try {
@@ -89,6 +200,8 @@ public class XsdSchemaRepository implements Named, InitializingPhase {
             addCitrusSchema("citrus-ssh-message");
             addCitrusSchema("citrus-rmi-message");
             addCitrusSchema("citrus-jmx-message");
+
+            invalidate();
         } catch (SAXException | ParserConfigurationException | IOException e) {
             throw new CitrusRuntimeException("Failed to initialize Xsd schema repository", e);
         }
@@ -153,6 +266,7 @@ public class XsdSchemaRepository implements Named, InitializingPhase {
      */
     public void setSchemas(List<XsdSchema> schemas) {
         this.schemas = schemas;
+        invalidate();
     }
 
     /**
@@ -200,4 +314,74 @@ public class XsdSchemaRepository implements Named, InitializingPhase {
         this.locations = locations;
     }
 
+    /**
+     * Compiled grammar along with the list of schemas it has been compiled from.
+     */
+    private static class CompiledSchema {
+        private final List<XsdSchema> sources;
+        private final Schema schema;
+
+        CompiledSchema(List<XsdSchema> sources, Schema schema) {
+            this.sources = sources;
+            this.schema = schema;
+        }
+
+        /**
+         * Checks that given schemas are the very same schema instances the grammar has been compiled from.
+         * @param schemas
+         * @return
+         */
+        boolean isUpToDate(List<XsdSchema> schemas) {
+            if (schemas.size() != sources.size()) {
+                return false;
+            }
+
+            for (int i = 0; i < sources.size(); i++) {
+                if (schemas.get(i) != sources.get(i)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * Thread bound validator created for a compiled schema.
+     */
+    private static class ValidatorHolder {
+        private final Schema schema;
+        private final Validator validator;
+
+        ValidatorHolder(Schema schema) {
+            this.schema = schema;
+            this.validator = schema.newValidator();
+        }
+    }
+
+    /**
+     * Error handler collecting all validation errors.
+     */
+    private static class CollectingErrorHandler implements ErrorHandler {
+        private final List<SAXParseException> errors = new ArrayList<>();
+
+        @Override
+        public void warning(SAXParseException exception) {
+        }
+
+        @Override
+        public void error(SAXParseException exception) {
+            errors.add(exception);
+        }
+
+        @Override
+        public void fatalError(SAXParseException exception) {
+            errors.add(exception);
+        }
+
+        SAXParseException[] getErrors() {
+            return errors.toArray(new SAXParseException[0]);
+        }
+    }
+
 }
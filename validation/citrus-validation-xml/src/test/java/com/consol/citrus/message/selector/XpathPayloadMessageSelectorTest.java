@@ -18,6 +18,7 @@ package com.consol.citrus.message.selector;
 
 import com.consol.citrus.UnitTestSupport;
 import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -77,4 +78,23 @@ public class XpathPayloadMessageSelectorTest extends UnitTestSupport {
         Assert.assertFalse(messageSelector.accept(new DefaultMessage(new DefaultMessage("<Bar><text>foobar</text></Bar>"))));
         Assert.assertFalse(messageSelector.accept(new DefaultMessage(new DefaultMessage("This is plain text!"))));
     }
+
+    @Test
+    public void testXPathEvaluationCachedDocument() {
+        XpathPayloadMessageSelector fooSelector = new XpathPayloadMessageSelector("xpath://Foo/text", "foobar", context);
+        XpathPayloadMessageSelector barSelector = new XpathPayloadMessageSelector("xpath://Foo/@id", "1", context);
+
+        Message message = new DefaultMessage("<Foo id=\"1\"><text>foobar</text></Foo>");
+        Assert.assertTrue(fooSelector.accept(message));
+        Assert.assertTrue(barSelector.accept(message));
+        Assert.assertTrue(fooSelector.accept(message));
+
+        message.setPayload("<Foo id=\"2\"><text>barfoo</text></Foo>");
+        Assert.assertFalse(fooSelector.accept(message));
+        Assert.assertFalse(barSelector.accept(message));
+
+        message.setPayload("This is plain text!");
+        Assert.assertFalse(fooSelector.accept(message));
+        Assert.assertFalse(fooSelector.accept(message));
+    }
 }
@@ -17,6 +17,7 @@
 package com.consol.citrus.validation.xml;
 
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.dom.DOMSource;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -33,10 +34,12 @@ import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
 import com.consol.citrus.util.FileUtils;
+import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.validation.context.HeaderValidationContext;
 import com.consol.citrus.validation.context.ValidationContext;
 import com.consol.citrus.validation.json.JsonMessageValidationContext;
 import com.consol.citrus.validation.script.ScriptValidationContext;
+import com.consol.citrus.xml.DomPayloadSource;
 import com.consol.citrus.xml.XsdSchemaRepository;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
@@ -1005,4 +1008,49 @@ public class DomXmlMessageValidatorTest extends UnitTestSupport {
         Assert.assertNull(validator.findValidationContext(validationContexts));
     }
 
+    @Test
+    public void testPayloadSourceValidationMatchesStringPayload() {
+        String[][] payloads = {
+                { "<root><element attributeA='a'><![CDATA[text-value]]></element></root>", "<root><element attributeA='a'><![CDATA[text-value]]></element></root>" },
+                { "<root><element attributeA='a'><![CDATA[text-value]]></element></root>", "<root><element attributeA='a'>text-value</element></root>" },
+                { "<root>\n  <element attributeA='a'>text-value</element>\n</root>", "<root><element attributeA='a'>text-value</element></root>" },
+                { "<ns1:root xmlns:ns1='http://citrusframework.org/ns1'><ns1:element>text-value</ns1:element></ns1:root>", "<root xmlns='http://citrusframework.org/ns1'><element>text-value</element></root>" },
+                { "<root><element attributeA='a'>text-value</element></root>", "<root><element attributeA='b'>text-value</element></root>" }
+        };
+
+        for (String[] payload : payloads) {
+            Assert.assertEquals(isValid(new DomPayloadMessage(payload[0]), payload[1]), isValid(new DefaultMessage(payload[0]), payload[1]),
+                    "Validation result differs for payload source: " + payload[0]);
+        }
+    }
+
+    private boolean isValid(Message message, String controlPayload) {
+        XmlMessageValidationContext validationContext = new XmlMessageValidationContext.Builder()
+                .schemaValidation(false)
+                .build();
+
+        try {
+            validator.validateMessage(message, new DefaultMessage(controlPayload), context, validationContext);
+            return true;
+        } catch (ValidationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Message providing payload source parsed with configured parser settings.
+     */
+    private static class DomPayloadMessage extends DefaultMessage implements DomPayloadSource {
+        private final DOMSource payloadSource;
+
+        DomPayloadMessage(String payload) {
+            super(payload);
+            this.payloadSource = new DOMSource(XMLUtils.parseMessagePayload(payload));
+        }
+
+        @Override
+        public DOMSource getPayloadSource() {
+            return payloadSource;
+        }
+    }
 }
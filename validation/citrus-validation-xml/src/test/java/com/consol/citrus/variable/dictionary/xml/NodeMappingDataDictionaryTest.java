@@ -17,15 +17,18 @@
 package com.consol.citrus.variable.dictionary.xml;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import com.consol.citrus.UnitTestSupport;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.variable.dictionary.DataDictionary;
 import org.springframework.core.io.ClassPathResource;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.w3c.dom.Node;
 
 /**
  * @author Christoph Deppisch
@@ -196,4 +199,50 @@ public class NodeMappingDataDictionaryTest extends UnitTestSupport {
                 "   <OtherText>No changes</OtherText>" + System.getProperty("line.separator") +
                 "</TestMessage>");
     }
+
+    @Test
+    public void testTranslateEndsWithStrategyMappingOrder() {
+        Message message = new DefaultMessage("<?xml version=\"1.0\" encoding=\"UTF-8\"?><TestMessage><Text>Hello World!</Text><OtherText name=\"foo\">Good Bye!</OtherText></TestMessage>");
+
+        Map<String, String> mappings = new LinkedHashMap<>();
+        mappings.put("Text", "Hello!");
+        mappings.put("OtherText", "Bye!");
+        mappings.put("OtherText.name", "bar");
+
+        NodeMappingDataDictionary dictionary = new NodeMappingDataDictionary();
+        dictionary.setMappings(mappings);
+        dictionary.setPathMappingStrategy(DataDictionary.PathMappingStrategy.ENDS_WITH);
+
+        dictionary.processMessage(message, context);
+        Assert.assertEquals(message.getPayload(String.class).trim(), "<?xml version=\"1.0\" encoding=\"UTF-8\"?><TestMessage>" + System.getProperty("line.separator") +
+                "   <Text>Hello!</Text>" + System.getProperty("line.separator") +
+                "   <OtherText name=\"bar\">Hello!</OtherText>" + System.getProperty("line.separator") +
+                "</TestMessage>");
+    }
+
+    @Test
+    public void testTranslateOverriddenInSubclass() {
+        Message message = new DefaultMessage("<?xml version=\"1.0\" encoding=\"UTF-8\"?><TestMessage><Text>Hello World!</Text><OtherText>No changes</OtherText></TestMessage>");
+
+        Map<String, String> mappings = new HashMap<>();
+        mappings.put("TestMessage.Text", "Hello!");
+
+        NodeMappingDataDictionary dictionary = new NodeMappingDataDictionary() {
+            @Override
+            public <T> T translate(Node node, T value, TestContext context) {
+                T translated = super.translate(node, value, context);
+                if (translated instanceof String && node.getNodeType() == Node.ELEMENT_NODE) {
+                    return (T) ((String) translated).toUpperCase();
+                }
+                return translated;
+            }
+        };
+        dictionary.setMappings(mappings);
+
+        dictionary.processMessage(message, context);
+        Assert.assertEquals(message.getPayload(String.class).trim(), "<?xml version=\"1.0\" encoding=\"UTF-8\"?><TestMessage>" + System.getProperty("line.separator") +
+                "   <Text>HELLO!</Text>" + System.getProperty("line.separator") +
+                "   <OtherText>NO CHANGES</OtherText>" + System.getProperty("line.separator") +
+                "</TestMessage>");
+    }
 }
@@ -17,8 +17,10 @@
 package com.consol.citrus.variable.dictionary.xml;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageType;
@@ -28,6 +30,7 @@ import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
 import org.springframework.core.io.ClassPathResource;
 import org.testng.Assert;
 import org.testng.annotations.Test;
+import org.w3c.dom.Node;
 
 /**
  * @author Christoph Deppisch
@@ -203,4 +206,49 @@ public class XpathMappingDataDictionaryTest extends AbstractTestNGUnitTest {
         Assert.assertTrue(message.getPayload(String.class).trim().contains("<h1>Hello Citrus!</h1>"));
         Assert.assertTrue(message.getPayload(String.class).trim().contains("<hr />"));
     }
+
+    @Test
+    public void testTranslateFirstMatchingExpression() throws Exception {
+        Message message = new DefaultMessage(payload);
+
+        Map<String, String> mappings = new LinkedHashMap<>();
+        mappings.put("//TestMessage/*", "First!");
+        mappings.put("//TestMessage/Text", "Second!");
+        mappings.put("//OtherText/@name", "bar");
+
+        XpathMappingDataDictionary dictionary = new XpathMappingDataDictionary();
+        dictionary.setMappings(mappings);
+
+        dictionary.processMessage(message, context);
+        Assert.assertEquals(message.getPayload(String.class).trim(), "<?xml version=\"1.0\" encoding=\"UTF-8\"?><TestMessage>" + System.getProperty("line.separator") +
+                "   <Text>First!</Text>" + System.getProperty("line.separator") +
+                "   <OtherText name=\"bar\">First!</OtherText>" + System.getProperty("line.separator") +
+                "</TestMessage>");
+    }
+
+    @Test
+    public void testTranslateOverriddenInSubclass() throws Exception {
+        Message message = new DefaultMessage(payload);
+
+        Map<String, String> mappings = new HashMap<>();
+        mappings.put("//TestMessage/Text", "Hello!");
+
+        XpathMappingDataDictionary dictionary = new XpathMappingDataDictionary() {
+            @Override
+            public <T> T translate(Node node, T value, TestContext context) {
+                T translated = super.translate(node, value, context);
+                if (translated instanceof String && node.getNodeType() == Node.ELEMENT_NODE) {
+                    return (T) ((String) translated).toUpperCase();
+                }
+                return translated;
+            }
+        };
+        dictionary.setMappings(mappings);
+
+        dictionary.processMessage(message, context);
+        Assert.assertEquals(message.getPayload(String.class).trim(), "<?xml version=\"1.0\" encoding=\"UTF-8\"?><TestMessage>" + System.getProperty("line.separator") +
+                "   <Text>HELLO!</Text>" + System.getProperty("line.separator") +
+                "   <OtherText name=\"foo\">NO CHANGES</OtherText>" + System.getProperty("line.separator") +
+                "</TestMessage>");
+    }
 }
@@ -16,6 +16,10 @@
 
 package com.consol.citrus.xml;
 
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import java.io.StringReader;
+
 import org.springframework.xml.xsd.SimpleXsdSchema;
 import org.testng.Assert;
 import org.testng.annotations.Test;
@@ -135,4 +139,24 @@ public class XsdSchemaRepositoryTest {
         Assert.assertEquals(schemaRepository.getSchemas().size(), 1);
         Assert.assertEquals(schemaRepository.getSchemas().get(0).getClass(), SimpleXsdSchema.class);
     }
+
+    @Test
+    public void testCompiledSchemaValidation() throws Exception {
+        XsdSchemaRepository schemaRepository = new XsdSchemaRepository();
+
+        schemaRepository.getLocations().add("classpath:com/consol/citrus/validation/test.xsd");
+
+        schemaRepository.initialize();
+
+        Schema compiled = schemaRepository.getCompiledSchema();
+        Assert.assertSame(schemaRepository.getCompiledSchema(), compiled);
+
+        Assert.assertEquals(schemaRepository.validate(new StreamSource(new StringReader("<message xmlns=\"http://citrusframework.org/test\">" +
+                "<correlationId>1</correlationId><bookingId>2</bookingId><test>3</test></message>"))).length, 0);
+        Assert.assertEquals(schemaRepository.validate(new StreamSource(new StringReader("<message xmlns=\"http://citrusframework.org/test\">" +
+                "<correlationId>1</correlationId><unknown>2</unknown></message>"))).length, 1);
+
+        schemaRepository.addCitrusSchema("citrus-config");
+        Assert.assertNotSame(schemaRepository.getCompiledSchema(), compiled);
+    }
 }